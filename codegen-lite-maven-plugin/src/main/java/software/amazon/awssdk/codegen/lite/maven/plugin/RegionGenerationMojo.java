@@ -18,14 +18,17 @@ package software.amazon.awssdk.codegen.lite.maven.plugin;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import software.amazon.awssdk.codegen.lite.CodeGenerator;
+import software.amazon.awssdk.codegen.lite.regions.EndpointTableGenerator;
 import software.amazon.awssdk.codegen.lite.regions.PartitionMetadataGenerator;
 import software.amazon.awssdk.codegen.lite.regions.PartitionMetadataProviderGenerator;
 import software.amazon.awssdk.codegen.lite.regions.RegionGenerator;
@@ -46,6 +49,11 @@ public class RegionGenerationMojo extends AbstractMojo {
     private static final String SERVICE_METADATA_BASE = "software.amazon.awssdk.regions.servicemetadata";
     private static final String REGION_METADATA_BASE = "software.amazon.awssdk.regions.regionmetadata";
     private static final String REGION_BASE = "software.amazon.awssdk.regions";
+    private static final String ENDPOINT_TABLE = "software/amazon/awssdk/regions/internal/endpoint-table.bin";
+
+    // Use hardcoded file for elasticache until the incorrect fips endpoint is fixed
+    //TODO Remove once elasticache endpoints are fixed at source
+    private static final Set<String> HARDCODED_SERVICES = Collections.singleton("elasticache");
 
     @Parameter(property = "outputDirectory", defaultValue = "${project.build.directory}")
     private String outputDirectory;
@@ -60,6 +68,7 @@ public class RegionGenerationMojo extends AbstractMojo {
     public void execute() throws MojoExecutionException {
         Path baseSourcesDirectory = Paths.get(outputDirectory).resolve("generated-sources").resolve("sdk");
         Path testsDirectory = Paths.get(outputDirectory).resolve("generated-test-sources").resolve("sdk-tests");
+        Path resourcesDirectory = Paths.get(outputDirectory).resolve("generated-resources").resolve("sdk");
 
         Partitions partitions = RegionMetadataLoader.build(endpoints);
 
@@ -70,9 +79,14 @@ public class RegionGenerationMojo extends AbstractMojo {
         generatePartitionProvider(baseSourcesDirectory, partitions);
         generateRegionProvider(baseSourcesDirectory, partitions);
         generateServiceProvider(baseSourcesDirectory, partitions);
+        generateEndpointTable(resourcesDirectory, partitions);
 
         project.addCompileSourceRoot(baseSourcesDirectory.toFile().getAbsolutePath());
         project.addTestCompileSourceRoot(testsDirectory.toFile().getAbsolutePath());
+
+        Resource resource = new Resource();
+        resource.setDirectory(resourcesDirectory.toFile().getAbsolutePath());
+        project.addResource(resource);
     }
 
     public void generatePartitionMetadataClass(Path baseSourcesDirectory, Partitions partitions) {
@@ -95,9 +109,7 @@ public class RegionGenerationMojo extends AbstractMojo {
         partitions.getPartitions().stream().forEach(p -> services.addAll(p.getServices().keySet()));
 
         services.stream()
-                // Use hardcoded file for elasticache until the incorrect fips endpoint is fixed
-                //TODO Remove once elasticache endpoints are fixed at source
-                .filter(s -> !"elasticache".equals(s))
+                .filter(s -> !HARDCODED_SERVICES.contains(s))
                 .forEach(s -> new CodeGenerator(sourcesDirectory.toString(), new ServiceMetadataGenerator(partitions,
                                                                                                           s,
                                                                                                           SERVICE_METADATA_BASE,
@@ -141,4 +153,8 @@ public class RegionGenerationMojo extends AbstractMojo {
                                                                                             REGION_BASE))
             .generate();
     }
+
+    public void generateEndpointTable(Path resourcesDirectory, Partitions partitions) {
+        new EndpointTableGenerator(partitions, HARDCODED_SERVICES).generate(resourcesDirectory.resolve(ENDPOINT_TABLE));
+    }
 }
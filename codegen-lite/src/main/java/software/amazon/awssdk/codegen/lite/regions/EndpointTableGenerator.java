@@ -0,0 +1,276 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.lite.regions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.lite.regions.model.Endpoint;
+import software.amazon.awssdk.codegen.lite.regions.model.Partition;
+import software.amazon.awssdk.codegen.lite.regions.model.Partitions;
+import software.amazon.awssdk.codegen.lite.regions.model.Service;
+
+/**
+ * Generates the precomputed endpoint table loaded by {@code software.amazon.awssdk.regions.internal.EndpointTable}.
+ *
+ * <p>The table contains the endpoint host and signing region of every region listed for every service, computed exactly as the
+ * generated {@code ServiceMetadata} classes compute them at runtime, so that resolving the endpoint of a client does not
+ * require loading the metadata classes of every service, region and partition.
+ *
+ * <p>The entries are indexed with a perfect hash built with the hash-and-displace algorithm: a key is first hashed to a
+ * bucket, and the seed stored for the bucket is then used to hash it to a slot that no other key uses. The table is written in
+ * big-endian order, as:
+ * <pre>
+ * int     magic ({@link #MAGIC})
+ * int     bucket count
+ * int     slot count
+ * int[]   seed of every bucket
+ * int[]   offset of the entry in every slot, relative to the start of the entries, or -1 if the slot is empty
+ * entries key ("service/region"), endpoint host and signing region, each as an unsigned short length and UTF-8 bytes
+ * </pre>
+ */
+@SdkInternalApi
+public final class EndpointTableGenerator {
+    public static final int MAGIC = 0x45505431;
+
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final int MAX_SEED = 1 << 24;
+
+    private final Partitions partitions;
+    private final Set<String> excludedServices;
+
+    /**
+     * @param partitions The partitions loaded from the endpoints file.
+     * @param excludedServices The services whose metadata is not generated from the endpoints file, and that must not be
+     * included in the table.
+     */
+    public EndpointTableGenerator(Partitions partitions, Set<String> excludedServices) {
+        this.partitions = partitions;
+        this.excludedServices = excludedServices;
+    }
+
+    /**
+     * Write the table to the provided file, creating its parent directories if needed.
+     */
+    public void generate(Path file) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Files.write(file, tableBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error creating endpoint table " + file, e);
+        }
+    }
+
+    /**
+     * The endpoint host and signing region of every service and region, keyed by "service/region".
+     */
+    public Map<String, String[]> entries() {
+        Map<String, String[]> entries = new TreeMap<>();
+        for (Partition partition : partitions.getPartitions()) {
+            partition.getServices().forEach((service, serviceData) -> {
+                if (excludedServices.contains(service)) {
+                    return;
+                }
+                serviceData.getEndpoints().keySet().stream()
+                           .filter(r -> RegionValidationUtil.validRegion(r, partition.getRegionRegex()))
+                           .forEach(r -> entries.put(service + "/" + r,
+                                                     new String[] {endpoint(service, r), signingRegion(service, r)}));
+            });
+        }
+        return entries;
+    }
+
+    /**
+     * Serialize the table in the format documented on this class.
+     */
+    public byte[] tableBytes() {
+        Map<String, String[]> entries = entries();
+        List<String> keys = new ArrayList<>(entries.keySet());
+
+        int bucketCount = Math.max(1, (keys.size() + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET);
+        int slotCount = Math.max(1, keys.size() + keys.size() / 4);
+
+        List<List<String>> buckets = new ArrayList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        keys.forEach(k -> buckets.get(Math.floorMod(hash(k, 0), bucketCount)).add(k));
+
+        List<Integer> bucketOrder = new ArrayList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            bucketOrder.add(i);
+        }
+        bucketOrder.sort(Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+
+        int[] seeds = new int[bucketCount];
+        String[] slots = new String[slotCount];
+        for (int bucket : bucketOrder) {
+            seeds[bucket] = placeBucket(buckets.get(bucket), slots);
+        }
+
+        try {
+            ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+            DataOutputStream entryOut = new DataOutputStream(entryBytes);
+            Map<String, Integer> offsets = new HashMap<>();
+            for (String key : keys) {
+                offsets.put(key, entryOut.size());
+                String[] entry = entries.get(key);
+                writeString(entryOut, key);
+                writeString(entryOut, entry[0]);
+                writeString(entryOut, entry[1]);
+            }
+            entryOut.flush();
+
+            ByteArrayOutputStream table = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(table);
+            out.writeInt(MAGIC);
+            out.writeInt(bucketCount);
+            out.writeInt(slotCount);
+            for (int seed : seeds) {
+                out.writeInt(seed);
+            }
+            for (String key : slots) {
+                out.writeInt(key == null ? -1 : offsets.get(key));
+            }
+            entryBytes.writeTo(out);
+            out.flush();
+            return table.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Find a seed that hashes every key of the bucket to a free slot, and occupy those slots.
+     */
+    private static int placeBucket(List<String> bucket, String[] slots) {
+        for (int seed = 1; seed < MAX_SEED; seed++) {
+            int[] candidates = new int[bucket.size()];
+            boolean placed = true;
+            for (int i = 0; i < bucket.size() && placed; i++) {
+                int slot = Math.floorMod(hash(bucket.get(i), seed), slots.length);
+                placed = slots[slot] == null && !contains(candidates, i, slot);
+                candidates[i] = slot;
+            }
+            if (placed) {
+                for (int i = 0; i < bucket.size(); i++) {
+                    slots[candidates[i]] = bucket.get(i);
+                }
+                return seed;
+            }
+        }
+        throw new IllegalStateException("Unable to build a perfect hash for the endpoint table bucket " + bucket);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        return Arrays.stream(values, 0, length).anyMatch(v -> v == value);
+    }
+
+    /**
+     * The seeded FNV-1a hash of the UTF-8 bytes of the key. This must match the hash used to read the table.
+     */
+    public static int hash(String key, int seed) {
+        int hash = 0x811C9DC5 ^ seed;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * The endpoint host of the service in the region, as computed by the generated {@code endpointFor} method and
+     * {@code ServiceMetadata#computeEndpoint}.
+     */
+    private String endpoint(String service, String region) {
+        for (Partition partition : partitions.getPartitions()) {
+            Service serviceData = partition.getServices().get(service);
+            if (serviceData == null || !RegionValidationUtil.validRegion(region, partition.getRegionRegex())) {
+                continue;
+            }
+            Endpoint endpoint = serviceData.getEndpoints().get(region);
+            if (endpoint != null && endpoint.getHostname() != null) {
+                return endpoint.getHostname();
+            }
+        }
+
+        for (Partition partition : partitions.getPartitions()) {
+            if (partition.getRegions().containsKey(region)) {
+                return String.format("%s.%s.%s", service, region, partition.getDnsSuffix());
+            }
+        }
+
+        Partition partition = partitions.getPartitions().stream()
+                                        .filter(p -> region.matches(p.getRegionRegex()))
+                                        .findFirst()
+                                        .orElseGet(() -> partition("aws"));
+        Service serviceData = partition.getServices().get(service);
+        String endpointPattern = serviceData != null && serviceData.getDefaults() != null &&
+                                 serviceData.getDefaults().getHostname() != null
+                                 ? serviceData.getDefaults().getHostname()
+                                 : partition.getDefaults().getHostname();
+
+        return endpointPattern.replace("{region}", region)
+                              .replace("{service}", service)
+                              .replace("{dnsSuffix}", partition.getDnsSuffix());
+    }
+
+    /**
+     * The signing region of the service in the region, as computed by the generated {@code signingRegion} method.
+     */
+    private String signingRegion(String service, String region) {
+        for (Partition partition : partitions.getPartitions()) {
+            Service serviceData = partition.getServices().get(service);
+            if (serviceData == null || !RegionValidationUtil.validRegion(region, partition.getRegionRegex())) {
+                continue;
+            }
+            Endpoint endpoint = serviceData.getEndpoints().get(region);
+            if (endpoint != null && endpoint.getCredentialScope() != null && endpoint.getCredentialScope().getRegion() != null) {
+                return endpoint.getCredentialScope().getRegion();
+            }
+        }
+        return region;
+    }
+
+    private Partition partition(String id) {
+        return partitions.getPartitions().stream()
+                         .filter(p -> p.getPartition().equals(id))
+                         .findFirst()
+                         .orElseThrow(() -> new IllegalStateException("Unknown partition " + id));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.lite.regions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.codegen.lite.regions.model.Partitions;
+
+public class EndpointTableGeneratorTest {
+
+    private static final String ENDPOINTS = "/software/amazon/awssdk/codegen/lite/endpoints.json";
+
+    private EndpointTableGenerator generator;
+
+    @Before
+    public void before() throws Exception {
+        File endpoints = Paths.get(getClass().getResource(ENDPOINTS).toURI()).toFile();
+        Partitions partitions = RegionMetadataLoader.build(endpoints);
+        this.generator = new EndpointTableGenerator(partitions, Collections.singleton("elasticache"));
+    }
+
+    @Test
+    public void entries_matchGeneratedServiceMetadata() {
+        Map<String, String[]> entries = generator.entries();
+
+        // Overridden by the service endpoint.
+        assertThat(entries.get("s3/us-east-1")).containsExactly("s3.amazonaws.com", "us-east-1");
+        // Overridden by the service endpoint, with a credential scope.
+        assertThat(entries.get("s3/fips-us-gov-west-1")).containsExactly("s3-fips-us-gov-west-1.amazonaws.com",
+                                                                         "us-gov-west-1");
+        // A known region.
+        assertThat(entries.get("s3/eu-west-3")).containsExactly("s3.eu-west-3.amazonaws.com", "eu-west-3");
+        assertThat(entries.get("s3/cn-north-1")).containsExactly("s3.cn-north-1.amazonaws.com.cn", "cn-north-1");
+        // Excluded services.
+        assertThat(entries.keySet().stream().anyMatch(k -> k.startsWith("elasticache/"))).isFalse();
+    }
+
+    @Test
+    public void tableBytes_findsEveryEntryThroughThePerfectHash() {
+        ByteBuffer table = ByteBuffer.wrap(generator.tableBytes());
+        assertThat(table.getInt(0)).isEqualTo(EndpointTableGenerator.MAGIC);
+
+        int bucketCount = table.getInt(4);
+        int slotCount = table.getInt(8);
+        int slotsOffset = 12 + bucketCount * 4;
+        int entriesOffset = slotsOffset + slotCount * 4;
+
+        generator.entries().forEach((key, entry) -> {
+            int seed = table.getInt(12 + Math.floorMod(EndpointTableGenerator.hash(key, 0), bucketCount) * 4);
+            int slot = Math.floorMod(EndpointTableGenerator.hash(key, seed), slotCount);
+            int position = entriesOffset + table.getInt(slotsOffset + slot * 4);
+
+            table.position(position);
+            assertThat(readString(table)).isEqualTo(key);
+            assertThat(readString(table)).isEqualTo(entry[0]);
+            assertThat(readString(table)).isEqualTo(entry[1]);
+        });
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -53,6 +53,9 @@ public class GenerationMojo extends AbstractMojo {
     @Parameter(property = "codeGenResources", defaultValue = "${basedir}/src/main/resources/codegen-resources/")
     private File codeGenResources;
 
+    @Parameter(property = "resourcesDirectory", defaultValue = "${basedir}/src/main/resources/")
+    private File resourcesDirectory;
+
     @Parameter(property = "outputDirectory", defaultValue = "${project.build.directory}")
     private String outputDirectory;
 
@@ -103,6 +106,7 @@ public class GenerationMojo extends AbstractMojo {
                      .models(models)
                      .sourcesDirectory(sourcesDirectory.toFile().getAbsolutePath())
                      .testsDirectory(testsDirectory.toFile().getAbsolutePath())
+                     .resourcesDirectory(resourcesDirectory.getAbsolutePath())
                      .fileNamePrefix(Utils.getFileNamePrefix(models.serviceModel()))
                      .build()
                      .execute();
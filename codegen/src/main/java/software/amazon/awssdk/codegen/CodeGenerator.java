@@ -18,6 +18,13 @@ package software.amazon.awssdk.codegen;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import software.amazon.awssdk.codegen.emitters.CodeEmitter;
 import software.amazon.awssdk.codegen.emitters.GeneratorTask;
 import software.amazon.awssdk.codegen.emitters.GeneratorTaskExecutor;
@@ -26,16 +33,22 @@ import software.amazon.awssdk.codegen.emitters.tasks.ApiGatewayGeneratorTasks;
 import software.amazon.awssdk.codegen.emitters.tasks.AwsGeneratorTasks;
 import software.amazon.awssdk.codegen.internal.Jackson;
 import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.Protocol;
 
 public class CodeGenerator {
 
     private static final String MODEL_DIR_NAME = "models";
+    private static final String INTERCEPTORS_FILE_NAME = "execution.interceptors";
 
     private final C2jModels models;
     private final String sourcesDirectory;
     private final String testsDirectory;
+    /**
+     * The resources directory of the service module, used to find the service's execution interceptors. May be null.
+     */
+    private final String resourcesDirectory;
     /**
      * The prefix for the file name that contains the intermediate model.
      */
@@ -45,6 +58,7 @@ public class CodeGenerator {
         this.models = builder.models;
         this.sourcesDirectory = builder.sourcesDirectory;
         this.testsDirectory = builder.testsDirectory;
+        this.resourcesDirectory = builder.resourcesDirectory;
         this.fileNamePrefix = builder.fileNamePrefix;
     }
 
@@ -69,6 +83,8 @@ public class CodeGenerator {
         try {
             IntermediateModel intermediateModel = new IntermediateModelBuilder(models).build();
 
+            indexExecutionInterceptors(intermediateModel);
+
             // Dump the intermediate model to a file
             writeIntermediateModel(intermediateModel);
 
@@ -81,6 +97,32 @@ public class CodeGenerator {
         }
     }
 
+    /**
+     * Record the service's execution interceptors in the customization config, so that the generated client builder can
+     * create them directly instead of scanning the classpath for the service's interceptors resource every time a client is
+     * built. A missing resource means the service has no interceptors.
+     */
+    private void indexExecutionInterceptors(IntermediateModel model) throws IOException {
+        CustomizationConfig customizationConfig = model.getCustomizationConfig();
+        if (resourcesDirectory == null || customizationConfig.getExecutionInterceptors() != null) {
+            return;
+        }
+
+        String packageDirectory = Utils.packageToDirectory(model.getMetadata().getFullClientPackageName());
+        Path interceptorsFile = Paths.get(resourcesDirectory, packageDirectory, INTERCEPTORS_FILE_NAME);
+        if (!Files.exists(interceptorsFile)) {
+            customizationConfig.setExecutionInterceptors(Collections.emptyList());
+            return;
+        }
+
+        List<String> interceptors = Files.readAllLines(interceptorsFile, StandardCharsets.UTF_8)
+                                         .stream()
+                                         .map(String::trim)
+                                         .filter(line -> !line.isEmpty())
+                                         .collect(Collectors.toList());
+        customizationConfig.setExecutionInterceptors(interceptors);
+    }
+
     private void writeIntermediateModel(IntermediateModel model)
             throws IOException {
         File modelDir = getModelDirectory(sourcesDirectory);
@@ -139,6 +181,7 @@ public class CodeGenerator {
         private C2jModels models;
         private String sourcesDirectory;
         private String testsDirectory;
+        private String resourcesDirectory;
         private String fileNamePrefix;
 
         private Builder() {
@@ -159,6 +202,11 @@ public class CodeGenerator {
             return this;
         }
 
+        public Builder resourcesDirectory(String resourcesDirectory) {
+            this.resourcesDirectory = resourcesDirectory;
+            return this;
+        }
+
         public Builder fileNamePrefix(String fileNamePrefix) {
             this.fileNamePrefix = fileNamePrefix;
             return this;
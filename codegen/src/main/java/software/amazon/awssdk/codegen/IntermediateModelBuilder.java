@@ -43,6 +43,7 @@ import software.amazon.awssdk.codegen.model.service.AuthType;
 import software.amazon.awssdk.codegen.model.service.Operation;
 import software.amazon.awssdk.codegen.model.service.Paginators;
 import software.amazon.awssdk.codegen.model.service.ServiceModel;
+import software.amazon.awssdk.codegen.model.service.Waiters;
 import software.amazon.awssdk.codegen.naming.DefaultNamingStrategy;
 import software.amazon.awssdk.codegen.naming.NamingStrategy;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -61,6 +62,7 @@ public class IntermediateModelBuilder {
     private final TypeUtils typeUtils;
     private final List<IntermediateModelShapeProcessor> shapeProcessors;
     private final Paginators paginators;
+    private final Waiters waiters;
 
     public IntermediateModelBuilder(C2jModels models) {
         this.customConfig = models.customizationConfig();
@@ -70,6 +72,7 @@ public class IntermediateModelBuilder {
         this.typeUtils = new TypeUtils(namingStrategy);
         this.shapeProcessors = createShapeProcessors();
         this.paginators = models.paginatorsModel();
+        this.waiters = models.waitersModel();
     }
 
 
@@ -121,15 +124,17 @@ public class IntermediateModelBuilder {
                                             Collections.unmodifiableMap(shapes)));
         }
 
-        // Remove deprecated operations and their paginators
+        // Remove deprecated operations and their paginators and waiters
         operations.entrySet().removeIf(e -> customConfig.getDeprecatedOperations().contains(e.getKey()));
         paginators.getPaginators().entrySet().removeIf(e -> customConfig.getDeprecatedOperations().contains(e.getKey()));
+        waiters.getWaiters().entrySet().removeIf(e -> !operations.containsKey(e.getValue().getOperation()));
 
         log.info("{} shapes found in total.", shapes.size());
 
         IntermediateModel fullModel = new IntermediateModel(
             constructMetadata(service, customConfig), operations, shapes,
-            customConfig, examples, endpointOperation, authorizers, paginators.getPaginators(), namingStrategy);
+            customConfig, examples, endpointOperation, authorizers, paginators.getPaginators(), waiters.getWaiters(),
+            namingStrategy);
 
         customization.postprocess(fullModel);
 
@@ -149,6 +154,7 @@ public class IntermediateModelBuilder {
                                                                endpointOperation,
                                                                fullModel.getCustomAuthorizers(),
                                                                fullModel.getPaginators(),
+                                                               fullModel.getWaiters(),
                                                                namingStrategy);
 
         linkMembersToShapes(trimmedModel);
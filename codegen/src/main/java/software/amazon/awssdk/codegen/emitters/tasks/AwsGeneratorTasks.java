@@ -36,6 +36,7 @@ public class AwsGeneratorTasks implements Iterable<GeneratorTask> {
         // TODO Move AsyncClientGeneratorTasks to common generic tasks (mostly CommonGeneratorTasks class)
         return new CompositeIterable<>(new AsyncClientGeneratorTasks(params),
                                        new PaginatorsGeneratorTasks(params),
+                                       new WaitersGeneratorTasks(params),
                                        new EventStreamGeneratorTasks(params));
     }
 
@@ -159,6 +159,14 @@ public class CustomizationConfig {
      */
     private UtilitiesMethod utilitiesMethod;
 
+    /**
+     * Fully qualified class names of the execution interceptors of the service, in the order they should be applied. When
+     * set, the generated client builder instantiates these interceptors directly instead of scanning the classpath for the
+     * service's execution.interceptors resource. The code generator populates this from that resource when the service
+     * module's resources directory is known.
+     */
+    private List<String> executionInterceptors;
+
     private CustomizationConfig() {
     }
 
@@ -406,4 +414,12 @@ public class CustomizationConfig {
     public void setUtilitiesMethod(UtilitiesMethod utilitiesMethod) {
         this.utilitiesMethod = utilitiesMethod;
     }
+
+    public List<String> getExecutionInterceptors() {
+        return executionInterceptors;
+    }
+
+    public void setExecutionInterceptors(List<String> executionInterceptors) {
+        this.executionInterceptors = executionInterceptors;
+    }
 }
@@ -31,6 +31,7 @@ import software.amazon.awssdk.awscore.AwsResponseMetadata;
 import software.amazon.awssdk.codegen.internal.Utils;
 import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
 import software.amazon.awssdk.codegen.model.service.PaginatorDefinition;
+import software.amazon.awssdk.codegen.model.service.WaiterDefinition;
 import software.amazon.awssdk.codegen.naming.NamingStrategy;
 import software.amazon.awssdk.utils.IoUtils;
 
@@ -53,6 +54,9 @@ public final class IntermediateModel {
     @JsonIgnore
     private final Map<String, PaginatorDefinition> paginators;
 
+    @JsonIgnore
+    private final Map<String, WaiterDefinition> waiters;
+
     @JsonIgnore
     private final NamingStrategy namingStrategy;
 
@@ -65,7 +69,7 @@ public final class IntermediateModel {
         @JsonProperty("serviceExamples") ServiceExamples examples) {
 
         this(metadata, operations, shapes, customizationConfig, examples, null,
-             Collections.emptyMap(), Collections.emptyMap(), null);
+             Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), null);
     }
 
     public IntermediateModel(
@@ -77,6 +81,7 @@ public final class IntermediateModel {
         OperationModel endpointOperation,
         Map<String, AuthorizerModel> customAuthorizers,
         Map<String, PaginatorDefinition> paginators,
+        Map<String, WaiterDefinition> waiters,
         NamingStrategy namingStrategy) {
         this.metadata = metadata;
         this.operations = operations;
@@ -86,6 +91,7 @@ public final class IntermediateModel {
         this.endpointOperation = Optional.ofNullable(endpointOperation);
         this.customAuthorizers = customAuthorizers;
         this.paginators = paginators;
+        this.waiters = waiters;
         this.namingStrategy = namingStrategy;
     }
 
@@ -121,6 +127,10 @@ public final class IntermediateModel {
         return paginators;
     }
 
+    public Map<String, WaiterDefinition> getWaiters() {
+        return waiters;
+    }
+
     public NamingStrategy getNamingStrategy() {
         return namingStrategy;
     }
@@ -210,6 +220,10 @@ public final class IntermediateModel {
         return paginators.size() > 0;
     }
 
+    public boolean hasWaiters() {
+        return waiters.size() > 0;
+    }
+
     public boolean containsRequestSigners() {
         return getShapes().values().stream()
                           .filter(ShapeModel::isRequestSignerAware)
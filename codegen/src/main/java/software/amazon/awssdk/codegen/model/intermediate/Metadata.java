@@ -65,6 +65,8 @@ public class Metadata {
 
     private String paginatorsPackageName;
 
+    private String waitersPackageName;
+
     private String authPolicyPackageName;
 
     private String serviceAbbreviation;
@@ -420,6 +422,23 @@ public class Metadata {
         return this;
     }
 
+    public String getFullWaitersPackageName() {
+        return joinPackageNames(rootPackageName, getWaitersPackageName());
+    }
+
+    public String getWaitersPackageName() {
+        return waitersPackageName;
+    }
+
+    public void setWaitersPackageName(String waitersPackageName) {
+        this.waitersPackageName = waitersPackageName;
+    }
+
+    public Metadata withWaitersPackageName(String waitersPackageName) {
+        setWaitersPackageName(waitersPackageName);
+        return this;
+    }
+
     public String getFullAuthPolicyPackageName() {
         return joinPackageNames(rootPackageName, getAuthPolicyPackageName());
     }
@@ -158,6 +158,11 @@ public class DefaultNamingStrategy implements NamingStrategy {
         return getCustomizedPackageName(concatServiceNameIfShareModel(serviceName), Constant.PACKAGE_NAME_PAGINATORS_PATTERN);
     }
 
+    @Override
+    public String getWaitersPackageName(String serviceName) {
+        return getCustomizedPackageName(concatServiceNameIfShareModel(serviceName), Constant.PACKAGE_NAME_WAITERS_PATTERN);
+    }
+
     @Override
     public String getSmokeTestPackageName(String serviceName) {
 
@@ -86,6 +86,21 @@ public class PoetExtensions {
         return ClassName.get(model.getMetadata().getFullPaginatorsPackageName(), operationName + "Publisher");
     }
 
+    /**
+     * @return A Poet {@link ClassName} for the sync waiter interface of the service. eg: "DynamoDbWaiter"
+     */
+    public ClassName getSyncWaiterInterface() {
+        return ClassName.get(model.getMetadata().getFullWaitersPackageName(), model.getMetadata().getServiceName() + "Waiter");
+    }
+
+    /**
+     * @return A Poet {@link ClassName} for the async waiter interface of the service. eg: "DynamoDbAsyncWaiter"
+     */
+    public ClassName getAsyncWaiterInterface() {
+        return ClassName.get(model.getMetadata().getFullWaitersPackageName(),
+                             model.getMetadata().getServiceName() + "AsyncWaiter");
+    }
+
     /**
      * @return ResponseMetadata className. eg: "S3ResponseMetadata"
      */
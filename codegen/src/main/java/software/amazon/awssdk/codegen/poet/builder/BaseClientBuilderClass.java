@@ -26,6 +26,7 @@ import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import java.util.ArrayList;
 import java.util.List;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -170,12 +171,23 @@ public class BaseClientBuilderClass implements ClassSpec {
                          .addAnnotation(Override.class)
                          .addModifiers(PROTECTED, FINAL)
                          .returns(SdkClientConfiguration.class)
-                         .addParameter(SdkClientConfiguration.class, "config")
-                         .addCode("$1T interceptorFactory = new $1T();\n", ClasspathInterceptorChainFactory.class)
-                         .addCode("$T<$T> interceptors = interceptorFactory.getInterceptors($S);\n",
-                                  List.class, ExecutionInterceptor.class, requestHandlerPath)
-                         .addCode("interceptors = $T.mergeLists(interceptors, config.option($T.EXECUTION_INTERCEPTORS));\n",
-                                  CollectionUtils.class, SdkClientOption.class);
+                         .addParameter(SdkClientConfiguration.class, "config");
+
+        List<String> executionInterceptors = model.getCustomizationConfig().getExecutionInterceptors();
+        if (executionInterceptors == null) {
+            builder.addCode("$1T interceptorFactory = new $1T();\n", ClasspathInterceptorChainFactory.class)
+                   .addCode("$T<$T> interceptors = interceptorFactory.getInterceptors($S);\n",
+                            List.class, ExecutionInterceptor.class, requestHandlerPath);
+        } else {
+            builder.addCode("$T<$T> interceptors = new $T<>();\n", List.class, ExecutionInterceptor.class, ArrayList.class);
+            executionInterceptors.forEach(i -> builder.addCode("interceptors.add(new $T());\n",
+                                                               PoetUtils.classNameFromFqcn(i)));
+            builder.addCode("interceptors.addAll(new $T().getAdditionalInterceptors($S, interceptors));\n",
+                            ClasspathInterceptorChainFactory.class, requestHandlerPath);
+        }
+
+        builder.addCode("interceptors = $T.mergeLists(interceptors, config.option($T.EXECUTION_INTERCEPTORS));\n",
+                        CollectionUtils.class, SdkClientOption.class);
 
         if (model.getEndpointOperation().isPresent()) {
             builder.beginControlFlow("if (!endpointDiscoveryEnabled)")
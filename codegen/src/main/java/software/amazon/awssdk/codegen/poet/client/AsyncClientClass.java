@@ -120,6 +120,10 @@ public final class AsyncClientClass extends AsyncClientInterface {
             classBuilder.addMethod(utilitiesMethod());
         }
 
+        if (model.hasWaiters()) {
+            classBuilder.addMethod(waiterMethod());
+        }
+
         model.getEndpointOperation().ifPresent(
             o -> classBuilder.addField(EndpointDiscoveryRefreshCache.class, "endpointDiscoveryCache", PRIVATE));
 
@@ -301,4 +305,15 @@ public final class AsyncClientClass extends AsyncClientInterface {
                                        config.getCreateMethodParams().stream().collect(Collectors.joining(",")))
                          .build();
     }
+
+    private MethodSpec waiterMethod() {
+        return MethodSpec.methodBuilder("waiter")
+                         .addModifiers(Modifier.PUBLIC)
+                         .addAnnotation(Override.class)
+                         .returns(poetExtensions.getAsyncWaiterInterface())
+                         .addStatement("return $T.builder().client(this).scheduledExecutorService(clientConfiguration.option($T"
+                                       + ".SCHEDULED_EXECUTOR_SERVICE)).build()", poetExtensions.getAsyncWaiterInterface(),
+                                       SdkClientOption.class)
+                         .build();
+    }
 }
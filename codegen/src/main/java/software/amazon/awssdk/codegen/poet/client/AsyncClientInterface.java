@@ -92,6 +92,10 @@ public class AsyncClientInterface implements ClassSpec {
             result.addMethod(utilitiesMethod());
         }
 
+        if (model.hasWaiters()) {
+            result.addMethod(waiterMethod());
+        }
+
         return result.build();
     }
 
@@ -442,4 +446,17 @@ public class AsyncClientInterface implements ClassSpec {
                                      + "configuration set on this client.", returnType)
                          .build();
     }
+
+    private MethodSpec waiterMethod() {
+        return MethodSpec.methodBuilder("waiter")
+                         .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                         .returns(poetExtensions.getAsyncWaiterInterface())
+                         .addStatement("throw new $T()", UnsupportedOperationException.class)
+                         .addJavadoc("Create an instance of {@link $T} using this client.\n\n"
+                                     + "<p>The waiter only uses the resources of this client, so it does not need to be "
+                                     + "closed separately.\n\n"
+                                     + "@return an instance of {@link $T}\n",
+                                     poetExtensions.getAsyncWaiterInterface(), poetExtensions.getAsyncWaiterInterface())
+                         .build();
+    }
 }
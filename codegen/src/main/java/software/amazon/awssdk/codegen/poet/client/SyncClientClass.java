@@ -104,6 +104,10 @@ public class SyncClientClass implements ClassSpec {
             classBuilder.addMethod(utilitiesMethod());
         }
 
+        if (model.hasWaiters()) {
+            classBuilder.addMethod(waiterMethod());
+        }
+
         model.getEndpointOperation().ifPresent(
             o -> classBuilder.addField(EndpointDiscoveryRefreshCache.class, "endpointDiscoveryCache", PRIVATE));
 
@@ -258,4 +262,13 @@ public class SyncClientClass implements ClassSpec {
                 throw new RuntimeException("Unknown protocol: " + protocol.name());
         }
     }
+
+    private MethodSpec waiterMethod() {
+        return MethodSpec.methodBuilder("waiter")
+                         .addModifiers(Modifier.PUBLIC)
+                         .addAnnotation(Override.class)
+                         .returns(poetExtensions.getSyncWaiterInterface())
+                         .addStatement("return $T.builder().client(this).build()", poetExtensions.getSyncWaiterInterface())
+                         .build();
+    }
 }
@@ -40,6 +40,7 @@ import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 class MemberCopierSpec implements ClassSpec {
     private final MemberModel memberModel;
@@ -212,8 +213,9 @@ class MemberCopierSpec implements ClassSpec {
                      .beginControlFlow("if ($N == null)", memberParamName())
                      .addStatement("return null")
                      .endControlFlow()
-                     .addStatement("return $N($N.entrySet().stream().collect(toMap($T::getKey, e -> e.getValue().build())))",
-                                   serviceModelCopiers.copyMethodName(),
+                     .addStatement("return $T.unmodifiableMap($N.entrySet().stream().collect(toMap($T::getKey, e -> e.getValue()"
+                                   + ".build())))",
+                                   TrustedCollections.class,
                                    memberParamName(),
                                    Map.Entry.class)
                      .build();
@@ -237,8 +239,8 @@ class MemberCopierSpec implements ClassSpec {
                                   .beginControlFlow("if ($N == null)", memberParamName())
                                   .addStatement("return null")
                                   .endControlFlow()
-                                  .addStatement("return $N($N.stream().map($T::$N).collect(toList()))",
-                                                serviceModelCopiers.copyMethodName(),
+                                  .addStatement("return $T.unmodifiableList($N.stream().map($T::$N).collect(toList()))",
+                                                TrustedCollections.class,
                                                 memberParamName(),
                                                 builderForParameter,
                                                 "build")
@@ -284,6 +286,10 @@ class MemberCopierSpec implements ClassSpec {
         Optional<ClassName> copierClass = serviceModelCopiers.copierClassFor(memberModel.getListModel().getListMemberModel());
         boolean hasCopier = copierClass.isPresent();
 
+        if (enumTransform == EnumTransform.NONE && !hasCopier) {
+            addTrustedCollectionCheck(builder, "trustedList");
+        }
+
         TypeName copyType;
         if (enumTransform == EnumTransform.STRING_TO_ENUM) {
             copyType = typeProvider.enumReturnType(memberModel);
@@ -344,7 +350,7 @@ class MemberCopierSpec implements ClassSpec {
                 throw new IllegalArgumentException("Unknown enum transform: " + enumTransform);
         }
 
-        builder.addStatement("return $T.unmodifiableList($N)", Collections.class, copyName);
+        builder.addStatement("return $T.unmodifiableList($N)", TrustedCollections.class, copyName);
 
         return builder.build();
     }
@@ -377,6 +383,12 @@ class MemberCopierSpec implements ClassSpec {
                     .endControlFlow();
         }
 
+        boolean hasCopier = serviceModelCopiers.copierClassFor(keyModel).isPresent()
+                            || serviceModelCopiers.copierClassFor(valueModel).isPresent();
+        if (enumTransform == EnumTransform.NONE && !hasCopier) {
+            addTrustedCollectionCheck(builder, "trustedMap");
+        }
+
         TypeName copyType;
         if (enumTransform == EnumTransform.STRING_TO_ENUM) {
             copyType = typeProvider.enumReturnType(memberModel);
@@ -403,7 +415,18 @@ class MemberCopierSpec implements ClassSpec {
                     HashMap.class);
         }
 
-        return builder.addStatement("return $T.unmodifiableMap($N)", Collections.class, copyName).build();
+        return builder.addStatement("return $T.unmodifiableMap($N)", TrustedCollections.class, copyName).build();
+    }
+
+    /**
+     * Collections of simple values created by the SDK (by an unmarshaller or a previous copy) can't change, so they are handed
+     * over without copying them again. Nested collections still go through the copiers of their elements, which replace
+     * missing elements with auto construct collections.
+     */
+    private void addTrustedCollectionCheck(CodeBlock.Builder builder, String trustedMethodName) {
+        builder.beginControlFlow("if ($T.isTrusted($N))", TrustedCollections.class, memberParamName())
+               .addStatement("return $T.$N($N)", TrustedCollections.class, trustedMethodName, memberParamName())
+               .endControlFlow();
     }
 
     private CodeBlock mapKeyValCopyExpr(MemberModel keyValModel, String getterName, EnumTransform enumTransform) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.core.waiters.AsyncWaiter;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Spec of the async waiter implementation of a service, eg. "DefaultDynamoDbAsyncWaiter". Polls are scheduled on a
+ * {@link ScheduledExecutorService}, so no thread is parked while waiting.
+ */
+public class AsyncWaiterClassSpec extends BaseWaiterClassSpec {
+    private static final String EXECUTOR_SERVICE = "executorService";
+    private static final String MANAGED_EXECUTOR = "managedExecutorService";
+
+    public AsyncWaiterClassSpec(IntermediateModel model) {
+        super(model);
+    }
+
+    static ClassName className(PoetExtensions poetExtensions) {
+        ClassName interfaceName = poetExtensions.getAsyncWaiterInterface();
+        return ClassName.get(interfaceName.packageName(), "Default" + interfaceName.simpleName());
+    }
+
+    @Override
+    public ClassName className() {
+        return className(poetExtensions);
+    }
+
+    @Override
+    protected ClassName interfaceClassName() {
+        return poetExtensions.getAsyncWaiterInterface();
+    }
+
+    @Override
+    protected ClassName clientClassName() {
+        return poetExtensions.getClientClass(model.getMetadata().getAsyncInterface());
+    }
+
+    @Override
+    protected ClassName waiterType() {
+        return ClassName.get(AsyncWaiter.class);
+    }
+
+    @Override
+    protected TypeName waitUntilReturnType(TypeName responseType) {
+        return ParameterizedTypeName.get(ClassName.get(CompletableFuture.class),
+                                         ParameterizedTypeName.get(ClassName.get(WaiterResponse.class), responseType));
+    }
+
+    @Override
+    protected String runMethodName() {
+        return "runAsync";
+    }
+
+    @Override
+    protected void additionalMembers(TypeSpec.Builder type, TypeSpec.Builder builder, MethodSpec.Builder constructor) {
+        type.addField(ScheduledExecutorService.class, EXECUTOR_SERVICE, Modifier.PRIVATE, Modifier.FINAL)
+            .addField(boolean.class, MANAGED_EXECUTOR, Modifier.PRIVATE, Modifier.FINAL);
+
+        builder.addField(ScheduledExecutorService.class, EXECUTOR_SERVICE, Modifier.PRIVATE)
+               .addMethod(MethodSpec.methodBuilder("scheduledExecutorService")
+                                    .addAnnotation(Override.class)
+                                    .addModifiers(Modifier.PUBLIC)
+                                    .returns(interfaceClassName().nestedClass("Builder"))
+                                    .addParameter(ScheduledExecutorService.class, EXECUTOR_SERVICE)
+                                    .addStatement("this.$1L = $1L", EXECUTOR_SERVICE)
+                                    .addStatement("return this")
+                                    .build());
+
+        constructor.beginControlFlow("if ($L.$L != null)", BUILDER, EXECUTOR_SERVICE)
+                   .addStatement("this.$1L = $2L.$1L", EXECUTOR_SERVICE, BUILDER)
+                   .addStatement("this.$L = false", MANAGED_EXECUTOR)
+                   .nextControlFlow("else")
+                   .addStatement("this.$L = $T.newScheduledThreadPool(1, new $T().threadNamePrefix($S).build())",
+                                 EXECUTOR_SERVICE, Executors.class, ThreadFactoryBuilder.class, "waiters-ScheduledExecutor")
+                   .addStatement("this.$L = true", MANAGED_EXECUTOR)
+                   .endControlFlow();
+    }
+
+    @Override
+    protected void additionalWaiterBuilderOptions(CodeBlock.Builder waiterBuilder) {
+        waiterBuilder.add(".scheduledExecutorService($L)", EXECUTOR_SERVICE);
+    }
+
+    @Override
+    protected CodeBlock closeBody() {
+        return CodeBlock.builder()
+                        .beginControlFlow("if ($L)", MANAGED_EXECUTOR)
+                        .addStatement("$L.shutdownNow()", EXECUTOR_SERVICE)
+                        .endControlFlow()
+                        .build();
+    }
+}
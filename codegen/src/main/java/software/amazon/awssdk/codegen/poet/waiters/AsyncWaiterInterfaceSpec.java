@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+
+/**
+ * Spec of the async waiter interface of a service, eg. "DynamoDbAsyncWaiter".
+ */
+public class AsyncWaiterInterfaceSpec extends BaseWaiterInterfaceSpec {
+
+    public AsyncWaiterInterfaceSpec(IntermediateModel model) {
+        super(model);
+    }
+
+    @Override
+    public ClassName className() {
+        return poetExtensions.getAsyncWaiterInterface();
+    }
+
+    @Override
+    protected ClassName clientClassName() {
+        return poetExtensions.getClientClass(model.getMetadata().getAsyncInterface());
+    }
+
+    @Override
+    protected ClassName defaultClassName() {
+        return AsyncWaiterClassSpec.className(poetExtensions);
+    }
+
+    @Override
+    protected TypeName waitUntilReturnType(TypeName responseType) {
+        return ParameterizedTypeName.get(ClassName.get(CompletableFuture.class),
+                                         ParameterizedTypeName.get(ClassName.get(WaiterResponse.class), responseType));
+    }
+
+    @Override
+    protected void additionalBuilderMethods(TypeSpec.Builder builder) {
+        builder.addMethod(MethodSpec.methodBuilder("scheduledExecutorService")
+                                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                    .returns(className().nestedClass("Builder"))
+                                    .addParameter(ScheduledExecutorService.class, "executorService")
+                                    .addJavadoc("Sets a custom {@link ScheduledExecutorService} that will be used to schedule "
+                                                + "the polling attempts. The executor service is not shut down when the waiter "
+                                                + "is closed.\n\n<p>If not set, the waiter creates and owns a single thread "
+                                                + "executor service.\n\n"
+                                                + "@param executorService the executor service to set\n"
+                                                + "@return a reference to this object so that method calls can be chained "
+                                                + "together.\n")
+                                    .build());
+    }
+}
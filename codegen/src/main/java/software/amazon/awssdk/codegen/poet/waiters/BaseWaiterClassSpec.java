@@ -0,0 +1,251 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Base class for the specs of the package-private waiter implementations. Each waiter of the model is backed by a
+ * {@code Waiter} or {@code AsyncWaiter} of sdk-core, created once with the acceptors and the default configuration of the
+ * model.
+ */
+public abstract class BaseWaiterClassSpec implements ClassSpec {
+    protected static final String CLIENT = "client";
+    protected static final String REQUEST = "request";
+    protected static final String OVERRIDE_CONFIG = "overrideConfig";
+    protected static final String BUILDER = "builder";
+
+    protected final IntermediateModel model;
+    protected final PoetExtensions poetExtensions;
+    private final List<SupportedWaiter> waiters;
+
+    protected BaseWaiterClassSpec(IntermediateModel model) {
+        this.model = model;
+        this.poetExtensions = new PoetExtensions(model);
+        this.waiters = SupportedWaiter.of(model);
+    }
+
+    /**
+     * @return The public waiter interface implemented by the generated class.
+     */
+    protected abstract ClassName interfaceClassName();
+
+    /**
+     * @return The client polled by the waiter.
+     */
+    protected abstract ClassName clientClassName();
+
+    /**
+     * @return The sdk-core waiter type, {@code Waiter} or {@code AsyncWaiter}.
+     */
+    protected abstract ClassName waiterType();
+
+    /**
+     * @return The type returned by the {@code waitUntil} methods of a waiter polling responses of the given type.
+     */
+    protected abstract TypeName waitUntilReturnType(TypeName responseType);
+
+    /**
+     * @return The name of the method of the sdk-core waiter that polls the resource, {@code run} or {@code runAsync}.
+     */
+    protected abstract String runMethodName();
+
+    /**
+     * Add the fields, builder methods and constructor statements specific to the sync or async waiter.
+     */
+    protected abstract void additionalMembers(TypeSpec.Builder type, TypeSpec.Builder builder, MethodSpec.Builder constructor);
+
+    /**
+     * Add the {@code build()} statements applying the options specific to the sync or async waiter, eg. the executor service.
+     */
+    protected void additionalWaiterBuilderOptions(CodeBlock.Builder waiterBuilder) {
+    }
+
+    /**
+     * @return The body of the {@code close()} method of the waiter.
+     */
+    protected abstract CodeBlock closeBody();
+
+    @Override
+    public TypeSpec poetSpec() {
+        TypeSpec.Builder type = PoetUtils.createClassBuilder(className())
+                                         .addModifiers(Modifier.FINAL)
+                                         .addAnnotation(SdkInternalApi.class)
+                                         .addAnnotation(ThreadSafe.class)
+                                         .addSuperinterface(interfaceClassName())
+                                         .addField(clientClassName(), CLIENT, Modifier.PRIVATE, Modifier.FINAL);
+
+        ClassName builderName = className().nestedClass("DefaultBuilder");
+        TypeSpec.Builder builder = builderClass(builderName);
+
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                                                   .addModifiers(Modifier.PRIVATE)
+                                                   .addParameter(builderName, BUILDER)
+                                                   .addStatement("this.$1L = $2T.paramNotNull($3L.$1L, $1S)", CLIENT,
+                                                                 Validate.class, BUILDER);
+        additionalMembers(type, builder, constructor);
+
+        for (SupportedWaiter waiter : waiters) {
+            TypeName responseType = waiter.responseType(poetExtensions);
+            type.addField(ParameterizedTypeName.get(waiterType(), responseType), waiter.fieldName(),
+                          Modifier.PRIVATE, Modifier.FINAL);
+
+            CodeBlock.Builder waiterBuilder = CodeBlock.builder()
+                                                       .add("this.$L = $T.builder($T.class)", waiter.fieldName(), waiterType(),
+                                                            responseType)
+                                                       .add(".acceptors($LAcceptors())", waiter.fieldName());
+            additionalWaiterBuilderOptions(waiterBuilder);
+            constructor.addStatement(waiterBuilder.add(".overrideConfiguration($LConfig($L.overrideConfiguration)).build()",
+                                                       waiter.fieldName(), BUILDER)
+                                                  .build());
+        }
+
+        type.addMethod(constructor.build());
+        for (SupportedWaiter waiter : waiters) {
+            type.addMethods(waitUntilMethods(waiter));
+        }
+        for (SupportedWaiter waiter : waiters) {
+            type.addMethod(acceptorsMethod(waiter));
+            type.addMethod(configMethod(waiter));
+        }
+
+        return type.addMethod(MethodSpec.methodBuilder("close")
+                                        .addAnnotation(Override.class)
+                                        .addModifiers(Modifier.PUBLIC)
+                                        .addCode(closeBody())
+                                        .build())
+                   .addMethod(MethodSpec.methodBuilder("builder")
+                                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                        .returns(interfaceClassName().nestedClass("Builder"))
+                                        .addStatement("return new $T()", builderName)
+                                        .build())
+                   .addType(builder.addMethod(MethodSpec.methodBuilder("build")
+                                                        .addAnnotation(Override.class)
+                                                        .addModifiers(Modifier.PUBLIC)
+                                                        .returns(interfaceClassName())
+                                                        .addStatement("return new $T(this)", className())
+                                                        .build())
+                                   .build())
+                   .build();
+    }
+
+    private List<MethodSpec> waitUntilMethods(SupportedWaiter waiter) {
+        ClassName requestType = poetExtensions.getModelClass(waiter.operation().getInput().getVariableType());
+        TypeName returnType = waitUntilReturnType(waiter.responseType(poetExtensions));
+
+        List<MethodSpec> methods = new ArrayList<>();
+        methods.add(MethodSpec.methodBuilder(waiter.methodName())
+                              .addAnnotation(Override.class)
+                              .addModifiers(Modifier.PUBLIC)
+                              .returns(returnType)
+                              .addParameter(requestType, REQUEST)
+                              .addStatement("return $L.$L(() -> $L.$L($L))", waiter.fieldName(), runMethodName(), CLIENT,
+                                            waiter.operation().getMethodName(), REQUEST)
+                              .build());
+        methods.add(MethodSpec.methodBuilder(waiter.methodName())
+                              .addAnnotation(Override.class)
+                              .addModifiers(Modifier.PUBLIC)
+                              .returns(returnType)
+                              .addParameter(requestType, REQUEST)
+                              .addParameter(WaiterOverrideConfiguration.class, OVERRIDE_CONFIG)
+                              .addStatement("return $L.$L(() -> $L.$L($L), $L)", waiter.fieldName(), runMethodName(), CLIENT,
+                                            waiter.operation().getMethodName(), REQUEST, OVERRIDE_CONFIG)
+                              .build());
+        return methods;
+    }
+
+    private MethodSpec acceptorsMethod(SupportedWaiter waiter) {
+        TypeName acceptorType = ParameterizedTypeName.get(ClassName.get(WaiterAcceptor.class),
+                                                          WildcardTypeName.supertypeOf(
+                                                              waiter.responseType(poetExtensions)));
+        TypeName listType = ParameterizedTypeName.get(ClassName.get(List.class), acceptorType);
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder(waiter.fieldName() + "Acceptors")
+                                              .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                              .returns(listType)
+                                              .addStatement("$T result = new $T<>()", listType, ArrayList.class);
+        waiter.acceptors().forEach(a -> method.addStatement("result.add($L)", a));
+        return method.addStatement("return result").build();
+    }
+
+    private MethodSpec configMethod(SupportedWaiter waiter) {
+        return MethodSpec.methodBuilder(waiter.fieldName() + "Config")
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(WaiterOverrideConfiguration.class)
+                         .addParameter(WaiterOverrideConfiguration.class, OVERRIDE_CONFIG)
+                         .addStatement("$T<$T> optionalOverrideConfig = $T.ofNullable($L)", Optional.class,
+                                       WaiterOverrideConfiguration.class, Optional.class, OVERRIDE_CONFIG)
+                         .addStatement("int maxAttempts = optionalOverrideConfig.flatMap($T::maxAttempts).orElse($L)",
+                                       WaiterOverrideConfiguration.class, waiter.definition().getMaxAttempts())
+                         .addStatement("$T backoffStrategy = optionalOverrideConfig.flatMap($T::backoffStrategy).orElse("
+                                       + "$T.create($T.ofSeconds($L)))", BackoffStrategy.class,
+                                       WaiterOverrideConfiguration.class, FixedDelayBackoffStrategy.class, Duration.class,
+                                       waiter.definition().getDelay())
+                         .addStatement("$T waitTimeout = optionalOverrideConfig.flatMap($T::waitTimeout).orElse(null)",
+                                       Duration.class, WaiterOverrideConfiguration.class)
+                         .addStatement("return $T.builder().maxAttempts(maxAttempts).backoffStrategy(backoffStrategy)"
+                                       + ".waitTimeout(waitTimeout).build()", WaiterOverrideConfiguration.class)
+                         .build();
+    }
+
+    private TypeSpec.Builder builderClass(ClassName builderName) {
+        ClassName builderInterface = interfaceClassName().nestedClass("Builder");
+        return TypeSpec.classBuilder(builderName)
+                       .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                       .addSuperinterface(builderInterface)
+                       .addField(clientClassName(), CLIENT, Modifier.PRIVATE)
+                       .addField(WaiterOverrideConfiguration.class, "overrideConfiguration", Modifier.PRIVATE)
+                       .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                       .addMethod(MethodSpec.methodBuilder("overrideConfiguration")
+                                            .addAnnotation(Override.class)
+                                            .addModifiers(Modifier.PUBLIC)
+                                            .returns(builderInterface)
+                                            .addParameter(WaiterOverrideConfiguration.class, "overrideConfiguration")
+                                            .addStatement("this.overrideConfiguration = overrideConfiguration")
+                                            .addStatement("return this")
+                                            .build())
+                       .addMethod(MethodSpec.methodBuilder(CLIENT)
+                                            .addAnnotation(Override.class)
+                                            .addModifiers(Modifier.PUBLIC)
+                                            .returns(builderInterface)
+                                            .addParameter(clientClassName(), CLIENT)
+                                            .addStatement("this.$1L = $1L", CLIENT)
+                                            .addStatement("return this")
+                                            .build());
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Base class for the specs of the public waiter interfaces, containing one {@code waitUntil} method per waiter of the model.
+ */
+public abstract class BaseWaiterInterfaceSpec implements ClassSpec {
+    protected static final String REQUEST = "request";
+    protected static final String OVERRIDE_CONFIG = "overrideConfig";
+
+    protected final IntermediateModel model;
+    protected final PoetExtensions poetExtensions;
+    private final List<SupportedWaiter> waiters;
+
+    protected BaseWaiterInterfaceSpec(IntermediateModel model) {
+        this.model = model;
+        this.poetExtensions = new PoetExtensions(model);
+        this.waiters = SupportedWaiter.of(model);
+    }
+
+    /**
+     * @return The client polled by the waiter.
+     */
+    protected abstract ClassName clientClassName();
+
+    /**
+     * @return The package-private implementation of the waiter interface.
+     */
+    protected abstract ClassName defaultClassName();
+
+    /**
+     * @return The type returned by the {@code waitUntil} methods of a waiter polling responses of the given type.
+     */
+    protected abstract TypeName waitUntilReturnType(TypeName responseType);
+
+    /**
+     * Add builder methods specific to the sync or async waiter.
+     */
+    protected void additionalBuilderMethods(TypeSpec.Builder builder) {
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        TypeSpec.Builder result = PoetUtils.createInterfaceBuilder(className())
+                                           .addAnnotation(SdkPublicApi.class)
+                                           .addAnnotation(ThreadSafe.class)
+                                           .addSuperinterface(SdkAutoCloseable.class)
+                                           .addJavadoc("Waiter utility class that polls a resource of {@link $T} until a "
+                                                       + "desired state is reached, or until it is determined that the "
+                                                       + "resource will never enter into the desired state. This can be "
+                                                       + "created using the static {@link #builder()} method.\n",
+                                                       clientClassName());
+
+        waiters.forEach(w -> result.addMethods(waitUntilMethods(w)));
+
+        return result.addMethod(MethodSpec.methodBuilder("builder")
+                                          .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                          .returns(className().nestedClass("Builder"))
+                                          .addJavadoc("Create a builder that can be used to configure and create a "
+                                                      + "{@link $T}.\n\n@return a builder\n", className())
+                                          .addStatement("return $T.builder()", defaultClassName())
+                                          .build())
+                     .addType(builderInterface())
+                     .build();
+    }
+
+    private List<MethodSpec> waitUntilMethods(SupportedWaiter waiter) {
+        ClassName requestType = poetExtensions.getModelClass(waiter.operation().getInput().getVariableType());
+        ClassName requestBuilderType = requestType.nestedClass("Builder");
+        TypeName returnType = waitUntilReturnType(waiter.responseType(poetExtensions));
+        String pollDocs = String.format("Polls {@link %s#%s} API until the desired condition {@code %s} is met, or until it "
+                                        + "is determined that the resource will never enter into the desired state.",
+                                        clientClassName().simpleName(), waiter.operation().getMethodName(), waiter.name());
+
+        MethodSpec withRequest =
+            MethodSpec.methodBuilder(waiter.methodName())
+                      .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                      .returns(returnType)
+                      .addParameter(requestType, REQUEST)
+                      .addJavadoc("$L\n\n@param $L the request to be used for polling\n"
+                                  + "@return WaiterResponse containing either a response or an exception that has matched "
+                                  + "with the waiter success condition\n", pollDocs, REQUEST)
+                      .addStatement("throw new $T()", UnsupportedOperationException.class)
+                      .build();
+
+        MethodSpec withRequestConsumer =
+            MethodSpec.methodBuilder(waiter.methodName())
+                      .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                      .returns(returnType)
+                      .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), requestBuilderType), REQUEST)
+                      .addJavadoc("$L\n\n<p>This is a convenience method that creates an instance of the {@link $T} builder, "
+                                  + "avoiding the need to create one manually via {@link $T#builder()}.\n\n"
+                                  + "@param $L The consumer that will configure the request to be used for polling\n"
+                                  + "@return WaiterResponse containing either a response or an exception that has matched "
+                                  + "with the waiter success condition\n", pollDocs, requestType, requestType, REQUEST)
+                      .addStatement("return $L($T.builder().applyMutation($L).build())", waiter.methodName(), requestType,
+                                    REQUEST)
+                      .build();
+
+        MethodSpec withOverride =
+            MethodSpec.methodBuilder(waiter.methodName())
+                      .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                      .returns(returnType)
+                      .addParameter(requestType, REQUEST)
+                      .addParameter(WaiterOverrideConfiguration.class, OVERRIDE_CONFIG)
+                      .addJavadoc("$L\n\n@param $L The request to be used for polling\n"
+                                  + "@param $L Per request override configuration for waiters\n"
+                                  + "@return WaiterResponse containing either a response or an exception that has matched "
+                                  + "with the waiter success condition\n", pollDocs, REQUEST, OVERRIDE_CONFIG)
+                      .addStatement("throw new $T()", UnsupportedOperationException.class)
+                      .build();
+
+        MethodSpec withOverrideConsumer =
+            MethodSpec.methodBuilder(waiter.methodName())
+                      .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                      .returns(returnType)
+                      .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), requestBuilderType), REQUEST)
+                      .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class),
+                                                              ClassName.get(WaiterOverrideConfiguration.Builder.class)),
+                                    OVERRIDE_CONFIG)
+                      .addJavadoc("$L\n\n<p>This is a convenience method that creates an instance of the {@link $T} builder, "
+                                  + "avoiding the need to create one manually via {@link $T#builder()}.\n\n"
+                                  + "@param $L The consumer that will configure the request to be used for polling\n"
+                                  + "@param $L The consumer that will configure the per request override configuration "
+                                  + "for waiters\n"
+                                  + "@return WaiterResponse containing either a response or an exception that has matched "
+                                  + "with the waiter success condition\n",
+                                  pollDocs, requestType, requestType, REQUEST, OVERRIDE_CONFIG)
+                      .addStatement("return $L($T.builder().applyMutation($L).build(), $T.builder().applyMutation($L).build())",
+                                    waiter.methodName(), requestType, REQUEST, WaiterOverrideConfiguration.class,
+                                    OVERRIDE_CONFIG)
+                      .build();
+
+        return Arrays.asList(withRequest, withRequestConsumer, withOverride, withOverrideConsumer);
+    }
+
+    private TypeSpec builderInterface() {
+        ClassName builderName = className().nestedClass("Builder");
+        TypeSpec.Builder builder =
+            TypeSpec.interfaceBuilder(builderName)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .addMethod(MethodSpec.methodBuilder("overrideConfiguration")
+                                         .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                         .returns(builderName)
+                                         .addParameter(WaiterOverrideConfiguration.class, "overrideConfiguration")
+                                         .addJavadoc("Defines overrides to the default SDK waiter configuration that should "
+                                                     + "be used for waiters created from this builder.\n\n"
+                                                     + "@param overrideConfiguration the override configuration to set\n"
+                                                     + "@return a reference to this object so that method calls can be "
+                                                     + "chained together.\n")
+                                         .build())
+                    .addMethod(MethodSpec.methodBuilder("overrideConfiguration")
+                                         .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                                         .returns(builderName)
+                                         .addParameter(ParameterizedTypeName.get(
+                                             ClassName.get(Consumer.class),
+                                             ClassName.get(WaiterOverrideConfiguration.Builder.class)), "overrideConfiguration")
+                                         .addJavadoc("This is a convenient method to pass the override configuration without "
+                                                     + "the need to create an instance manually via "
+                                                     + "{@link WaiterOverrideConfiguration#builder()}.\n\n"
+                                                     + "@param overrideConfiguration The consumer that will configure the "
+                                                     + "overrideConfiguration\n"
+                                                     + "@return a reference to this object so that method calls can be "
+                                                     + "chained together.\n"
+                                                     + "@see #overrideConfiguration(WaiterOverrideConfiguration)\n")
+                                         .addStatement("return overrideConfiguration($T.builder().applyMutation("
+                                                       + "overrideConfiguration).build())", WaiterOverrideConfiguration.class)
+                                         .build())
+                    .addMethod(MethodSpec.methodBuilder("client")
+                                         .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                         .returns(builderName)
+                                         .addParameter(clientClassName(), "client")
+                                         .addJavadoc("Sets the client that will be used to poll the resource. The client is "
+                                                     + "not closed when the waiter is closed.\n\n"
+                                                     + "@param client the client to send the polling requests with\n"
+                                                     + "@return a reference to this object so that method calls can be "
+                                                     + "chained together.\n")
+                                         .build());
+
+        additionalBuilderMethods(builder);
+
+        return builder.addMethod(MethodSpec.methodBuilder("build")
+                                           .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                           .returns(className())
+                                           .addJavadoc("Builds an instance of {@link $T} based on the configurations "
+                                                       + "supplied to this builder\n\n"
+                                                       + "@return An initialized {@link $T}\n", className(), className())
+                                           .build())
+                      .build();
+    }
+}
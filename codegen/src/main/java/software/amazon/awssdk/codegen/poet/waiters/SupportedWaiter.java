@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
+import software.amazon.awssdk.codegen.model.service.Acceptor;
+import software.amazon.awssdk.codegen.model.service.WaiterDefinition;
+import software.amazon.awssdk.codegen.poet.PoetExtensions;
+
+/**
+ * A waiter of the waiters-2.json model for which code can be generated, along with its compiled acceptors.
+ */
+@SdkInternalApi
+final class SupportedWaiter {
+    private final String name;
+    private final WaiterDefinition definition;
+    private final OperationModel operation;
+    private final List<CodeBlock> acceptors;
+
+    private SupportedWaiter(String name, WaiterDefinition definition, OperationModel operation, List<CodeBlock> acceptors) {
+        this.name = name;
+        this.definition = definition;
+        this.operation = operation;
+        this.acceptors = acceptors;
+    }
+
+    /**
+     * @return The waiters of the model that can be generated, sorted by name. A waiter is skipped if it polls a streaming
+     * operation or if any of its acceptors is not supported by {@link WaiterAcceptorGenerator}.
+     */
+    static List<SupportedWaiter> of(IntermediateModel model) {
+        List<SupportedWaiter> result = new ArrayList<>();
+        for (Map.Entry<String, WaiterDefinition> entry : new TreeMap<>(model.getWaiters()).entrySet()) {
+            from(model, entry.getKey(), entry.getValue()).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    private static Optional<SupportedWaiter> from(IntermediateModel model, String name, WaiterDefinition definition) {
+        OperationModel operation = model.getOperation(definition.getOperation());
+        if (operation == null || operation.isStreaming() || operation.hasEventStreamOutput()
+            || definition.getAcceptors() == null || definition.getAcceptors().isEmpty()) {
+            return Optional.empty();
+        }
+
+        WaiterAcceptorGenerator generator = new WaiterAcceptorGenerator(model, operation.getOutputShape());
+        List<CodeBlock> acceptors = new ArrayList<>();
+        for (Acceptor acceptor : definition.getAcceptors()) {
+            Optional<CodeBlock> code = generator.acceptor(acceptor);
+            if (!code.isPresent()) {
+                return Optional.empty();
+            }
+            acceptors.add(code.get());
+        }
+        return Optional.of(new SupportedWaiter(name, definition, operation, acceptors));
+    }
+
+    String name() {
+        return name;
+    }
+
+    WaiterDefinition definition() {
+        return definition;
+    }
+
+    OperationModel operation() {
+        return operation;
+    }
+
+    List<CodeBlock> acceptors() {
+        return acceptors;
+    }
+
+    /**
+     * @return The response type of the polled operation.
+     */
+    ClassName responseType(PoetExtensions poetExtensions) {
+        return poetExtensions.getModelClass(operation.getReturnType().getReturnType());
+    }
+
+    /**
+     * @return The name of the method waiting on this waiter. eg: "waitUntilTableExists"
+     */
+    String methodName() {
+        return "waitUntil" + Utils.capitalize(name);
+    }
+
+    /**
+     * @return The prefix of the fields and helper methods generated for this waiter. eg: "tableExistsWaiter"
+     */
+    String fieldName() {
+        return Utils.unCapitalize(name) + "Waiter";
+    }
+}
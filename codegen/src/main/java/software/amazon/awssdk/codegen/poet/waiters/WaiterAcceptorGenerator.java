@@ -0,0 +1,275 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.squareup.javapoet.CodeBlock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.model.service.Acceptor;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+
+/**
+ * Generates the {@link WaiterAcceptor} matching an {@link Acceptor} of a waiters-2.json model.
+ *
+ * <p>The JMESPath arguments of the path matchers are compiled into streams over the response getters, so the generated
+ * code is type-checked and does not need a JMESPath runtime. Only the subset of JMESPath used by the shipped models is
+ * supported: member access, list projections ({@code Name[]}), map value projections ({@code Name.*}) and comparisons of
+ * {@code length(...)} with a number. Acceptors using other expressions are reported as unsupported and the waiter using them
+ * is not generated.
+ */
+@SdkInternalApi
+final class WaiterAcceptorGenerator {
+    private static final Pattern SEGMENT = Pattern.compile("([A-Za-z0-9_]+)(\\[\\])?");
+    private static final Pattern LENGTH = Pattern.compile("length\\((.+)\\)\\s*(==|!=|>=|<=|>|<)\\s*`(\\d+)`");
+
+    private final IntermediateModel model;
+    private final ShapeModel outputShape;
+
+    WaiterAcceptorGenerator(IntermediateModel model, ShapeModel outputShape) {
+        this.model = model;
+        this.outputShape = outputShape;
+    }
+
+    /**
+     * @return The expression creating the {@link WaiterAcceptor} for the given acceptor, or empty if the acceptor uses a
+     * matcher or expression that is not supported.
+     */
+    Optional<CodeBlock> acceptor(Acceptor acceptor) {
+        String state = waiterState(acceptor.getState());
+        if (state == null || acceptor.getMatcher() == null || acceptor.getExpected() == null) {
+            return Optional.empty();
+        }
+
+        switch (acceptor.getMatcher()) {
+            case "status":
+                return statusAcceptor(state, acceptor.getExpected());
+            case "error":
+                return errorAcceptor(state, acceptor.getExpected());
+            case "path":
+            case "pathAny":
+            case "pathAll":
+                return pathAcceptor(state, acceptor);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static String waiterState(String state) {
+        if (state == null) {
+            return null;
+        }
+        switch (state) {
+            case "success":
+                return "success";
+            case "failure":
+                return "error";
+            case "retry":
+                return "retry";
+            default:
+                return null;
+        }
+    }
+
+    private Optional<CodeBlock> statusAcceptor(String state, JsonNode expected) {
+        if (!expected.isInt()) {
+            return Optional.empty();
+        }
+
+        int statusCode = expected.asInt();
+        if (statusCode < 300) {
+            return Optional.of(CodeBlock.of("$T.$LOnResponseAcceptor(response -> response.sdkHttpResponse().statusCode() == $L)",
+                                            WaiterAcceptor.class, state, statusCode));
+        }
+
+        // Unsuccessful responses are surfaced as exceptions by the client.
+        return Optional.of(CodeBlock.of("$T.$LOnExceptionAcceptor(error -> error instanceof $T "
+                                        + "&& (($T) error).statusCode() == $L)",
+                                        WaiterAcceptor.class, state, SdkServiceException.class, SdkServiceException.class,
+                                        statusCode));
+    }
+
+    private Optional<CodeBlock> errorAcceptor(String state, JsonNode expected) {
+        if (!expected.isTextual()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(CodeBlock.of("$T.$LOnExceptionAcceptor(error -> error instanceof $T && $S.equals((($T) error)"
+                                        + ".awsErrorDetails().errorCode()))",
+                                        WaiterAcceptor.class, state, AwsServiceException.class, expected.asText(),
+                                        AwsServiceException.class));
+    }
+
+    private Optional<CodeBlock> pathAcceptor(String state, Acceptor acceptor) {
+        String argument = acceptor.getArgument().trim();
+        Matcher lengthMatcher = LENGTH.matcher(argument);
+
+        Optional<CodeBlock> predicate = lengthMatcher.matches()
+                                        ? lengthPredicate(lengthMatcher, acceptor)
+                                        : valuePredicate(argument, acceptor);
+
+        return predicate.map(p -> CodeBlock.of("$T.$LOnResponseAcceptor($L)", WaiterAcceptor.class, state, p));
+    }
+
+    private Optional<CodeBlock> valuePredicate(String argument, Acceptor acceptor) {
+        Optional<CodeBlock> expected = expectedLiteral(acceptor.getExpected());
+        Optional<CompiledPath> path = compile(argument);
+        if (!expected.isPresent() || !path.isPresent()) {
+            return Optional.empty();
+        }
+
+        CodeBlock values = path.get().values;
+        if ("pathAll".equals(acceptor.getMatcher())) {
+            return Optional.of(CodeBlock.builder()
+                                        .add("response -> {\n$>")
+                                        .add("$T<?> values = $L.collect($T.toList());\n", List.class, values, Collectors.class)
+                                        .add("return !values.isEmpty() && values.stream().allMatch(v -> $T.equals(v, $L));\n",
+                                             Objects.class, expected.get())
+                                        .add("$<}")
+                                        .build());
+        }
+
+        // A "path" over a projection compares the whole list with a single value, which never matches in the shipped models.
+        if ("path".equals(acceptor.getMatcher()) && path.get().projection) {
+            return Optional.empty();
+        }
+
+        return Optional.of(CodeBlock.of("response -> $L.anyMatch(v -> $T.equals(v, $L))", values, Objects.class,
+                                        expected.get()));
+    }
+
+    private Optional<CodeBlock> lengthPredicate(Matcher lengthMatcher, Acceptor acceptor) {
+        JsonNode expected = acceptor.getExpected();
+        Optional<CompiledPath> path = compile(lengthMatcher.group(1).trim());
+        if (!expected.isBoolean() || !path.isPresent() || "pathAll".equals(acceptor.getMatcher())) {
+            return Optional.empty();
+        }
+
+        CompiledPath compiled = path.get();
+        CodeBlock length;
+        if (compiled.projection) {
+            length = CodeBlock.of("$L.count()", compiled.values);
+        } else if (compiled.last.isList()) {
+            length = CodeBlock.of("$L.mapToLong(v -> v.size()).sum()", compiled.values);
+        } else if (compiled.last.isMap()) {
+            length = CodeBlock.of("$L.mapToLong(v -> v.size()).sum()", compiled.values);
+        } else if ("String".equals(compiled.last.getVariable().getSimpleType())) {
+            length = CodeBlock.of("$L.mapToLong(v -> v.length()).sum()", compiled.values);
+        } else {
+            return Optional.empty();
+        }
+
+        CodeBlock comparison = CodeBlock.of("$L $L $L", length, lengthMatcher.group(2), lengthMatcher.group(3));
+        return Optional.of(expected.asBoolean() ? CodeBlock.of("response -> $L", comparison)
+                                                : CodeBlock.of("response -> !($L)", comparison));
+    }
+
+    private static Optional<CodeBlock> expectedLiteral(JsonNode expected) {
+        if (expected.isTextual()) {
+            return Optional.of(CodeBlock.of("$S", expected.asText()));
+        }
+        if (expected.isBoolean()) {
+            return Optional.of(CodeBlock.of("$L", expected.asBoolean()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Compile a JMESPath expression into a stream of the values it selects from the response.
+     */
+    private Optional<CompiledPath> compile(String expression) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : expression.split("\\.", -1)) {
+            segments.add(segment.trim());
+        }
+
+        CodeBlock.Builder values = CodeBlock.builder().add("$T.of(response)", Stream.class);
+        ShapeModel shape = outputShape;
+        MemberModel member = null;
+        boolean projection = false;
+
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+
+            if ("*".equals(segment)) {
+                if (i == 0 || !member.isMap()) {
+                    return Optional.empty();
+                }
+                member = member.getMapModel().getValueModel();
+                shape = shapeOf(member);
+                values.add(".flatMap(x -> x.values().stream()).filter($T::nonNull)", Objects.class);
+                projection = true;
+                continue;
+            }
+
+            Matcher matcher = SEGMENT.matcher(segment);
+            if (shape == null || !matcher.matches()) {
+                return Optional.empty();
+            }
+
+            member = shape.getMemberByC2jName(matcher.group(1));
+            if (member == null) {
+                return Optional.empty();
+            }
+            values.add(".map(x -> x.$L()).filter($T::nonNull)", member.getFluentGetterMethodName(), Objects.class);
+
+            if (matcher.group(2) != null) {
+                if (!member.isList()) {
+                    return Optional.empty();
+                }
+                values.add(".flatMap(x -> x.stream()).filter($T::nonNull)", Objects.class);
+                member = member.getListModel().getListMemberModel();
+                projection = true;
+            }
+            shape = shapeOf(member);
+        }
+
+        return Optional.of(new CompiledPath(values.build(), member, projection));
+    }
+
+    private ShapeModel shapeOf(MemberModel member) {
+        if (member.isSimple() || member.isList() || member.isMap()) {
+            return null;
+        }
+        return member.getShape() != null ? member.getShape()
+                                         : Utils.findShapeModelByC2jNameIfExists(model, member.getC2jShape());
+    }
+
+    private static final class CompiledPath {
+        private final CodeBlock values;
+        private final MemberModel last;
+        private final boolean projection;
+
+        private CompiledPath(CodeBlock values, MemberModel last, boolean projection) {
+            this.values = values;
+            this.last = last;
+            this.projection = projection;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.core.waiters.Waiter;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+
+/**
+ * Spec of the sync waiter implementation of a service, eg. "DefaultDynamoDbWaiter". The calling thread sleeps between two
+ * polls.
+ */
+public class WaiterClassSpec extends BaseWaiterClassSpec {
+
+    public WaiterClassSpec(IntermediateModel model) {
+        super(model);
+    }
+
+    static ClassName className(PoetExtensions poetExtensions) {
+        ClassName interfaceName = poetExtensions.getSyncWaiterInterface();
+        return ClassName.get(interfaceName.packageName(), "Default" + interfaceName.simpleName());
+    }
+
+    @Override
+    public ClassName className() {
+        return className(poetExtensions);
+    }
+
+    @Override
+    protected ClassName interfaceClassName() {
+        return poetExtensions.getSyncWaiterInterface();
+    }
+
+    @Override
+    protected ClassName clientClassName() {
+        return poetExtensions.getClientClass(model.getMetadata().getSyncInterface());
+    }
+
+    @Override
+    protected ClassName waiterType() {
+        return ClassName.get(Waiter.class);
+    }
+
+    @Override
+    protected TypeName waitUntilReturnType(TypeName responseType) {
+        return ParameterizedTypeName.get(ClassName.get(WaiterResponse.class), responseType);
+    }
+
+    @Override
+    protected String runMethodName() {
+        return "run";
+    }
+
+    @Override
+    protected void additionalMembers(TypeSpec.Builder type, TypeSpec.Builder builder, MethodSpec.Builder constructor) {
+    }
+
+    @Override
+    protected CodeBlock closeBody() {
+        return CodeBlock.of("");
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+
+/**
+ * Spec of the sync waiter interface of a service, eg. "DynamoDbWaiter".
+ */
+public class WaiterInterfaceSpec extends BaseWaiterInterfaceSpec {
+
+    public WaiterInterfaceSpec(IntermediateModel model) {
+        super(model);
+    }
+
+    @Override
+    public ClassName className() {
+        return poetExtensions.getSyncWaiterInterface();
+    }
+
+    @Override
+    protected ClassName clientClassName() {
+        return poetExtensions.getClientClass(model.getMetadata().getSyncInterface());
+    }
+
+    @Override
+    protected ClassName defaultClassName() {
+        return WaiterClassSpec.className(poetExtensions);
+    }
+
+    @Override
+    protected TypeName waitUntilReturnType(TypeName responseType) {
+        return ParameterizedTypeName.get(ClassName.get(WaiterResponse.class), responseType);
+    }
+}
@@ -200,6 +200,7 @@ public class DefaultNamingStrategyTest {
         DefaultNamingStrategy strategy = new DefaultNamingStrategy(serviceModel, CustomizationConfig.create());
         assertThat(strategy.getClientPackageName(serviceName)).isEqualTo("foo");
         assertThat(strategy.getPaginatorsPackageName(serviceName)).isEqualTo("foo.paginators");
+        assertThat(strategy.getWaitersPackageName(serviceName)).isEqualTo("foo.waiters");
         assertThat(strategy.getSmokeTestPackageName(serviceName)).isEqualTo("foo.smoketests");
         assertThat(strategy.getModelPackageName(serviceName)).isEqualTo("foo.model");
         assertThat(strategy.getRequestTransformPackageName(serviceName)).isEqualTo("foo.transform");
@@ -218,6 +219,7 @@ public class DefaultNamingStrategyTest {
 
         assertThat(customizedModel.getClientPackageName(serviceName)).isEqualTo("foo.bar");
         assertThat(customizedModel.getPaginatorsPackageName(serviceName)).isEqualTo("foo.bar.paginators");
+        assertThat(customizedModel.getWaitersPackageName(serviceName)).isEqualTo("foo.bar.waiters");
         assertThat(customizedModel.getSmokeTestPackageName(serviceName)).isEqualTo("foo.bar.smoketests");
         assertThat(customizedModel.getRequestTransformPackageName(serviceName)).isEqualTo("foo.bar.transform");
 
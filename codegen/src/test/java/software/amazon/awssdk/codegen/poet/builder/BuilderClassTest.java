@@ -18,6 +18,7 @@ package software.amazon.awssdk.codegen.poet.builder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
 
+import java.util.Arrays;
 import java.util.function.Function;
 import org.junit.Test;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
@@ -38,6 +39,15 @@ public class BuilderClassTest {
         validateGeneration(BaseClientBuilderClass::new, "test-client-builder-class.java");
     }
 
+    @Test
+    public void baseClientBuilderClassWithIndexedInterceptors() throws Exception {
+        IntermediateModel model = ClientTestModels.jsonServiceModels();
+        model.getCustomizationConfig().setExecutionInterceptors(
+            Arrays.asList("software.amazon.awssdk.services.json.internal.FirstInterceptor",
+                          "software.amazon.awssdk.services.json.internal.SecondInterceptor"));
+        assertThat(new BaseClientBuilderClass(model), generatesTo("test-client-builder-class-with-interceptors.java"));
+    }
+
     @Test
     public void syncClientBuilderInterface() throws Exception {
         validateGeneration(SyncClientBuilderInterface::new, "test-sync-client-builder-interface.java");
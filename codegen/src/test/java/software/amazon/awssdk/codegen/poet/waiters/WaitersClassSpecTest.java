@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.waiters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
+
+import org.junit.Test;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.ClientTestModels;
+
+public class WaitersClassSpecTest {
+    private static final IntermediateModel MODEL = ClientTestModels.queryServiceModels();
+
+    @Test
+    public void syncWaiterInterface() {
+        ClassSpec spec = new WaiterInterfaceSpec(MODEL);
+        assertThat(spec, generatesTo("query-sync-waiter-interface.java"));
+    }
+
+    @Test
+    public void syncWaiterClass() {
+        ClassSpec spec = new WaiterClassSpec(MODEL);
+        assertThat(spec, generatesTo("query-sync-waiter-class.java"));
+    }
+
+    @Test
+    public void asyncWaiterInterface() {
+        ClassSpec spec = new AsyncWaiterInterfaceSpec(MODEL);
+        assertThat(spec, generatesTo("query-async-waiter-interface.java"));
+    }
+
+    @Test
+    public void asyncWaiterClass() {
+        ClassSpec spec = new AsyncWaiterClassSpec(MODEL);
+        assertThat(spec, generatesTo("query-async-waiter-class.java"));
+    }
+}
@@ -19,6 +19,7 @@ import software.amazon.awssdk.services.query.model.InvalidInputException;
 import software.amazon.awssdk.services.query.model.QueryException;
 import software.amazon.awssdk.services.query.transform.APostOperationRequestMarshaller;
 import software.amazon.awssdk.services.query.transform.APostOperationWithOutputRequestMarshaller;
+import software.amazon.awssdk.services.query.waiters.QueryWaiter;
 
 /**
  * Internal implementation of {@link QueryClient}.
@@ -134,4 +135,9 @@ final class DefaultQueryClient implements QueryClient {
     public void close() {
         clientHandler.close();
     }
+
+    @Override
+    public QueryWaiter waiter() {
+        return QueryWaiter.builder().client(this).build();
+    }
 }
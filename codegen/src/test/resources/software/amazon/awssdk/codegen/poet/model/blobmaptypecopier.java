@@ -2,7 +2,6 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
@@ -10,6 +9,7 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.adapter.StandardMemberCopier;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class BlobMapTypeCopier {
@@ -19,6 +19,6 @@ final class BlobMapTypeCopier {
         }
         Map<String, SdkBytes> blobMapTypeParamCopy = blobMapTypeParam.entrySet().stream()
             .collect(HashMap::new, (m, e) -> m.put(e.getKey(), StandardMemberCopier.copy(e.getValue())), HashMap::putAll);
-        return Collections.unmodifiableMap(blobMapTypeParamCopy);
+        return TrustedCollections.unmodifiableMap(blobMapTypeParamCopy);
     }
 }
@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfEnumsCopier {
@@ -16,8 +16,11 @@ final class ListOfEnumsCopier {
         if (listOfEnumsParam == null || listOfEnumsParam instanceof SdkAutoConstructList) {
             return DefaultSdkAutoConstructList.getInstance();
         }
+        if (TrustedCollections.isTrusted(listOfEnumsParam)) {
+            return TrustedCollections.trustedList(listOfEnumsParam);
+        }
         List<String> listOfEnumsParamCopy = new ArrayList<>(listOfEnumsParam);
-        return Collections.unmodifiableList(listOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfEnumsParamCopy);
     }
 
     static List<String> copyEnumToString(Collection<EnumType> listOfEnumsParam) {
@@ -25,7 +28,7 @@ final class ListOfEnumsCopier {
             return DefaultSdkAutoConstructList.getInstance();
         }
         List<String> listOfEnumsParamCopy = listOfEnumsParam.stream().map(Object::toString).collect(toList());
-        return Collections.unmodifiableList(listOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfEnumsParamCopy);
     }
 
     static List<EnumType> copyStringToEnum(Collection<String> listOfEnumsParam) {
@@ -33,6 +36,6 @@ final class ListOfEnumsCopier {
             return DefaultSdkAutoConstructList.getInstance();
         }
         List<EnumType> listOfEnumsParamCopy = listOfEnumsParam.stream().map(EnumType::fromValue).collect(toList());
-        return Collections.unmodifiableList(listOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfEnumsParamCopy);
     }
 }
@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfIntegersCopier {
@@ -16,7 +16,10 @@ final class ListOfIntegersCopier {
         if (listOfIntegersParam == null || listOfIntegersParam instanceof SdkAutoConstructList) {
             return DefaultSdkAutoConstructList.getInstance();
         }
+        if (TrustedCollections.isTrusted(listOfIntegersParam)) {
+            return TrustedCollections.trustedList(listOfIntegersParam);
+        }
         List<Integer> listOfIntegersParamCopy = new ArrayList<>(listOfIntegersParam);
-        return Collections.unmodifiableList(listOfIntegersParamCopy);
+        return TrustedCollections.unmodifiableList(listOfIntegersParamCopy);
     }
 }
@@ -3,12 +3,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfMapOfEnumToStringCopier {
@@ -18,7 +18,7 @@ final class ListOfMapOfEnumToStringCopier {
         }
         List<Map<String, String>> listOfMapOfEnumToStringParamCopy = listOfMapOfEnumToStringParam.stream()
                 .map(MapOfEnumToStringCopier::copy).collect(toList());
-        return Collections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
     }
 
     static List<Map<String, String>> copyEnumToString(Collection<? extends Map<EnumType, String>> listOfMapOfEnumToStringParam) {
@@ -27,7 +27,7 @@ final class ListOfMapOfEnumToStringCopier {
         }
         List<Map<String, String>> listOfMapOfEnumToStringParamCopy = listOfMapOfEnumToStringParam.stream()
                 .map(MapOfEnumToStringCopier::copyEnumToString).collect(toList());
-        return Collections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
     }
 
     static List<Map<EnumType, String>> copyStringToEnum(Collection<? extends Map<String, String>> listOfMapOfEnumToStringParam) {
@@ -36,6 +36,6 @@ final class ListOfMapOfEnumToStringCopier {
         }
         List<Map<EnumType, String>> listOfMapOfEnumToStringParamCopy = listOfMapOfEnumToStringParam.stream()
                 .map(MapOfEnumToStringCopier::copyStringToEnum).collect(toList());
-        return Collections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
     }
 }
@@ -3,12 +3,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfMapStringToStringCopier {
@@ -18,6 +18,6 @@ final class ListOfMapStringToStringCopier {
         }
         List<Map<String, String>> listOfMapStringToStringParamCopy = listOfMapStringToStringParam.stream()
                 .map(MapOfStringToStringCopier::copy).collect(toList());
-        return Collections.unmodifiableList(listOfMapStringToStringParamCopy);
+        return TrustedCollections.unmodifiableList(listOfMapStringToStringParamCopy);
     }
 }
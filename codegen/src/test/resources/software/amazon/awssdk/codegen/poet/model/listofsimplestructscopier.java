@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfSimpleStructsCopier {
@@ -16,14 +16,18 @@ final class ListOfSimpleStructsCopier {
         if (listOfSimpleStructsParam == null || listOfSimpleStructsParam instanceof SdkAutoConstructList) {
             return DefaultSdkAutoConstructList.getInstance();
         }
+        if (TrustedCollections.isTrusted(listOfSimpleStructsParam)) {
+            return TrustedCollections.trustedList(listOfSimpleStructsParam);
+        }
         List<SimpleStruct> listOfSimpleStructsParamCopy = new ArrayList<>(listOfSimpleStructsParam);
-        return Collections.unmodifiableList(listOfSimpleStructsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfSimpleStructsParamCopy);
     }
 
     static List<SimpleStruct> copyFromBuilder(Collection<? extends SimpleStruct.Builder> listOfSimpleStructsParam) {
         if (listOfSimpleStructsParam == null) {
             return null;
         }
-        return copy(listOfSimpleStructsParam.stream().map(SimpleStruct.Builder::build).collect(toList()));
+        return TrustedCollections.unmodifiableList(listOfSimpleStructsParam.stream().map(SimpleStruct.Builder::build)
+                .collect(toList()));
     }
 }
@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfStringsCopier {
@@ -16,7 +16,10 @@ final class ListOfStringsCopier {
         if (listOfStringsParam == null || listOfStringsParam instanceof SdkAutoConstructList) {
             return DefaultSdkAutoConstructList.getInstance();
         }
+        if (TrustedCollections.isTrusted(listOfStringsParam)) {
+            return TrustedCollections.trustedList(listOfStringsParam);
+        }
         List<String> listOfStringsParamCopy = new ArrayList<>(listOfStringsParam);
-        return Collections.unmodifiableList(listOfStringsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfStringsParamCopy);
     }
 }
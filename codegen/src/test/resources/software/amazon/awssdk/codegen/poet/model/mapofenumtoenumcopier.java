@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToEnumCopier {
@@ -15,9 +15,12 @@ final class MapOfEnumToEnumCopier {
         if (mapOfEnumToEnumParam == null || mapOfEnumToEnumParam instanceof SdkAutoConstructMap) {
             return DefaultSdkAutoConstructMap.getInstance();
         }
+        if (TrustedCollections.isTrusted(mapOfEnumToEnumParam)) {
+            return TrustedCollections.trustedMap(mapOfEnumToEnumParam);
+        }
         Map<String, String> mapOfEnumToEnumParamCopy = mapOfEnumToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToEnumParamCopy);
     }
 
     static Map<String, String> copyEnumToString(Map<EnumType, EnumType> mapOfEnumToEnumParam) {
@@ -26,7 +29,7 @@ final class MapOfEnumToEnumCopier {
         }
         Map<String, String> mapOfEnumToEnumParamCopy = mapOfEnumToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey().toString(), e.getValue().toString()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToEnumParamCopy);
     }
 
     static Map<EnumType, EnumType> copyStringToEnum(Map<String, String> mapOfEnumToEnumParam) {
@@ -40,6 +43,6 @@ final class MapOfEnumToEnumCopier {
                         m.put(keyAsEnum, EnumType.fromValue(e.getValue()));
                     }
                 }, HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToEnumParamCopy);
     }
 }
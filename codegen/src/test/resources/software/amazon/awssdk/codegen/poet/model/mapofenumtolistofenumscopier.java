@@ -3,13 +3,13 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToListOfEnumsCopier {
@@ -19,7 +19,7 @@ final class MapOfEnumToListOfEnumsCopier {
         }
         Map<String, List<String>> mapOfEnumToListOfEnumsParamCopy = mapOfEnumToListOfEnumsParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), ListOfEnumsCopier.copy(e.getValue())), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToListOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToListOfEnumsParamCopy);
     }
 
     static Map<String, List<String>> copyEnumToString(Map<EnumType, ? extends Collection<EnumType>> mapOfEnumToListOfEnumsParam) {
@@ -31,7 +31,7 @@ final class MapOfEnumToListOfEnumsCopier {
                 .stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey().toString(), ListOfEnumsCopier.copyEnumToString(e.getValue())),
                         HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToListOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToListOfEnumsParamCopy);
     }
 
     static Map<EnumType, List<EnumType>> copyStringToEnum(Map<String, ? extends Collection<String>> mapOfEnumToListOfEnumsParam) {
@@ -45,7 +45,6 @@ final class MapOfEnumToListOfEnumsCopier {
                         m.put(keyAsEnum, ListOfEnumsCopier.copyStringToEnum(e.getValue()));
                     }
                 }, HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToListOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToListOfEnumsParamCopy);
     }
 }
-
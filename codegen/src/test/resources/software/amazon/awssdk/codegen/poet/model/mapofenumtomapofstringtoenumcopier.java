@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToMapOfStringToEnumCopier {
@@ -18,7 +18,7 @@ final class MapOfEnumToMapOfStringToEnumCopier {
         Map<String, Map<String, String>> mapOfEnumToMapOfStringToEnumParamCopy = mapOfEnumToMapOfStringToEnumParam.entrySet()
                 .stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), MapOfStringToEnumCopier.copy(e.getValue())), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToMapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToMapOfStringToEnumParamCopy);
     }
 
     static Map<String, Map<String, String>> copyEnumToString(
@@ -32,7 +32,7 @@ final class MapOfEnumToMapOfStringToEnumCopier {
                 .collect(HashMap::new,
                         (m, e) -> m.put(e.getKey().toString(), MapOfStringToEnumCopier.copyEnumToString(e.getValue())),
                         HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToMapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToMapOfStringToEnumParamCopy);
     }
 
     static Map<EnumType, Map<String, EnumType>> copyStringToEnum(
@@ -47,6 +47,6 @@ final class MapOfEnumToMapOfStringToEnumCopier {
                         m.put(keyAsEnum, MapOfStringToEnumCopier.copyStringToEnum(e.getValue()));
                     }
                 }, HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToMapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToMapOfStringToEnumParamCopy);
     }
 }
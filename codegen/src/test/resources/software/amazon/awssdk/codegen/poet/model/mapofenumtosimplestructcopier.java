@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToSimpleStructCopier {
@@ -15,16 +15,20 @@ final class MapOfEnumToSimpleStructCopier {
         if (mapOfEnumToSimpleStructParam == null || mapOfEnumToSimpleStructParam instanceof SdkAutoConstructMap) {
             return DefaultSdkAutoConstructMap.getInstance();
         }
+        if (TrustedCollections.isTrusted(mapOfEnumToSimpleStructParam)) {
+            return TrustedCollections.trustedMap(mapOfEnumToSimpleStructParam);
+        }
         Map<String, SimpleStruct> mapOfEnumToSimpleStructParamCopy = mapOfEnumToSimpleStructParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
     }
 
     static Map<String, SimpleStruct> copyFromBuilder(Map<String, ? extends SimpleStruct.Builder> mapOfEnumToSimpleStructParam) {
         if (mapOfEnumToSimpleStructParam == null) {
             return null;
         }
-        return copy(mapOfEnumToSimpleStructParam.entrySet().stream().collect(toMap(Map.Entry::getKey, e -> e.getValue().build())));
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParam.entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, e -> e.getValue().build())));
     }
 
     static Map<String, SimpleStruct> copyEnumToString(Map<EnumType, SimpleStruct> mapOfEnumToSimpleStructParam) {
@@ -33,7 +37,7 @@ final class MapOfEnumToSimpleStructCopier {
         }
         Map<String, SimpleStruct> mapOfEnumToSimpleStructParamCopy = mapOfEnumToSimpleStructParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey().toString(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
     }
 
     static Map<EnumType, SimpleStruct> copyStringToEnum(Map<String, SimpleStruct> mapOfEnumToSimpleStructParam) {
@@ -47,6 +51,6 @@ final class MapOfEnumToSimpleStructCopier {
                         m.put(keyAsEnum, e.getValue());
                     }
                 }, HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
     }
 }
@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToStringCopier {
@@ -15,9 +15,12 @@ final class MapOfEnumToStringCopier {
         if (mapOfEnumToStringParam == null || mapOfEnumToStringParam instanceof SdkAutoConstructMap) {
             return DefaultSdkAutoConstructMap.getInstance();
         }
+        if (TrustedCollections.isTrusted(mapOfEnumToStringParam)) {
+            return TrustedCollections.trustedMap(mapOfEnumToStringParam);
+        }
         Map<String, String> mapOfEnumToStringParamCopy = mapOfEnumToStringParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToStringParamCopy);
     }
 
     static Map<String, String> copyEnumToString(Map<EnumType, String> mapOfEnumToStringParam) {
@@ -26,7 +29,7 @@ final class MapOfEnumToStringCopier {
         }
         Map<String, String> mapOfEnumToStringParamCopy = mapOfEnumToStringParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey().toString(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToStringParamCopy);
     }
 
     static Map<EnumType, String> copyStringToEnum(Map<String, String> mapOfEnumToStringParam) {
@@ -40,6 +43,6 @@ final class MapOfEnumToStringCopier {
                         m.put(keyAsEnum, e.getValue());
                     }
                 }, HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToStringParamCopy);
     }
 }
@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToEnumCopier {
@@ -15,9 +15,12 @@ final class MapOfStringToEnumCopier {
         if (mapOfStringToEnumParam == null || mapOfStringToEnumParam instanceof SdkAutoConstructMap) {
             return DefaultSdkAutoConstructMap.getInstance();
         }
+        if (TrustedCollections.isTrusted(mapOfStringToEnumParam)) {
+            return TrustedCollections.trustedMap(mapOfStringToEnumParam);
+        }
         Map<String, String> mapOfStringToEnumParamCopy = mapOfStringToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToEnumParamCopy);
     }
 
     static Map<String, String> copyEnumToString(Map<String, EnumType> mapOfStringToEnumParam) {
@@ -26,7 +29,7 @@ final class MapOfStringToEnumCopier {
         }
         Map<String, String> mapOfStringToEnumParamCopy = mapOfStringToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().toString()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToEnumParamCopy);
     }
 
     static Map<String, EnumType> copyStringToEnum(Map<String, String> mapOfStringToEnumParam) {
@@ -35,6 +38,6 @@ final class MapOfStringToEnumCopier {
         }
         Map<String, EnumType> mapOfStringToEnumParamCopy = mapOfStringToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), EnumType.fromValue(e.getValue())), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToEnumParamCopy);
     }
 }
@@ -3,13 +3,13 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToListOfListOfStringsCopier {
@@ -22,6 +22,6 @@ final class MapOfStringToListOfListOfStringsCopier {
             .entrySet()
             .stream()
             .collect(HashMap::new, (m, e) -> m.put(e.getKey(), ListOfListOfStringsCopier.copy(e.getValue())), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToListOfListOfStringsParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToListOfListOfStringsParamCopy);
     }
 }
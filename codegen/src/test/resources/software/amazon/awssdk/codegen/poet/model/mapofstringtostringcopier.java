@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToStringCopier {
@@ -15,8 +15,11 @@ final class MapOfStringToStringCopier {
         if (mapOfStringToStringParam == null || mapOfStringToStringParam instanceof SdkAutoConstructMap) {
             return DefaultSdkAutoConstructMap.getInstance();
         }
+        if (TrustedCollections.isTrusted(mapOfStringToStringParam)) {
+            return TrustedCollections.trustedMap(mapOfStringToStringParam);
+        }
         Map<String, String> mapOfStringToStringParamCopy = mapOfStringToStringParam.entrySet().stream()
             .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToStringParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToStringParamCopy);
     }
 }
@@ -3,11 +3,11 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.adapter.StandardMemberCopier;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfBlobsTypeCopier {
@@ -16,6 +16,6 @@ final class ListOfBlobsTypeCopier {
             return null;
         }
         List<SdkBytes> listOfBlobsTypeParamCopy = listOfBlobsTypeParam.stream().map(StandardMemberCopier::copy).collect(toList());
-        return Collections.unmodifiableList(listOfBlobsTypeParamCopy);
+        return TrustedCollections.unmodifiableList(listOfBlobsTypeParamCopy);
     }
 }
@@ -4,9 +4,9 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfEnumsCopier {
@@ -14,8 +14,11 @@ final class ListOfEnumsCopier {
         if (listOfEnumsParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(listOfEnumsParam)) {
+            return TrustedCollections.trustedList(listOfEnumsParam);
+        }
         List<String> listOfEnumsParamCopy = new ArrayList<>(listOfEnumsParam);
-        return Collections.unmodifiableList(listOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfEnumsParamCopy);
     }
 
     static List<String> copyEnumToString(Collection<EnumType> listOfEnumsParam) {
@@ -23,7 +26,7 @@ final class ListOfEnumsCopier {
             return null;
         }
         List<String> listOfEnumsParamCopy = listOfEnumsParam.stream().map(Object::toString).collect(toList());
-        return Collections.unmodifiableList(listOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfEnumsParamCopy);
     }
 
     static List<EnumType> copyStringToEnum(Collection<String> listOfEnumsParam) {
@@ -31,7 +34,6 @@ final class ListOfEnumsCopier {
             return null;
         }
         List<EnumType> listOfEnumsParamCopy = listOfEnumsParam.stream().map(EnumType::fromValue).collect(toList());
-        return Collections.unmodifiableList(listOfEnumsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfEnumsParamCopy);
     }
 }
-
@@ -4,9 +4,9 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfIntegersCopier {
@@ -14,7 +14,10 @@ final class ListOfIntegersCopier {
         if (listOfIntegersParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(listOfIntegersParam)) {
+            return TrustedCollections.trustedList(listOfIntegersParam);
+        }
         List<Integer> listOfIntegersParamCopy = new ArrayList<>(listOfIntegersParam);
-        return Collections.unmodifiableList(listOfIntegersParamCopy);
+        return TrustedCollections.unmodifiableList(listOfIntegersParamCopy);
     }
 }
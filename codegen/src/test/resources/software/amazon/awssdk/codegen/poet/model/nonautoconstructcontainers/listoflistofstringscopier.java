@@ -3,9 +3,9 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfListOfStringsCopier {
@@ -15,6 +15,6 @@ final class ListOfListOfStringsCopier {
         }
         List<List<String>> listOfListOfStringsParamCopy = listOfListOfStringsParam.stream().map(ListOfStringsCopier::copy)
                 .collect(toList());
-        return Collections.unmodifiableList(listOfListOfStringsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfListOfStringsParamCopy);
     }
 }
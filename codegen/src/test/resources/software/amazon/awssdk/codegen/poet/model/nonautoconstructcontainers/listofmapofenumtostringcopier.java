@@ -3,10 +3,10 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfMapOfEnumToStringCopier {
@@ -16,7 +16,7 @@ final class ListOfMapOfEnumToStringCopier {
         }
         List<Map<String, String>> listOfMapOfEnumToStringParamCopy = listOfMapOfEnumToStringParam.stream()
                 .map(MapOfEnumToStringCopier::copy).collect(toList());
-        return Collections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
     }
 
     static List<Map<String, String>> copyEnumToString(Collection<? extends Map<EnumType, String>> listOfMapOfEnumToStringParam) {
@@ -25,7 +25,7 @@ final class ListOfMapOfEnumToStringCopier {
         }
         List<Map<String, String>> listOfMapOfEnumToStringParamCopy = listOfMapOfEnumToStringParam.stream()
                 .map(MapOfEnumToStringCopier::copyEnumToString).collect(toList());
-        return Collections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
     }
 
     static List<Map<EnumType, String>> copyStringToEnum(Collection<? extends Map<String, String>> listOfMapOfEnumToStringParam) {
@@ -34,6 +34,6 @@ final class ListOfMapOfEnumToStringCopier {
         }
         List<Map<EnumType, String>> listOfMapOfEnumToStringParamCopy = listOfMapOfEnumToStringParam.stream()
                 .map(MapOfEnumToStringCopier::copyStringToEnum).collect(toList());
-        return Collections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
+        return TrustedCollections.unmodifiableList(listOfMapOfEnumToStringParamCopy);
     }
 }
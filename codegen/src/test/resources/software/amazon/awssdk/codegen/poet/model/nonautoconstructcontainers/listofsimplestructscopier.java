@@ -4,9 +4,9 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfSimpleStructsCopier {
@@ -14,14 +14,18 @@ final class ListOfSimpleStructsCopier {
         if (listOfSimpleStructsParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(listOfSimpleStructsParam)) {
+            return TrustedCollections.trustedList(listOfSimpleStructsParam);
+        }
         List<SimpleStruct> listOfSimpleStructsParamCopy = new ArrayList<>(listOfSimpleStructsParam);
-        return Collections.unmodifiableList(listOfSimpleStructsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfSimpleStructsParamCopy);
     }
 
     static List<SimpleStruct> copyFromBuilder(Collection<? extends SimpleStruct.Builder> listOfSimpleStructsParam) {
         if (listOfSimpleStructsParam == null) {
             return null;
         }
-        return copy(listOfSimpleStructsParam.stream().map(SimpleStruct.Builder::build).collect(toList()));
+        return TrustedCollections.unmodifiableList(listOfSimpleStructsParam.stream().map(SimpleStruct.Builder::build)
+                .collect(toList()));
     }
 }
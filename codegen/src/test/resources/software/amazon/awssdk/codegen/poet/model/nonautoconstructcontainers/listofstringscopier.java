@@ -4,9 +4,9 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfStringsCopier {
@@ -14,7 +14,10 @@ final class ListOfStringsCopier {
         if (listOfStringsParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(listOfStringsParam)) {
+            return TrustedCollections.trustedList(listOfStringsParam);
+        }
         List<String> listOfStringsParamCopy = new ArrayList<>(listOfStringsParam);
-        return Collections.unmodifiableList(listOfStringsParamCopy);
+        return TrustedCollections.unmodifiableList(listOfStringsParamCopy);
     }
 }
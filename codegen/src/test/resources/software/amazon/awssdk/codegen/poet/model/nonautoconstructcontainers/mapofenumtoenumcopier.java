@@ -2,10 +2,10 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToEnumCopier {
@@ -13,9 +13,12 @@ final class MapOfEnumToEnumCopier {
         if (mapOfEnumToEnumParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(mapOfEnumToEnumParam)) {
+            return TrustedCollections.trustedMap(mapOfEnumToEnumParam);
+        }
         Map<String, String> mapOfEnumToEnumParamCopy = mapOfEnumToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToEnumParamCopy);
     }
 
     static Map<String, String> copyEnumToString(Map<EnumType, EnumType> mapOfEnumToEnumParam) {
@@ -24,7 +27,7 @@ final class MapOfEnumToEnumCopier {
         }
         Map<String, String> mapOfEnumToEnumParamCopy = mapOfEnumToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey().toString(), e.getValue().toString()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToEnumParamCopy);
     }
 
     static Map<EnumType, EnumType> copyStringToEnum(Map<String, String> mapOfEnumToEnumParam) {
@@ -38,6 +41,6 @@ final class MapOfEnumToEnumCopier {
                         m.put(keyAsEnum, EnumType.fromValue(e.getValue()));
                     }
                 }, HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToEnumParamCopy);
     }
 }
@@ -2,10 +2,10 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToSimpleStructCopier {
@@ -13,16 +13,20 @@ final class MapOfEnumToSimpleStructCopier {
         if (mapOfEnumToSimpleStructParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(mapOfEnumToSimpleStructParam)) {
+            return TrustedCollections.trustedMap(mapOfEnumToSimpleStructParam);
+        }
         Map<String, SimpleStruct> mapOfEnumToSimpleStructParamCopy = mapOfEnumToSimpleStructParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
     }
 
     static Map<String, SimpleStruct> copyFromBuilder(Map<String, ? extends SimpleStruct.Builder> mapOfEnumToSimpleStructParam) {
         if (mapOfEnumToSimpleStructParam == null) {
             return null;
         }
-        return copy(mapOfEnumToSimpleStructParam.entrySet().stream().collect(toMap(Map.Entry::getKey, e -> e.getValue().build())));
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParam.entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, e -> e.getValue().build())));
     }
 
     static Map<String, SimpleStruct> copyEnumToString(Map<EnumType, SimpleStruct> mapOfEnumToSimpleStructParam) {
@@ -31,7 +35,7 @@ final class MapOfEnumToSimpleStructCopier {
         }
         Map<String, SimpleStruct> mapOfEnumToSimpleStructParamCopy = mapOfEnumToSimpleStructParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey().toString(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
     }
 
     static Map<EnumType, SimpleStruct> copyStringToEnum(Map<String, SimpleStruct> mapOfEnumToSimpleStructParam) {
@@ -45,6 +49,6 @@ final class MapOfEnumToSimpleStructCopier {
                         m.put(keyAsEnum, e.getValue());
                     }
                 }, HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfEnumToSimpleStructParamCopy);
     }
 }
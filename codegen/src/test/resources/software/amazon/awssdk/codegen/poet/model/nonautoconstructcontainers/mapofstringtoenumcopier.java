@@ -2,10 +2,10 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToEnumCopier {
@@ -13,9 +13,12 @@ final class MapOfStringToEnumCopier {
         if (mapOfStringToEnumParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(mapOfStringToEnumParam)) {
+            return TrustedCollections.trustedMap(mapOfStringToEnumParam);
+        }
         Map<String, String> mapOfStringToEnumParamCopy = mapOfStringToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToEnumParamCopy);
     }
 
     static Map<String, String> copyEnumToString(Map<String, EnumType> mapOfStringToEnumParam) {
@@ -24,7 +27,7 @@ final class MapOfStringToEnumCopier {
         }
         Map<String, String> mapOfStringToEnumParamCopy = mapOfStringToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().toString()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToEnumParamCopy);
     }
 
     static Map<String, EnumType> copyStringToEnum(Map<String, String> mapOfStringToEnumParam) {
@@ -33,7 +36,6 @@ final class MapOfStringToEnumCopier {
         }
         Map<String, EnumType> mapOfStringToEnumParamCopy = mapOfStringToEnumParam.entrySet().stream()
                 .collect(HashMap::new, (m, e) -> m.put(e.getKey(), EnumType.fromValue(e.getValue())), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToEnumParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToEnumParamCopy);
     }
 }
-
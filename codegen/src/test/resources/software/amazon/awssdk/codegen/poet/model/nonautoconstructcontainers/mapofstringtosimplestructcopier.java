@@ -2,10 +2,10 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToSimpleStructCopier {
@@ -13,16 +13,19 @@ final class MapOfStringToSimpleStructCopier {
         if (mapOfStringToSimpleStructParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(mapOfStringToSimpleStructParam)) {
+            return TrustedCollections.trustedMap(mapOfStringToSimpleStructParam);
+        }
         Map<String, SimpleStruct> mapOfStringToSimpleStructParamCopy = mapOfStringToSimpleStructParam.entrySet().stream()
             .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToSimpleStructParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToSimpleStructParamCopy);
     }
 
     static Map<String, SimpleStruct> copyFromBuilder(Map<String, ? extends SimpleStruct.Builder> mapOfStringToSimpleStructParam) {
         if (mapOfStringToSimpleStructParam == null) {
             return null;
         }
-        return copy(mapOfStringToSimpleStructParam.entrySet().stream()
+        return TrustedCollections.unmodifiableMap(mapOfStringToSimpleStructParam.entrySet().stream()
             .collect(toMap(Map.Entry::getKey, e -> e.getValue().build())));
     }
 }
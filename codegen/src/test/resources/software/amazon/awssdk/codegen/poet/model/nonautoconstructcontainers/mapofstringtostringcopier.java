@@ -2,10 +2,10 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToStringCopier {
@@ -13,8 +13,11 @@ final class MapOfStringToStringCopier {
         if (mapOfStringToStringParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(mapOfStringToStringParam)) {
+            return TrustedCollections.trustedMap(mapOfStringToStringParam);
+        }
         Map<String, String> mapOfStringToStringParamCopy = mapOfStringToStringParam.entrySet().stream()
             .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(mapOfStringToStringParamCopy);
+        return TrustedCollections.unmodifiableMap(mapOfStringToStringParamCopy);
     }
 }
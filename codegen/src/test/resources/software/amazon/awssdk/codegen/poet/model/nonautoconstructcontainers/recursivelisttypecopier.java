@@ -4,9 +4,9 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class RecursiveListTypeCopier {
@@ -14,14 +14,18 @@ final class RecursiveListTypeCopier {
         if (recursiveListTypeParam == null) {
             return null;
         }
+        if (TrustedCollections.isTrusted(recursiveListTypeParam)) {
+            return TrustedCollections.trustedList(recursiveListTypeParam);
+        }
         List<RecursiveStructType> recursiveListTypeParamCopy = new ArrayList<>(recursiveListTypeParam);
-        return Collections.unmodifiableList(recursiveListTypeParamCopy);
+        return TrustedCollections.unmodifiableList(recursiveListTypeParamCopy);
     }
 
     static List<RecursiveStructType> copyFromBuilder(Collection<? extends RecursiveStructType.Builder> recursiveListTypeParam) {
         if (recursiveListTypeParam == null) {
             return null;
         }
-        return copy(recursiveListTypeParam.stream().map(RecursiveStructType.Builder::build).collect(toList()));
+        return TrustedCollections.unmodifiableList(recursiveListTypeParam.stream().map(RecursiveStructType.Builder::build)
+                .collect(toList()));
     }
 }
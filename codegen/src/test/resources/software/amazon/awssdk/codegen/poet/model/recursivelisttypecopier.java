@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class RecursiveListTypeCopier {
@@ -16,14 +16,18 @@ final class RecursiveListTypeCopier {
         if (recursiveListTypeParam == null || recursiveListTypeParam instanceof SdkAutoConstructList) {
             return DefaultSdkAutoConstructList.getInstance();
         }
+        if (TrustedCollections.isTrusted(recursiveListTypeParam)) {
+            return TrustedCollections.trustedList(recursiveListTypeParam);
+        }
         List<RecursiveStructType> recursiveListTypeParamCopy = new ArrayList<>(recursiveListTypeParam);
-        return Collections.unmodifiableList(recursiveListTypeParamCopy);
+        return TrustedCollections.unmodifiableList(recursiveListTypeParamCopy);
     }
 
     static List<RecursiveStructType> copyFromBuilder(Collection<? extends RecursiveStructType.Builder> recursiveListTypeParam) {
         if (recursiveListTypeParam == null) {
             return null;
         }
-        return copy(recursiveListTypeParam.stream().map(RecursiveStructType.Builder::build).collect(toList()));
+        return TrustedCollections.unmodifiableList(recursiveListTypeParam.stream().map(RecursiveStructType.Builder::build)
+                .collect(toList()));
     }
 }
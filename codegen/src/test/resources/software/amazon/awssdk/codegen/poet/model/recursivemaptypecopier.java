@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.TrustedCollections;
 
 @Generated("software.amazon.awssdk:codegen")
 final class RecursiveMapTypeCopier {
@@ -15,9 +15,12 @@ final class RecursiveMapTypeCopier {
         if (recursiveMapTypeParam == null || recursiveMapTypeParam instanceof SdkAutoConstructMap) {
             return DefaultSdkAutoConstructMap.getInstance();
         }
+        if (TrustedCollections.isTrusted(recursiveMapTypeParam)) {
+            return TrustedCollections.trustedMap(recursiveMapTypeParam);
+        }
         Map<String, RecursiveStructType> recursiveMapTypeParamCopy = recursiveMapTypeParam.entrySet().stream()
             .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll);
-        return Collections.unmodifiableMap(recursiveMapTypeParamCopy);
+        return TrustedCollections.unmodifiableMap(recursiveMapTypeParamCopy);
     }
 
     static Map<String, RecursiveStructType> copyFromBuilder(
@@ -25,6 +28,7 @@ final class RecursiveMapTypeCopier {
         if (recursiveMapTypeParam == null) {
             return null;
         }
-        return copy(recursiveMapTypeParam.entrySet().stream().collect(toMap(Map.Entry::getKey, e -> e.getValue().build())));
+        return TrustedCollections.unmodifiableMap(recursiveMapTypeParam.entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, e -> e.getValue().build())));
     }
 }
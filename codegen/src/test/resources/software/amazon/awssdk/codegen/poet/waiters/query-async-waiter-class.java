@@ -0,0 +1,161 @@
+package software.amazon.awssdk.services.query.waiters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.core.waiters.AsyncWaiter;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.services.query.QueryAsyncClient;
+import software.amazon.awssdk.services.query.model.APostOperationRequest;
+import software.amazon.awssdk.services.query.model.APostOperationResponse;
+import software.amazon.awssdk.services.query.model.APostOperationWithOutputRequest;
+import software.amazon.awssdk.services.query.model.APostOperationWithOutputResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+@ThreadSafe
+final class DefaultQueryAsyncWaiter implements QueryAsyncWaiter {
+    private final QueryAsyncClient client;
+
+    private final ScheduledExecutorService executorService;
+
+    private final boolean managedExecutorService;
+
+    private final AsyncWaiter<APostOperationResponse> postOperationSuccessWaiter;
+
+    private final AsyncWaiter<APostOperationWithOutputResponse> subMemberAvailableWaiter;
+
+    private DefaultQueryAsyncWaiter(DefaultBuilder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        if (builder.executorService != null) {
+            this.executorService = builder.executorService;
+            this.managedExecutorService = false;
+        } else {
+            this.executorService = Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder().threadNamePrefix("waiters-ScheduledExecutor").build());
+            this.managedExecutorService = true;
+        }
+        this.postOperationSuccessWaiter = AsyncWaiter.builder(APostOperationResponse.class).acceptors(postOperationSuccessWaiterAcceptors()).scheduledExecutorService(executorService).overrideConfiguration(postOperationSuccessWaiterConfig(builder.overrideConfiguration)).build();
+        this.subMemberAvailableWaiter = AsyncWaiter.builder(APostOperationWithOutputResponse.class).acceptors(subMemberAvailableWaiterAcceptors()).scheduledExecutorService(executorService).overrideConfiguration(subMemberAvailableWaiterConfig(builder.overrideConfiguration)).build();
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<APostOperationResponse>> waitUntilPostOperationSuccess(
+            APostOperationRequest request) {
+        return postOperationSuccessWaiter.runAsync(() -> client.aPostOperation(request));
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<APostOperationResponse>> waitUntilPostOperationSuccess(
+            APostOperationRequest request, WaiterOverrideConfiguration overrideConfig) {
+        return postOperationSuccessWaiter.runAsync(() -> client.aPostOperation(request), overrideConfig);
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<APostOperationWithOutputResponse>> waitUntilSubMemberAvailable(
+            APostOperationWithOutputRequest request) {
+        return subMemberAvailableWaiter.runAsync(() -> client.aPostOperationWithOutput(request));
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<APostOperationWithOutputResponse>> waitUntilSubMemberAvailable(
+            APostOperationWithOutputRequest request, WaiterOverrideConfiguration overrideConfig) {
+        return subMemberAvailableWaiter.runAsync(() -> client.aPostOperationWithOutput(request), overrideConfig);
+    }
+
+    private static List<WaiterAcceptor<? super APostOperationResponse>> postOperationSuccessWaiterAcceptors() {
+        List<WaiterAcceptor<? super APostOperationResponse>> result = new ArrayList<>();
+        result.add(WaiterAcceptor.successOnResponseAcceptor(response -> response.sdkHttpResponse().statusCode() == 200));
+        result.add(WaiterAcceptor.retryOnExceptionAcceptor(error -> error instanceof SdkServiceException && ((SdkServiceException) error).statusCode() == 404));
+        return result;
+    }
+
+    private static WaiterOverrideConfiguration postOperationSuccessWaiterConfig(
+            WaiterOverrideConfiguration overrideConfig) {
+        Optional<WaiterOverrideConfiguration> optionalOverrideConfig = Optional.ofNullable(overrideConfig);
+        int maxAttempts = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::maxAttempts).orElse(40);
+        BackoffStrategy backoffStrategy = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::backoffStrategy).orElse(FixedDelayBackoffStrategy.create(Duration.ofSeconds(1)));
+        Duration waitTimeout = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::waitTimeout).orElse(null);
+        return WaiterOverrideConfiguration.builder().maxAttempts(maxAttempts).backoffStrategy(backoffStrategy).waitTimeout(waitTimeout).build();
+    }
+
+    private static List<WaiterAcceptor<? super APostOperationWithOutputResponse>> subMemberAvailableWaiterAcceptors() {
+        List<WaiterAcceptor<? super APostOperationWithOutputResponse>> result = new ArrayList<>();
+        result.add(WaiterAcceptor.successOnResponseAcceptor(response -> Stream.of(response).map(x -> x.nestedMember()).filter(Objects::nonNull).map(x -> x.subMember()).filter(Objects::nonNull).anyMatch(v -> Objects.equals(v, "available"))));
+        result.add(WaiterAcceptor.retryOnResponseAcceptor(response -> !(Stream.of(response).map(x -> x.nestedMember()).filter(Objects::nonNull).map(x -> x.subMember()).filter(Objects::nonNull).mapToLong(v -> v.length()).sum() > 0)));
+        result.add(WaiterAcceptor.errorOnExceptionAcceptor(error -> error instanceof AwsServiceException && "InvalidInput".equals(((AwsServiceException) error).awsErrorDetails().errorCode())));
+        return result;
+    }
+
+    private static WaiterOverrideConfiguration subMemberAvailableWaiterConfig(
+            WaiterOverrideConfiguration overrideConfig) {
+        Optional<WaiterOverrideConfiguration> optionalOverrideConfig = Optional.ofNullable(overrideConfig);
+        int maxAttempts = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::maxAttempts).orElse(10);
+        BackoffStrategy backoffStrategy = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::backoffStrategy).orElse(FixedDelayBackoffStrategy.create(Duration.ofSeconds(5)));
+        Duration waitTimeout = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::waitTimeout).orElse(null);
+        return WaiterOverrideConfiguration.builder().maxAttempts(maxAttempts).backoffStrategy(backoffStrategy).waitTimeout(waitTimeout).build();
+    }
+
+    @Override
+    public void close() {
+        if (managedExecutorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public static QueryAsyncWaiter.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public static final class DefaultBuilder implements QueryAsyncWaiter.Builder {
+        private QueryAsyncClient client;
+
+        private WaiterOverrideConfiguration overrideConfiguration;
+
+        private ScheduledExecutorService executorService;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public QueryAsyncWaiter.Builder overrideConfiguration(
+                WaiterOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public QueryAsyncWaiter.Builder client(QueryAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public QueryAsyncWaiter.Builder scheduledExecutorService(
+                ScheduledExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        @Override
+        public QueryAsyncWaiter build() {
+            return new DefaultQueryAsyncWaiter(this);
+        }
+    }
+}
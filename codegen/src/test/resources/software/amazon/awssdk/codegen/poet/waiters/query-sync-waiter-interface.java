@@ -0,0 +1,170 @@
+package software.amazon.awssdk.services.query.waiters;
+
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.services.query.QueryClient;
+import software.amazon.awssdk.services.query.model.APostOperationRequest;
+import software.amazon.awssdk.services.query.model.APostOperationResponse;
+import software.amazon.awssdk.services.query.model.APostOperationWithOutputRequest;
+import software.amazon.awssdk.services.query.model.APostOperationWithOutputResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Waiter utility class that polls a resource of {@link QueryClient} until a desired state is reached, or until it is determined that the resource will never enter into the desired state. This can be created using the static {@link #builder()} method.
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkPublicApi
+@ThreadSafe
+public interface QueryWaiter extends SdkAutoCloseable {
+    /**
+     * Polls {@link QueryClient#aPostOperation} API until the desired condition {@code PostOperationSuccess} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * @param request the request to be used for polling
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationResponse> waitUntilPostOperationSuccess(
+            APostOperationRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Polls {@link QueryClient#aPostOperation} API until the desired condition {@code PostOperationSuccess} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * <p>This is a convenience method that creates an instance of the {@link APostOperationRequest} builder, avoiding the need to create one manually via {@link APostOperationRequest#builder()}.
+     *
+     * @param request The consumer that will configure the request to be used for polling
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationResponse> waitUntilPostOperationSuccess(
+            Consumer<APostOperationRequest.Builder> request) {
+        return waitUntilPostOperationSuccess(APostOperationRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Polls {@link QueryClient#aPostOperation} API until the desired condition {@code PostOperationSuccess} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * @param request The request to be used for polling
+     * @param overrideConfig Per request override configuration for waiters
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationResponse> waitUntilPostOperationSuccess(
+            APostOperationRequest request, WaiterOverrideConfiguration overrideConfig) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Polls {@link QueryClient#aPostOperation} API until the desired condition {@code PostOperationSuccess} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * <p>This is a convenience method that creates an instance of the {@link APostOperationRequest} builder, avoiding the need to create one manually via {@link APostOperationRequest#builder()}.
+     *
+     * @param request The consumer that will configure the request to be used for polling
+     * @param overrideConfig The consumer that will configure the per request override configuration for waiters
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationResponse> waitUntilPostOperationSuccess(
+            Consumer<APostOperationRequest.Builder> request,
+            Consumer<WaiterOverrideConfiguration.Builder> overrideConfig) {
+        return waitUntilPostOperationSuccess(APostOperationRequest.builder().applyMutation(request).build(), WaiterOverrideConfiguration.builder().applyMutation(overrideConfig).build());
+    }
+
+    /**
+     * Polls {@link QueryClient#aPostOperationWithOutput} API until the desired condition {@code SubMemberAvailable} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * @param request the request to be used for polling
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationWithOutputResponse> waitUntilSubMemberAvailable(
+            APostOperationWithOutputRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Polls {@link QueryClient#aPostOperationWithOutput} API until the desired condition {@code SubMemberAvailable} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * <p>This is a convenience method that creates an instance of the {@link APostOperationWithOutputRequest} builder, avoiding the need to create one manually via {@link APostOperationWithOutputRequest#builder()}.
+     *
+     * @param request The consumer that will configure the request to be used for polling
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationWithOutputResponse> waitUntilSubMemberAvailable(
+            Consumer<APostOperationWithOutputRequest.Builder> request) {
+        return waitUntilSubMemberAvailable(APostOperationWithOutputRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Polls {@link QueryClient#aPostOperationWithOutput} API until the desired condition {@code SubMemberAvailable} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * @param request The request to be used for polling
+     * @param overrideConfig Per request override configuration for waiters
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationWithOutputResponse> waitUntilSubMemberAvailable(
+            APostOperationWithOutputRequest request, WaiterOverrideConfiguration overrideConfig) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Polls {@link QueryClient#aPostOperationWithOutput} API until the desired condition {@code SubMemberAvailable} is met, or until it is determined that the resource will never enter into the desired state.
+     *
+     * <p>This is a convenience method that creates an instance of the {@link APostOperationWithOutputRequest} builder, avoiding the need to create one manually via {@link APostOperationWithOutputRequest#builder()}.
+     *
+     * @param request The consumer that will configure the request to be used for polling
+     * @param overrideConfig The consumer that will configure the per request override configuration for waiters
+     * @return WaiterResponse containing either a response or an exception that has matched with the waiter success condition
+     */
+    default WaiterResponse<APostOperationWithOutputResponse> waitUntilSubMemberAvailable(
+            Consumer<APostOperationWithOutputRequest.Builder> request,
+            Consumer<WaiterOverrideConfiguration.Builder> overrideConfig) {
+        return waitUntilSubMemberAvailable(APostOperationWithOutputRequest.builder().applyMutation(request).build(), WaiterOverrideConfiguration.builder().applyMutation(overrideConfig).build());
+    }
+
+    /**
+     * Create a builder that can be used to configure and create a {@link QueryWaiter}.
+     *
+     * @return a builder
+     */
+    static Builder builder() {
+        return DefaultQueryWaiter.builder();
+    }
+
+    interface Builder {
+        /**
+         * Defines overrides to the default SDK waiter configuration that should be used for waiters created from this builder.
+         *
+         * @param overrideConfiguration the override configuration to set
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration);
+
+        /**
+         * This is a convenient method to pass the override configuration without the need to create an instance manually via {@link WaiterOverrideConfiguration#builder()}.
+         *
+         * @param overrideConfiguration The consumer that will configure the overrideConfiguration
+         * @return a reference to this object so that method calls can be chained together.
+         * @see #overrideConfiguration(WaiterOverrideConfiguration)
+         */
+        default Builder overrideConfiguration(
+                Consumer<WaiterOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(WaiterOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Sets the client that will be used to poll the resource. The client is not closed when the waiter is closed.
+         *
+         * @param client the client to send the polling requests with
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder client(QueryClient client);
+
+        /**
+         * Builds an instance of {@link QueryWaiter} based on the configurations supplied to this builder
+         *
+         * @return An initialized {@link QueryWaiter}
+         */
+        QueryWaiter build();
+    }
+}
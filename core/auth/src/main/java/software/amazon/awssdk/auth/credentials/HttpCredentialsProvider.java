@@ -33,6 +33,7 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.StaleValueBehavior;
 
 /**
  * Helper class that contains the common behavior of the CredentialsProviders that loads the credentials from a local endpoint on
@@ -50,7 +51,9 @@ public abstract class HttpCredentialsProvider implements AwsCredentialsProvider,
         if (isLocalCredentialLoadingDisabled()) {
             this.credentialsCache = Optional.empty();
         } else {
-            CachedSupplier.Builder<AwsCredentials> cacheBuilder = CachedSupplier.builder(this::refreshCredentials);
+            CachedSupplier.Builder<AwsCredentials> cacheBuilder =
+                CachedSupplier.builder(this::refreshCredentials)
+                              .staleValueBehavior(StaleValueBehavior.ALLOW);
             if (asyncCredentialUpdateEnabled) {
                 cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
             }
@@ -69,9 +72,18 @@ public abstract class HttpCredentialsProvider implements AwsCredentialsProvider,
         return false;
     }
 
+    /**
+     * Read the credentials document from the local endpoint. Can be overridden by subclass to read it with a dedicated client.
+     *
+     * @return The credentials document, in JSON.
+     */
+    protected String readCredentialsResource() throws IOException {
+        return HttpResourcesUtils.instance().readResource(getCredentialsEndpointProvider());
+    }
+
     private RefreshResult<AwsCredentials> refreshCredentials() {
         try {
-            String credentialsResponse = HttpResourcesUtils.instance().readResource(getCredentialsEndpointProvider());
+            String credentialsResponse = readCredentialsResource();
 
             JsonNode node = JacksonUtils.sensitiveJsonNodeOf(credentialsResponse);
             JsonNode accessKey = node.get("AccessKeyId");
@@ -155,8 +167,8 @@ public abstract class HttpCredentialsProvider implements AwsCredentialsProvider,
     public interface Builder<TypeToBuildT extends HttpCredentialsProvider, BuilderT extends Builder> {
         /**
          * Configure whether this provider should fetch credentials asynchronously in the background. If this is true, threads are
-         * less likely to block when {@link #resolveCredentials()} is called, but additional resources are used to maintain the
-         * provider.
+         * less likely to block when {@link #resolveCredentials()} is called. The background updates of all providers are
+         * performed by a single shared thread.
          *
          * <p>
          * By default, this is disabled.
@@ -15,12 +15,11 @@
 
 package software.amazon.awssdk.auth.credentials;
 
-import java.io.IOException;
 import java.net.URI;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.regions.util.HttpResourcesUtils;
+import software.amazon.awssdk.regions.util.Ec2MetadataClient;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.utils.ToString;
 
@@ -28,6 +27,10 @@ import software.amazon.awssdk.utils.ToString;
  * Credentials provider implementation that loads credentials from the Amazon EC2 Instance Metadata Service.
  *
  * <P>
+ * The name of the instance profile role is cached by an {@link Ec2MetadataClient}, so refreshing the credentials takes a single
+ * call to the metadata service, over a connection that is kept alive between calls.
+ *
+ * <P>
  * If {@link SdkSystemSetting#AWS_EC2_METADATA_DISABLED} is set to true, it will not try to load
  * credentials from EC2 metadata service and will return null.
  */
@@ -35,6 +38,7 @@ import software.amazon.awssdk.utils.ToString;
 public final class InstanceProfileCredentialsProvider extends HttpCredentialsProvider {
 
     private static final String SECURITY_CREDENTIALS_RESOURCE = "/latest/meta-data/iam/security-credentials/";
+    private final Ec2MetadataClient metadataClient = Ec2MetadataClient.create();
     private final ResourcesEndpointProvider credentialsEndpointProvider = new InstanceProviderCredentialsEndpointProvider();
 
     /**
@@ -70,25 +74,37 @@ public final class InstanceProfileCredentialsProvider extends HttpCredentialsPro
         return SdkSystemSetting.AWS_EC2_METADATA_DISABLED.getBooleanValueOrThrow();
     }
 
+    @Override
+    protected String readCredentialsResource() {
+        return metadataClient.fetch(SECURITY_CREDENTIALS_RESOURCE + roleName());
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        metadataClient.close();
+    }
+
+    private String roleName() {
+        String securityCredentialsList = metadataClient.get(SECURITY_CREDENTIALS_RESOURCE);
+        String[] securityCredentials = securityCredentialsList.trim().split("\n");
+
+        if (securityCredentials.length == 0) {
+            throw SdkClientException.builder().message("Unable to load credentials path").build();
+        }
+        return securityCredentials[0];
+    }
+
     @Override
     public String toString() {
         return ToString.create("InstanceProfileCredentialsProvider");
     }
 
-    private static final class InstanceProviderCredentialsEndpointProvider implements ResourcesEndpointProvider {
+    private final class InstanceProviderCredentialsEndpointProvider implements ResourcesEndpointProvider {
         @Override
-        public URI endpoint() throws IOException {
+        public URI endpoint() {
             String host = SdkSystemSetting.AWS_EC2_METADATA_SERVICE_ENDPOINT.getStringValueOrThrow();
-
-            URI endpoint = URI.create(host + SECURITY_CREDENTIALS_RESOURCE);
-            String securityCredentialsList = HttpResourcesUtils.instance().readResource(endpoint);
-            String[] securityCredentials = securityCredentialsList.trim().split("\n");
-
-            if (securityCredentials.length == 0) {
-                throw SdkClientException.builder().message("Unable to load credentials path").build();
-            }
-
-            return URI.create(host + SECURITY_CREDENTIALS_RESOURCE + securityCredentials[0]);
+            return URI.create(host + SECURITY_CREDENTIALS_RESOURCE + roleName());
         }
     }
 
@@ -231,7 +231,8 @@ public final class ProcessCredentialsProvider implements AwsCredentialsProvider
 
         /**
          * Configure whether the provider should fetch credentials asynchronously in the background. If this is true, threads are
-         * less likely to block when credentials are loaded, but additional resources are used to maintain the provider.
+         * less likely to block when credentials are loaded. The background updates of all providers are performed by a single
+         * shared thread.
          *
          * <p>By default, this is disabled.</p>
          */
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.auth.credentials.internal;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -30,6 +32,7 @@ import software.amazon.awssdk.utils.ToString;
 @SdkInternalApi
 public class LazyAwsCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
     private final Supplier<AwsCredentialsProvider> delegateConstructor;
+    private final Lock lock = new ReentrantLock();
     private volatile AwsCredentialsProvider delegate;
 
     private LazyAwsCredentialsProvider(Supplier<AwsCredentialsProvider> delegateConstructor) {
@@ -43,10 +46,14 @@ public class LazyAwsCredentialsProvider implements AwsCredentialsProvider, SdkAu
     @Override
     public AwsCredentials resolveCredentials() {
         if (delegate == null) {
-            synchronized (this) {
+            // Creating the delegate may block on I/O, so use a lock that doesn't pin the carrier of a virtual thread.
+            lock.lock();
+            try {
                 if (delegate == null) {
                     delegate = delegateConstructor.get();
                 }
+            } finally {
+                lock.unlock();
             }
         }
         return delegate.resolveCredentials();
@@ -152,6 +152,7 @@ public final class ProfileCredentialsUtils {
 
         return ProcessCredentialsProvider.builder()
                                          .command(properties.get(ProfileProperty.CREDENTIAL_PROCESS))
+                                         .asyncCredentialUpdateEnabled(true)
                                          .build();
     }
 
@@ -16,15 +16,10 @@
 package software.amazon.awssdk.auth.signer.internal;
 
 import static software.amazon.awssdk.utils.DateUtils.numberOfDaysSinceEpoch;
-import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -54,10 +49,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
-    private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
-        Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(SIGNER_CACHE_MAX_SIZE);
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
@@ -77,16 +69,17 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                       .filter(h -> h.equals("required"))
                       .ifPresent(h -> mutableRequest.putHeader(SignerConstant.X_AMZ_CONTENT_SHA256, contentSha256));
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        Aws4Canonicalizer canonicalizer = Aws4Canonicalizer.forCurrentThread();
+        String signedHeaders = canonicalizer.sortHeaders(mutableRequest.headers());
 
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        byte[] canonicalRequestHash = hashCanonicalRequest(canonicalizer, mutableRequest, contentSha256, signingParams);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = canonicalizer.computeSignature(requestParams, canonicalRequestHash, signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
-                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, mutableRequest));
+                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, signedHeaders));
 
         processRequestPayload(mutableRequest, signature, signingKey, requestParams, signingParams);
 
@@ -114,17 +107,19 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         // Add the important parameters for v4 signing
         String timeStamp = requestParams.getFormattedRequestSigningDateTime();
 
-        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, timeStamp, expirationInSeconds);
+        Aws4Canonicalizer canonicalizer = Aws4Canonicalizer.forCurrentThread();
+        String signedHeaders = canonicalizer.sortHeaders(mutableRequest.headers());
 
-        String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
+        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, timeStamp, expirationInSeconds,
+                                       signedHeaders);
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
 
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        byte[] canonicalRequestHash = hashCanonicalRequest(canonicalizer, mutableRequest, contentSha256, signingParams);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = canonicalizer.computeSignature(requestParams, canonicalRequestHash, signingKey);
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNATURE, BinaryUtils.toHex(signature));
 
@@ -165,22 +160,24 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      */
     protected byte[] deriveSigningKey(AwsCredentials credentials, Aws4SignerRequestParams signerRequestParams) {
 
-        String cacheKey = computeSigningCacheKeyName(credentials, signerRequestParams);
+        String secretKey = credentials.secretAccessKey();
+        String regionName = signerRequestParams.getRegionName();
+        String serviceSigningName = signerRequestParams.getServiceSigningName();
         long daysSinceEpochSigningDate = numberOfDaysSinceEpoch(signerRequestParams.getRequestSigningDateTimeMilli());
 
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        byte[] cachedSigningKey = SIGNER_CACHE.get(secretKey, regionName, serviceSigningName, daysSinceEpochSigningDate);
 
-        if (signerKey != null && daysSinceEpochSigningDate == signerKey.getNumberOfDaysSinceEpoch()) {
-            return signerKey.getSigningKey();
+        if (cachedSigningKey != null) {
+            return cachedSigningKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
             TimeUnit.DAYS.toMillis(daysSinceEpochSigningDate));
         byte[] signingKey = newSigningKey(credentials,
             signerRequestParams.getFormattedRequestSigningDate(),
-            signerRequestParams.getRegionName(),
-            signerRequestParams.getServiceSigningName());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(daysSinceEpochSigningDate, signingKey));
+            regionName,
+            serviceSigningName);
+        SIGNER_CACHE.add(secretKey, regionName, serviceSigningName, new SignerKey(daysSinceEpochSigningDate, signingKey));
         return signingKey;
     }
 
@@ -190,66 +187,16 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * .amazon.com/general/latest/gr/sigv4-create-canonical-request.html to
      * generate the canonical request.
      */
-    private String createCanonicalRequest(SdkHttpFullRequest.Builder request,
-                                          String contentSha256,
-                                          boolean doubleUrlEncode) {
-
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getSignedHeadersString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
-
-        LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
-        return canonicalRequest;
-    }
-
-    /**
-     * Step 2 of the AWS Signature version 4 calculation. Refer to
-     * http://docs.aws
-     * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
-     */
-    private String createStringToSign(String canonicalRequest,
-                                      Aws4SignerRequestParams requestParams) {
-
-        String stringToSign = requestParams.getSigningAlgorithm() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getFormattedRequestSigningDateTime() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getScope() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    BinaryUtils.toHex(hash(canonicalRequest));
-
-        LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
-        return stringToSign;
-    }
-
-
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private String computeSigningCacheKeyName(AwsCredentials credentials,
-                                              Aws4SignerRequestParams signerRequestParams) {
-        return credentials.secretAccessKey() + "-" + signerRequestParams.getRegionName() + "-" +
-               signerRequestParams.getServiceSigningName();
-    }
-
-    /**
-     * Step 3 of the AWS Signature version 4 calculation. It involves deriving
-     * the signing key and computing the signature. Refer to
-     * http://docs.aws.amazon
-     * .com/general/latest/gr/sigv4-calculate-signature.html
-     */
-    private byte[] computeSignature(String stringToSign, byte[] signingKey) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
-                    SigningAlgorithm.HmacSHA256);
+    private byte[] hashCanonicalRequest(Aws4Canonicalizer canonicalizer,
+                                        SdkHttpFullRequest.Builder request,
+                                        String contentSha256,
+                                        Aws4SignerParams signingParams) {
+        return canonicalizer.hashCanonicalRequest(request.method().toString(),
+                                                  request.encodedPath(),
+                                                  request.rawQueryParameters(),
+                                                  contentSha256,
+                                                  // This would optionally double url-encode the resource path
+                                                  signingParams.doubleUrlEncode());
     }
 
     /**
@@ -258,12 +205,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private String buildAuthorizationHeader(byte[] signature,
                                             AwsCredentials credentials,
                                             Aws4SignerRequestParams signerParams,
-                                            SdkHttpFullRequest.Builder mutableRequest) {
+                                            String signedHeaders) {
 
         String signingCredentials = credentials.accessKeyId() + "/" + signerParams.getScope();
         String credential = "Credential=" + signingCredentials;
-        String signerHeaders = "SignedHeaders=" +
-                               getSignedHeadersString(mutableRequest.headers());
+        String signerHeaders = "SignedHeaders=" + signedHeaders;
         String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
 
         return SignerConstant.AWS4_SIGNING_ALGORITHM + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
@@ -276,107 +222,20 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                 AwsCredentials sanitizedCredentials,
                                                 Aws4SignerRequestParams signerParams,
                                                 String timeStamp,
-                                                long expirationInSeconds) {
+                                                long expirationInSeconds,
+                                                String signedHeaders) {
 
         String signingCredentials = sanitizedCredentials.accessKeyId() + "/" + signerParams.getScope();
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_ALGORITHM, SignerConstant.AWS4_SIGNING_ALGORITHM);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_DATE, timeStamp);
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER,
-                                            getSignedHeadersString(mutableRequest.headers()));
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER, signedHeaders);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES,
                                             Long.toString(expirationInSeconds));
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, signingCredentials);
     }
 
 
-    private String getCanonicalizedHeaderString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            String key = lowerCase(header);
-
-            for (String headerValue : headers.get(header)) {
-                appendCompactedString(buffer, key);
-                buffer.append(":");
-                if (headerValue != null) {
-                    appendCompactedString(buffer, headerValue);
-                }
-                buffer.append("\n");
-            }
-        }
-
-        return buffer.toString();
-    }
-
-    /**
-     * This method appends a string to a string builder and collapses contiguous
-     * white space is a single space.
-     *
-     * This is equivalent to:
-     *      destination.append(source.replaceAll("\\s+", " "))
-     * but does not create a Pattern object that needs to compile the match
-     * string; it also prevents us from having to make a Matcher object as well.
-     *
-     */
-    private void appendCompactedString(final StringBuilder destination, final String source) {
-        boolean previousIsWhiteSpace = false;
-        int length = source.length();
-
-        for (int i = 0; i < length; i++) {
-            char ch = source.charAt(i);
-            if (isWhiteSpace(ch)) {
-                if (previousIsWhiteSpace) {
-                    continue;
-                }
-                destination.append(' ');
-                previousIsWhiteSpace = true;
-            } else {
-                destination.append(ch);
-                previousIsWhiteSpace = false;
-            }
-        }
-    }
-
-    /**
-     * Tests a char to see if is it whitespace.
-     * This method considers the same characters to be white
-     * space as the Pattern class does when matching \s
-     *
-     * @param ch the character to be tested
-     * @return true if the character is white  space, false otherwise.
-     */
-    private boolean isWhiteSpace(final char ch) {
-        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
-    }
-
-    private String getSignedHeadersString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            if (buffer.length() > 0) {
-                buffer.append(";");
-            }
-            buffer.append(lowerCase(header));
-        }
-
-        return buffer.toString();
-    }
-
-    private boolean shouldExcludeHeaderFromSigning(String header) {
-        return LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCase(header));
-    }
-
     private void addHostHeader(SdkHttpFullRequest.Builder mutableRequest) {
         // AWS4 requires that we sign the Host header so we
         // have to have it in the request by the time we sign.
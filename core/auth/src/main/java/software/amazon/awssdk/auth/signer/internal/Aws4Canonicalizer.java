@@ -0,0 +1,490 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Builds the SigV4 canonical request and string to sign into per-thread buffers and feeds their UTF-8 bytes straight into
+ * the SHA-256 digest and HMAC, so signing a request does not create the intermediate strings, sorted header lists and
+ * query parameter maps that building them through string concatenation would.
+ *
+ * <p>Usage is a sequence of calls on the instance returned by {@link #forCurrentThread()}: {@link #sortHeaders(Map)},
+ * then {@link #hashCanonicalRequest} and finally {@link #computeSignature}. The instance is owned by the calling thread
+ * and must not be retained past the signing of a single request.</p>
+ *
+ * @see <a href="http://docs.aws.amazon.com/general/latest/gr/sigv4-create-canonical-request.html">Canonical request</a>
+ */
+@SdkInternalApi
+final class Aws4Canonicalizer {
+
+    private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
+
+    private static final ThreadLocal<Aws4Canonicalizer> CANONICALIZER = ThreadLocal.withInitial(Aws4Canonicalizer::new);
+
+    private static final String[] HEADERS_TO_IGNORE_IN_LOWER_CASE = {"connection", "x-amzn-trace-id", "user-agent", "expect"};
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] UPPER_HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Buffers that grew past this size while signing an unusually large request are dropped rather than retained by the
+     * thread for its lifetime.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 32 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int INITIAL_ENTRIES = 16;
+
+    private final MessageDigest sha256;
+
+    private StringBuilder chars = new StringBuilder(INITIAL_BUFFER_SIZE);
+    private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+
+    private Map<String, List<String>> headers;
+    private String[] headerNames = new String[INITIAL_ENTRIES];
+    private int headerCount;
+
+    private String[] queryEntries = new String[INITIAL_ENTRIES * 2];
+
+    private Aws4Canonicalizer() {
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to get SHA256 Function" + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    /**
+     * Returns the canonicalizer owned by the calling thread.
+     */
+    static Aws4Canonicalizer forCurrentThread() {
+        return CANONICALIZER.get();
+    }
+
+    /**
+     * Selects the headers of the request that take part in signing and sorts them. Must be called before the canonical
+     * request is hashed, and again whenever a new request is signed.
+     *
+     * @param requestHeaders Headers of the request being signed. Must not be modified until signing completes.
+     * @return The value of the "SignedHeaders" component: the lower cased, ';' separated, sorted signed header names.
+     */
+    String sortHeaders(Map<String, List<String>> requestHeaders) {
+        this.headers = requestHeaders;
+        this.headerCount = 0;
+        if (headerNames.length < requestHeaders.size()) {
+            headerNames = new String[requestHeaders.size()];
+        }
+
+        for (String header : requestHeaders.keySet()) {
+            if (!shouldExcludeHeaderFromSigning(header)) {
+                insertSorted(header);
+            }
+        }
+
+        StringBuilder buffer = resetChars();
+        for (int i = 0; i < headerCount; i++) {
+            if (i > 0) {
+                buffer.append(';');
+            }
+            appendLowerCase(buffer, headerNames[i]);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Step 1 of the AWS Signature version 4 calculation: computes the SHA-256 hash of the canonical request without
+     * materializing it as a string.
+     */
+    byte[] hashCanonicalRequest(String method,
+                                String encodedPath,
+                                Map<String, List<String>> rawQueryParameters,
+                                String contentSha256,
+                                boolean doubleUrlEncode) {
+        StringBuilder buffer = resetChars();
+        buffer.append(method).append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedResourcePath(buffer, encodedPath, doubleUrlEncode);
+        buffer.append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedQueryString(buffer, rawQueryParameters);
+        buffer.append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedHeaders(buffer);
+        buffer.append(SignerConstant.LINE_SEPARATOR);
+        appendSignedHeaders(buffer);
+        buffer.append(SignerConstant.LINE_SEPARATOR);
+        buffer.append(contentSha256);
+
+        LOG.trace(() -> "AWS4 Canonical Request: " + buffer);
+
+        try {
+            int length = encodeChars();
+            sha256.reset();
+            sha256.update(bytes, 0, length);
+            return sha256.digest();
+        } finally {
+            trimBuffers();
+        }
+    }
+
+    /**
+     * Steps 2 and 3 of the AWS Signature version 4 calculation: builds the string to sign for the given canonical request
+     * hash and computes its HMAC with the signing key.
+     */
+    byte[] computeSignature(Aws4SignerRequestParams requestParams, byte[] canonicalRequestHash, byte[] signingKey) {
+        StringBuilder buffer = resetChars();
+        buffer.append(requestParams.getSigningAlgorithm())
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(requestParams.getFormattedRequestSigningDateTime())
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(requestParams.getScope())
+              .append(SignerConstant.LINE_SEPARATOR);
+        for (byte b : canonicalRequestHash) {
+            buffer.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+
+        LOG.debug(() -> "AWS4 String to sign: " + buffer);
+
+        try {
+            Mac mac = SigningAlgorithm.HmacSHA256.getMac();
+            mac.init(new SecretKeySpec(signingKey, SigningAlgorithm.HmacSHA256.toString()));
+            int length = encodeChars();
+            mac.update(bytes, 0, length);
+            return mac.doFinal();
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate a request signature: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        } finally {
+            trimBuffers();
+            Arrays.fill(headerNames, 0, Math.min(headerCount, headerNames.length), null);
+            headers = null;
+        }
+    }
+
+    private static boolean shouldExcludeHeaderFromSigning(String header) {
+        for (String ignored : HEADERS_TO_IGNORE_IN_LOWER_CASE) {
+            if (ignored.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Insertion sort: requests carry a handful of headers, and the header maps built by the SDK are frequently already
+     * close to sorted.
+     */
+    private void insertSorted(String header) {
+        int i = headerCount++;
+        while (i > 0 && String.CASE_INSENSITIVE_ORDER.compare(headerNames[i - 1], header) > 0) {
+            headerNames[i] = headerNames[i - 1];
+            i--;
+        }
+        headerNames[i] = header;
+    }
+
+    private void appendCanonicalizedHeaders(StringBuilder buffer) {
+        for (int i = 0; i < headerCount; i++) {
+            String header = headerNames[i];
+            for (String headerValue : headers.get(header)) {
+                int start = buffer.length();
+                appendLowerCase(buffer, header);
+                compactWhiteSpace(buffer, start);
+                buffer.append(':');
+                if (headerValue != null) {
+                    appendCompacted(buffer, headerValue);
+                }
+                buffer.append('\n');
+            }
+        }
+    }
+
+    private void appendSignedHeaders(StringBuilder buffer) {
+        for (int i = 0; i < headerCount; i++) {
+            if (i > 0) {
+                buffer.append(';');
+            }
+            appendLowerCase(buffer, headerNames[i]);
+        }
+    }
+
+    /**
+     * Appends the header name in lower case. Header names are ASCII tokens, so only names with other characters go through
+     * the locale aware (and allocating) {@link StringUtils#lowerCase(String)}.
+     */
+    private static void appendLowerCase(StringBuilder buffer, String name) {
+        int length = name.length();
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) >= 0x80) {
+                buffer.append(StringUtils.lowerCase(name));
+                return;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            char ch = name.charAt(i);
+            buffer.append(ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch);
+        }
+    }
+
+    /**
+     * Appends the source, collapsing contiguous white space into a single space. Equivalent to
+     * {@code source.replaceAll("\\s+", " ")}.
+     */
+    private static void appendCompacted(StringBuilder buffer, String source) {
+        boolean previousIsWhiteSpace = false;
+        int length = source.length();
+        for (int i = 0; i < length; i++) {
+            char ch = source.charAt(i);
+            if (isWhiteSpace(ch)) {
+                if (!previousIsWhiteSpace) {
+                    buffer.append(' ');
+                }
+                previousIsWhiteSpace = true;
+            } else {
+                buffer.append(ch);
+                previousIsWhiteSpace = false;
+            }
+        }
+    }
+
+    /**
+     * Collapses contiguous white space in the buffer from the given index onwards, in place.
+     */
+    private static void compactWhiteSpace(StringBuilder buffer, int start) {
+        int write = start;
+        boolean previousIsWhiteSpace = false;
+        for (int read = start; read < buffer.length(); read++) {
+            char ch = buffer.charAt(read);
+            if (isWhiteSpace(ch)) {
+                if (previousIsWhiteSpace) {
+                    continue;
+                }
+                ch = ' ';
+                previousIsWhiteSpace = true;
+            } else {
+                previousIsWhiteSpace = false;
+            }
+            buffer.setCharAt(write++, ch);
+        }
+        buffer.setLength(write);
+    }
+
+    /**
+     * Tests a char to see if is it whitespace. This method considers the same characters to be white space as the Pattern
+     * class does when matching \s
+     */
+    private static boolean isWhiteSpace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
+    }
+
+    private static void appendCanonicalizedResourcePath(StringBuilder buffer, String resourcePath, boolean urlEncode) {
+        if (StringUtils.isEmpty(resourcePath)) {
+            buffer.append('/');
+            return;
+        }
+        if (resourcePath.charAt(0) != '/') {
+            buffer.append('/');
+        }
+        if (urlEncode) {
+            appendUriEncoded(buffer, resourcePath, true);
+        } else {
+            buffer.append(resourcePath);
+        }
+    }
+
+    /**
+     * Appends the query parameters URI encoded and sorted by encoded name and then encoded value. Null values are treated
+     * as empty for the purposes of signing, not missing: "?foo=" instead of "?foo".
+     */
+    private void appendCanonicalizedQueryString(StringBuilder buffer, Map<String, List<String>> parameters) {
+        if (parameters.isEmpty()) {
+            return;
+        }
+
+        int entryCount = 0;
+        for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
+            String encodedName = uriEncode(entry.getKey());
+            for (String value : entry.getValue()) {
+                if (queryEntries.length < entryCount + 2) {
+                    String[] grown = new String[queryEntries.length * 2];
+                    System.arraycopy(queryEntries, 0, grown, 0, entryCount);
+                    queryEntries = grown;
+                }
+                entryCount = insertSortedQueryEntry(entryCount, encodedName, value == null ? "" : uriEncode(value));
+            }
+        }
+
+        for (int i = 0; i < entryCount; i += 2) {
+            if (i > 0) {
+                buffer.append('&');
+            }
+            buffer.append(queryEntries[i]).append('=').append(queryEntries[i + 1]);
+        }
+
+        for (int i = 0; i < entryCount; i++) {
+            queryEntries[i] = null;
+        }
+    }
+
+    private int insertSortedQueryEntry(int entryCount, String name, String value) {
+        int i = entryCount;
+        while (i > 0 && compareQueryEntry(queryEntries[i - 2], queryEntries[i - 1], name, value) > 0) {
+            queryEntries[i] = queryEntries[i - 2];
+            queryEntries[i + 1] = queryEntries[i - 1];
+            i -= 2;
+        }
+        queryEntries[i] = name;
+        queryEntries[i + 1] = value;
+        return entryCount + 2;
+    }
+
+    private static int compareQueryEntry(String name1, String value1, String name2, String value2) {
+        int result = name1.compareTo(name2);
+        return result != 0 ? result : value1.compareTo(value2);
+    }
+
+    private static String uriEncode(String value) {
+        if (!needsUriEncoding(value)) {
+            return value;
+        }
+        StringBuilder encoded = new StringBuilder(value.length() + 16);
+        appendUriEncoded(encoded, value, false);
+        return encoded.toString();
+    }
+
+    private static boolean needsUriEncoding(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (!isUnreserved(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the value encoded according to RFC 3986, producing the same output as
+     * {@link software.amazon.awssdk.utils.http.SdkHttpUtils#urlEncode(String)}: unreserved characters are kept and every
+     * other UTF-8 byte is percent encoded with upper case hex digits.
+     */
+    private static void appendUriEncoded(StringBuilder buffer, String value, boolean ignoreSlashes) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (isUnreserved(ch) || (ignoreSlashes && ch == '/')) {
+                buffer.append(ch);
+            } else if (ch < 0x80) {
+                appendPercentEncoded(buffer, ch);
+            } else if (ch < 0x800) {
+                appendPercentEncoded(buffer, 0xC0 | (ch >> 6));
+                appendPercentEncoded(buffer, 0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                appendPercentEncoded(buffer, 0xF0 | (codePoint >> 18));
+                appendPercentEncoded(buffer, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendPercentEncoded(buffer, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendPercentEncoded(buffer, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                // Unpaired surrogates are replaced with '?', as String#getBytes does
+                appendPercentEncoded(buffer, '?');
+            } else {
+                appendPercentEncoded(buffer, 0xE0 | (ch >> 12));
+                appendPercentEncoded(buffer, 0x80 | ((ch >> 6) & 0x3F));
+                appendPercentEncoded(buffer, 0x80 | (ch & 0x3F));
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') ||
+               ch == '-' || ch == '_' || ch == '.' || ch == '~';
+    }
+
+    private static void appendPercentEncoded(StringBuilder buffer, int b) {
+        buffer.append('%').append(UPPER_HEX[(b >> 4) & 0xF]).append(UPPER_HEX[b & 0xF]);
+    }
+
+    private StringBuilder resetChars() {
+        chars.setLength(0);
+        return chars;
+    }
+
+    /**
+     * Encodes the character buffer as UTF-8 into the byte buffer, replacing the byte buffer if it is too small. Read
+     * {@link #bytes} only after calling this.
+     *
+     * @return The number of bytes written.
+     */
+    private int encodeChars() {
+        int length = chars.length();
+        if (bytes.length < length * 3) {
+            bytes = new byte[length * 3];
+        }
+
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = chars.charAt(i);
+            if (ch < 0x80) {
+                bytes[position++] = (byte) ch;
+            } else if (ch < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (ch >> 6));
+                bytes[position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, chars.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                bytes[position++] = '?';
+            } else {
+                bytes[position++] = (byte) (0xE0 | (ch >> 12));
+                bytes[position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    private void trimBuffers() {
+        if (chars.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            chars = new StringBuilder(INITIAL_BUFFER_SIZE);
+        }
+        if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+            bytes = new byte[INITIAL_BUFFER_SIZE];
+        }
+        if (headerNames.length > INITIAL_ENTRIES * 8) {
+            headerNames = new String[INITIAL_ENTRIES];
+        }
+        if (queryEntries.length > INITIAL_ENTRIES * 16) {
+            queryEntries = new String[INITIAL_ENTRIES * 2];
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded, lock-free cache of SigV4 signing keys.
+ *
+ * <p>Entries live in a fixed size array and are located by hashing the secret key, region and service name, so a lookup
+ * neither takes a lock nor builds a composite key. Each key may occupy one of two adjacent slots; when both are taken by
+ * other keys the first is overwritten. Entries derived for a different day than the one requested are treated as misses
+ * and are replaced when the new key is added.</p>
+ *
+ * <p>Concurrent writers may race to fill the same slot, in which case the last write wins. That is harmless since the
+ * cache only ever holds deterministic, immutable values.</p>
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    /**
+     * @param maxSize Maximum number of signing keys to cache. Rounded up to the next power of two.
+     */
+    public SigningKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, maxSize) - 1) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cached signing key for the given scope, or null if there is no key for that day.
+     */
+    public byte[] get(String secretKey, String region, String service, long daysSinceEpoch) {
+        int index = index(secretKey, region, service);
+        Entry entry = entries.get(index);
+        if (entry == null || !entry.matches(secretKey, region, service)) {
+            entry = entries.get((index + 1) & mask);
+            if (entry == null || !entry.matches(secretKey, region, service)) {
+                return null;
+            }
+        }
+        return entry.signerKey.getNumberOfDaysSinceEpoch() == daysSinceEpoch ? entry.signerKey.getSigningKey() : null;
+    }
+
+    /**
+     * Caches the signing key for the given scope, replacing any key previously cached for it.
+     */
+    public void add(String secretKey, String region, String service, SignerKey signerKey) {
+        Entry entry = new Entry(secretKey, region, service, signerKey);
+        int index = index(secretKey, region, service);
+        int alternate = (index + 1) & mask;
+        Entry existing = entries.get(index);
+        if (existing != null && !existing.matches(secretKey, region, service)) {
+            Entry alternateEntry = entries.get(alternate);
+            if (alternateEntry == null || alternateEntry.matches(secretKey, region, service)) {
+                index = alternate;
+            }
+        }
+        entries.set(index, entry);
+    }
+
+    /**
+     * Returns the number of signing keys the cache can hold.
+     */
+    public int getMaxSize() {
+        return entries.length();
+    }
+
+    private int index(String secretKey, String region, String service) {
+        int hash = (secretKey.hashCode() * 31 + region.hashCode()) * 31 + service.hashCode();
+        // Spread the high bits so that keys differing only in the last characters don't all collide
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Entry {
+        private final String secretKey;
+        private final String region;
+        private final String service;
+        private final SignerKey signerKey;
+
+        private Entry(String secretKey, String region, String service, SignerKey signerKey) {
+            this.secretKey = secretKey;
+            this.region = region;
+            this.service = service;
+            this.signerKey = signerKey;
+        }
+
+        private boolean matches(String secretKey, String region, String service) {
+            return this.secretKey.equals(secretKey) && this.region.equals(region) && this.service.equals(service);
+        }
+    }
+}
@@ -106,12 +106,12 @@ public class HttpCredentialsProviderTest {
         assertThatExceptionOfType(SdkClientException.class).isThrownBy(credentialsProvider::resolveCredentials);
 
         // When there are valid credentials (but need to be refreshed) and the endpoint returns 404 status,
-        // the provider should throw an exception.
+        // the provider should keep returning the valid credentials.
         stubForSuccessResonseWithCustomExpirationDate(new Date(System.currentTimeMillis() + ONE_MINUTE * 4));
-        credentialsProvider.resolveCredentials(); // loads the credentials that will be expired soon
+        AwsCredentials credentials = credentialsProvider.resolveCredentials(); // loads the credentials that will be expired soon
 
         stubForErrorResponse();  // Behaves as if server is unavailable.
-        assertThatExceptionOfType(SdkClientException.class).isThrownBy(credentialsProvider::resolveCredentials);
+        assertThat(credentialsProvider.resolveCredentials()).isSameAs(credentials);
     }
 
     @Test
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+public class InstanceProfileCredentialsProviderTest {
+    private static final String CREDENTIALS_RESOURCE = "/latest/meta-data/iam/security-credentials/";
+
+    @Rule
+    public WireMockRule mockMetadataEndpoint = new WireMockRule(0);
+
+    @Before
+    public void setup() {
+        System.setProperty(SdkSystemSetting.AWS_EC2_METADATA_SERVICE_ENDPOINT.property(),
+                           "http://localhost:" + mockMetadataEndpoint.port());
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty(SdkSystemSetting.AWS_EC2_METADATA_SERVICE_ENDPOINT.property());
+    }
+
+    @Test
+    public void resolveCredentials_usesFirstRole() {
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE)).willReturn(aResponse().withBody("role1\nrole2")));
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE + "role1")).willReturn(aResponse().withBody(credentials(Instant.parse("3000-05-03T04:55:54Z")))));
+
+        try (InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.create()) {
+            AwsSessionCredentials credentials = (AwsSessionCredentials) provider.resolveCredentials();
+
+            assertThat(credentials.accessKeyId()).isEqualTo("ACCESS_KEY_ID");
+            assertThat(credentials.secretAccessKey()).isEqualTo("SECRET_ACCESS_KEY");
+            assertThat(credentials.sessionToken()).isEqualTo("TOKEN_TOKEN_TOKEN");
+        }
+    }
+
+    @Test
+    public void refreshingCredentials_requestsRoleNameOnce() {
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE)).willReturn(aResponse().withBody("role1")));
+        // Credentials that are already stale are refreshed on every call.
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE + "role1")).willReturn(aResponse().withBody(credentials(staleSoon()))));
+
+        try (InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.create()) {
+            provider.resolveCredentials();
+            provider.resolveCredentials();
+        }
+
+        verify(1, getRequestedFor(urlPathEqualTo(CREDENTIALS_RESOURCE)));
+        verify(2, getRequestedFor(urlPathEqualTo(CREDENTIALS_RESOURCE + "role1")));
+    }
+
+    @Test
+    public void missingRole_throwsClientException() {
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE)).willReturn(aResponse().withStatus(404)));
+
+        try (InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.create()) {
+            assertThatThrownBy(provider::resolveCredentials).isInstanceOf(SdkClientException.class);
+        }
+    }
+
+    private static Instant staleSoon() {
+        // Within the minute before expiration in which the credentials are considered stale.
+        return Instant.now().plusSeconds(30).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static String credentials(Instant expiration) {
+        return "{"
+               + "\"AccessKeyId\": \"ACCESS_KEY_ID\","
+               + "\"SecretAccessKey\": \"SECRET_ACCESS_KEY\","
+               + "\"Token\": \"TOKEN_TOKEN_TOKEN\","
+               + "\"Expiration\": \"" + expiration + "\""
+               + "}";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+public class Aws4CanonicalizerTest {
+
+    private static final String CONTENT_SHA256 = AbstractAws4Signer.EMPTY_STRING_SHA256_HEX;
+
+    @Test
+    public void headersSortedCaseInsensitivelyAndIgnoredHeadersExcluded() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("X-Amz-Target", Collections.singletonList("DynamoDB_20120810.GetItem"));
+        headers.put("User-Agent", Collections.singletonList("agent"));
+        headers.put("Host", Collections.singletonList("dynamodb.us-east-1.amazonaws.com"));
+        headers.put("x-amz-date", Collections.singletonList("20190101T000000Z"));
+        headers.put("Content-Type", Collections.singletonList("application/x-amz-json-1.0"));
+        headers.put("Connection", Collections.singletonList("keep-alive"));
+
+        Aws4Canonicalizer canonicalizer = Aws4Canonicalizer.forCurrentThread();
+        assertEquals("content-type;host;x-amz-date;x-amz-target", canonicalizer.sortHeaders(headers));
+
+        String expected = "POST\n/\n\n"
+                          + "content-type:application/x-amz-json-1.0\n"
+                          + "host:dynamodb.us-east-1.amazonaws.com\n"
+                          + "x-amz-date:20190101T000000Z\n"
+                          + "x-amz-target:DynamoDB_20120810.GetItem\n"
+                          + "\n"
+                          + "content-type;host;x-amz-date;x-amz-target\n"
+                          + CONTENT_SHA256;
+        assertArrayEquals(sha256(expected),
+                          canonicalizer.hashCanonicalRequest("POST", "", Collections.emptyMap(), CONTENT_SHA256, false));
+    }
+
+    @Test
+    public void headerValuesWhiteSpaceCompactedAndMultipleValuesRepeated() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("x-amz-meta", Arrays.asList("a  \t b", null, "c"));
+
+        Aws4Canonicalizer canonicalizer = Aws4Canonicalizer.forCurrentThread();
+        canonicalizer.sortHeaders(headers);
+
+        String expected = "GET\n/\n\nx-amz-meta:a b\nx-amz-meta:\nx-amz-meta:c\n\nx-amz-meta\n" + CONTENT_SHA256;
+        assertArrayEquals(sha256(expected),
+                          canonicalizer.hashCanonicalRequest("GET", "/", Collections.emptyMap(), CONTENT_SHA256, false));
+    }
+
+    @Test
+    public void queryParametersAndPathEncodedLikeSdkHttpUtils() {
+        String path = "/bucket/key with spaces/\u00fcn\u00efc\u00f6d\u00e9\u20ac~*+\ud83d\ude00";
+        Map<String, List<String>> query = new LinkedHashMap<>();
+        query.put("zeta", Arrays.asList("b", "a"));
+        query.put("Alpha", Collections.singletonList("x y*~"));
+        query.put("\u00fcn\u00ef", Collections.singletonList(null));
+        query.put("empty", Collections.emptyList());
+
+        Aws4Canonicalizer canonicalizer = Aws4Canonicalizer.forCurrentThread();
+        canonicalizer.sortHeaders(Collections.singletonMap("Host", Collections.singletonList("example.com")));
+
+        String expected = "GET\n"
+                          + SdkHttpUtils.urlEncodeIgnoreSlashes(path) + "\n"
+                          + SdkHttpUtils.urlEncode("\u00fcn\u00ef") + "=&Alpha=" + SdkHttpUtils.urlEncode("x y*~") + "&zeta=a&zeta=b\n"
+                          + "host:example.com\n\nhost\n"
+                          + CONTENT_SHA256;
+        assertArrayEquals(sha256(expected), canonicalizer.hashCanonicalRequest("GET", path, query, CONTENT_SHA256, true));
+    }
+
+    @Test
+    public void canonicalRequestLargerThanInitialBuffer() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        Map<String, List<String>> headers = Collections.singletonMap("x-amz-large", Collections.singletonList(value.toString()));
+
+        Aws4Canonicalizer canonicalizer = Aws4Canonicalizer.forCurrentThread();
+        canonicalizer.sortHeaders(headers);
+
+        String expected = "GET\n/\n\nx-amz-large:" + value + "\n\nx-amz-large\n" + CONTENT_SHA256;
+        assertArrayEquals(sha256(expected),
+                          canonicalizer.hashCanonicalRequest("GET", "/", Collections.emptyMap(), CONTENT_SHA256, false));
+    }
+
+    @Test
+    public void relativePathPrefixedWithSlash() {
+        Aws4Canonicalizer canonicalizer = Aws4Canonicalizer.forCurrentThread();
+        canonicalizer.sortHeaders(Collections.emptyMap());
+
+        String expected = "GET\n/foo\n\n\n\n" + CONTENT_SHA256;
+        assertArrayEquals(sha256(expected),
+                          canonicalizer.hashCanonicalRequest("GET", "foo", Collections.emptyMap(), CONTENT_SHA256, false));
+    }
+
+    private static byte[] sha256(String canonicalRequest) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(canonicalRequest.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
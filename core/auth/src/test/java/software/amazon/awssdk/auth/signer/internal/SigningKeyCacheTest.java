@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SigningKeyCacheTest {
+
+    private static final byte[] KEY_1 = {1};
+    private static final byte[] KEY_2 = {2};
+
+    @Test
+    public void testGetAndAdd() {
+        SigningKeyCache cache = new SigningKeyCache(300);
+        assertNull(cache.get("secret", "us-east-1", "s3", 10));
+
+        cache.add("secret", "us-east-1", "s3", new SignerKey(10, KEY_1));
+        assertArrayEquals(KEY_1, cache.get("secret", "us-east-1", "s3", 10));
+        assertNull(cache.get("secret", "us-west-2", "s3", 10));
+        assertNull(cache.get("secret", "us-east-1", "sqs", 10));
+        assertNull(cache.get("other-secret", "us-east-1", "s3", 10));
+
+        cache.add("secret", "us-east-1", "s3", new SignerKey(10, KEY_2));
+        assertArrayEquals(KEY_2, cache.get("secret", "us-east-1", "s3", 10));
+    }
+
+    @Test
+    public void testDayRollover() {
+        SigningKeyCache cache = new SigningKeyCache(300);
+        cache.add("secret", "us-east-1", "s3", new SignerKey(10, KEY_1));
+        assertNull(cache.get("secret", "us-east-1", "s3", 11));
+
+        cache.add("secret", "us-east-1", "s3", new SignerKey(11, KEY_2));
+        assertArrayEquals(KEY_2, cache.get("secret", "us-east-1", "s3", 11));
+        assertNull(cache.get("secret", "us-east-1", "s3", 10));
+    }
+
+    @Test
+    public void testReturnsCopy() {
+        SigningKeyCache cache = new SigningKeyCache(300);
+        cache.add("secret", "us-east-1", "s3", new SignerKey(10, KEY_1));
+        byte[] first = cache.get("secret", "us-east-1", "s3", 10);
+        first[0] = 42;
+        assertNotSame(first, cache.get("secret", "us-east-1", "s3", 10));
+        assertArrayEquals(KEY_1, cache.get("secret", "us-east-1", "s3", 10));
+    }
+
+    @Test
+    public void testBounded() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        assertEquals(2, cache.getMaxSize());
+        for (int i = 0; i < 100; i++) {
+            cache.add("secret" + i, "us-east-1", "s3", new SignerKey(10, KEY_1));
+        }
+        int cached = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.get("secret" + i, "us-east-1", "s3", 10) != null) {
+                cached++;
+            }
+        }
+        assertEquals(2, cached);
+    }
+
+    @Test
+    public void testCapacityRoundedUpToPowerOfTwo() {
+        assertEquals(2, new SigningKeyCache(1).getMaxSize());
+        assertEquals(512, new SigningKeyCache(300).getMaxSize());
+        assertEquals(512, new SigningKeyCache(512).getMaxSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroSize() {
+        new SigningKeyCache(0);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import java.time.Instant;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * An immutable collection of the metrics reported to a {@link MetricCollector}, along with the collections of any of its
+ * children.
+ *
+ * <p>For an API call, the root collection holds the metrics for the call as a whole and has one child collection per
+ * attempt, each of which holds the metrics for that attempt and the HTTP client that executed it.
+ */
+@SdkPublicApi
+public interface MetricCollection extends Iterable<MetricRecord<?>> {
+
+    /**
+     * @return The name of the collector this collection was created from.
+     */
+    String name();
+
+    /**
+     * Return all values reported for the given metric, in the order they were reported.
+     *
+     * @param metric The metric.
+     * @param <T> The type of the values.
+     * @return The reported values, or an empty list if the metric was not reported.
+     */
+    <T> List<T> metricValues(SdkMetric<T> metric);
+
+    /**
+     * @return The collections of the child collectors, in the order the children were created.
+     */
+    List<MetricCollection> children();
+
+    /**
+     * @return The time at which the collector this collection was created from was created.
+     */
+    Instant creationTime();
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
+
+/**
+ * Collects the metrics reported while executing a unit of work, such as an API call, an attempt of an API call or an HTTP
+ * request. Collectors can be nested with {@link #createChild(String)} and are turned into an immutable
+ * {@link MetricCollection} with {@link #collect()}.
+ *
+ * <p>Implementations must be thread safe, because the SDK reports metrics from whichever thread happens to be executing the
+ * request.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface MetricCollector {
+
+    /**
+     * @return The name of this collector.
+     */
+    String name();
+
+    /**
+     * Report a value for the given metric.
+     *
+     * @param metric The metric.
+     * @param value The value.
+     * @param <T> The type of the value.
+     */
+    <T> void reportMetric(SdkMetric<T> metric, T value);
+
+    /**
+     * Create a child of this collector. The collection of the child is included in the collection of this collector.
+     *
+     * @param name The name of the child.
+     * @return The child collector.
+     */
+    MetricCollector createChild(String name);
+
+    /**
+     * Collect the metrics reported to this collector and its children.
+     *
+     * @return The collected metrics.
+     */
+    MetricCollection collect();
+
+    /**
+     * Create a new collector that records every reported metric.
+     *
+     * @param name The name of the collector.
+     * @return The new collector.
+     */
+    static MetricCollector create(String name) {
+        return DefaultMetricCollector.create(name);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Publishes the metrics collected for each API call to a monitoring system.
+ *
+ * <p>{@link #publish(MetricCollection)} is invoked once per API call, on the thread that completed the call, after the
+ * response or failure has been produced. Implementations should hand the collection off (for example by queueing it for a
+ * background batch upload) rather than performing blocking I/O in this method, because the caller is waiting on it.
+ *
+ * <p>Publishers are not closed by the clients they are configured on; callers own their lifecycle.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface MetricPublisher extends SdkAutoCloseable {
+
+    /**
+     * Publish the metrics collected for an API call.
+     *
+     * @param metricCollection The collected metrics.
+     */
+    void publish(MetricCollection metricCollection);
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * A {@link MetricCollector} that discards every reported metric. This is used when no {@link MetricPublisher} is
+ * configured, and never allocates: {@link #createChild(String)} returns the same instance and {@link #collect()} returns a
+ * shared empty collection.
+ */
+@SdkPublicApi
+public final class NoOpMetricCollector implements MetricCollector {
+    private static final NoOpMetricCollector INSTANCE = new NoOpMetricCollector();
+    private static final MetricCollection EMPTY_COLLECTION = new EmptyMetricCollection();
+
+    private NoOpMetricCollector() {
+    }
+
+    /**
+     * @return The no-op collector.
+     */
+    public static NoOpMetricCollector create() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String name() {
+        return "NoOp";
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T value) {
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        return this;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        return EMPTY_COLLECTION;
+    }
+
+    private static final class EmptyMetricCollection implements MetricCollection {
+        private static final Instant CREATION_TIME = Instant.EPOCH;
+
+        @Override
+        public String name() {
+            return "NoOp";
+        }
+
+        @Override
+        public <T> List<T> metricValues(SdkMetric<T> metric) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<MetricCollection> children() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Instant creationTime() {
+            return CREATION_TIME;
+        }
+
+        @Override
+        public Iterator<MetricRecord<?>> iterator() {
+            return Collections.emptyIterator();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.internal.DefaultSdkMetric;
+
+/**
+ * A specific SDK metric, such as the duration of an API call or the number of connections leased from a pool.
+ *
+ * <p>Metrics are compared by identity, so each metric should be created once and stored in a constant. See
+ * {@code CoreMetric} and {@code HttpMetric} for the metrics reported by the SDK.
+ *
+ * @param <T> The type of the values reported for this metric.
+ */
+@SdkPublicApi
+public interface SdkMetric<T> {
+
+    /**
+     * @return The name of this metric.
+     */
+    String name();
+
+    /**
+     * @return The class of the values reported for this metric.
+     */
+    Class<T> valueClass();
+
+    /**
+     * Create a new metric.
+     *
+     * @param name The name of the metric.
+     * @param valueClass The class of the values reported for the metric.
+     * @param <T> The type of the values reported for the metric.
+     * @return The new metric.
+     */
+    static <T> SdkMetric<T> create(String name, Class<T> valueClass) {
+        return new DefaultSdkMetric<>(name, valueClass);
+    }
+}
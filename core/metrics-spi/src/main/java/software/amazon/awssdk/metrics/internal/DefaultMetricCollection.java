@@ -0,0 +1,86 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+@SdkInternalApi
+public final class DefaultMetricCollection implements MetricCollection {
+    private final String name;
+    private final List<MetricRecord<?>> records;
+    private final List<MetricCollection> children;
+    private final Instant creationTime;
+
+    public DefaultMetricCollection(String name,
+                                   List<MetricRecord<?>> records,
+                                   List<MetricCollection> children,
+                                   Instant creationTime) {
+        this.name = name;
+        this.records = Collections.unmodifiableList(new ArrayList<>(records));
+        this.children = Collections.unmodifiableList(new ArrayList<>(children));
+        this.creationTime = creationTime;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> metricValues(SdkMetric<T> metric) {
+        List<T> values = new ArrayList<>();
+        for (MetricRecord<?> record : records) {
+            if (record.metric() == metric) {
+                values.add((T) record.value());
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public List<MetricCollection> children() {
+        return children;
+    }
+
+    @Override
+    public Instant creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Iterator<MetricRecord<?>> iterator() {
+        return records.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricCollection")
+                       .add("name", name)
+                       .add("metrics", records)
+                       .add("children", children)
+                       .build();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that records every reported value in the order it was reported.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultMetricCollector implements MetricCollector {
+    private final String name;
+    private final Instant creationTime;
+    private final List<MetricRecord<?>> records = new ArrayList<>();
+    private final List<MetricCollector> children = new ArrayList<>();
+
+    private DefaultMetricCollector(String name) {
+        this.name = Validate.paramNotBlank(name, "name");
+        this.creationTime = Instant.now();
+    }
+
+    public static MetricCollector create(String name) {
+        return new DefaultMetricCollector(name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T value) {
+        Validate.paramNotNull(metric, "metric");
+        MetricRecord<T> record = new DefaultMetricRecord<>(metric, value);
+        synchronized (records) {
+            records.add(record);
+        }
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        MetricCollector child = new DefaultMetricCollector(name);
+        synchronized (children) {
+            children.add(child);
+        }
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        List<MetricRecord<?>> collectedRecords;
+        synchronized (records) {
+            collectedRecords = new ArrayList<>(records);
+        }
+
+        List<MetricCollector> currentChildren;
+        synchronized (children) {
+            currentChildren = new ArrayList<>(children);
+        }
+
+        List<MetricCollection> collectedChildren = new ArrayList<>(currentChildren.size());
+        for (MetricCollector child : currentChildren) {
+            collectedChildren.add(child.collect());
+        }
+
+        return new DefaultMetricCollection(name, collectedRecords, collectedChildren, creationTime);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultSdkMetric<T> implements SdkMetric<T> {
+    private final String name;
+    private final Class<T> valueClass;
+
+    public DefaultSdkMetric(String name, Class<T> valueClass) {
+        this.name = Validate.paramNotBlank(name, "name");
+        this.valueClass = Validate.paramNotNull(valueClass, "valueClass");
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Class<T> valueClass() {
+        return valueClass;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("SdkMetric")
+                       .add("name", name)
+                       .add("valueClass", valueClass.getSimpleName())
+                       .build();
+    }
+}
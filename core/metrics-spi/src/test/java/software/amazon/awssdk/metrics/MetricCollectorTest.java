@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class MetricCollectorTest {
+    private static final SdkMetric<Integer> COUNT = SdkMetric.create("Count", Integer.class);
+    private static final SdkMetric<Duration> LATENCY = SdkMetric.create("Latency", Duration.class);
+
+    @Test
+    public void collect_containsReportedValuesInOrder() {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(COUNT, 1);
+        collector.reportMetric(LATENCY, Duration.ofMillis(5));
+        collector.reportMetric(COUNT, 2);
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.name()).isEqualTo("ApiCall");
+        assertThat(collection.metricValues(COUNT)).containsExactly(1, 2);
+        assertThat(collection.metricValues(LATENCY)).containsExactly(Duration.ofMillis(5));
+        assertThat(collection).hasSize(3);
+    }
+
+    @Test
+    public void collect_unreportedMetric_isEmpty() {
+        assertThat(MetricCollector.create("ApiCall").collect().metricValues(COUNT)).isEmpty();
+    }
+
+    @Test
+    public void collect_includesChildrenInCreationOrder() {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.createChild("ApiCallAttempt").reportMetric(COUNT, 1);
+        collector.createChild("ApiCallAttempt").reportMetric(COUNT, 2);
+
+        List<MetricCollection> children = collector.collect().children();
+
+        assertThat(children).hasSize(2);
+        assertThat(children.get(0).metricValues(COUNT)).containsExactly(1);
+        assertThat(children.get(1).metricValues(COUNT)).containsExactly(2);
+    }
+
+    @Test
+    public void collect_isNotAffectedByLaterReports() {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(COUNT, 1);
+        MetricCollection collection = collector.collect();
+
+        collector.reportMetric(COUNT, 2);
+
+        assertThat(collection.metricValues(COUNT)).containsExactly(1);
+    }
+
+    @Test
+    public void reportMetric_fromManyThreads_recordsEveryValue() throws InterruptedException {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    collector.reportMetric(COUNT, j);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(collector.collect().metricValues(COUNT)).hasSize(8000);
+    }
+
+    @Test
+    public void noOpCollector_discardsEverythingAndReturnsItselfAsChild() {
+        MetricCollector collector = NoOpMetricCollector.create();
+        collector.reportMetric(COUNT, 1);
+
+        assertThat(collector.createChild("ApiCallAttempt")).isSameAs(collector);
+        assertThat(collector.collect()).isEmpty();
+        assertThat(collector.collect()).isSameAs(collector.collect());
+        assertThat(collector.collect().children()).isEmpty();
+    }
+}
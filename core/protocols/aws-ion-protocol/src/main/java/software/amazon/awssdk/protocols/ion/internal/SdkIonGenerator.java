@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.protocols.ion.internal;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -24,6 +23,7 @@ import java.time.Instant;
 import java.util.Date;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.core.PooledByteArrayOutputStream;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.ion.IonType;
@@ -42,7 +42,7 @@ public abstract class SdkIonGenerator implements StructuredJsonGenerator {
     }
 
     public static SdkIonGenerator create(IonWriterBuilder builder, String contentType) {
-        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PooledByteArrayOutputStream bytes = PooledByteArrayOutputStream.acquire(1024);
         IonWriter writer = builder.build(bytes);
         return new ByteArraySdkIonGenerator(bytes, writer, contentType);
     }
@@ -228,21 +228,26 @@ public abstract class SdkIonGenerator implements StructuredJsonGenerator {
     }
 
     private static class ByteArraySdkIonGenerator extends SdkIonGenerator {
-        private final ByteArrayOutputStream bytes;
+        private final PooledByteArrayOutputStream bytes;
+        private byte[] content;
 
-        ByteArraySdkIonGenerator(ByteArrayOutputStream bytes, IonWriter writer, String contentType) {
+        ByteArraySdkIonGenerator(PooledByteArrayOutputStream bytes, IonWriter writer, String contentType) {
             super(writer, contentType);
             this.bytes = bytes;
         }
 
         @Override
         public byte[] getBytes() {
+            if (content != null) {
+                return content.clone();
+            }
             try {
                 writer.finish();
             } catch (IOException e) {
                 throw SdkClientException.builder().cause(e).build();
             }
-            return bytes.toByteArray();
+            content = bytes.toByteArrayAndRelease();
+            return content;
         }
     }
 }
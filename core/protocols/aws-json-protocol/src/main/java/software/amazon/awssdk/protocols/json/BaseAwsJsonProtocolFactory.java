@@ -71,6 +71,8 @@ public abstract class BaseAwsJsonProtocolFactory {
         this.protocolUnmarshaller = JsonProtocolUnmarshaller
             .builder()
             .parser(JsonDomParser.create(getSdkFactory().getJsonFactory()))
+            .jsonFactory(getSdkFactory().getJsonFactory())
+            .enableFastUnmarshalling(isPlainJson())
             .defaultTimestampFormats(getDefaultTimestampFormats())
             .build();
     }
@@ -157,6 +159,14 @@ public abstract class BaseAwsJsonProtocolFactory {
         return AwsStructuredPlainJsonFactory.SDK_JSON_FACTORY;
     }
 
+    /**
+     * Binary wire formats like CBOR and Ion surface values as embedded objects that are only understood by the DOM based
+     * unmarshaller so fast unmarshalling is limited to plain JSON.
+     */
+    private boolean isPlainJson() {
+        return getSdkFactory() == AwsStructuredPlainJsonFactory.SDK_JSON_FACTORY;
+    }
+
     /**
      * @return The default timestamp format for unmarshalling for each location in the response. This
      * can be overridden by subclasses to customize behavior.
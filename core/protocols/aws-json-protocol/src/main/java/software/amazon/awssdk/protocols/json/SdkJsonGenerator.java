@@ -17,7 +17,7 @@ package software.amazon.awssdk.protocols.json;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
-import java.io.ByteArrayOutputStream;
+import com.fasterxml.jackson.core.SerializableString;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -25,6 +25,7 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.core.PooledByteArrayOutputStream;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.DateUtils;
 
@@ -35,13 +36,14 @@ import software.amazon.awssdk.utils.DateUtils;
 public class SdkJsonGenerator implements StructuredJsonGenerator {
 
     /**
-     * Default buffer size for the BAOS. Chosen somewhat arbitrarily. Should be large enough to
-     * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
+     * Default buffer size for the BAOS, when there is no pooled buffer to reuse. Chosen somewhat arbitrarily. Should be large
+     * enough to prevent frequent resizings but small enough to avoid wasted allocations for small requests.
      */
     private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private final PooledByteArrayOutputStream baos = PooledByteArrayOutputStream.acquire(DEFAULT_BUFFER_SIZE);
     private final JsonGenerator generator;
     private final String contentType;
+    private byte[] bytes;
 
     public SdkJsonGenerator(JsonFactory factory, String contentType) {
         try {
@@ -116,6 +118,16 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
         return this;
     }
 
+    @Override
+    public StructuredJsonGenerator writeFieldName(SerializableString fieldName) {
+        try {
+            generator.writeFieldName(fieldName);
+        } catch (IOException e) {
+            throw new JsonGenerationException(e);
+        }
+        return this;
+    }
+
     @Override
     public StructuredJsonGenerator writeValue(String val) {
         try {
@@ -257,14 +269,18 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
     /**
      * Get the JSON content as a UTF-8 encoded byte array. It is recommended to hold onto the array
      * reference rather then making repeated calls to this method as a new array will be created
-     * each time.
+     * each time. The first call ends the generation and releases the buffer the JSON was written to.
      *
      * @return Array of UTF-8 encoded bytes that make up the generated JSON.
      */
     @Override
     public byte[] getBytes() {
-        close();
-        return baos.toByteArray();
+        if (bytes == null) {
+            close();
+            bytes = baos.toByteArrayAndRelease();
+            return bytes;
+        }
+        return bytes.clone();
     }
 
     @Override
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.protocols.json;
 
+import com.fasterxml.jackson.core.SerializableString;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -147,6 +148,14 @@ public interface StructuredJsonGenerator {
 
     StructuredJsonGenerator writeFieldName(String fieldName);
 
+    /**
+     * Write a field name that was encoded in advance, eg. the name of a modeled member. Implementations that can't make use
+     * of the encoded form write the name as a string.
+     */
+    default StructuredJsonGenerator writeFieldName(SerializableString fieldName) {
+        return writeFieldName(fieldName.getValue());
+    }
+
     StructuredJsonGenerator writeValue(String val);
 
     StructuredJsonGenerator writeValue(boolean bool);
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.protocols.json.internal.marshall;
 
+import com.fasterxml.jackson.core.SerializableString;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.protocols.core.Marshaller;
@@ -42,4 +43,15 @@ public interface JsonMarshaller<T> extends Marshaller<T> {
      */
     void marshall(T val, JsonMarshallerContext context, String paramName, SdkField<T> sdkField);
 
+    /**
+     * Marshall a member of a structure whose field name was encoded in advance.
+     *
+     * @param val       Data to marshall (may be null).
+     * @param context   Dependencies needed for marshalling.
+     * @param fieldName Encoded name of the member.
+     */
+    default void marshallField(T val, JsonMarshallerContext context, SerializableString fieldName, SdkField<T> sdkField) {
+        marshall(val, context, fieldName.getValue(), sdkField);
+    }
+
 }
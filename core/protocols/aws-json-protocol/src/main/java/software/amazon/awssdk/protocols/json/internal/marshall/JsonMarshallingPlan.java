@@ -0,0 +1,100 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.marshall;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+
+/**
+ * The fields of an {@link software.amazon.awssdk.core.SdkPojo} class with their marshallers, payload trait and encoded field
+ * name resolved in advance.
+ */
+@SdkInternalApi
+final class JsonMarshallingPlan {
+
+    private final Member[] members;
+
+    private JsonMarshallingPlan(Member[] members) {
+        this.members = members;
+    }
+
+    static JsonMarshallingPlan create(List<SdkField<?>> sdkFields, JsonMarshallerRegistry registry) {
+        Member[] members = new Member[sdkFields.size()];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member(sdkFields.get(i), registry);
+        }
+        return new JsonMarshallingPlan(members);
+    }
+
+    Member[] members() {
+        return members;
+    }
+
+    static final class Member {
+        private final SdkField<Object> field;
+        private final boolean explicitPayloadMember;
+        private final SerializableString fieldName;
+        private final JsonMarshaller<Object> marshaller;
+        private final JsonMarshaller<Object> nullMarshaller;
+
+        @SuppressWarnings("unchecked")
+        private Member(SdkField<?> field, JsonMarshallerRegistry registry) {
+            this.field = (SdkField<Object>) field;
+            this.explicitPayloadMember = field.containsTrait(PayloadTrait.class);
+            this.fieldName = field.locationName() == null ? null : new SerializedString(field.locationName());
+            this.marshaller = resolve(registry, field.location(), field.marshallingType());
+            this.nullMarshaller = resolve(registry, field.location(), MarshallingType.NULL);
+        }
+
+        /**
+         * Types that have no marshaller for the location of the field are looked up again when a value of the field is
+         * marshalled, so that the registry reports the missing marshaller as usual.
+         */
+        private static JsonMarshaller<Object> resolve(JsonMarshallerRegistry registry,
+                                                      MarshallLocation location,
+                                                      MarshallingType<?> marshallingType) {
+            JsonMarshaller<Object> marshaller = registry.findMarshaller(location, marshallingType);
+            if (marshaller != null) {
+                return marshaller;
+            }
+            return (val, context, paramName, sdkField) ->
+                registry.getMarshaller(location, marshallingType, val).marshall(val, context, paramName, sdkField);
+        }
+
+        SdkField<Object> field() {
+            return field;
+        }
+
+        boolean isExplicitPayloadMember() {
+            return explicitPayloadMember;
+        }
+
+        void marshall(Object val, JsonMarshallerContext context) {
+            JsonMarshaller<Object> resolved = val == null ? nullMarshaller : marshaller;
+            if (fieldName == null) {
+                resolved.marshall(val, context, null, field);
+            } else {
+                resolved.marshallField(val, context, fieldName, field);
+            }
+        }
+    }
+}
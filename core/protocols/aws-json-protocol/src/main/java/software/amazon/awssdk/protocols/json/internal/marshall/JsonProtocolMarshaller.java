@@ -26,14 +26,13 @@ import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
-import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
@@ -51,6 +50,9 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
 
     private static final JsonMarshallerRegistry MARSHALLER_REGISTRY = createMarshallerRegistry();
 
+    private static final MarshallingPlanCache<JsonMarshallingPlan> MARSHALLING_PLANS =
+        MarshallingPlanCache.create(sdkFields -> JsonMarshallingPlan.create(sdkFields, MARSHALLER_REGISTRY));
+
     private final URI endpoint;
     private final StructuredJsonGenerator jsonGenerator;
     private final SdkHttpFullRequest.Builder request;
@@ -155,31 +157,20 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     }
 
     void doMarshall(SdkPojo pojo) {
-        for (SdkField<?> field : pojo.sdkFields()) {
-            Object val = field.getValueOrDefault(pojo);
-            if (isBinary(field, val)) {
+        for (JsonMarshallingPlan.Member member : MARSHALLING_PLANS.planFor(pojo).members()) {
+            Object val = member.field().getValueOrDefault(pojo);
+            if (member.isExplicitPayloadMember() && val instanceof SdkBytes) {
                 request.contentStreamProvider(((SdkBytes) val)::asInputStream);
+            } else if (member.isExplicitPayloadMember() && val != null) {
+                jsonGenerator.writeStartObject();
+                doMarshall((SdkPojo) val);
+                jsonGenerator.writeEndObject();
             } else {
-                if (val != null && field.containsTrait(PayloadTrait.class)) {
-                    jsonGenerator.writeStartObject();
-                    doMarshall((SdkPojo) val);
-                    jsonGenerator.writeEndObject();
-                } else {
-                    MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val)
-                                       .marshall(val, marshallerContext, field.locationName(), (SdkField<Object>) field);
-                }
+                member.marshall(val, marshallerContext);
             }
         }
     }
 
-    private boolean isBinary(SdkField<?> field, Object val) {
-        return isExplicitPayloadMember(field) && val instanceof SdkBytes;
-    }
-
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
-    }
-
     @Override
     public SdkHttpFullRequest marshall(SdkPojo pojo) {
         startMarshalling();
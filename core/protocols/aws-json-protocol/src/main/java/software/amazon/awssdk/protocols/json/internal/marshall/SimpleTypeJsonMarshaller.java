@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.protocols.json.internal.marshall;
 
+import com.fasterxml.jackson.core.SerializableString;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -100,6 +101,18 @@ public final class SimpleTypeJsonMarshaller {
             if (paramName != null) {
                 jsonGenerator.writeFieldName(paramName);
             }
+            marshall(val, jsonGenerator, sdkField);
+        }
+
+        @Override
+        public void marshallField(Instant val, JsonMarshallerContext context, SerializableString fieldName,
+                                  SdkField<Instant> sdkField) {
+            StructuredJsonGenerator jsonGenerator = context.jsonGenerator();
+            jsonGenerator.writeFieldName(fieldName);
+            marshall(val, jsonGenerator, sdkField);
+        }
+
+        private void marshall(Instant val, StructuredJsonGenerator jsonGenerator, SdkField<Instant> sdkField) {
             TimestampFormatTrait trait = sdkField.getTrait(TimestampFormatTrait.class);
             if (trait != null) {
                 switch (trait.format()) {
@@ -203,6 +216,16 @@ public final class SimpleTypeJsonMarshaller {
             marshall(val, context.jsonGenerator(), context);
         }
 
+        @Override
+        public final void marshallField(T val, JsonMarshallerContext context, SerializableString fieldName,
+                                        SdkField<T> sdkField) {
+            if (!shouldEmit(val)) {
+                return;
+            }
+            context.jsonGenerator().writeFieldName(fieldName);
+            marshall(val, context.jsonGenerator(), context);
+        }
+
         public abstract void marshall(T val, StructuredJsonGenerator jsonGenerator, JsonMarshallerContext context);
 
         protected boolean shouldEmit(T val) {
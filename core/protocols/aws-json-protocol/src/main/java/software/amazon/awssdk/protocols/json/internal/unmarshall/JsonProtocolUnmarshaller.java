@@ -17,7 +17,9 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +37,7 @@ import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.TrustedCollections;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
@@ -56,10 +59,19 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonDomParser parser;
 
+    /**
+     * Binds payloads straight from the parser's token stream. Null when fast unmarshalling is disabled, in which case
+     * the payload is first parsed into a {@link SdkJsonNode} tree.
+     */
+    private final JsonTokenUnmarshaller tokenUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(new HashMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.tokenUnmarshaller = builder.enableFastUnmarshalling
+                                 ? new JsonTokenUnmarshaller(builder.jsonFactory, instantStringToValue)
+                                 : null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -127,22 +139,23 @@ public final class JsonProtocolUnmarshaller {
             JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(valueInfo.location(), valueInfo.marshallingType());
             map.put(fieldName, unmarshaller.unmarshall(context, value, (SdkField<Object>) valueInfo));
         });
-        return map;
+        return TrustedCollections.unmodifiableMap(map);
     }
 
     private static List<?> unmarshallList(JsonUnmarshallerContext context, SdkJsonNode jsonContent, SdkField<List<?>> field) {
         if (jsonContent == null || jsonContent.isNull()) {
             return null;
         }
-        return jsonContent.items()
-                          .stream()
-                          .map(item -> {
-                              SdkField<?> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
-                              JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(memberInfo.location(),
-                                                                                              memberInfo.marshallingType());
-                              return unmarshaller.unmarshall(context, item, (SdkField<Object>) memberInfo);
-                          })
-                          .collect(Collectors.toList());
+        return TrustedCollections.unmodifiableList(
+            jsonContent.items()
+                       .stream()
+                       .map(item -> {
+                           SdkField<?> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+                           JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(memberInfo.location(),
+                                                                                           memberInfo.marshallingType());
+                           return unmarshaller.unmarshall(context, item, (SdkField<Object>) memberInfo);
+                       })
+                       .collect(Collectors.toList()));
     }
 
     private static class SimpleTypeJsonUnmarshaller<T> implements JsonUnmarshaller<T> {
@@ -164,6 +177,9 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
         if (hasPayloadMembers(sdkPojo) && !hasExplicitBlobPayloadMember(sdkPojo)) {
+            if (tokenUnmarshaller != null) {
+                return unmarshallFromTokens(sdkPojo, response);
+            }
             SdkJsonNode jsonNode = parser.parse(ReleasableInputStream.wrap(response.content().orElse(null)).disableClose());
             return unmarshall(sdkPojo, response, jsonNode);
         } else {
@@ -171,6 +187,28 @@ public final class JsonProtocolUnmarshaller {
         }
     }
 
+    /**
+     * Single pass unmarshalling. Payload members are bound directly from the token stream and the remaining members (headers,
+     * status code, etc) are unmarshalled through the registry as usual.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallFromTokens(SdkPojo sdkPojo,
+                                                               SdkHttpFullResponse response) throws IOException {
+        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
+                                                                 .unmarshallerRegistry(registry)
+                                                                 .response(response)
+                                                                 .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+        InputStream content = ReleasableInputStream.wrap(response.content().orElse(null)).disableClose();
+        tokenUnmarshaller.unmarshallPayload(sdkPojo, content);
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
     private boolean hasExplicitBlobPayloadMember(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields()
                       .stream()
@@ -233,6 +271,8 @@ public final class JsonProtocolUnmarshaller {
     public static final class Builder {
 
         private JsonDomParser parser;
+        private JsonFactory jsonFactory;
+        private boolean enableFastUnmarshalling;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
 
         private Builder() {
@@ -247,6 +287,27 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param jsonFactory JSON factory used to create parsers when fast unmarshalling is enabled.
+         * @return This builder for method chaining.
+         */
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+            return this;
+        }
+
+        /**
+         * Whether successful responses should be bound directly from the JSON token stream rather than first being parsed
+         * into a {@link SdkJsonNode} tree. Requires a {@link #jsonFactory(JsonFactory)}. Error responses always use the tree.
+         *
+         * @param enableFastUnmarshalling True to enable single pass unmarshalling, false otherwise.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
         /**
          * @param formats The default timestamp formats for each location in the HTTP response.
          * @return This builder for method chaining.
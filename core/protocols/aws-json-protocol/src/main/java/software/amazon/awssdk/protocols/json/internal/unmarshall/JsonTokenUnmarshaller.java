@@ -0,0 +1,220 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.util.TrustedCollections;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Binds a JSON document directly from the {@link JsonParser} token stream into {@link SdkPojo} builders. Unlike the
+ * {@link software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser} path no intermediate tree is created, and
+ * numbers, booleans and blobs are read straight from the parser rather than being converted to and from strings.
+ *
+ * <p>Only members bound to the payload are handled here; the caller is responsible for members bound to other locations
+ * like headers or the status code.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonTokenUnmarshaller {
+
+    private final JsonFactory jsonFactory;
+    private final StringToValueConverter.StringToValue<Instant> instantStringToValue;
+
+    /**
+     * Payload members of each POJO class keyed by their location name. Computed lazily on first use of a class.
+     */
+    private final Map<Class<?>, Map<String, SdkField<?>>> payloadFieldsByClass = new ConcurrentHashMap<>();
+
+    JsonTokenUnmarshaller(JsonFactory jsonFactory, StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+        this.instantStringToValue = instantStringToValue;
+    }
+
+    /**
+     * Populates the payload members of the given POJO from the JSON document in the content stream. Non-payload members
+     * are left untouched and the POJO is not built.
+     *
+     * @param sdkPojo POJO builder to populate.
+     * @param content JSON content of the response. Not closed by this method.
+     */
+    void unmarshallPayload(SdkPojo sdkPojo, InputStream content) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(content)
+                                            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+            JsonToken token = parser.nextToken();
+            SdkField<?> explicitPayloadMember = explicitPayloadMember(sdkPojo);
+            if (explicitPayloadMember != null) {
+                explicitPayloadMember.set(sdkPojo, isNull(token) ? null : unmarshallValue(explicitPayloadMember, parser, token));
+            } else if (token == JsonToken.START_OBJECT) {
+                unmarshallFields(sdkPojo, parser);
+            } else if (!isNull(token)) {
+                throw SdkClientException.create("Unexpected JSON token - " + token);
+            }
+        }
+    }
+
+    private static SdkField<?> explicitPayloadMember(SdkPojo sdkPojo) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.containsTrait(PayloadTrait.class)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNull(JsonToken token) {
+        return token == null || token == JsonToken.VALUE_NULL;
+    }
+
+    /**
+     * Reads the fields of the current JSON object into the POJO. The parser must be positioned on the
+     * {@link JsonToken#START_OBJECT} token and will be left on the matching {@link JsonToken#END_OBJECT}.
+     */
+    private void unmarshallFields(SdkPojo sdkPojo, JsonParser parser) throws IOException {
+        Map<String, SdkField<?>> fields = payloadFields(sdkPojo);
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            SdkField<?> field = fields.get(parser.getCurrentName());
+            JsonToken valueToken = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, unmarshallValue(field, parser, valueToken));
+            }
+        }
+    }
+
+    private Map<String, SdkField<?>> payloadFields(SdkPojo sdkPojo) {
+        return payloadFieldsByClass.computeIfAbsent(sdkPojo.getClass(), c -> {
+            Map<String, SdkField<?>> fields = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() == MarshallLocation.PAYLOAD) {
+                    fields.put(field.locationName(), field);
+                }
+            }
+            return Collections.unmodifiableMap(fields);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(SdkField<?> field, JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.STRING) {
+            return parser.getText();
+        } else if (type == MarshallingType.INTEGER) {
+            return token == JsonToken.VALUE_NUMBER_INT
+                   ? parser.getIntValue()
+                   : StringToValueConverter.TO_INTEGER.convert(parser.getText(), (SdkField<Integer>) field);
+        } else if (type == MarshallingType.LONG) {
+            return token == JsonToken.VALUE_NUMBER_INT
+                   ? parser.getLongValue()
+                   : StringToValueConverter.TO_LONG.convert(parser.getText(), (SdkField<Long>) field);
+        } else if (type == MarshallingType.FLOAT) {
+            return token.isNumeric()
+                   ? parser.getFloatValue()
+                   : StringToValueConverter.TO_FLOAT.convert(parser.getText(), (SdkField<Float>) field);
+        } else if (type == MarshallingType.DOUBLE) {
+            return token.isNumeric()
+                   ? parser.getDoubleValue()
+                   : StringToValueConverter.TO_DOUBLE.convert(parser.getText(), (SdkField<Double>) field);
+        } else if (type == MarshallingType.BIG_DECIMAL) {
+            return token.isNumeric()
+                   ? parser.getDecimalValue()
+                   : StringToValueConverter.TO_BIG_DECIMAL.convert(parser.getText(), (SdkField<BigDecimal>) field);
+        } else if (type == MarshallingType.BOOLEAN) {
+            return token.isBoolean()
+                   ? parser.getBooleanValue()
+                   : StringToValueConverter.TO_BOOLEAN.convert(parser.getText(), (SdkField<Boolean>) field);
+        } else if (type == MarshallingType.INSTANT) {
+            return instantStringToValue.convert(parser.getText(), (SdkField<Instant>) field);
+        } else if (type == MarshallingType.SDK_BYTES) {
+            return unmarshallSdkBytes(parser, token);
+        } else if (type == MarshallingType.SDK_POJO) {
+            expectToken(JsonToken.START_OBJECT, token);
+            SdkPojo sdkPojo = field.constructor().get();
+            unmarshallFields(sdkPojo, parser);
+            return ((Buildable) sdkPojo).build();
+        } else if (type == MarshallingType.LIST) {
+            return unmarshallList(field, parser, token);
+        } else if (type == MarshallingType.MAP) {
+            return unmarshallMap(field, parser, token);
+        }
+        throw SdkClientException.create("No unmarshaller found for marshalling type " + type);
+    }
+
+    private static SdkBytes unmarshallSdkBytes(JsonParser parser, JsonToken token) throws IOException {
+        // Binary formats may hand us the raw bytes, otherwise the parser decodes the Base64 text without a String copy
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+        }
+        return SdkBytes.fromByteArrayUnsafe(parser.getBinaryValue());
+    }
+
+    private List<?> unmarshallList(SdkField<?> field, JsonParser parser, JsonToken token) throws IOException {
+        expectToken(JsonToken.START_ARRAY, token);
+        SdkField<?> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken itemToken = parser.nextToken();
+        while (itemToken != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(memberInfo, parser, itemToken));
+            itemToken = parser.nextToken();
+        }
+        return TrustedCollections.unmodifiableList(list);
+    }
+
+    private Map<String, ?> unmarshallMap(SdkField<?> field, JsonParser parser, JsonToken token) throws IOException {
+        expectToken(JsonToken.START_OBJECT, token);
+        SdkField<?> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getCurrentName();
+            map.put(key, unmarshallValue(valueInfo, parser, parser.nextToken()));
+        }
+        return TrustedCollections.unmodifiableMap(map);
+    }
+
+    private static void expectToken(JsonToken expected, JsonToken actual) {
+        if (actual != expected) {
+            throw SdkClientException.create("Unexpected JSON token - " + actual);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.ValidSdkObjects;
+import software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class JsonProtocolUnmarshallerTest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String ALL_TYPES_JSON = "{"
+                                                 + "\"StringMember\": \"foo\","
+                                                 + "\"IntegerMember\": 42,"
+                                                 + "\"LongMember\": 9876543210,"
+                                                 + "\"DoubleMember\": 1234.56,"
+                                                 + "\"BigDecimalMember\": 1234.5,"
+                                                 + "\"BooleanMember\": true,"
+                                                 + "\"BlobMember\": \"Zm9vYmFy\","
+                                                 + "\"TimestampMember\": 1398796238.123,"
+                                                 + "\"UnknownMember\": {\"Nested\": [1, 2, {\"Deeper\": null}]},"
+                                                 + "\"NullMember\": null,"
+                                                 + "\"ListMember\": [\"a\", null, \"b\"],"
+                                                 + "\"MapMember\": {\"one\": 1, \"two\": 2},"
+                                                 + "\"StructMember\": {\"StringMember\": \"nested\", \"IntegerMember\": \"7\"}"
+                                                 + "}";
+
+    @Test
+    public void allTypes_fastUnmarshallingMatchesDomUnmarshalling() throws Exception {
+        TestPojo fast = unmarshall(fastUnmarshaller(), ALL_TYPES_JSON);
+        TestPojo dom = unmarshall(domUnmarshaller(), ALL_TYPES_JSON);
+
+        // The DOM path also binds headers into nested structures, which never carry header members in real models
+        TestPojo fastStruct = (TestPojo) fast.values.remove("StructMember");
+        TestPojo domStruct = (TestPojo) dom.values.remove("StructMember");
+        assertThat(fast.values).isEqualTo(dom.values);
+        assertThat(fastStruct.values).containsExactly(entry("StringMember", "nested"), entry("IntegerMember", 7));
+        assertThat(domStruct.values).containsAllEntriesOf(fastStruct.values);
+
+        assertThat(fast.values.get("StringMember")).isEqualTo("foo");
+        assertThat(fast.values.get("IntegerMember")).isEqualTo(42);
+        assertThat(fast.values.get("LongMember")).isEqualTo(9876543210L);
+        assertThat(fast.values.get("DoubleMember")).isEqualTo(1234.56);
+        assertThat(fast.values.get("BooleanMember")).isEqualTo(true);
+        assertThat(fast.values.get("BlobMember")).isEqualTo(SdkBytes.fromUtf8String("foobar"));
+        assertThat(fast.values.get("TimestampMember")).isEqualTo(Instant.ofEpochMilli(1398796238123L));
+        assertThat(fast.values.get("ListMember")).isEqualTo(Arrays.asList("a", null, "b"));
+        assertThat(fast.values.get("HeaderMember")).isEqualTo("header-value");
+    }
+
+    @Test
+    public void bigDecimal_fastUnmarshallingPreservesPrecision() throws Exception {
+        TestPojo fast = unmarshall(fastUnmarshaller(), "{\"BigDecimalMember\": 1234.5678901234567890}");
+        assertThat(fast.values.get("BigDecimalMember")).isEqualTo(new BigDecimal("1234.5678901234567890"));
+    }
+
+    @Test
+    public void emptyBody_onlyNonPayloadMembersSet() throws Exception {
+        TestPojo fast = unmarshall(fastUnmarshaller(), "");
+        assertThat(fast.values).containsOnlyKeys("HeaderMember");
+    }
+
+    @Test(expected = SdkClientException.class)
+    public void structureMemberWithScalarValue_throwsException() throws Exception {
+        unmarshall(fastUnmarshaller(), "{\"StructMember\": \"foo\"}");
+    }
+
+    private static JsonProtocolUnmarshaller fastUnmarshaller() {
+        return unmarshallerBuilder().jsonFactory(JSON_FACTORY).enableFastUnmarshalling(true).build();
+    }
+
+    private static JsonProtocolUnmarshaller domUnmarshaller() {
+        return unmarshallerBuilder().build();
+    }
+
+    private static JsonProtocolUnmarshaller.Builder unmarshallerBuilder() {
+        Map<MarshallLocation, TimestampFormatTrait.Format> formats = new EnumMap<>(MarshallLocation.class);
+        formats.put(MarshallLocation.HEADER, TimestampFormatTrait.Format.RFC_822);
+        formats.put(MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.UNIX_TIMESTAMP);
+        return JsonProtocolUnmarshaller.builder()
+                                       .parser(JsonDomParser.create(JSON_FACTORY))
+                                       .defaultTimestampFormats(formats);
+    }
+
+    private static TestPojo unmarshall(JsonProtocolUnmarshaller unmarshaller, String json) throws Exception {
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+        SdkHttpFullResponse response = ValidSdkObjects.sdkHttpFullResponse()
+                                                      .putHeader("x-amz-header", "header-value")
+                                                      .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                                                      .build();
+        return unmarshaller.unmarshall(new TestPojo(), response);
+    }
+
+    private static <T> SdkField<T> payloadField(MarshallingType<? super T> type, String name) {
+        return field(type, MarshallLocation.PAYLOAD, name).build();
+    }
+
+    private static <T> SdkField.Builder<T> field(MarshallingType<? super T> type, MarshallLocation location, String name) {
+        return SdkField.<T>builder(type)
+            .constructor(TestPojo::new)
+            .setter((o, v) -> ((TestPojo) o).put(name, v))
+            .getter(o -> null)
+            .traits(LocationTrait.builder().location(location).locationName(name).build());
+    }
+
+    /**
+     * Map backed POJO that records every member set on it by the unmarshaller.
+     */
+    private static final class TestPojo implements SdkPojo, Buildable {
+
+        private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            payloadField(MarshallingType.STRING, "StringMember"),
+            payloadField(MarshallingType.INTEGER, "IntegerMember"),
+            payloadField(MarshallingType.LONG, "LongMember"),
+            payloadField(MarshallingType.DOUBLE, "DoubleMember"),
+            payloadField(MarshallingType.BIG_DECIMAL, "BigDecimalMember"),
+            payloadField(MarshallingType.BOOLEAN, "BooleanMember"),
+            payloadField(MarshallingType.SDK_BYTES, "BlobMember"),
+            payloadField(MarshallingType.INSTANT, "TimestampMember"),
+            payloadField(MarshallingType.STRING, "NullMember"),
+            payloadField(MarshallingType.SDK_POJO, "StructMember"),
+            field(MarshallingType.LIST, MarshallLocation.PAYLOAD, "ListMember")
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("ListMember").build(),
+                        ListTrait.builder().memberFieldInfo(payloadField(MarshallingType.STRING, "member")).build())
+                .build(),
+            field(MarshallingType.MAP, MarshallLocation.PAYLOAD, "MapMember")
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("MapMember").build(),
+                        MapTrait.builder().valueFieldInfo(payloadField(MarshallingType.INTEGER, "value")).build())
+                .build(),
+            field(MarshallingType.STRING, MarshallLocation.HEADER, "x-amz-header")
+                .setter((o, v) -> ((TestPojo) o).put("HeaderMember", v))
+                .build()));
+
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        /**
+         * Nulls are dropped so that "set to null" and "never set" compare equal.
+         */
+        private void put(String name, Object value) {
+            if (value != null) {
+                values.put(name, value);
+            }
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+    }
+}
@@ -88,6 +88,7 @@ public class AwsQueryProtocolFactory {
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
         return new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
                                                                       .hasResultWrapper(!isEc2())
+                                                                      .enableFastUnmarshalling(true)
                                                                       .build(),
             r -> pojoSupplier.get());
     }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.marshall;
+
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+
+/**
+ * The fields of an {@link software.amazon.awssdk.core.SdkPojo} class with their marshallers resolved in advance.
+ */
+@SdkInternalApi
+final class QueryMarshallingPlan {
+
+    private final Member[] members;
+
+    private QueryMarshallingPlan(Member[] members) {
+        this.members = members;
+    }
+
+    static QueryMarshallingPlan create(List<SdkField<?>> sdkFields, QueryMarshallerRegistry registry) {
+        Member[] members = new Member[sdkFields.size()];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member(sdkFields.get(i), registry);
+        }
+        return new QueryMarshallingPlan(members);
+    }
+
+    Member[] members() {
+        return members;
+    }
+
+    static final class Member {
+        private final SdkField<Object> field;
+        private final QueryMarshaller<Object> marshaller;
+        private final QueryMarshaller<Object> nullMarshaller;
+
+        @SuppressWarnings("unchecked")
+        private Member(SdkField<?> field, QueryMarshallerRegistry registry) {
+            this.field = (SdkField<Object>) field;
+            this.marshaller = resolve(registry, field.marshallingType());
+            this.nullMarshaller = resolve(registry, MarshallingType.NULL);
+        }
+
+        /**
+         * Types that have no marshaller are looked up again when a value of the field is marshalled, so that the registry
+         * reports the missing marshaller as usual.
+         */
+        private static QueryMarshaller<Object> resolve(QueryMarshallerRegistry registry, MarshallingType<?> marshallingType) {
+            QueryMarshaller<Object> marshaller = registry.findMarshaller(marshallingType);
+            if (marshaller != null) {
+                return marshaller;
+            }
+            return (context, path, val, sdkField) ->
+                registry.getMarshaller(marshallingType, val).marshall(context, path, val, sdkField);
+        }
+
+        SdkField<Object> field() {
+            return field;
+        }
+
+        void marshall(QueryMarshallerContext context, String path, Object val) {
+            QueryMarshaller<Object> resolved = val == null ? nullMarshaller : marshaller;
+            resolved.marshall(context, path, val, field);
+        }
+    }
+}
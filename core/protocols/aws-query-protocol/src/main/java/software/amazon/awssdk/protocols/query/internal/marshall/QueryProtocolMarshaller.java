@@ -21,6 +21,7 @@ import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
@@ -40,14 +41,22 @@ public final class QueryProtocolMarshaller
         .marshaller(MarshallingType.LIST, ListQueryMarshaller.ec2Query())
         .build();
 
+    private static final MarshallingPlanCache<QueryMarshallingPlan> AWS_QUERY_MARSHALLING_PLANS =
+        MarshallingPlanCache.create(sdkFields -> QueryMarshallingPlan.create(sdkFields, AWS_QUERY_MARSHALLER_REGISTRY));
+
+    private static final MarshallingPlanCache<QueryMarshallingPlan> EC2_QUERY_MARSHALLING_PLANS =
+        MarshallingPlanCache.create(sdkFields -> QueryMarshallingPlan.create(sdkFields, EC2_QUERY_MARSHALLER_REGISTRY));
+
     private final SdkHttpFullRequest.Builder request;
     private final QueryMarshallerRegistry registry;
+    private final MarshallingPlanCache<QueryMarshallingPlan> marshallingPlans;
     private final URI endpoint;
 
     private QueryProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
         this.request = fillBasicRequestParams(builder.operationInfo);
         this.registry = builder.isEc2 ? EC2_QUERY_MARSHALLER_REGISTRY : AWS_QUERY_MARSHALLER_REGISTRY;
+        this.marshallingPlans = builder.isEc2 ? EC2_QUERY_MARSHALLING_PLANS : AWS_QUERY_MARSHALLING_PLANS;
     }
 
     private SdkHttpFullRequest.Builder fillBasicRequestParams(OperationInfo operationInfo) {
@@ -69,10 +78,9 @@ public final class QueryProtocolMarshaller
     }
 
     private void doMarshall(String path, QueryMarshallerContext context, SdkPojo pojo) {
-        for (SdkField<?> sdkField : pojo.sdkFields()) {
-            Object val = sdkField.getValueOrDefault(pojo);
-            QueryMarshaller<Object> marshaller = registry.getMarshaller(sdkField.marshallingType(), val);
-            marshaller.marshall(context, resolvePath(path, sdkField), val, (SdkField<Object>) sdkField);
+        for (QueryMarshallingPlan.Member member : marshallingPlans.planFor(pojo).members()) {
+            Object val = member.field().getValueOrDefault(pojo);
+            member.marshall(context, resolvePath(path, member.field()), val);
         }
     }
 
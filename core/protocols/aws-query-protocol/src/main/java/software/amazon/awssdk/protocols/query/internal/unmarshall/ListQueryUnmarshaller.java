@@ -22,6 +22,7 @@ import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.util.TrustedCollections;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
 @SdkInternalApi
@@ -36,7 +37,7 @@ public final class ListQueryUnmarshaller implements QueryUnmarshaller<List<?>> {
                                                                      listTrait.memberFieldInfo().marshallingType());
             list.add(unmarshaller.unmarshall(context, singletonList(member), listTrait.memberFieldInfo()));
         });
-        return list;
+        return TrustedCollections.unmodifiableList(list);
     }
 
     private List<XmlElement> getMembers(List<XmlElement> content, ListTrait listTrait) {
@@ -23,6 +23,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.TrustedCollections;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
 @SdkInternalApi
@@ -42,7 +43,7 @@ public final class MapQueryUnmarshaller implements QueryUnmarshaller<Map<String,
             map.put(key.textContent(),
                     unmarshaller.unmarshall(context, singletonList(value), mapValueSdkField));
         });
-        return map;
+        return TrustedCollections.unmodifiableMap(map);
     }
 
     private List<XmlElement> getEntries(List<XmlElement> content, MapTrait mapTrait) {
@@ -18,12 +18,17 @@ package software.amazon.awssdk.protocols.query.internal.unmarshall;
 import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
@@ -31,6 +36,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.builder.Buildable;
@@ -41,6 +47,18 @@ import software.amazon.awssdk.utils.builder.Buildable;
 @SdkInternalApi
 public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
+    private static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE =
+        StringToInstant.create(defaultTimestampFormats());
+
+    /**
+     * Every direct child of a list element is treated as a member. See {@link ListQueryUnmarshaller}.
+     */
+    private static final XmlStreamUnmarshaller STREAM_UNMARSHALLER =
+        XmlStreamUnmarshaller.builder()
+                             .instantStringToValue(INSTANT_STRING_TO_VALUE)
+                             .matchAnyListMember(true)
+                             .build();
+
     private static final QueryUnmarshallerRegistry UNMARSHALLER_REGISTRY = QueryUnmarshallerRegistry
         .builder()
         .unmarshaller(MarshallingType.STRING, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_STRING))
@@ -50,8 +68,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .unmarshaller(MarshallingType.DOUBLE, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
         .unmarshaller(MarshallingType.BOOLEAN, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_BOOLEAN))
         .unmarshaller(MarshallingType.DOUBLE, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
-        .unmarshaller(MarshallingType.INSTANT,
-                      new SimpleTypeQueryUnmarshaller<>(StringToInstant.create(defaultTimestampFormats())))
+        .unmarshaller(MarshallingType.INSTANT, new SimpleTypeQueryUnmarshaller<>(INSTANT_STRING_TO_VALUE))
         .unmarshaller(MarshallingType.SDK_BYTES, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_SDK_BYTES))
         .unmarshaller(MarshallingType.LIST, new ListQueryUnmarshaller())
         .unmarshaller(MarshallingType.MAP, new MapQueryUnmarshaller())
@@ -61,13 +78,18 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .build();
 
     private final boolean hasResultWrapper;
+    private final boolean enableFastUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.enableFastUnmarshalling = builder.enableFastUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
                                                                                SdkHttpFullResponse response) {
+        if (enableFastUnmarshalling && response.content().isPresent()) {
+            return unmarshallFromStream(sdkPojo, response.content().get());
+        }
         XmlElement document = response.content().map(XmlDomParser::parse).orElse(XmlElement.empty());
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
@@ -88,11 +110,73 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
     }
 
+    /**
+     * Single pass unmarshalling that binds the result and collects the response metadata straight from the
+     * {@link XMLStreamReader} events.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallFromStream(SdkPojo sdkPojo,
+                                                                                          InputStream content) {
+        Map<String, String> metadata = new HashMap<>();
+        try {
+            XMLStreamReader reader = XmlStreamUnmarshaller.createReader(content);
+            if (reader != null) {
+                try {
+                    if (hasResultWrapper) {
+                        unmarshallWrappedResult(sdkPojo, reader, metadata);
+                    } else {
+                        STREAM_UNMARSHALLER.unmarshallFields(sdkPojo, reader, r -> parseMetadata(r, metadata));
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+        return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+    }
+
+    /**
+     * The result is bound from the first child of the root element, siblings may only contain metadata.
+     */
+    private void unmarshallWrappedResult(SdkPojo sdkPojo,
+                                         XMLStreamReader reader,
+                                         Map<String, String> metadata) throws XMLStreamException {
+        boolean isFirstChild = true;
+        while (XmlStreamUnmarshaller.nextChildElement(reader)) {
+            if (isFirstChild && !isMetadataElement(reader.getLocalName())) {
+                STREAM_UNMARSHALLER.unmarshallFields(sdkPojo, reader, null);
+            } else {
+                parseMetadata(reader, metadata);
+            }
+            isFirstChild = false;
+        }
+    }
+
+    private static boolean isMetadataElement(String elementName) {
+        return "ResponseMetadata".equals(elementName) || "requestId".equals(elementName);
+    }
+
+    private void parseMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String elementName = reader.getLocalName();
+        if ("ResponseMetadata".equals(elementName)) {
+            while (XmlStreamUnmarshaller.nextChildElement(reader)) {
+                String key = metadataKeyName(reader.getLocalName());
+                metadata.put(key, XmlStreamUnmarshaller.readText(reader));
+            }
+        } else if ("requestId".equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamUnmarshaller.readText(reader));
+        } else {
+            XmlStreamUnmarshaller.skipElement(reader);
+        }
+    }
+
     private Map<String, String> parseMetadata(XmlElement document) {
         XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
-            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
+            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c.elementName()), c.textContent()));
         }
         XmlElement requestId = document.getElementByName("requestId");
         if (requestId != null) {
@@ -101,8 +185,8 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return metadata;
     }
 
-    private String metadataKeyName(XmlElement c) {
-        return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
+    private String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
     }
 
     private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -133,6 +217,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableFastUnmarshalling;
 
         private Builder() {
         }
@@ -182,6 +267,18 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * Whether successful responses should be bound directly from the XML event stream rather than first being
+         * parsed into an {@link XmlElement} tree. Error responses always use the tree.
+         *
+         * @param enableFastUnmarshalling True to enable single pass unmarshalling, false otherwise.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
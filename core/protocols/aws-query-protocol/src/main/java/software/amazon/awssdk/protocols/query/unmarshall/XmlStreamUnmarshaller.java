@@ -0,0 +1,495 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.TrustedCollections;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Binds an XML document into {@link SdkPojo} builders directly from {@link XMLStreamReader} events, without first
+ * materializing the document as an {@link XmlElement} tree like {@link XmlDomParser} does.
+ *
+ * <p>Only members bound to the payload are handled here. Callers are responsible for walking to the element that
+ * represents the result (which differs between protocols) and for any members bound to other locations.</p>
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class XmlStreamUnmarshaller {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(XmlStreamUnmarshaller::createXmlInputFactory);
+
+    private final StringToValueConverter.StringToValue<Instant> instantStringToValue;
+    private final boolean matchAnyListMember;
+
+    /**
+     * Payload members of each POJO class keyed by their unmarshall location name. Some shapes bind more than one member
+     * to the same element so each name maps to every member bound to it. Computed lazily on first use of a class.
+     */
+    private final Map<Class<?>, Map<String, List<SdkField<?>>>> payloadFieldsByClass = new ConcurrentHashMap<>();
+
+    private XmlStreamUnmarshaller(Builder builder) {
+        this.instantStringToValue = builder.instantStringToValue;
+        this.matchAnyListMember = builder.matchAnyListMember;
+    }
+
+    /**
+     * Creates a new reader for the given content and advances it to the root element of the document.
+     *
+     * @param content XML content to read. Not closed when the reader is closed.
+     * @return Reader positioned on the root start element or null if the document has no elements.
+     */
+    public static XMLStreamReader createReader(InputStream content) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.get().createXMLStreamReader(content);
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return reader;
+            }
+        }
+        reader.close();
+        return null;
+    }
+
+    /**
+     * Advances the reader to the next direct child of the current element.
+     *
+     * @param reader Reader positioned on the start element of the parent or on the end element of a previous child.
+     * @return True if the reader is now positioned on the start element of a child, false if the end of the parent
+     * element has been reached.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads the text content of the current element, skipping over any nested elements.
+     *
+     * @param reader Reader positioned on a start element. Left on the matching end element.
+     * @return Text content of the element. Empty string if the element has no text.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = null;
+        StringBuilder sb = null;
+        int depth = 0;
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (depth-- == 0) {
+                        return sb != null ? sb.toString() : text != null ? text : "";
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (depth == 0) {
+                        // Most elements have a single chunk of text, only fall back to a builder when there's more
+                        if (text == null) {
+                            text = reader.getText();
+                        } else {
+                            if (sb == null) {
+                                sb = new StringBuilder(text);
+                            }
+                            sb.append(reader.getText());
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Skips the current element and all of its children.
+     *
+     * @param reader Reader positioned on a start element. Left on the matching end element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT && depth-- == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Populates the payload members of the POJO from the children of the current element. The POJO is not built.
+     *
+     * @param sdkPojo POJO builder to populate.
+     * @param reader Reader positioned on the start element of the structure. Left on the matching end element.
+     * @param unmatchedElementHandler Invoked for child elements that don't correspond to a member, must consume the
+     * element. If null such elements are skipped.
+     */
+    public void unmarshallFields(SdkPojo sdkPojo,
+                                 XMLStreamReader reader,
+                                 ElementHandler unmatchedElementHandler) throws XMLStreamException {
+        Map<String, List<SdkField<?>>> fields = payloadFields(sdkPojo);
+        // Flattened collections are spread across sibling elements so they are accumulated until the structure ends. Aliased
+        // members are deferred as well so that, like the DOM unmarshaller, they keep the first matching element.
+        Map<SdkField<?>, Object> deferredValues = null;
+        while (nextChildElement(reader)) {
+            List<SdkField<?>> elementFields = fields.get(reader.getLocalName());
+            if (elementFields == null) {
+                if (unmatchedElementHandler != null) {
+                    unmatchedElementHandler.handle(reader);
+                } else {
+                    skipElement(reader);
+                }
+                continue;
+            }
+            SdkField<?> field = elementFields.get(0);
+            if (elementFields.size() > 1) {
+                if (deferredValues == null) {
+                    deferredValues = new IdentityHashMap<>();
+                }
+                unmarshallAliased(elementFields, reader, deferredValues);
+            } else if (isFlattened(field)) {
+                if (deferredValues == null) {
+                    deferredValues = new IdentityHashMap<>();
+                }
+                unmarshallFlattened(field, reader, deferredValues);
+            } else {
+                field.set(sdkPojo, unmarshallValue(field, reader));
+            }
+        }
+        if (deferredValues != null) {
+            deferredValues.forEach((f, v) -> f.set(sdkPojo, isFlattened(f) ? trusted(v) : v));
+        }
+    }
+
+    /**
+     * Unmarshalls the current element as the value of the given member.
+     *
+     * @param field Member being unmarshalled.
+     * @param reader Reader positioned on the start element of the value. Left on the matching end element.
+     * @return Unmarshalled value.
+     */
+    @SuppressWarnings("unchecked")
+    public Object unmarshallValue(SdkField<?> field, XMLStreamReader reader) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo sdkPojo = field.constructor().get();
+            unmarshallFields(sdkPojo, reader, null);
+            return ((Buildable) sdkPojo).build();
+        } else if (type == MarshallingType.LIST) {
+            return unmarshallList(field.getTrait(ListTrait.class), reader);
+        } else if (type == MarshallingType.MAP) {
+            return unmarshallMap(field.getTrait(MapTrait.class), reader);
+        } else if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+        return converterFor(type).convert(readText(reader), (SdkField<Object>) field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringToValueConverter.StringToValue<Object> converterFor(MarshallingType<?> type) {
+        StringToValueConverter.StringToValue<?> converter;
+        if (type == MarshallingType.STRING) {
+            converter = StringToValueConverter.TO_STRING;
+        } else if (type == MarshallingType.INTEGER) {
+            converter = StringToValueConverter.TO_INTEGER;
+        } else if (type == MarshallingType.LONG) {
+            converter = StringToValueConverter.TO_LONG;
+        } else if (type == MarshallingType.FLOAT) {
+            converter = StringToValueConverter.TO_FLOAT;
+        } else if (type == MarshallingType.DOUBLE) {
+            converter = StringToValueConverter.TO_DOUBLE;
+        } else if (type == MarshallingType.BIG_DECIMAL) {
+            converter = StringToValueConverter.TO_BIG_DECIMAL;
+        } else if (type == MarshallingType.BOOLEAN) {
+            converter = StringToValueConverter.TO_BOOLEAN;
+        } else if (type == MarshallingType.INSTANT) {
+            converter = instantStringToValue;
+        } else if (type == MarshallingType.SDK_BYTES) {
+            converter = StringToValueConverter.TO_SDK_BYTES;
+        } else {
+            throw SdkClientException.create("No unmarshaller found for marshalling type " + type);
+        }
+        return (StringToValueConverter.StringToValue<Object>) converter;
+    }
+
+    private List<?> unmarshallList(ListTrait listTrait, XMLStreamReader reader) throws XMLStreamException {
+        SdkField<?> memberInfo = listTrait.memberFieldInfo();
+        String memberName = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                   : memberInfo.locationName();
+        List<Object> list = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (matchAnyListMember || reader.getLocalName().equals(memberName)) {
+                list.add(unmarshallValue(memberInfo, reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return TrustedCollections.unmodifiableList(list);
+    }
+
+    private Map<String, ?> unmarshallMap(MapTrait mapTrait, XMLStreamReader reader) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextChildElement(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                unmarshallMapEntry(mapTrait, reader, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return TrustedCollections.unmodifiableMap(map);
+    }
+
+    private void unmarshallMapEntry(MapTrait mapTrait, XMLStreamReader reader, Map<String, Object> map)
+            throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (name.equals(mapTrait.valueLocationName())) {
+                value = unmarshallValue(mapTrait.valueFieldInfo(), reader);
+            } else {
+                skipElement(reader);
+            }
+        }
+        if (key == null) {
+            throw SdkClientException.create("Map entry is missing the " + mapTrait.keyLocationName() + " element");
+        }
+        map.put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void unmarshallFlattened(SdkField<?> field,
+                                     XMLStreamReader reader,
+                                     Map<SdkField<?>, Object> flattenedValues) throws XMLStreamException {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            List<Object> list = (List<Object>) flattenedValues.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(unmarshallValue(field.getTrait(ListTrait.class).memberFieldInfo(), reader));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattenedValues.computeIfAbsent(field, f -> new HashMap<>());
+            unmarshallMapEntry(field.getTrait(MapTrait.class), reader, map);
+        }
+    }
+
+    /**
+     * Binds one element to every member that maps to it, as the DOM unmarshaller does. Each member may read the element
+     * as a different type, so the element is copied once and every member unmarshalls its own replay of the copy.
+     */
+    private void unmarshallAliased(List<SdkField<?>> fields,
+                                   XMLStreamReader reader,
+                                   Map<SdkField<?>, Object> deferredValues) throws XMLStreamException {
+        String element = copyElement(reader);
+        for (SdkField<?> field : fields) {
+            if (!isFlattened(field) && deferredValues.containsKey(field)) {
+                continue;
+            }
+            XMLStreamReader replay = FACTORY.get().createXMLStreamReader(new StringReader(element));
+            try {
+                replay.nextTag();
+                if (isFlattened(field)) {
+                    unmarshallFlattened(field, replay, deferredValues);
+                } else {
+                    deferredValues.put(field, unmarshallValue(field, replay));
+                }
+            } finally {
+                replay.close();
+            }
+        }
+    }
+
+    /**
+     * Copies the current element as a standalone document. Only element names and text are kept since those are all the
+     * unmarshaller reads.
+     *
+     * @param reader Reader positioned on a start element. Left on the matching end element.
+     */
+    private static String copyElement(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder xml = new StringBuilder();
+        int depth = 0;
+        int event = reader.getEventType();
+        while (true) {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    xml.append('<').append(reader.getLocalName()).append('>');
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    xml.append("</").append(reader.getLocalName()).append('>');
+                    if (--depth == 0) {
+                        return xml.toString();
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    appendEscaped(xml, reader.getText());
+                    break;
+                default:
+                    break;
+            }
+            event = reader.next();
+        }
+    }
+
+    private static void appendEscaped(StringBuilder xml, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '&') {
+                xml.append("&amp;");
+            } else if (c == '<') {
+                xml.append("&lt;");
+            } else {
+                xml.append(c);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object trusted(Object flattenedValue) {
+        return flattenedValue instanceof List ? TrustedCollections.unmodifiableList((List<Object>) flattenedValue)
+                                              : TrustedCollections.unmodifiableMap((Map<String, Object>) flattenedValue);
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class).isFlattened();
+        } else if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class).isFlattened();
+        }
+        return false;
+    }
+
+    private Map<String, List<SdkField<?>>> payloadFields(SdkPojo sdkPojo) {
+        return payloadFieldsByClass.computeIfAbsent(sdkPojo.getClass(), c -> {
+            Map<String, List<SdkField<?>>> fields = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() == MarshallLocation.PAYLOAD) {
+                    fields.computeIfAbsent(field.unmarshallLocationName(), n -> new ArrayList<>(1)).add(field);
+                }
+            }
+            return Collections.unmodifiableMap(fields);
+        });
+    }
+
+    /**
+     * Disables certain dangerous features that attempt to automatically fetch DTDs
+     *
+     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Callback for elements that the unmarshaller doesn't know how to bind.
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+
+        /**
+         * @param reader Reader positioned on the start element. Must be left on the matching end element.
+         */
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Builder for {@link XmlStreamUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private StringToValueConverter.StringToValue<Instant> instantStringToValue;
+        private boolean matchAnyListMember;
+
+        private Builder() {
+        }
+
+        /**
+         * @param instantStringToValue Converter to use for timestamp members in the payload.
+         * @return This builder for method chaining.
+         */
+        public Builder instantStringToValue(StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+            this.instantStringToValue = instantStringToValue;
+            return this;
+        }
+
+        /**
+         * Query based services (EC2 in particular) don't always model the member name of lists correctly so every
+         * direct child of a non-flattened list is treated as a member. REST/XML services only consider children with
+         * the modeled member name.
+         *
+         * @param matchAnyListMember True to treat every child of a list element as a member, false otherwise.
+         * @return This builder for method chaining.
+         */
+        public Builder matchAnyListMember(boolean matchAnyListMember) {
+            this.matchAnyListMember = matchAnyListMember;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamUnmarshaller}.
+         */
+        public XmlStreamUnmarshaller build() {
+            return new XmlStreamUnmarshaller(this);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.protocols.core.StringToInstant;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUnmarshaller;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class XmlStreamUnmarshallerTest {
+
+    private static final XmlStreamUnmarshaller UNMARSHALLER =
+        XmlStreamUnmarshaller.builder()
+                             .instantStringToValue(StringToInstant.create(
+                                 Collections.singletonMap(MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.ISO_8601)))
+                             .build();
+
+    @Test
+    public void allTypes_UnmarshalledCorrectly() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <integerMember>42</integerMember>"
+                     + " <timestampMember>2014-04-29T18:30:38.123Z</timestampMember>"
+                     + " <unknownMember><nested>ignored</nested></unknownMember>"
+                     + " <listMember><member>a</member><other>skipped</other><member>b</member></listMember>"
+                     + " <flattenedList>one</flattenedList>"
+                     + " <mapMember><entry><key>k1</key><value>1</value></entry><entry><key>k2</key><value>2</value></entry>"
+                     + " </mapMember>"
+                     + " <structMember><stringMember>nested</stringMember></structMember>"
+                     + " <flattenedList>two</flattenedList>"
+                     + "</Struct>";
+        TestPojo pojo = unmarshall(UNMARSHALLER, xml);
+
+        Map<String, Integer> expectedMap = new LinkedHashMap<>();
+        expectedMap.put("k1", 1);
+        expectedMap.put("k2", 2);
+        assertThat(pojo.values.get("stringMember")).isEqualTo("stringVal");
+        assertThat(pojo.values.get("integerMember")).isEqualTo(42);
+        assertThat(pojo.values.get("timestampMember")).isEqualTo(Instant.parse("2014-04-29T18:30:38.123Z"));
+        assertThat(pojo.values.get("listMember")).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(pojo.values.get("flattenedList")).isEqualTo(Arrays.asList("one", "two"));
+        assertThat(pojo.values.get("mapMember")).isEqualTo(expectedMap);
+        assertThat(((TestPojo) pojo.values.get("structMember")).values).containsOnly(entry("stringMember", "nested"));
+        assertThat(pojo.values).doesNotContainKey("unknownMember");
+    }
+
+    @Test
+    public void matchAnyListMember_AllChildrenAreMembers() throws Exception {
+        XmlStreamUnmarshaller unmarshaller = XmlStreamUnmarshaller.builder().matchAnyListMember(true).build();
+        String xml = "<Struct><listMember><member>a</member><item>b</item></listMember></Struct>";
+        TestPojo pojo = unmarshall(unmarshaller, xml);
+        assertThat(pojo.values.get("listMember")).isEqualTo(Arrays.asList("a", "b"));
+    }
+
+    @Test
+    public void emptyElement_UnmarshalledAsEmptyString() throws Exception {
+        TestPojo pojo = unmarshall(UNMARSHALLER, "<Struct><stringMember/></Struct>");
+        assertThat(pojo.values.get("stringMember")).isEqualTo("");
+    }
+
+    @Test
+    public void textSplitAcrossEvents_Concatenated() throws Exception {
+        TestPojo pojo = unmarshall(UNMARSHALLER, "<Struct><stringMember>foo &amp; <![CDATA[bar]]></stringMember></Struct>");
+        assertThat(pojo.values.get("stringMember")).isEqualTo("foo & bar");
+    }
+
+    @Test
+    public void membersSharingElement_AllBound() throws Exception {
+        String xml = "<Struct>"
+                     + " <Event>s3:ObjectCreated:*</Event>"
+                     + " <Event>s3:ObjectRemoved:*</Event>"
+                     + " <Struct><stringMember>nested</stringMember></Struct>"
+                     + "</Struct>";
+        XMLStreamReader reader = XmlStreamUnmarshaller.createReader(new StringInputStream(xml));
+        TestPojo pojo = new AliasedPojo();
+        UNMARSHALLER.unmarshallFields(pojo, reader, null);
+
+        assertThat(pojo.values.get("event")).isEqualTo("s3:ObjectCreated:*");
+        assertThat(pojo.values.get("events")).isEqualTo(Arrays.asList("s3:ObjectCreated:*", "s3:ObjectRemoved:*"));
+        assertThat(((TestPojo) pojo.values.get("struct")).values).containsOnly(entry("stringMember", "nested"));
+        assertThat(((TestPojo) pojo.values.get("deprecatedStruct")).values).containsOnly(entry("stringMember", "nested"));
+    }
+
+    @Test
+    public void membersOfDifferentTypesSharingElement_EachReadsItsOwnType() throws Exception {
+        String xml = "<Struct><item>a &amp; <member>b</member><member>c</member></item><item>d</item></Struct>";
+        XMLStreamReader reader = XmlStreamUnmarshaller.createReader(new StringInputStream(xml));
+        TestPojo pojo = new AliasedPojo();
+        UNMARSHALLER.unmarshallFields(pojo, reader, null);
+
+        assertThat(pojo.values.get("itemString")).isEqualTo("a & ");
+        assertThat(pojo.values.get("itemList")).isEqualTo(Arrays.asList("b", "c"));
+        assertThat(pojo.values.get("items")).isEqualTo(Arrays.asList("a & ", "d"));
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void invalidXml_ThrowsException() throws Exception {
+        unmarshall(UNMARSHALLER, "<Struct><stringMember>foo</Struct>");
+    }
+
+    private static TestPojo unmarshall(XmlStreamUnmarshaller unmarshaller, String xml) throws Exception {
+        XMLStreamReader reader = XmlStreamUnmarshaller.createReader(new StringInputStream(xml));
+        TestPojo pojo = new TestPojo();
+        unmarshaller.unmarshallFields(pojo, reader, null);
+        reader.close();
+        return pojo;
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name) {
+        return fieldBuilder(type, name).build();
+    }
+
+    private static <T> SdkField.Builder<T> fieldBuilder(MarshallingType<? super T> type, String name) {
+        return fieldBuilder(type, name, name);
+    }
+
+    private static <T> SdkField.Builder<T> fieldBuilder(MarshallingType<? super T> type, String name, String locationName) {
+        return SdkField.<T>builder(type)
+            .constructor(TestPojo::new)
+            .setter((o, v) -> ((TestPojo) o).values.put(name, v))
+            .getter(o -> null)
+            .traits(location(locationName));
+    }
+
+    private static LocationTrait location(String name) {
+        return LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).unmarshallLocationName(name).build();
+    }
+
+    /**
+     * Map backed POJO that records every member set on it by the unmarshaller.
+     */
+    private static class TestPojo implements SdkPojo, Buildable {
+
+        private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            field(MarshallingType.STRING, "stringMember"),
+            field(MarshallingType.INTEGER, "integerMember"),
+            field(MarshallingType.INSTANT, "timestampMember"),
+            field(MarshallingType.SDK_POJO, "structMember"),
+            fieldBuilder(MarshallingType.LIST, "listMember")
+                .traits(location("listMember"),
+                        ListTrait.builder()
+                                 .memberLocationName("member")
+                                 .memberFieldInfo(field(MarshallingType.STRING, "member"))
+                                 .build())
+                .build(),
+            fieldBuilder(MarshallingType.LIST, "flattenedList")
+                .traits(location("flattenedList"),
+                        ListTrait.builder()
+                                 .memberFieldInfo(field(MarshallingType.STRING, "flattenedList"))
+                                 .isFlattened(true)
+                                 .build())
+                .build(),
+            fieldBuilder(MarshallingType.MAP, "mapMember")
+                .traits(location("mapMember"),
+                        MapTrait.builder()
+                                .keyLocationName("key")
+                                .valueLocationName("value")
+                                .valueFieldInfo(field(MarshallingType.INTEGER, "value"))
+                                .build())
+                .build()));
+
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+    }
+
+    /**
+     * Binds several members to the same element, like the deprecated S3 notification configurations and some EC2 shapes do.
+     */
+    private static final class AliasedPojo extends TestPojo {
+
+        private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            fieldBuilder(MarshallingType.STRING, "event", "Event").build(),
+            fieldBuilder(MarshallingType.LIST, "events", "Event")
+                .traits(location("Event"),
+                        ListTrait.builder()
+                                 .memberFieldInfo(field(MarshallingType.STRING, "Event"))
+                                 .isFlattened(true)
+                                 .build())
+                .build(),
+            fieldBuilder(MarshallingType.SDK_POJO, "struct", "Struct").build(),
+            fieldBuilder(MarshallingType.SDK_POJO, "deprecatedStruct", "Struct").build(),
+            fieldBuilder(MarshallingType.STRING, "itemString", "item").build(),
+            fieldBuilder(MarshallingType.LIST, "itemList", "item")
+                .traits(location("item"),
+                        ListTrait.builder()
+                                 .memberLocationName("member")
+                                 .memberFieldInfo(field(MarshallingType.STRING, "member"))
+                                 .build())
+                .build(),
+            fieldBuilder(MarshallingType.LIST, "items", "item")
+                .traits(location("item"),
+                        ListTrait.builder()
+                                 .memberFieldInfo(field(MarshallingType.STRING, "item"))
+                                 .isFlattened(true)
+                                 .build())
+                .build()));
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+    }
+}
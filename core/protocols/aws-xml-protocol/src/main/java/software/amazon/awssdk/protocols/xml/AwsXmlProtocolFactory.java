@@ -96,7 +96,7 @@ public class AwsXmlProtocolFactory {
     public <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier,
                                                                                 XmlOperationMetadata staxOperationMetadata) {
         return new AwsXmlResponseHandler<>(
-            XmlProtocolUnmarshaller.builder().build(), r -> pojoSupplier.get(),
+            XmlProtocolUnmarshaller.builder().enableFastUnmarshalling(true).build(), r -> pojoSupplier.get(),
             staxOperationMetadata.isHasStreamingSuccessResponse());
     }
 
@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.TrustedCollections;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
@@ -64,7 +65,7 @@ public final class XmlPayloadUnmarshaller {
                                                                    listTrait.memberFieldInfo().marshallingType());
             list.add(unmarshaller.unmarshall(context, singletonList(member), listTrait.memberFieldInfo()));
         });
-        return list;
+        return TrustedCollections.unmodifiableList(list);
     }
 
     private static List<XmlElement> getMembers(List<XmlElement> content, ListTrait listTrait) {
@@ -90,7 +91,7 @@ public final class XmlPayloadUnmarshaller {
             map.put(key.textContent(),
                     unmarshaller.unmarshall(context, singletonList(value), mapValueSdkField));
         });
-        return map;
+        return TrustedCollections.unmodifiableMap(map);
     }
 
     private static List<XmlElement> getEntries(List<XmlElement> content, MapTrait mapTrait) {
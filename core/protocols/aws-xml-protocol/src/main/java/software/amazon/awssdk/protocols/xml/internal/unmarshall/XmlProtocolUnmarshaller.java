@@ -22,9 +22,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
@@ -35,6 +38,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -46,11 +50,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
 
-    private XmlProtocolUnmarshaller() {
+    private static final XmlStreamUnmarshaller STREAM_UNMARSHALLER =
+        XmlStreamUnmarshaller.builder()
+                             .instantStringToValue(INSTANT_STRING_TO_VALUE)
+                             .matchAnyListMember(false)
+                             .build();
+
+    private final boolean enableFastUnmarshalling;
+
+    private XmlProtocolUnmarshaller(Builder builder) {
+        this.enableFastUnmarshalling = builder.enableFastUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) {
+        if (enableFastUnmarshalling && hasPayloadMembers(sdkPojo) && response.content().isPresent()) {
+            return unmarshallFromStream(sdkPojo, response);
+        }
 
         XmlElement document = hasPayloadMembers(sdkPojo) && response.content().isPresent()
                               ? XmlDomParser.parse(response.content().get()) : null;
@@ -94,6 +110,46 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (SdkPojo) ((Buildable) sdkPojo).build();
     }
 
+    /**
+     * Single pass unmarshalling. Payload members are bound directly from the {@link XMLStreamReader} events and the
+     * remaining members (headers, status code, etc) are unmarshalled through the registry as usual.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallFromStream(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        SdkField<?> explicitPayloadMember = null;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            } else if (isExplicitPayloadMember(field)) {
+                explicitPayloadMember = field;
+            }
+        }
+
+        try {
+            XMLStreamReader reader = XmlStreamUnmarshaller.createReader(response.content().get());
+            if (reader != null) {
+                try {
+                    if (explicitPayloadMember != null) {
+                        explicitPayloadMember.set(sdkPojo, STREAM_UNMARSHALLER.unmarshallValue(explicitPayloadMember, reader));
+                    } else {
+                        STREAM_UNMARSHALLER.unmarshallFields(sdkPojo, reader, null);
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
     private boolean isExplicitPayloadMember(SdkField<?> field) {
         return field.containsTrait(PayloadTrait.class);
     }
@@ -152,14 +208,28 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
      */
     public static final class Builder {
 
+        private boolean enableFastUnmarshalling;
+
         private Builder() {
         }
 
+        /**
+         * Whether successful responses should be bound directly from the XML event stream rather than first being
+         * parsed into an {@link XmlElement} tree. Error responses always use the tree.
+         *
+         * @param enableFastUnmarshalling True to enable single pass unmarshalling, false otherwise.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link XmlProtocolUnmarshaller}.
          */
         public XmlProtocolUnmarshaller build() {
-            return new XmlProtocolUnmarshaller();
+            return new XmlProtocolUnmarshaller(this);
         }
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Caches the marshalling plan of each {@link SdkPojo} class, ie. its {@link SdkField}s with everything a protocol marshaller
+ * needs to know about them resolved in advance, so that the fields of a request can be marshalled without looking up
+ * marshallers and traits again for every request.
+ * <p>
+ * Plans are computed from {@link SdkPojo#sdkFields()}, which generated model classes return from a constant. A plan is reused
+ * for as long as the POJO returns the same list of fields it was computed from.
+ *
+ * @param <PlanT> Type of the plan, specific to the protocol.
+ */
+@SdkProtectedApi
+public final class MarshallingPlanCache<PlanT> {
+
+    private final Function<List<SdkField<?>>, PlanT> planFactory;
+
+    private final ClassValue<AtomicReference<CachedPlan<PlanT>>> plans = new ClassValue<AtomicReference<CachedPlan<PlanT>>>() {
+        @Override
+        protected AtomicReference<CachedPlan<PlanT>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private MarshallingPlanCache(Function<List<SdkField<?>>, PlanT> planFactory) {
+        this.planFactory = planFactory;
+    }
+
+    /**
+     * @param planFactory Computes the plan for the given fields of a POJO.
+     */
+    public static <PlanT> MarshallingPlanCache<PlanT> create(Function<List<SdkField<?>>, PlanT> planFactory) {
+        return new MarshallingPlanCache<>(planFactory);
+    }
+
+    /**
+     * @return The plan for the fields of the given POJO, computing it on first use.
+     */
+    public PlanT planFor(SdkPojo pojo) {
+        List<SdkField<?>> sdkFields = pojo.sdkFields();
+        AtomicReference<CachedPlan<PlanT>> cachedPlanRef = plans.get(pojo.getClass());
+        CachedPlan<PlanT> cachedPlan = cachedPlanRef.get();
+        if (cachedPlan == null || cachedPlan.sdkFields != sdkFields) {
+            cachedPlan = new CachedPlan<>(sdkFields, planFactory.apply(sdkFields));
+            cachedPlanRef.set(cachedPlan);
+        }
+        return cachedPlan.plan;
+    }
+
+    private static final class CachedPlan<PlanT> {
+        private final List<SdkField<?>> sdkFields;
+        private final PlanT plan;
+
+        private CachedPlan(List<SdkField<?>> sdkFields, PlanT plan) {
+            this.sdkFields = sdkFields;
+            this.plan = plan;
+        }
+    }
+}
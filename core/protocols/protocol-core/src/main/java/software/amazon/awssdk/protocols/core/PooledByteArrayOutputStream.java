@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.io.ByteArrayOutputStream;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link ByteArrayOutputStream} whose buffer is reused by the next request marshalled on the same thread, so that
+ * marshalling a request body doesn't allocate and grow a new buffer each time.
+ * <p>
+ * The body of a request must stay readable for every attempt of the request, so the content is always copied out once with
+ * {@link #toByteArrayAndRelease()}. Buffers that grew beyond {@value #MAX_POOLED_CAPACITY} bytes are left to the garbage
+ * collector instead of being kept by the thread.
+ */
+@SdkProtectedApi
+public final class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+
+    static final int MAX_POOLED_CAPACITY = 256 * 1024;
+
+    private static final ThreadLocal<PooledByteArrayOutputStream> POOL = new ThreadLocal<>();
+
+    private boolean released;
+
+    private PooledByteArrayOutputStream(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * @param initialCapacity Capacity of the buffer if there is no pooled buffer to reuse.
+     * @return An empty stream, reusing the buffer released last on the current thread if there is one.
+     */
+    public static PooledByteArrayOutputStream acquire(int initialCapacity) {
+        PooledByteArrayOutputStream pooled = POOL.get();
+        if (pooled == null) {
+            return new PooledByteArrayOutputStream(initialCapacity);
+        }
+        POOL.set(null);
+        pooled.reacquire();
+        return pooled;
+    }
+
+    private synchronized void reacquire() {
+        released = false;
+    }
+
+    /**
+     * Copy the content of the stream and release its buffer. The stream must not be written to afterwards.
+     *
+     * @return The content of the stream.
+     */
+    public synchronized byte[] toByteArrayAndRelease() {
+        byte[] content = toByteArray();
+        release();
+        return content;
+    }
+
+    /**
+     * Return the buffer to the pool of the current thread, unless it was already released. The stream must not be used
+     * afterwards.
+     */
+    public synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        reset();
+        if (buf.length <= MAX_POOLED_CAPACITY) {
+            POOL.set(this);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+
+public class MarshallingPlanCacheTest {
+
+    private static final List<SdkField<?>> FIELDS = Collections.singletonList(
+        SdkField.builder(MarshallingType.STRING)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("Field").build())
+                .build());
+
+    private final AtomicInteger plansCreated = new AtomicInteger();
+    private final MarshallingPlanCache<List<SdkField<?>>> cache = MarshallingPlanCache.create(fields -> {
+        plansCreated.incrementAndGet();
+        return new ArrayList<>(fields);
+    });
+
+    @Test
+    public void planFor_computesPlanOncePerClass() {
+        List<SdkField<?>> plan = cache.planFor(new Pojo(FIELDS));
+
+        assertThat(plan).isEqualTo(FIELDS);
+        assertThat(cache.planFor(new Pojo(FIELDS))).isSameAs(plan);
+        assertThat(plansCreated.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void planFor_recomputesPlanWhenFieldsChange() {
+        cache.planFor(new Pojo(FIELDS));
+
+        assertThat(cache.planFor(new Pojo(Collections.emptyList()))).isEmpty();
+        assertThat(plansCreated.get()).isEqualTo(2);
+    }
+
+    private static final class Pojo implements SdkPojo {
+        private final List<SdkField<?>> sdkFields;
+
+        private Pojo(List<SdkField<?>> sdkFields) {
+            this.sdkFields = sdkFields;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return sdkFields;
+        }
+    }
+}
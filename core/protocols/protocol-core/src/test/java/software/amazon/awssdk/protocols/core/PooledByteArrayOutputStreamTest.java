@@ -0,0 +1,58 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class PooledByteArrayOutputStreamTest {
+
+    @Test
+    public void releasedBuffer_isReusedEmptyOnSameThread() throws Exception {
+        PooledByteArrayOutputStream first = PooledByteArrayOutputStream.acquire(16);
+        first.write("hello".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(first.toByteArrayAndRelease()).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+
+        PooledByteArrayOutputStream second = PooledByteArrayOutputStream.acquire(16);
+        assertThat(second).isSameAs(first);
+        assertThat(second.size()).isZero();
+        second.release();
+    }
+
+    @Test
+    public void acquiredStream_isNotHandedOutTwice() {
+        PooledByteArrayOutputStream first = PooledByteArrayOutputStream.acquire(16);
+        PooledByteArrayOutputStream second = PooledByteArrayOutputStream.acquire(16);
+
+        assertThat(second).isNotSameAs(first);
+        first.release();
+        second.release();
+    }
+
+    @Test
+    public void largeBuffer_isNotPooled() throws Exception {
+        PooledByteArrayOutputStream large = PooledByteArrayOutputStream.acquire(16);
+        large.write(new byte[PooledByteArrayOutputStream.MAX_POOLED_CAPACITY + 1]);
+        large.release();
+
+        PooledByteArrayOutputStream next = PooledByteArrayOutputStream.acquire(16);
+        assertThat(next).isNotSameAs(large);
+        next.release();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions;
+
+import java.net.URI;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.regions.internal.EndpointTable;
+
+/**
+ * The {@link ServiceMetadata} returned by {@link ServiceMetadata#of(String)}. It resolves endpoints and signing regions from
+ * the precomputed {@link EndpointTable}, and only loads the generated metadata of the service when the table has no entry for
+ * the requested region or when the list of regions is requested.
+ */
+@SdkInternalApi
+final class PrecomputedServiceMetadata implements ServiceMetadata {
+    private final String endpointPrefix;
+    private final EndpointTable endpointTable;
+    private volatile ServiceMetadata serviceMetadata;
+
+    PrecomputedServiceMetadata(String endpointPrefix, EndpointTable endpointTable) {
+        this.endpointPrefix = endpointPrefix;
+        this.endpointTable = endpointTable;
+    }
+
+    @Override
+    public URI endpointFor(Region region) {
+        String endpoint = endpointTable.endpoint(endpointPrefix, region.id());
+        return endpoint != null ? URI.create(endpoint) : serviceMetadata().endpointFor(region);
+    }
+
+    @Override
+    public Region signingRegion(Region region) {
+        String signingRegion = endpointTable.signingRegion(endpointPrefix, region.id());
+        return signingRegion != null ? Region.of(signingRegion) : serviceMetadata().signingRegion(region);
+    }
+
+    @Override
+    public List<Region> regions() {
+        return serviceMetadata().regions();
+    }
+
+    private ServiceMetadata serviceMetadata() {
+        if (serviceMetadata == null) {
+            ServiceMetadata metadata = MetadataLoader.serviceMetadata(endpointPrefix);
+            serviceMetadata = metadata == null ? new DefaultServiceMetadata(endpointPrefix) : metadata;
+        }
+        return serviceMetadata;
+    }
+}
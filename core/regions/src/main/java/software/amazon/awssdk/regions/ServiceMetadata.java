@@ -19,6 +19,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.regions.internal.EndpointTable;
 
 /**
  * Metadata about a service, like S3, DynamoDB, etc.
@@ -65,8 +66,7 @@ public interface ServiceMetadata {
      * @return The service metadata for the requested service.
      */
     static ServiceMetadata of(String serviceEndpointPrefix) {
-        ServiceMetadata metadata = MetadataLoader.serviceMetadata(serviceEndpointPrefix);
-        return metadata == null ? new DefaultServiceMetadata(serviceEndpointPrefix) : metadata;
+        return new PrecomputedServiceMetadata(serviceEndpointPrefix, EndpointTable.getInstance());
     }
 
     default String computeEndpoint(String endpointPrefix,
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The endpoint host and signing region of every service in every region it is listed in, precomputed at build time by the
+ * {@code EndpointTableGenerator} of codegen-lite.
+ *
+ * <p>Resolving an endpoint through the table does not require loading the generated metadata classes of every service, region
+ * and partition, which dominates the cost of creating the first client. The table is loaded the first time it is used: it is
+ * memory-mapped when it is a file on the class path, and read into memory when it is packaged in a jar. When the table cannot
+ * be loaded, it is empty and every lookup falls back to the generated metadata.
+ *
+ * <p>The entries are indexed with a perfect hash. See {@code EndpointTableGenerator} for the format of the table.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class EndpointTable {
+    private static final Logger log = Logger.loggerFor(EndpointTable.class);
+
+    private static final String RESOURCE = "/software/amazon/awssdk/regions/internal/endpoint-table.bin";
+    private static final int MAGIC = 0x45505431;
+    private static final int HEADER_SIZE = 12;
+
+    private final ByteBuffer table;
+    private final int bucketCount;
+    private final int slotCount;
+    private final int slotsOffset;
+    private final int entriesOffset;
+
+    @SdkTestInternalApi
+    EndpointTable(ByteBuffer table) {
+        if (table.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not an endpoint table.");
+        }
+        this.table = table;
+        this.bucketCount = table.getInt(4);
+        this.slotCount = table.getInt(8);
+        this.slotsOffset = HEADER_SIZE + bucketCount * 4;
+        this.entriesOffset = slotsOffset + slotCount * 4;
+    }
+
+    private EndpointTable() {
+        this.table = null;
+        this.bucketCount = 0;
+        this.slotCount = 0;
+        this.slotsOffset = 0;
+        this.entriesOffset = 0;
+    }
+
+    /**
+     * Retrieve the table packaged with the SDK, loading it if this is the first time it is used.
+     */
+    public static EndpointTable getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return The endpoint host (without protocol) of the service in the region, or null if the table has no entry for them.
+     */
+    public String endpoint(String serviceEndpointPrefix, String region) {
+        int entry = find(serviceEndpointPrefix + "/" + region);
+        return entry < 0 ? null : readString(skipString(entry));
+    }
+
+    /**
+     * @return The signing region of the service in the region, or null if the table has no entry for them.
+     */
+    public String signingRegion(String serviceEndpointPrefix, String region) {
+        int entry = find(serviceEndpointPrefix + "/" + region);
+        return entry < 0 ? null : readString(skipString(skipString(entry)));
+    }
+
+    /**
+     * @return The "service/region" keys of all the entries in the table.
+     */
+    @SdkTestInternalApi
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            int entry = table.getInt(slotsOffset + slot * 4);
+            if (entry >= 0) {
+                keys.add(readString(entriesOffset + entry));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return The position of the entry of the key in the table, or -1 if there is none.
+     */
+    private int find(String key) {
+        if (table == null) {
+            return -1;
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int seed = table.getInt(HEADER_SIZE + Math.floorMod(hash(keyBytes, 0), bucketCount) * 4);
+        int entry = table.getInt(slotsOffset + Math.floorMod(hash(keyBytes, seed), slotCount) * 4);
+        if (entry < 0) {
+            return -1;
+        }
+
+        int position = entriesOffset + entry;
+        return keyEquals(position, keyBytes) ? position : -1;
+    }
+
+    /**
+     * The seeded FNV-1a hash used to build the table.
+     */
+    private static int hash(byte[] key, int seed) {
+        int hash = 0x811C9DC5 ^ seed;
+        for (byte b : key) {
+            hash ^= b & 0xFF;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    private boolean keyEquals(int position, byte[] key) {
+        if (Short.toUnsignedInt(table.getShort(position)) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (table.get(position + 2 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipString(int position) {
+        return position + 2 + Short.toUnsignedInt(table.getShort(position));
+    }
+
+    private String readString(int position) {
+        byte[] bytes = new byte[Short.toUnsignedInt(table.getShort(position))];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = table.get(position + 2 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static EndpointTable load() {
+        URL resource = EndpointTable.class.getResource(RESOURCE);
+        if (resource == null) {
+            log.debug(() -> "No precomputed endpoint table was found. Endpoints will be resolved from the service metadata.");
+            return new EndpointTable();
+        }
+
+        try {
+            return new EndpointTable(read(resource));
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            log.warn(() -> "Unable to load the precomputed endpoint table from " + resource + ". Endpoints will be resolved "
+                           + "from the service metadata.", e);
+            return new EndpointTable();
+        }
+    }
+
+    private static ByteBuffer read(URL resource) throws IOException, URISyntaxException {
+        if ("file".equals(resource.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(resource.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+
+        try (InputStream stream = resource.openStream()) {
+            return ByteBuffer.wrap(IoUtils.toByteArray(stream));
+        }
+    }
+
+    private static final class Holder {
+        private static final EndpointTable INSTANCE = load();
+    }
+}
@@ -21,9 +21,6 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,14 +28,17 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.util.json.JacksonUtils;
-import software.amazon.awssdk.regions.util.HttpResourcesUtils;
+import software.amazon.awssdk.regions.util.Ec2MetadataClient;
 
 /**
  * Utility class for retrieving Amazon EC2 instance metadata.<br>
@@ -71,10 +71,15 @@ public final class EC2MetadataUtils {
     private static final String EC2_USERDATA_ROOT = "/latest/user-data/";
     private static final String EC2_DYNAMICDATA_ROOT = "/latest/dynamic/";
     private static final int DEFAULT_QUERY_RETRIES = 3;
-    private static final int MINIMUM_RETRY_WAIT_TIME_MILLISECONDS = 250;
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final Logger log = LoggerFactory.getLogger(EC2MetadataUtils.class);
-    private static Map<String, String> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Caches the metadata with a TTL, and retries failed requests without blocking a thread between attempts.
+     */
+    private static final Ec2MetadataClient METADATA_CLIENT = Ec2MetadataClient.builder()
+                                                                              .numRetries(DEFAULT_QUERY_RETRIES - 1)
+                                                                              .build();
 
     private EC2MetadataUtils() {}
 
@@ -295,9 +300,12 @@ public final class EC2MetadataUtils {
                                             + "/iam/security-credentials");
 
         if (null != credentials) {
+            String credentialsRoot = EC2_METADATA_ROOT + "/iam/security-credentials/";
+            Map<String, String> credentialsJson = fetchAll(credentials.stream()
+                                                                      .map(c -> credentialsRoot + c)
+                                                                      .collect(Collectors.toList()));
             for (String credential : credentials) {
-                String json = getData(EC2_METADATA_ROOT
-                                      + "/iam/security-credentials/" + credential);
+                String json = credentialsJson.get(credentialsRoot + credential);
                 try {
                     IamSecurityCredential credentialInfo = MAPPER
                             .readValue(json, IamSecurityCredential.class);
@@ -380,46 +388,47 @@ public final class EC2MetadataUtils {
             throw SdkClientException.builder().message("EC2 metadata usage is disabled.").build();
         }
 
-        List<String> items;
         try {
-            String hostAddress = SdkSystemSetting.AWS_EC2_METADATA_SERVICE_ENDPOINT.getStringValueOrThrow();
-            String response = HttpResourcesUtils.instance().readResource(new URI(hostAddress + path));
+            String response = METADATA_CLIENT.fetchAsync(path, tries - 1).join();
             if (slurp) {
-                items = Collections.singletonList(response);
-            } else {
-                items = Arrays.asList(response.split("\n"));
+                return Collections.singletonList(response);
             }
-            return items;
-        } catch (SdkClientException ace) {
-            log.warn("Unable to retrieve the requested metadata.");
-            return null;
-        } catch (IOException | URISyntaxException | RuntimeException e) {
-            // Retry on any other exceptions
-            int pause = (int) (Math.pow(2, DEFAULT_QUERY_RETRIES - tries) * MINIMUM_RETRY_WAIT_TIME_MILLISECONDS);
-            try {
-                Thread.sleep(pause < MINIMUM_RETRY_WAIT_TIME_MILLISECONDS ? MINIMUM_RETRY_WAIT_TIME_MILLISECONDS
-                                                                          : pause);
-            } catch (InterruptedException e1) {
-                Thread.currentThread().interrupt();
+            return Arrays.asList(response.split("\n"));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SdkServiceException) {
+                log.warn("Unable to retrieve the requested metadata.");
+                return null;
             }
-            return getItems(path, tries - 1, slurp);
+            throw SdkClientException.builder().message("Unable to contact EC2 metadata service.").cause(e.getCause()).build();
         }
     }
 
-    private static String fetchData(String path) {
-        return fetchData(path, false);
+    /**
+     * Get the given resources in one batch: the requests are all queued before waiting for the first response, and executed
+     * back to back over the same connection. Resources that could not be retrieved are missing from the result.
+     */
+    private static Map<String, String> fetchAll(List<String> paths) {
+        Map<String, CompletableFuture<String>> futures = new HashMap<>();
+        paths.forEach(path -> futures.put(path, METADATA_CLIENT.fetchAsync(path)));
+
+        Map<String, String> result = new HashMap<>();
+        futures.forEach((path, future) -> {
+            try {
+                result.put(path, future.join());
+            } catch (CompletionException e) {
+                log.warn("Unable to retrieve the requested metadata.");
+            }
+        });
+        return result;
     }
 
-    private static String fetchData(String path, boolean force) {
+    private static String fetchData(String path) {
         if (SdkSystemSetting.AWS_EC2_METADATA_DISABLED.getBooleanValueOrThrow()) {
             throw SdkClientException.builder().message("EC2 metadata usage is disabled.").build();
         }
 
         try {
-            if (force || !cache.containsKey(path)) {
-                cache.put(path, getData(path));
-            }
-            return cache.get(path);
+            return METADATA_CLIENT.get(path);
         } catch (RuntimeException e) {
             return null;
         }
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.regions.internal.util.ConnectionUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A client for the Amazon EC2 Instance Metadata Service, with a synchronous and an asynchronous API.
+ *
+ * <p>All the requests of a client are executed one after the other by a single worker thread, started when the first request
+ * is made and stopped when the client is idle. Responses are always read fully, so the JDK keeps the connection to the
+ * metadata service alive and consecutive requests (eg. the ones of {@link #getAllAsync(Collection)}) reuse it. Failed
+ * requests are retried with an exponential backoff scheduled on the worker, so no thread ever sleeps waiting for a retry.
+ *
+ * <p>Concurrent requests for the same resource share a single call to the metadata service. The responses of
+ * {@link #getAsync(String)} are cached for {@link Builder#cacheTtl(Duration)}; the responses of {@link #fetchAsync(String)},
+ * meant for sensitive or frequently changing resources such as credentials, are never cached.
+ *
+ * <p>Requests fail with a {@link SdkServiceException} if the metadata service responds with an error, and with a
+ * {@link SdkClientException} if it can't be reached or if {@link SdkSystemSetting#AWS_EC2_METADATA_DISABLED} is true.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class Ec2MetadataClient implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(Ec2MetadataClient.class);
+
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+    private static final int DEFAULT_NUM_RETRIES = 2;
+    private static final long BASE_RETRY_DELAY_MILLIS = 250;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+
+    private final URI endpoint;
+    private final Duration cacheTtl;
+    private final int numRetries;
+    private final ConnectionUtils connectionUtils = ConnectionUtils.create();
+    private final ScheduledThreadPoolExecutor worker;
+    private final ConcurrentMap<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private Ec2MetadataClient(BuilderImpl builder) {
+        this.endpoint = builder.endpoint;
+        this.cacheTtl = Validate.isNotNegative(builder.cacheTtl, "cacheTtl");
+        this.numRetries = Validate.isNotNegative(builder.numRetries, "numRetries");
+        this.worker = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("sdk-ec2-metadata")
+                                                                                  .daemonThreads(true)
+                                                                                  .build());
+        this.worker.setKeepAliveTime(WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        this.worker.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Create a client with the default configuration.
+     */
+    public static Ec2MetadataClient create() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Get the resource at the given path, eg. {@code /latest/meta-data/instance-id}, from the cache, or from the metadata
+     * service if it is not cached or its cached value expired.
+     */
+    public CompletableFuture<String> getAsync(String path) {
+        try {
+            URI uri = resolve(path);
+            CachedResponse cached = cache.get(uri.toString());
+            if (cached != null && !cached.isExpired()) {
+                return CompletableFuture.completedFuture(cached.value);
+            }
+            return request(uri, true, numRetries);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Get the resources at the given paths. They are requested one after the other over the same connection, except the ones
+     * that are cached.
+     *
+     * @return The resources, by path, in the order of the given paths.
+     */
+    public CompletableFuture<Map<String, String>> getAllAsync(Collection<String> paths) {
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        paths.forEach(path -> futures.put(path, getAsync(path)));
+
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<String, String> result = new LinkedHashMap<>();
+            futures.forEach((path, future) -> result.put(path, future.join()));
+            return Collections.unmodifiableMap(result);
+        });
+    }
+
+    /**
+     * Get the resource at the given path from the metadata service, bypassing the cache. The response is not cached.
+     */
+    public CompletableFuture<String> fetchAsync(String path) {
+        return fetchAsync(path, numRetries);
+    }
+
+    /**
+     * Get the resource at the given path from the metadata service, bypassing the cache, retrying a failed request up to the
+     * given number of times instead of {@link Builder#numRetries(Integer)}. The response is not cached.
+     */
+    public CompletableFuture<String> fetchAsync(String path, int numRetries) {
+        try {
+            return request(resolve(path), false, Validate.isNotNegative(numRetries, "numRetries"));
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * The synchronous version of {@link #getAsync(String)}.
+     */
+    public String get(String path) {
+        return join(getAsync(path));
+    }
+
+    /**
+     * The synchronous version of {@link #getAllAsync(Collection)}.
+     */
+    public Map<String, String> getAll(Collection<String> paths) {
+        return join(getAllAsync(paths));
+    }
+
+    /**
+     * The synchronous version of {@link #fetchAsync(String)}.
+     */
+    public String fetch(String path) {
+        return join(fetchAsync(path));
+    }
+
+    /**
+     * Stop the worker thread. Requests in progress fail, and new requests are rejected.
+     */
+    @Override
+    public void close() {
+        worker.shutdownNow();
+        cache.clear();
+        SdkClientException closed = SdkClientException.builder().message("The EC2 metadata client was closed.").build();
+        inFlight.values().forEach(future -> future.completeExceptionally(closed));
+    }
+
+    private URI resolve(String path) {
+        if (SdkSystemSetting.AWS_EC2_METADATA_DISABLED.getBooleanValueOrThrow()) {
+            throw SdkClientException.builder().message("EC2 metadata usage is disabled.").build();
+        }
+
+        String host = endpoint != null ? endpoint.toString()
+                                       : SdkSystemSetting.AWS_EC2_METADATA_SERVICE_ENDPOINT.getStringValueOrThrow();
+        return URI.create(host + path);
+    }
+
+    /**
+     * Request the resource, or join the request for the same resource that is already in progress.
+     */
+    private CompletableFuture<String> request(URI uri, boolean cacheResponse, int retries) {
+        String key = (cacheResponse ? "cached:" : "uncached:") + uri;
+
+        CompletableFuture<String> future = inFlight.get(key);
+        if (future == null) {
+            CompletableFuture<String> newFuture = new CompletableFuture<>();
+            future = inFlight.putIfAbsent(key, newFuture);
+            if (future == null) {
+                future = newFuture;
+                newFuture.whenComplete((r, t) -> inFlight.remove(key, newFuture));
+                submit(() -> attempt(uri, cacheResponse, newFuture, 0, retries), 0, newFuture);
+            }
+        }
+
+        // Don't let a caller complete or cancel the future shared by all the callers.
+        return future.thenApply(Function.identity());
+    }
+
+    private void attempt(URI uri, boolean cacheResponse, CompletableFuture<String> future, int attempt, int retries) {
+        if (future.isDone()) {
+            return;
+        }
+
+        try {
+            String response = read(uri);
+            if (cacheResponse) {
+                cache.put(uri.toString(), new CachedResponse(response, System.nanoTime() + cacheTtl.toNanos()));
+            }
+            future.complete(response);
+        } catch (IOException | SdkServiceException e) {
+            if (isRetryable(e) && attempt < retries) {
+                log.debug(() -> "Failed to get " + uri + " from the EC2 metadata service. Retrying.", e);
+                long delay = BASE_RETRY_DELAY_MILLIS << attempt;
+                submit(() -> attempt(uri, cacheResponse, future, attempt + 1, retries), delay, future);
+            } else if (e instanceof SdkServiceException) {
+                future.completeExceptionally(e);
+            } else {
+                future.completeExceptionally(SdkClientException.builder()
+                                                               .message("Unable to contact EC2 metadata service.")
+                                                               .cause(e)
+                                                               .build());
+            }
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void submit(Runnable task, long delayMillis, CompletableFuture<String> future) {
+        try {
+            worker.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(SdkClientException.builder()
+                                                           .message("The EC2 metadata client was closed.")
+                                                           .cause(e)
+                                                           .build());
+        }
+    }
+
+    private static boolean isRetryable(Exception e) {
+        return !(e instanceof SdkServiceException) || ((SdkServiceException) e).statusCode() >= 500;
+    }
+
+    /**
+     * Read the resource. The response is always consumed fully and the stream closed without disconnecting, so the connection
+     * goes back to the keep-alive cache of the JDK.
+     */
+    private String read(URI uri) throws IOException {
+        HttpURLConnection connection = connectionUtils.connectToEndpoint(uri, Collections.emptyMap());
+        int statusCode = connection.getResponseCode();
+
+        if (statusCode == HttpURLConnection.HTTP_OK) {
+            try (InputStream inputStream = connection.getInputStream()) {
+                return IoUtils.toUtf8String(inputStream);
+            }
+        }
+
+        try (InputStream errorStream = connection.getErrorStream()) {
+            if (errorStream != null) {
+                IoUtils.drainInputStream(errorStream);
+            }
+        }
+        throw SdkServiceException.builder()
+                                 .message("Failed to get " + uri + " from the EC2 metadata service: "
+                                          + connection.getResponseMessage())
+                                 .statusCode(statusCode)
+                                 .build();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw SdkClientException.builder().cause(cause).build();
+        }
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+
+    private static final class CachedResponse {
+        private final String value;
+        private final long expiresAtNanos;
+
+        private CachedResponse(String value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * A builder for creating an {@link Ec2MetadataClient}.
+     */
+    public interface Builder {
+        /**
+         * The endpoint of the metadata service. By default, this is
+         * {@link SdkSystemSetting#AWS_EC2_METADATA_SERVICE_ENDPOINT}, read on every request.
+         */
+        Builder endpoint(URI endpoint);
+
+        /**
+         * How long the responses of {@link Ec2MetadataClient#getAsync(String)} are cached. By default, this is 5 minutes.
+         */
+        Builder cacheTtl(Duration cacheTtl);
+
+        /**
+         * How many times a request that failed because the metadata service could not be reached or responded with a server
+         * error is retried. By default, this is 2.
+         */
+        Builder numRetries(Integer numRetries);
+
+        Ec2MetadataClient build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private URI endpoint;
+        private Duration cacheTtl = DEFAULT_CACHE_TTL;
+        private Integer numRetries = DEFAULT_NUM_RETRIES;
+
+        @Override
+        public Builder endpoint(URI endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        @Override
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        @Override
+        public Builder numRetries(Integer numRetries) {
+            this.numRetries = numRetries;
+            return this;
+        }
+
+        @Override
+        public Ec2MetadataClient build() {
+            return new Ec2MetadataClient(this);
+        }
+    }
+}
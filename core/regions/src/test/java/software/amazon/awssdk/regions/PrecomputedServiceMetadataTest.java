@@ -0,0 +1,70 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.regions.internal.EndpointTable;
+
+public class PrecomputedServiceMetadataTest {
+
+    @Test
+    public void endpointTable_matchesGeneratedServiceMetadata() {
+        List<String> keys = EndpointTable.getInstance().keys();
+        assertThat(keys.size()).isGreaterThan(1000);
+
+        for (String key : keys) {
+            String service = key.substring(0, key.indexOf('/'));
+            Region region = Region.of(key.substring(key.indexOf('/') + 1));
+            ServiceMetadata generated = MetadataLoader.serviceMetadata(service);
+            ServiceMetadata precomputed = ServiceMetadata.of(service);
+
+            assertThat(precomputed.endpointFor(region)).as(key).isEqualTo(generated.endpointFor(region));
+            assertThat(precomputed.signingRegion(region)).as(key).isEqualTo(generated.signingRegion(region));
+        }
+    }
+
+    @Test
+    public void regionMissingFromTable_usesGeneratedServiceMetadata() {
+        Region region = Region.of("us-east-7");
+
+        assertThat(ServiceMetadata.of("s3").endpointFor(region)).isEqualTo(URI.create("s3.us-east-7.amazonaws.com"));
+        assertThat(ServiceMetadata.of("s3").signingRegion(region)).isEqualTo(region);
+    }
+
+    @Test
+    public void serviceMissingFromTable_usesDefaultServiceMetadata() {
+        ServiceMetadata metadata = ServiceMetadata.of("unknown-service");
+
+        assertThat(metadata.endpointFor(Region.US_WEST_2)).isEqualTo(URI.create("unknown-service.us-west-2.amazonaws.com"));
+        assertThat(metadata.regions()).isEmpty();
+    }
+
+    @Test
+    public void handwrittenServiceMetadata_isUsedForServicesExcludedFromTable() {
+        assertThat(EndpointTable.getInstance().endpoint("elasticache", "fips")).isNull();
+        assertThat(ServiceMetadata.of("elasticache").endpointFor(Region.of("fips")))
+            .isEqualTo(MetadataLoader.serviceMetadata("elasticache").endpointFor(Region.of("fips")));
+    }
+
+    @Test
+    public void regions_areLoadedFromGeneratedServiceMetadata() {
+        assertThat(ServiceMetadata.of("s3").regions()).isEqualTo(MetadataLoader.serviceMetadata("s3").regions());
+    }
+}
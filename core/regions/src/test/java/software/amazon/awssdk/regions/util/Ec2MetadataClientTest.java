@@ -0,0 +1,173 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.util;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+public class Ec2MetadataClientTest {
+    private static final String INSTANCE_ID = "/latest/meta-data/instance-id";
+    private static final String AMI_ID = "/latest/meta-data/ami-id";
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(0);
+
+    private Ec2MetadataClient client;
+
+    @Before
+    public void setup() {
+        client = clientBuilder().build();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void get_cachesResponse() {
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).willReturn(aResponse().withBody("i-1234")));
+
+        assertThat(client.get(INSTANCE_ID)).isEqualTo("i-1234");
+        assertThat(client.get(INSTANCE_ID)).isEqualTo("i-1234");
+
+        verify(1, getRequestedFor(urlPathEqualTo(INSTANCE_ID)));
+    }
+
+    @Test
+    public void get_afterTtl_requestsResourceAgain() throws InterruptedException {
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).willReturn(aResponse().withBody("i-1234")));
+        try (Ec2MetadataClient shortTtlClient = clientBuilder().cacheTtl(Duration.ofMillis(10)).build()) {
+            shortTtlClient.get(INSTANCE_ID);
+            Thread.sleep(50);
+            shortTtlClient.get(INSTANCE_ID);
+        }
+
+        verify(2, getRequestedFor(urlPathEqualTo(INSTANCE_ID)));
+    }
+
+    @Test
+    public void fetch_doesNotUseOrPopulateCache() {
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).willReturn(aResponse().withBody("i-1234")));
+
+        client.fetch(INSTANCE_ID);
+        client.fetch(INSTANCE_ID);
+        client.get(INSTANCE_ID);
+
+        verify(3, getRequestedFor(urlPathEqualTo(INSTANCE_ID)));
+    }
+
+    @Test
+    public void concurrentRequestsForSameResource_shareOneCall() {
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).willReturn(aResponse().withBody("i-1234").withFixedDelay(200)));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(client.fetchAsync(INSTANCE_ID));
+        }
+
+        futures.forEach(f -> assertThat(f.join()).isEqualTo("i-1234"));
+        verify(1, getRequestedFor(urlPathEqualTo(INSTANCE_ID)));
+    }
+
+    @Test
+    public void getAll_returnsResourcesInOrder() {
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).willReturn(aResponse().withBody("i-1234")));
+        stubFor(get(urlPathEqualTo(AMI_ID)).willReturn(aResponse().withBody("ami-5678")));
+
+        Map<String, String> resources = client.getAll(Arrays.asList(AMI_ID, INSTANCE_ID));
+
+        assertThat(resources).containsExactly(entry(AMI_ID, "ami-5678"), entry(INSTANCE_ID, "i-1234"));
+    }
+
+    @Test
+    public void serverError_isRetried() {
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).inScenario("retry")
+                                                .whenScenarioStateIs(Scenario.STARTED)
+                                                .willReturn(aResponse().withStatus(500))
+                                                .willSetStateTo("recovered"));
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).inScenario("retry")
+                                                .whenScenarioStateIs("recovered")
+                                                .willReturn(aResponse().withBody("i-1234")));
+
+        assertThat(client.get(INSTANCE_ID)).isEqualTo("i-1234");
+        verify(2, getRequestedFor(urlPathEqualTo(INSTANCE_ID)));
+    }
+
+    @Test
+    public void notFound_isNotRetried() {
+        stubFor(get(urlPathEqualTo(INSTANCE_ID)).willReturn(aResponse().withStatus(404)));
+
+        assertThatThrownBy(() -> client.get(INSTANCE_ID)).isInstanceOfSatisfying(SdkServiceException.class,
+                                                                                 e -> assertThat(e.statusCode()).isEqualTo(404));
+        verify(1, getRequestedFor(urlPathEqualTo(INSTANCE_ID)));
+    }
+
+    @Test
+    public void unreachableEndpoint_failsAfterRetries() {
+        try (Ec2MetadataClient unreachable = Ec2MetadataClient.builder()
+                                                              .endpoint(URI.create("http://localhost:" + unusedPort()))
+                                                              .numRetries(1)
+                                                              .build()) {
+            assertThatThrownBy(() -> unreachable.get(INSTANCE_ID)).isInstanceOf(SdkClientException.class)
+                                                                  .hasMessageContaining("Unable to contact");
+        }
+    }
+
+    @Test
+    public void closedClient_rejectsRequests() {
+        client.close();
+
+        assertThatThrownBy(() -> client.get(INSTANCE_ID)).isInstanceOf(SdkClientException.class);
+    }
+
+    private Ec2MetadataClient.Builder clientBuilder() {
+        return Ec2MetadataClient.builder().endpoint(URI.create("http://localhost:" + mockServer.port()));
+    }
+
+    private static int unusedPort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
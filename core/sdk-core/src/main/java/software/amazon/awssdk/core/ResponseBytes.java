@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core;
 
 import java.util.Arrays;
+import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -40,6 +41,18 @@ public final class ResponseBytes<ResponseT> extends BytesWrapper {
         return new ResponseBytes<>(response, Arrays.copyOf(bytes, bytes.length));
     }
 
+    /**
+     * Create {@link ResponseBytes} from a Byte array <b>without</b> copying the contents of the byte array. This introduces
+     * concurrency risks, allowing the caller to modify the byte array stored in this {@code ResponseBytes} implementation.
+     *
+     * <p>As the method name implies, this is unsafe. Use {@link #fromByteArray(Object, byte[])} unless you're sure you know
+     * the risks.
+     */
+    @SdkInternalApi
+    public static <ResponseT> ResponseBytes<ResponseT> fromByteArrayUnsafe(ResponseT response, byte[] bytes) {
+        return new ResponseBytes<>(response, bytes);
+    }
+
     /**
      * @return the unmarshalled response object from the service.
      */
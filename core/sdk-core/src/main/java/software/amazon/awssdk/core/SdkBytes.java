@@ -72,6 +72,18 @@ public final class SdkBytes extends BytesWrapper implements Serializable {
         return new SdkBytes(Arrays.copyOf(bytes, bytes.length));
     }
 
+    /**
+     * Create {@link SdkBytes} from a Byte array <b>without</b> copying the contents of the byte array. This introduces
+     * concurrency risks, allowing the caller to modify the byte array stored in this {@code SdkBytes} implementation.
+     *
+     * <p>As the method name implies, this is unsafe. Use {@link #fromByteArray(byte[])} unless you're sure you know the
+     * risks.
+     */
+    public static SdkBytes fromByteArrayUnsafe(byte[] bytes) {
+        Validate.paramNotNull(bytes, "bytes");
+        return new SdkBytes(bytes);
+    }
+
     /**
      * Create {@link SdkBytes} from a string, using the provided charset.
      */
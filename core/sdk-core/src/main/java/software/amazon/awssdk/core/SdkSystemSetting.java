@@ -127,7 +127,22 @@ public enum SdkSystemSetting implements SystemSetting {
     /**
      * Whether endpoint discovery should be enabled.
      */
-    AWS_ENDPOINT_DISCOVERY_ENABLED("aws.endpointDiscoveryEnabled", "false");
+    AWS_ENDPOINT_DISCOVERY_ENABLED("aws.endpointDiscoveryEnabled", "false"),
+
+    /**
+     * Whether generated clients should also scan the classpath for execution interceptors that other jars list in the
+     * service's {@code execution.interceptors} resource. Clients create the service's own interceptors from an index built
+     * at code generation time, so this is only needed by applications that add interceptors to a service that way, and is
+     * disabled by default to avoid the classpath scan. Interceptors for all services are always loaded from the global
+     * interceptors resource.
+     */
+    AWS_SERVICE_INTERCEPTOR_SCAN_ENABLED("aws.serviceInterceptorScanEnabled", "false"),
+
+    /**
+     * Whether the SDK should use virtual threads for its internal tasks, such as expired timeouts, when the runtime supports
+     * them (Java 21 and later). This has no effect on older runtimes.
+     */
+    AWS_VIRTUAL_THREADS_ENABLED("aws.virtualThreadsEnabled", "true");
 
     private final String systemProperty;
     private final String defaultValue;
@@ -107,6 +107,20 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
         return FileAsyncRequestBody.builder().path(file.toPath()).build();
     }
 
+    /**
+     * Creates an {@link AsyncRequestBody} that produces data from a range of a file, for example one part of a multipart
+     * upload. If the file ends before the range does, only the remainder of the file is produced.
+     *
+     * @param path Path to file to read from.
+     * @param position Position in the file of the first byte to read.
+     * @param numBytesToRead Maximum number of bytes to read.
+     * @return Implementation of {@link AsyncRequestBody} that reads data from the specified range of the file.
+     * @see FileAsyncRequestBody
+     */
+    static AsyncRequestBody fromFile(Path path, long position, long numBytesToRead) {
+        return FileAsyncRequestBody.builder().path(path).position(position).numBytesToRead(numBytesToRead).build();
+    }
+
     /**
      * Creates an {@link AsyncRequestBody} that uses a single string as data.
      *
@@ -131,6 +131,21 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
         return toFile(file.toPath());
     }
 
+    /**
+     * Creates an {@link AsyncResponseTransformer} that writes the response content into a file starting at the given
+     * position. The file is created if it does not exist and is not truncated, so several transformers can write disjoint
+     * ranges of the same file concurrently, for example the parts of a ranged download. Unlike {@link #toFile(Path)}, the
+     * file is not deleted if the request fails.
+     *
+     * @param path Path to the file to write to.
+     * @param position Position in the file of the first byte of the response content.
+     * @param <ResponseT> Pojo Response type.
+     * @return AsyncResponseTransformer instance.
+     */
+    static <ResponseT> AsyncResponseTransformer<ResponseT, ResponseT> toFile(Path path, long position) {
+        return new FileAsyncResponseTransformer<>(path, position);
+    }
+
     /**
      * Creates an {@link AsyncResponseTransformer} that writes all content to a byte array.
      *
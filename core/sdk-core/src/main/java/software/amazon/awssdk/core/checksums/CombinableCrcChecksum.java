@@ -0,0 +1,172 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Base class of the CRC checksums. CRCs of consecutive byte ranges can be combined into the CRC of the whole range, which
+ * is used here to support {@link #mark(int)}: the CRC of the bytes read before the mark is combined with the CRC of the
+ * bytes read after it, so marking doesn't require copying the state of the underlying engine.
+ */
+@SdkInternalApi
+abstract class CombinableCrcChecksum implements SdkChecksum {
+
+    private static final int CRC_SIZE = 4;
+
+    private final long polynomial;
+    private final Checksum engine;
+
+    private long crcBeforeMark;
+    private long lengthBeforeMark;
+    private long lengthAfterMark;
+
+    /**
+     * @param polynomial The reversed (LSB-first) polynomial of the CRC calculated by the engine.
+     * @param engine The checksum calculating the CRC of the bytes read after the last mark.
+     */
+    CombinableCrcChecksum(long polynomial, Checksum engine) {
+        this.polynomial = polynomial;
+        this.engine = engine;
+    }
+
+    /**
+     * Update the engine with the remaining bytes of the given buffer, advancing its position to its limit.
+     */
+    abstract void updateEngine(ByteBuffer buffer);
+
+    @Override
+    public void update(int b) {
+        engine.update(b);
+        lengthAfterMark++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        engine.update(b, off, len);
+        lengthAfterMark += len;
+    }
+
+    @Override
+    public void update(ByteBuffer buffer) {
+        lengthAfterMark += buffer.remaining();
+        updateEngine(buffer);
+    }
+
+    @Override
+    public long getValue() {
+        if (lengthBeforeMark == 0) {
+            return engine.getValue();
+        }
+        return combine(crcBeforeMark, engine.getValue(), lengthAfterMark, polynomial);
+    }
+
+    /**
+     * Resets the checksum to the last mark, or to its initial state if it was never marked.
+     */
+    @Override
+    public void reset() {
+        engine.reset();
+        lengthAfterMark = 0;
+    }
+
+    @Override
+    public byte[] getChecksumBytes() {
+        return ByteBuffer.allocate(CRC_SIZE).putInt((int) getValue()).array();
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        crcBeforeMark = getValue();
+        lengthBeforeMark += lengthAfterMark;
+        engine.reset();
+        lengthAfterMark = 0;
+    }
+
+    /**
+     * Combine the CRCs of two consecutive byte ranges into the CRC of both ranges, without reading the bytes again. This
+     * follows zlib's crc32_combine: the CRC of the first range is shifted over the length of the second range by
+     * repeatedly squaring the GF(2) matrix that appends one zero bit to the CRC.
+     *
+     * @param crc1 The CRC of the first range.
+     * @param crc2 The CRC of the second range.
+     * @param length2 The length of the second range, in bytes.
+     * @param polynomial The reversed polynomial of the CRC.
+     * @return The CRC of the first range followed by the second range.
+     */
+    static long combine(long crc1, long crc2, long length2, long polynomial) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        // Operator appending one zero bit
+        odd[0] = polynomial;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        // Operators appending two and four zero bits
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+
+        // Apply length2 zero bytes to crc1, the first squaring producing the operator for one zero byte
+        long crc = crc1;
+        long remaining = length2;
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(even, crc);
+            }
+            remaining >>= 1;
+
+            if (remaining == 0) {
+                break;
+            }
+
+            gf2MatrixSquare(odd, even);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(odd, crc);
+            }
+            remaining >>= 1;
+        } while (remaining != 0);
+
+        return crc ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(long[] matrix, long vector) {
+        long sum = 0;
+        long remaining = vector;
+        for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] matrix) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(matrix, matrix[n]);
+        }
+    }
+}
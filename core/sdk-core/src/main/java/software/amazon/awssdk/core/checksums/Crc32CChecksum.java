@@ -0,0 +1,115 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC32C checksum. On Java 9 and later this uses the intrinsified
+ * {@code java.util.zip.CRC32C} of the JDK, and falls back to a table-driven implementation on Java 8.
+ */
+@SdkInternalApi
+public final class Crc32CChecksum extends CombinableCrcChecksum {
+
+    private static final long POLYNOMIAL = 0x82F63B78L;
+
+    /**
+     * The constructor of java.util.zip.CRC32C, or null on Java 8.
+     */
+    private static final MethodHandle JDK_CRC32C_CONSTRUCTOR;
+
+    /**
+     * Checksum#update(ByteBuffer), which only exists from Java 9 on.
+     */
+    private static final MethodHandle JDK_UPDATE_BYTE_BUFFER;
+
+    static {
+        MethodHandle constructor;
+        MethodHandle updateByteBuffer;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> crc32c = Class.forName("java.util.zip.CRC32C");
+            constructor = lookup.findConstructor(crc32c, MethodType.methodType(void.class))
+                                .asType(MethodType.methodType(Checksum.class));
+            updateByteBuffer = lookup.findVirtual(Checksum.class, "update",
+                                                  MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException e) {
+            constructor = null;
+            updateByteBuffer = null;
+        }
+        JDK_CRC32C_CONSTRUCTOR = constructor;
+        JDK_UPDATE_BYTE_BUFFER = updateByteBuffer;
+    }
+
+    private final Checksum crc32c;
+
+    public Crc32CChecksum() {
+        this(newEngine());
+    }
+
+    private Crc32CChecksum(Checksum crc32c) {
+        super(POLYNOMIAL, crc32c);
+        this.crc32c = crc32c;
+    }
+
+    /**
+     * Combine the CRC32C checksums of two consecutive byte ranges, such as the parts of a multipart upload, into the
+     * checksum of both ranges without reading the bytes again.
+     *
+     * @param crc1 The checksum of the first range.
+     * @param crc2 The checksum of the second range.
+     * @param length2 The length of the second range, in bytes.
+     * @return The checksum of the first range followed by the second range.
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return combine(crc1, crc2, length2, POLYNOMIAL);
+    }
+
+    @Override
+    void updateEngine(ByteBuffer buffer) {
+        if (crc32c instanceof SoftwareCrc32C) {
+            ((SoftwareCrc32C) crc32c).update(buffer);
+            return;
+        }
+
+        try {
+            JDK_UPDATE_BYTE_BUFFER.invokeExact(crc32c, buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unexpected error updating the CRC32C checksum", t);
+        }
+    }
+
+    private static Checksum newEngine() {
+        if (JDK_CRC32C_CONSTRUCTOR == null) {
+            return new SoftwareCrc32C();
+        }
+
+        try {
+            return (Checksum) JDK_CRC32C_CONSTRUCTOR.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unexpected error creating the CRC32C checksum", t);
+        }
+    }
+}
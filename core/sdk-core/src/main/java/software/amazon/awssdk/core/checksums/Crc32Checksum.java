@@ -0,0 +1,58 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC32 checksum, using the intrinsified {@link CRC32} of the JDK.
+ */
+@SdkInternalApi
+public final class Crc32Checksum extends CombinableCrcChecksum {
+
+    private static final long POLYNOMIAL = 0xEDB88320L;
+
+    private final CRC32 crc32;
+
+    public Crc32Checksum() {
+        this(new CRC32());
+    }
+
+    private Crc32Checksum(CRC32 crc32) {
+        super(POLYNOMIAL, crc32);
+        this.crc32 = crc32;
+    }
+
+    /**
+     * Combine the CRC32 checksums of two consecutive byte ranges, such as the parts of a multipart upload, into the
+     * checksum of both ranges without reading the bytes again.
+     *
+     * @param crc1 The checksum of the first range.
+     * @param crc2 The checksum of the second range.
+     * @param length2 The length of the second range, in bytes.
+     * @return The checksum of the first range followed by the second range.
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return combine(crc1, crc2, length2, POLYNOMIAL);
+    }
+
+    @Override
+    void updateEngine(ByteBuffer buffer) {
+        crc32.update(buffer);
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.checksums;
 
+import java.nio.ByteBuffer;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
@@ -39,4 +40,26 @@ public interface SdkChecksum extends Checksum {
      * @param readLimit the maximum limit of bytes that can be read before the mark position becomes invalid.
      */
     void mark(int readLimit);
+
+    /**
+     * Updates the checksum with the remaining bytes of the given buffer, advancing its position to its limit.
+     * <p>
+     * Implementations should override this when they can read direct buffers without first copying them to the heap.
+     *
+     * @param buffer the bytes to update the checksum with.
+     */
+    default void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(buffer.remaining(), 8192)];
+        while (buffer.hasRemaining()) {
+            int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            update(chunk, 0, length);
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * CRC32C (Castagnoli) calculated with the slicing-by-8 algorithm, for Java versions without {@code java.util.zip.CRC32C}.
+ */
+@SdkInternalApi
+final class SoftwareCrc32C implements Checksum {
+
+    private static final int POLYNOMIAL = 0x82F63B78;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * TABLES[0] is the classic byte-at-a-time table. TABLES[n] advances the CRC of a byte over n more zero bytes.
+     */
+    private static final int[][] TABLES = new int[8][256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            }
+            TABLES[0][i] = crc;
+        }
+        for (int i = 0; i < 256; i++) {
+            for (int table = 1; table < 8; table++) {
+                int previous = TABLES[table - 1][i];
+                TABLES[table][i] = (previous >>> 8) ^ TABLES[0][previous & 0xFF];
+            }
+        }
+    }
+
+    private int crc;
+
+    @Override
+    public void update(int b) {
+        int value = ~crc;
+        value = (value >>> 8) ^ TABLES[0][(value ^ b) & 0xFF];
+        crc = ~value;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        int value = ~crc;
+        int index = off;
+        int end = off + len;
+
+        while (end - index >= 8) {
+            int low = value ^ ((b[index] & 0xFF)
+                               | (b[index + 1] & 0xFF) << 8
+                               | (b[index + 2] & 0xFF) << 16
+                               | (b[index + 3] & 0xFF) << 24);
+            int high = (b[index + 4] & 0xFF)
+                       | (b[index + 5] & 0xFF) << 8
+                       | (b[index + 6] & 0xFF) << 16
+                       | (b[index + 7] & 0xFF) << 24;
+            value = TABLES[7][low & 0xFF]
+                    ^ TABLES[6][(low >>> 8) & 0xFF]
+                    ^ TABLES[5][(low >>> 16) & 0xFF]
+                    ^ TABLES[4][low >>> 24]
+                    ^ TABLES[3][high & 0xFF]
+                    ^ TABLES[2][(high >>> 8) & 0xFF]
+                    ^ TABLES[1][(high >>> 16) & 0xFF]
+                    ^ TABLES[0][high >>> 24];
+            index += 8;
+        }
+
+        while (index < end) {
+            value = (value >>> 8) ^ TABLES[0][(value ^ b[index++]) & 0xFF];
+        }
+
+        crc = ~value;
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the given buffer, advancing its position to its limit.
+     */
+    void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(buffer.remaining(), CHUNK_SIZE)];
+        while (buffer.hasRemaining()) {
+            int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            update(chunk, 0, length);
+        }
+    }
+
+    @Override
+    public long getValue() {
+        return crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0;
+    }
+}
@@ -19,6 +19,7 @@ import java.net.URI;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkSharedRuntime;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
 /**
@@ -50,4 +51,12 @@ public interface SdkClientBuilder<B extends SdkClientBuilder<B, C>, C> extends S
      * Configure the endpoint with which the SDK should communicate.
      */
     B endpointOverride(URI endpointOverride);
+
+    /**
+     * Configure the {@link SdkSharedRuntime} whose executors, and optionally async HTTP client, should be used by the client
+     * instead of creating its own. The client holds a reference to the runtime until it is closed.
+     *
+     * @see SdkSharedRuntime
+     */
+    B sharedRuntime(SdkSharedRuntime sharedRuntime);
 }
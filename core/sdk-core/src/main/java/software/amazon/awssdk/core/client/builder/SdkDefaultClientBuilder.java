@@ -28,8 +28,11 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.SHARED_RUNTIME_REFERENCE;
+import static software.amazon.awssdk.core.internal.client.config.SdkInternalClientOption.TIMEOUT_SCHEDULER;
 import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
@@ -52,10 +55,13 @@ import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.client.config.SdkSharedRuntime;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
 import software.amazon.awssdk.core.internal.util.UserAgentUtils;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
@@ -65,6 +71,8 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.ExecutorUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -98,6 +106,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     private SdkHttpClient.Builder httpClientBuilder;
     private SdkAsyncHttpClient.Builder asyncHttpClientBuilder;
+    private SdkSharedRuntime sharedRuntime;
 
     protected SdkDefaultClientBuilder() {
         this(DEFAULT_HTTP_CLIENT_BUILDER, DEFAULT_ASYNC_HTTP_CLIENT_BUILDER);
@@ -187,6 +196,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private SdkClientConfiguration mergeGlobalDefaults(SdkClientConfiguration configuration) {
         return configuration.merge(c -> c.option(EXECUTION_INTERCEPTORS, new ArrayList<>())
+                                         .option(METRIC_PUBLISHERS, new ArrayList<>())
                                          .option(ADDITIONAL_HTTP_HEADERS, new LinkedHashMap<>())
                                          .option(RETRY_POLICY, RetryPolicy.defaultRetryPolicy())
                                          .option(USER_AGENT_PREFIX, UserAgentUtils.getUserAgent())
@@ -207,6 +217,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private SdkClientConfiguration finalizeSyncConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
+                     .option(SHARED_RUNTIME_REFERENCE, acquireSharedRuntime())
                      .option(SdkClientOption.SYNC_HTTP_CLIENT, resolveSyncHttpClient(config))
                      .option(SdkClientOption.CLIENT_TYPE, SYNC)
                      .build();
@@ -217,6 +228,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private SdkClientConfiguration finalizeAsyncConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
+                     .option(SHARED_RUNTIME_REFERENCE, acquireSharedRuntime())
                      .option(FUTURE_COMPLETION_EXECUTOR, resolveAsyncFutureCompletionExecutor(config))
                      .option(ASYNC_HTTP_CLIENT, resolveAsyncHttpClient(config))
                      .option(SdkClientOption.CLIENT_TYPE, ASYNC)
@@ -229,10 +241,19 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     private SdkClientConfiguration finalizeConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
                      .option(SCHEDULED_EXECUTOR_SERVICE, resolveScheduledExecutorService())
+                     .option(TIMEOUT_SCHEDULER, resolveTimeoutScheduler())
                      .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
                      .build();
     }
 
+    /**
+     * Take a reference to the shared runtime, if one is configured, before using any of its resources. The reference is
+     * released when the client configuration is closed.
+     */
+    private SdkAutoCloseable acquireSharedRuntime() {
+        return sharedRuntime == null ? null : sharedRuntime.acquire();
+    }
+
     /**
      * Finalize which sync HTTP client will be used for the created client.
      */
@@ -253,7 +274,14 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                         "The asyncHttpClient and the asyncHttpClientBuilder can't both be configured.");
         return Either.fromNullable(config.option(ASYNC_HTTP_CLIENT), asyncHttpClientBuilder)
                      .map(e -> e.map(NonManagedSdkAsyncHttpClient::new, b -> b.buildWithDefaults(childHttpConfig())))
-                     .orElseGet(() -> defaultAsyncHttpClientBuilder.buildWithDefaults(childHttpConfig()));
+                     .orElseGet(() -> sharedRuntimeAsyncHttpClient().orElseGet(
+                         () -> defaultAsyncHttpClientBuilder.buildWithDefaults(childHttpConfig())));
+    }
+
+    private Optional<SdkAsyncHttpClient> sharedRuntimeAsyncHttpClient() {
+        return Optional.ofNullable(sharedRuntime)
+                       .flatMap(SdkSharedRuntime::asyncHttpClient)
+                       .map(NonManagedSdkAsyncHttpClient::new);
     }
 
     /**
@@ -279,19 +307,42 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return executor;
         };
 
-        return Optional.ofNullable(config.option(FUTURE_COMPLETION_EXECUTOR))
-                       .orElseGet(defaultExecutor);
+        if (config.option(FUTURE_COMPLETION_EXECUTOR) != null) {
+            return config.option(FUTURE_COMPLETION_EXECUTOR);
+        }
+
+        if (sharedRuntime != null) {
+            return ExecutorUtils.unmanagedExecutor(sharedRuntime.futureCompletionExecutor());
+        }
+
+        return defaultExecutor.get();
     }
 
     /**
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such
-     * as async retry attempts and timeout task.
+     * as async retry attempts.
      */
     private ScheduledExecutorService resolveScheduledExecutorService() {
+        if (sharedRuntime != null) {
+            return sharedRuntime.scheduledExecutorService();
+        }
+
         return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder()
             .threadNamePrefix("sdk-ScheduledExecutor").build());
     }
 
+    /**
+     * Finalize the internal SDK scheduler of the API call and API call attempt timeouts. Its thread is only started when
+     * the first timeout is scheduled.
+     */
+    private TimeoutScheduler resolveTimeoutScheduler() {
+        if (sharedRuntime != null) {
+            return sharedRuntime.timeoutScheduler();
+        }
+
+        return new HashedWheelTimer();
+    }
+
     /**
      * Finalize which execution interceptors will be used for the created client.
      */
@@ -312,6 +363,16 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         endpointOverride(endpointOverride);
     }
 
+    @Override
+    public final B sharedRuntime(SdkSharedRuntime sharedRuntime) {
+        this.sharedRuntime = sharedRuntime;
+        return thisBuilder();
+    }
+
+    public final void setSharedRuntime(SdkSharedRuntime sharedRuntime) {
+        sharedRuntime(sharedRuntime);
+    }
+
     public final B asyncConfiguration(ClientAsyncConfiguration asyncConfiguration) {
         clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR, asyncConfiguration.advancedOption(FUTURE_COMPLETION_EXECUTOR));
         return thisBuilder();
@@ -331,6 +392,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         clientConfiguration.option(USER_AGENT_PREFIX, overrideConfig.advancedOption(USER_AGENT_PREFIX).orElse(null));
         clientConfiguration.option(API_CALL_TIMEOUT, overrideConfig.apiCallTimeout().orElse(null));
         clientConfiguration.option(API_CALL_ATTEMPT_TIMEOUT, overrideConfig.apiCallAttemptTimeout().orElse(null));
+        clientConfiguration.option(METRIC_PUBLISHERS, overrideConfig.metricPublishers());
         clientConfiguration.option(DISABLE_HOST_PREFIX_INJECTION,
                                    overrideConfig.advancedOption(DISABLE_HOST_PREFIX_INJECTION).orElse(null));
         return thisBuilder();
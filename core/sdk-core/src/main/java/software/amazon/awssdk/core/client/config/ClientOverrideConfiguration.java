@@ -28,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.ToString;
@@ -50,6 +51,7 @@ public final class ClientOverrideConfiguration
     private final AttributeMap advancedOptions;
     private final Duration apiCallAttemptTimeout;
     private final Duration apiCallTimeout;
+    private final List<MetricPublisher> metricPublishers;
 
     /**
      * Initialize this configuration. Private to require use of {@link #builder()}.
@@ -61,6 +63,7 @@ public final class ClientOverrideConfiguration
         this.advancedOptions = builder.advancedOptions();
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
         this.apiCallAttemptTimeout = Validate.isPositiveOrNull(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
+        this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers()));
     }
 
     @Override
@@ -70,7 +73,8 @@ public final class ClientOverrideConfiguration
                                                               .retryPolicy(retryPolicy)
                                                               .apiCallTimeout(apiCallTimeout)
                                                               .apiCallAttemptTimeout(apiCallAttemptTimeout)
-                                                              .executionInterceptors(executionInterceptors);
+                                                              .executionInterceptors(executionInterceptors)
+                                                              .metricPublishers(metricPublishers);
     }
 
     /**
@@ -157,6 +161,17 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(apiCallAttemptTimeout);
     }
 
+    /**
+     * An immutable collection of {@link MetricPublisher}s that the metrics collected for each API call are published to.
+     *
+     * <p>If not set, this will return an empty list and no metrics are collected.
+     *
+     * @see Builder#metricPublishers(List)
+     */
+    public List<MetricPublisher> metricPublishers() {
+        return metricPublishers;
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -166,6 +181,7 @@ public final class ClientOverrideConfiguration
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout)
                        .add("executionInterceptors", executionInterceptors)
                        .add("advancedOptions", advancedOptions)
+                       .add("metricPublishers", metricPublishers)
                        .build();
     }
 
@@ -325,6 +341,26 @@ public final class ClientOverrideConfiguration
         Builder apiCallAttemptTimeout(Duration apiCallAttemptTimeout);
 
         Duration apiCallAttemptTimeout();
+
+        /**
+         * Configure the {@link MetricPublisher}s that the metrics collected for each API call are published to. These will
+         * replace any publishers configured previously with this method or {@link #addMetricPublisher(MetricPublisher)}.
+         *
+         * <p>Metrics are only collected if at least one publisher is configured. The client does not close the publishers
+         * when it is closed.
+         *
+         * @see ClientOverrideConfiguration#metricPublishers()
+         */
+        Builder metricPublishers(List<MetricPublisher> metricPublishers);
+
+        /**
+         * Add a {@link MetricPublisher} that the metrics collected for each API call are published to.
+         *
+         * @see ClientOverrideConfiguration#metricPublishers()
+         */
+        Builder addMetricPublisher(MetricPublisher metricPublisher);
+
+        List<MetricPublisher> metricPublishers();
     }
 
     /**
@@ -337,6 +373,7 @@ public final class ClientOverrideConfiguration
         private AttributeMap.Builder advancedOptions = AttributeMap.builder();
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
+        private List<MetricPublisher> metricPublishers = new ArrayList<>();
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
@@ -456,6 +493,29 @@ public final class ClientOverrideConfiguration
             return apiCallAttemptTimeout;
         }
 
+        @Override
+        public Builder metricPublishers(List<MetricPublisher> metricPublishers) {
+            Validate.paramNotNull(metricPublishers, "metricPublishers");
+            this.metricPublishers = new ArrayList<>(metricPublishers);
+            return this;
+        }
+
+        @Override
+        public Builder addMetricPublisher(MetricPublisher metricPublisher) {
+            Validate.paramNotNull(metricPublisher, "metricPublisher");
+            this.metricPublishers.add(metricPublisher);
+            return this;
+        }
+
+        public void setMetricPublishers(List<MetricPublisher> metricPublishers) {
+            metricPublishers(metricPublishers);
+        }
+
+        @Override
+        public List<MetricPublisher> metricPublishers() {
+            return Collections.unmodifiableList(metricPublishers);
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(this);
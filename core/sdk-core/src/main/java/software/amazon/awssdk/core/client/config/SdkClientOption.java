@@ -28,6 +28,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * A set of internal options required by the SDK via {@link SdkClientConfiguration}.
@@ -112,6 +114,20 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<Boolean> ENDPOINT_DISCOVERY_ENABLED = new SdkClientOption<>(Boolean.class);
 
+    /**
+     * @see ClientOverrideConfiguration#metricPublishers()
+     */
+    public static final SdkClientOption<List<MetricPublisher>> METRIC_PUBLISHERS =
+            new SdkClientOption<>(new UnsafeValueType(List.class));
+
+    /**
+     * The reference to the {@link SdkSharedRuntime} held by the client, released when the client is closed.
+     *
+     * @see SdkClientBuilder#sharedRuntime(SdkSharedRuntime)
+     */
+    public static final SdkClientOption<SdkAutoCloseable> SHARED_RUNTIME_REFERENCE =
+            new SdkClientOption<>(SdkAutoCloseable.class);
+
     private SdkClientOption(Class<T> valueClass) {
         super(valueClass);
     }
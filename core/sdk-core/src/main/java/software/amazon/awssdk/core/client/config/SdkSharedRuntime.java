@@ -0,0 +1,270 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Execution resources that can be shared by many SDK clients, instead of every client creating its own.
+ *
+ * <p>By default, every client creates a timer for timeouts and a scheduled executor for retry backoff, and every async client
+ * also creates a future completion executor and an HTTP client. Clients built with
+ * {@link software.amazon.awssdk.core.client.builder.SdkClientBuilder#sharedRuntime(SdkSharedRuntime)} use the resources of the
+ * runtime instead:
+ * <ul>
+ *     <li>A single timer wheel for the API call and attempt timeouts of all clients.</li>
+ *     <li>A single scheduled executor for the retry backoff of all clients.</li>
+ *     <li>A work-stealing executor used to complete the futures returned by async clients.</li>
+ *     <li>Optionally, an async HTTP client, eg. a Netty client built with a shared {@code SdkEventLoopGroup}.</li>
+ * </ul>
+ * Configuration set on the client builder itself, like {@code asyncConfiguration} or {@code httpClient}, takes precedence over
+ * the shared runtime.
+ *
+ * <p>The runtime is reference counted. Closing it does not release its resources while clients built with it are still open:
+ * they are released when both the runtime and all of its clients have been closed. Building a client with a runtime that has
+ * already been released fails with an {@link IllegalStateException}.
+ *
+ * <pre>
+ * try (SdkSharedRuntime runtime = SdkSharedRuntime.create()) {
+ *     DynamoDbAsyncClient dynamoDb = DynamoDbAsyncClient.builder().sharedRuntime(runtime).build();
+ *     SqsAsyncClient sqs = SqsAsyncClient.builder().sharedRuntime(runtime).build();
+ *     ...
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class SdkSharedRuntime implements SdkAutoCloseable {
+    private static final int DEFAULT_SCHEDULED_EXECUTOR_THREADS = 2;
+
+    private final SharedScheduledExecutorService scheduledExecutorService;
+    private final HashedWheelTimer timeoutTimer;
+    private final ExecutorService futureCompletionExecutor;
+    private final SdkAsyncHttpClient asyncHttpClient;
+
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private SdkSharedRuntime(DefaultBuilder builder) {
+        int scheduledExecutorThreads = Optional.ofNullable(builder.scheduledExecutorThreads)
+                                               .orElse(DEFAULT_SCHEDULED_EXECUTOR_THREADS);
+        int parallelism = Optional.ofNullable(builder.futureCompletionParallelism)
+                                  .orElseGet(() -> Runtime.getRuntime().availableProcessors() * 2);
+
+        this.scheduledExecutorService =
+            new SharedScheduledExecutorService(Validate.isPositive(scheduledExecutorThreads, "scheduledExecutorThreads"));
+        this.timeoutTimer = new HashedWheelTimer();
+        this.futureCompletionExecutor = new ForkJoinPool(Validate.isPositive(parallelism, "futureCompletionParallelism"),
+                                                         SdkSharedRuntime::newFutureCompletionThread,
+                                                         null, true);
+        this.asyncHttpClient = builder.asyncHttpClient;
+    }
+
+    /**
+     * Create a shared runtime with the default configuration.
+     */
+    public static SdkSharedRuntime create() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Take a reference to this runtime for a client. The runtime is not released until the returned reference is closed.
+     *
+     * @throws IllegalStateException If the runtime has already been released.
+     */
+    @SdkInternalApi
+    public SdkAutoCloseable acquire() {
+        int current;
+        do {
+            current = references.get();
+            if (current == 0) {
+                throw new IllegalStateException("The shared runtime has been closed and can no longer be used by new clients.");
+            }
+        } while (!references.compareAndSet(current, current + 1));
+
+        AtomicBoolean released = new AtomicBoolean(false);
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+        };
+    }
+
+    /**
+     * The timer wheel shared by the clients for API call and attempt timeouts. The returned scheduler cannot be closed, the
+     * timer is closed when the runtime is released.
+     */
+    @SdkInternalApi
+    public TimeoutScheduler timeoutScheduler() {
+        return timeoutTimer::schedule;
+    }
+
+    /**
+     * The scheduled executor shared by the clients for retry backoff. Shutting it down has no effect, it is shut
+     * down when the runtime is released.
+     */
+    @SdkInternalApi
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    /**
+     * The executor shared by the async clients to complete the futures they return.
+     */
+    @SdkInternalApi
+    public Executor futureCompletionExecutor() {
+        return futureCompletionExecutor;
+    }
+
+    /**
+     * The async HTTP client shared by the async clients, if one was configured.
+     */
+    @SdkInternalApi
+    public Optional<SdkAsyncHttpClient> asyncHttpClient() {
+        return Optional.ofNullable(asyncHttpClient);
+    }
+
+    /**
+     * Release the reference to this runtime held by its creator. The resources of the runtime are released once all clients
+     * using it have been closed as well.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    private void release() {
+        if (references.decrementAndGet() == 0) {
+            scheduledExecutorService.release();
+            timeoutTimer.close();
+            futureCompletionExecutor.shutdown();
+            IoUtils.closeQuietly(asyncHttpClient, null);
+        }
+    }
+
+    private static ForkJoinWorkerThread newFutureCompletionThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("sdk-shared-async-response-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    /**
+     * The shared scheduled executor is added to the configuration of every client using the runtime, which shuts down its
+     * executors when the client is closed. Only releasing the runtime actually shuts it down.
+     */
+    private static final class SharedScheduledExecutorService extends ScheduledThreadPoolExecutor {
+        private SharedScheduledExecutorService(int threads) {
+            super(threads, new ThreadFactoryBuilder().threadNamePrefix("sdk-shared-ScheduledExecutor").build());
+        }
+
+        @Override
+        public void shutdown() {
+            // Do nothing, the executor is managed by the runtime.
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            // Do nothing, the executor is managed by the runtime.
+            return Collections.emptyList();
+        }
+
+        private void release() {
+            super.shutdown();
+        }
+    }
+
+    /**
+     * Configure and create a {@link SdkSharedRuntime}. Created via {@link SdkSharedRuntime#builder()}.
+     */
+    public interface Builder extends SdkBuilder<Builder, SdkSharedRuntime> {
+        /**
+         * The number of threads of the scheduled executor used for retry backoff. The tasks run on it are short,
+         * so a couple of threads are enough for many clients. Defaults to 2.
+         */
+        Builder scheduledExecutorThreads(Integer scheduledExecutorThreads);
+
+        /**
+         * The parallelism of the work-stealing executor used to complete the futures returned by async clients. Defaults to
+         * twice the number of available processors.
+         */
+        Builder futureCompletionParallelism(Integer futureCompletionParallelism);
+
+        /**
+         * An async HTTP client shared by the async clients using this runtime. The runtime takes ownership of the HTTP client
+         * and closes it when the runtime is released.
+         *
+         * <p>To share the event loops of the Netty HTTP client between clients, configure the Netty client with a shared
+         * {@code SdkEventLoopGroup} and set it here.
+         */
+        Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer scheduledExecutorThreads;
+        private Integer futureCompletionParallelism;
+        private SdkAsyncHttpClient asyncHttpClient;
+
+        @Override
+        public Builder scheduledExecutorThreads(Integer scheduledExecutorThreads) {
+            this.scheduledExecutorThreads = scheduledExecutorThreads;
+            return this;
+        }
+
+        @Override
+        public Builder futureCompletionParallelism(Integer futureCompletionParallelism) {
+            this.futureCompletionParallelism = futureCompletionParallelism;
+            return this;
+        }
+
+        @Override
+        public Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient) {
+            this.asyncHttpClient = asyncHttpClient;
+            return this;
+        }
+
+        @Override
+        public SdkSharedRuntime build() {
+            return new SdkSharedRuntime(this);
+        }
+    }
+}
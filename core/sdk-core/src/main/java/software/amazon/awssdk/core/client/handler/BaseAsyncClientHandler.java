@@ -55,7 +55,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
     @Override
     public <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<OutputT> execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
-        ExecutionContext executionContext = createExecutionContext(executionParams);
+        ExecutionContext executionContext = withMetricCollector(createExecutionContext(executionParams));
 
         HttpResponseHandler<OutputT> decoratedResponseHandlers =
             decorateResponseHandlers(executionParams.getResponseHandler(), executionContext);
@@ -73,7 +73,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         ClientExecutionParams<InputT, OutputT> executionParams,
         AsyncResponseTransformer<OutputT, ReturnT> asyncResponseTransformer) {
 
-        ExecutionContext context = createExecutionContext(executionParams);
+        ExecutionContext context = withMetricCollector(createExecutionContext(executionParams));
 
         HttpResponseHandler<OutputT> decoratedResponseHandlers =
             decorateResponseHandlers(executionParams.getResponseHandler(), context);
@@ -89,6 +89,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         ExecutionContext executionContext,
         TransformingAsyncResponseHandler<ReturnT> asyncResponseHandler) {
 
+        long apiCallStart = System.nanoTime();
         try {
 
             // Running beforeExecution interceptors and modifyRequest interceptors.
@@ -128,6 +129,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
                                                              errorHandler);
 
             CompletableFuture<ReturnT> exceptionTranslatedFuture = invokeFuture.handle((resp, err) -> {
+                publishMetrics(executionParams, executionContext, err == null, apiCallStart);
                 if (err != null) {
                     throw ThrowableUtils.failure(err);
                 }
@@ -136,6 +138,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
 
             return CompletableFutureUtils.forwardExceptionTo(exceptionTranslatedFuture, invokeFuture);
         } catch (Throwable t) {
+            publishMetrics(executionParams, executionContext, false, apiCallStart);
             return CompletableFutureUtils.failedFuture(ThrowableUtils.asSdkException(t));
         }
     }
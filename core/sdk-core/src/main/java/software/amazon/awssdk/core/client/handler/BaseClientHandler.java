@@ -28,7 +28,10 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.StringUtils;
 
 @SdkProtectedApi
@@ -60,7 +63,9 @@ public abstract class BaseClientHandler {
         SdkClientConfiguration clientConfiguration) {
 
         runBeforeMarshallingInterceptors(executionContext);
+        long marshallingStart = System.nanoTime();
         SdkHttpFullRequest request = executionParams.getMarshaller().marshall(inputT);
+        MetricUtils.reportDurationSince(executionContext.metricCollector(), CoreMetric.MARSHALLING_DURATION, marshallingStart);
         request = modifyEndpointHostIfNeeded(request, clientConfiguration, executionParams);
 
         addHttpRequest(executionContext, request);
@@ -147,8 +152,12 @@ public abstract class BaseClientHandler {
 
     static <OutputT extends SdkResponse> HttpResponseHandler<OutputT> interceptorCalling(
         HttpResponseHandler<OutputT> delegate, ExecutionContext context) {
-        return (response, executionAttributes) ->
-            runAfterUnmarshallingInterceptors(delegate.handle(response, executionAttributes), context);
+        return (response, executionAttributes) -> {
+            long unmarshallingStart = System.nanoTime();
+            OutputT unmarshalled = delegate.handle(response, executionAttributes);
+            MetricUtils.reportDurationSince(context.metricCollector(), CoreMetric.UNMARSHALLING_DURATION, unmarshallingStart);
+            return runAfterUnmarshallingInterceptors(unmarshalled, context);
+        };
     }
 
     protected <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
@@ -173,6 +182,40 @@ public abstract class BaseClientHandler {
                                .build();
     }
 
+    /**
+     * Attach a collector for the metrics of the API call to the execution context if any metric publisher is configured.
+     * Otherwise the context keeps its no-op collector and nothing is allocated.
+     */
+    ExecutionContext withMetricCollector(ExecutionContext executionContext) {
+        MetricCollector metricCollector =
+            MetricUtils.createApiCallMetricCollector(clientConfiguration.option(SdkClientOption.METRIC_PUBLISHERS));
+        if (MetricUtils.isNoOp(metricCollector)) {
+            return executionContext;
+        }
+        return executionContext.toBuilder().metricCollector(metricCollector).build();
+    }
+
+    /**
+     * Report the API call level metrics and publish the metrics collected for the call to the configured publishers.
+     *
+     * @param apiCallStartNanos The {@link System#nanoTime()} at which the API call started.
+     */
+    void publishMetrics(ClientExecutionParams<?, ?> executionParams,
+                        ExecutionContext executionContext,
+                        boolean successful,
+                        long apiCallStartNanos) {
+        MetricCollector metricCollector = executionContext.metricCollector();
+        if (MetricUtils.isNoOp(metricCollector)) {
+            return;
+        }
+
+        MetricUtils.reportDurationSince(metricCollector, CoreMetric.API_CALL_DURATION, apiCallStartNanos);
+        metricCollector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, successful);
+        metricCollector.reportMetric(CoreMetric.SERVICE_ID, clientConfiguration.option(SdkClientOption.SERVICE_NAME));
+        metricCollector.reportMetric(CoreMetric.OPERATION_NAME, executionParams.getOperationName());
+        MetricUtils.publish(clientConfiguration.option(SdkClientOption.METRIC_PUBLISHERS), metricCollector);
+    }
+
     protected boolean isCalculateCrc32FromCompressedData() {
         return clientConfiguration.option(SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED);
     }
@@ -51,7 +51,7 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
         ClientExecutionParams<InputT, OutputT> executionParams,
         ResponseTransformer<OutputT, ReturnT> responseTransformer) {
 
-        ExecutionContext executionContext = createExecutionContext(executionParams);
+        ExecutionContext executionContext = withMetricCollector(createExecutionContext(executionParams));
 
         HttpResponseHandler<OutputT> decoratedResponseHandlers =
             decorateResponseHandlers(executionParams.getResponseHandler(), executionContext);
@@ -65,7 +65,7 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
     public <InputT extends SdkRequest, OutputT extends SdkResponse> OutputT execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
 
-        ExecutionContext executionContext = createExecutionContext(executionParams);
+        ExecutionContext executionContext = withMetricCollector(createExecutionContext(executionParams));
 
         HttpResponseHandler<OutputT> decoratedResponseHandlers =
             decorateResponseHandlers(executionParams.getResponseHandler(), executionContext);
@@ -101,27 +101,36 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
         ExecutionContext executionContext,
         HttpResponseHandler<ReturnT> responseHandler) {
 
-        InputT inputT = (InputT) finalizeSdkRequest(executionContext).request();
+        long apiCallStart = System.nanoTime();
+        boolean successful = false;
+        try {
+            InputT inputT = (InputT) finalizeSdkRequest(executionContext).request();
 
-        InterceptorContext sdkHttpFullRequestContext = finalizeSdkHttpFullRequest(executionParams,
-                                                                                  executionContext,
-                                                                                  inputT,
-                                                                                  clientConfiguration);
+            InterceptorContext sdkHttpFullRequestContext = finalizeSdkHttpFullRequest(executionParams,
+                                                                                      executionContext,
+                                                                                      inputT,
+                                                                                      clientConfiguration);
 
-        SdkHttpFullRequest marshalled = (SdkHttpFullRequest) sdkHttpFullRequestContext.httpRequest();
+            SdkHttpFullRequest marshalled = (SdkHttpFullRequest) sdkHttpFullRequestContext.httpRequest();
 
-        // TODO Pass requestBody as separate arg to invoke
-        if (sdkHttpFullRequestContext.requestBody().isPresent()) {
-            marshalled = marshalled.toBuilder()
-                                   .contentStreamProvider(sdkHttpFullRequestContext.requestBody().get().contentStreamProvider())
-                                   .build();
-        }
+            // TODO Pass requestBody as separate arg to invoke
+            if (sdkHttpFullRequestContext.requestBody().isPresent()) {
+                marshalled = marshalled.toBuilder()
+                                       .contentStreamProvider(
+                                           sdkHttpFullRequestContext.requestBody().get().contentStreamProvider())
+                                       .build();
+            }
 
-        return invoke(marshalled,
-                      inputT,
-                      executionContext,
-                      responseHandler,
-                      executionParams.getErrorResponseHandler());
+            ReturnT result = invoke(marshalled,
+                                    inputT,
+                                    executionContext,
+                                    responseHandler,
+                                    executionParams.getErrorResponseHandler());
+            successful = true;
+            return result;
+        } finally {
+            publishMetrics(executionParams, executionContext, successful, apiCallStart);
+        }
     }
 
     private static class HttpResponseHandlerAdapter<ReturnT, OutputT extends SdkResponse>
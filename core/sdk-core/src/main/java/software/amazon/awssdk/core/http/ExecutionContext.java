@@ -21,6 +21,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.signer.Signer;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -35,12 +37,14 @@ public final class ExecutionContext implements ToCopyableBuilder<ExecutionContex
     private InterceptorContext interceptorContext;
     private final ExecutionInterceptorChain interceptorChain;
     private final ExecutionAttributes executionAttributes;
+    private final MetricCollector metricCollector;
 
     private ExecutionContext(final Builder builder) {
         this.signer = Validate.paramNotNull(builder.signer, "signer");
         this.interceptorContext = Validate.paramNotNull(builder.interceptorContext, "interceptorContext");
         this.interceptorChain = Validate.paramNotNull(builder.interceptorChain, "interceptorChain");
         this.executionAttributes = Validate.paramNotNull(builder.executionAttributes, "executionAttributes");
+        this.metricCollector = builder.metricCollector == null ? NoOpMetricCollector.create() : builder.metricCollector;
     }
 
     public static ExecutionContext.Builder builder() {
@@ -70,6 +74,14 @@ public final class ExecutionContext implements ToCopyableBuilder<ExecutionContex
         return signer;
     }
 
+    /**
+     * @return The collector for the metrics of the API call. This is a {@link NoOpMetricCollector} if no metric publisher is
+     * configured.
+     */
+    public MetricCollector metricCollector() {
+        return metricCollector;
+    }
+
     @Override
     public Builder toBuilder() {
         return new Builder(this);
@@ -80,6 +92,7 @@ public final class ExecutionContext implements ToCopyableBuilder<ExecutionContex
         private ExecutionInterceptorChain interceptorChain;
         private ExecutionAttributes executionAttributes;
         private Signer signer;
+        private MetricCollector metricCollector;
 
         private Builder() {
         }
@@ -89,6 +102,7 @@ public final class ExecutionContext implements ToCopyableBuilder<ExecutionContex
             this.interceptorContext = executionContext.interceptorContext;
             this.interceptorChain = executionContext.interceptorChain;
             this.executionAttributes = executionContext.executionAttributes;
+            this.metricCollector = executionContext.metricCollector;
         }
 
         public Builder interceptorContext(InterceptorContext interceptorContext) {
@@ -111,6 +125,11 @@ public final class ExecutionContext implements ToCopyableBuilder<ExecutionContex
             return this;
         }
 
+        public Builder metricCollector(MetricCollector metricCollector) {
+            this.metricCollector = metricCollector;
+            return this;
+        }
+
         public ExecutionContext build() {
             return new ExecutionContext(this);
         }
@@ -23,23 +23,34 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.util.ClassLoaderHelper;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * Factory for creating request/response handler chains from the classpath.
+ *
+ * <p>Generated service clients create the interceptors listed in their own interceptor resource from an index built at
+ * code generation time. They only scan the classpath for interceptors that other jars add to the same resource when
+ * {@link SdkSystemSetting#AWS_SERVICE_INTERCEPTOR_SCAN_ENABLED} is set.
  */
 @SdkProtectedApi
 public final class ClasspathInterceptorChainFactory {
 
     private static final String GLOBAL_INTERCEPTOR_PATH = "software/amazon/awssdk/global/handlers/execution.interceptors";
 
+    private static final Map<ClassLoader, Map<String, List<String>>> INTERCEPTOR_CLASS_NAMES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Constructs a new request handler chain by analyzing the specified classpath resource.
      *
@@ -50,6 +61,32 @@ public final class ClasspathInterceptorChainFactory {
         return createExecutionInterceptorsFromClasspath(resource);
     }
 
+    /**
+     * Create the interceptors referenced in the specified classpath resource that are not already in the given list. This
+     * lets a client that creates its own interceptors directly still pick up interceptors that other jars list in the same
+     * resource. The classpath is only scanned when {@link SdkSystemSetting#AWS_SERVICE_INTERCEPTOR_SCAN_ENABLED} is set,
+     * otherwise no interceptors are returned.
+     *
+     * @param resource The resource to load from the classpath containing the list of request handlers to instantiate.
+     * @param existingInterceptors The interceptors the client has already created.
+     * @return A list of request handlers referenced in the specified resource whose classes are not in the given list.
+     */
+    public List<ExecutionInterceptor> getAdditionalInterceptors(String resource,
+                                                                List<ExecutionInterceptor> existingInterceptors) {
+        if (!SdkSystemSetting.AWS_SERVICE_INTERCEPTOR_SCAN_ENABLED.getBooleanValue().orElse(false)) {
+            return Collections.emptyList();
+        }
+
+        Set<String> existingClassNames = existingInterceptors.stream()
+                                                             .map(i -> i.getClass().getName())
+                                                             .collect(Collectors.toSet());
+        return interceptorClassNames(resource).stream()
+                                              .filter(n -> !existingClassNames.contains(n))
+                                              .map(this::createExecutionInterceptor)
+                                              .filter(Objects::nonNull)
+                                              .collect(Collectors.toList());
+    }
+
     /**
      * Load the global handlers by reading the global execution interceptors resource.
      */
@@ -58,8 +95,31 @@ public final class ClasspathInterceptorChainFactory {
     }
 
     private List<ExecutionInterceptor> createExecutionInterceptorsFromClasspath(String path) {
+        return interceptorClassNames(path).stream()
+                                          .map(this::createExecutionInterceptor)
+                                          .filter(Objects::nonNull)
+                                          .collect(Collectors.toList());
+    }
+
+    /**
+     * Find the interceptor class names listed in every copy of the resource on the classpath. Scanning the classpath is
+     * expensive, so the names are cached per class loader and resource. The interceptors themselves are created for each
+     * client, because they may be stateful.
+     */
+    private List<String> interceptorClassNames(String path) {
+        ClassLoader classLoader = classLoader();
+        Map<String, List<String>> namesByPath =
+            INTERCEPTOR_CLASS_NAMES.computeIfAbsent(classLoader, l -> new ConcurrentHashMap<>());
+        return namesByPath.computeIfAbsent(path, p -> readInterceptorClassNames(classLoader, p));
+    }
+
+    private List<String> readInterceptorClassNames(ClassLoader classLoader, String path) {
         try {
-            return createExecutionInterceptorsFromResources(classLoader().getResources(path)).collect(Collectors.toList());
+            List<String> interceptorClassNames = new ArrayList<>();
+            for (URL resource : Collections.list(classLoader.getResources(path))) {
+                readInterceptorClassNames(resource, interceptorClassNames);
+            }
+            return Collections.unmodifiableList(interceptorClassNames);
         } catch (IOException e) {
             throw SdkClientException.builder()
                                     .message("Unable to instantiate execution interceptor chain.")
@@ -68,42 +128,23 @@ public final class ClasspathInterceptorChainFactory {
         }
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorsFromResources(Enumeration<URL> resources) {
-        if (resources == null) {
-            return Stream.empty();
+    private void readInterceptorClassNames(URL resource, List<String> interceptorClassNames) throws IOException {
+        if (resource == null) {
+            return;
         }
 
-        return Collections.list(resources).stream().flatMap(this::createExecutionInterceptorFromResource);
-    }
-
-    private Stream<ExecutionInterceptor> createExecutionInterceptorFromResource(URL resource) {
-        try {
-            if (resource == null) {
-                return Stream.empty();
-            }
-
-            List<ExecutionInterceptor> interceptors = new ArrayList<>();
+        try (InputStream stream = resource.openStream();
+             InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+             BufferedReader fileReader = new BufferedReader(streamReader)) {
 
-            try (InputStream stream = resource.openStream();
-                 InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
-                 BufferedReader fileReader = new BufferedReader(streamReader)) {
-
-                String interceptorClassName = fileReader.readLine();
-                while (interceptorClassName != null) {
-                    ExecutionInterceptor interceptor = createExecutionInterceptor(interceptorClassName);
-                    if (interceptor != null) {
-                        interceptors.add(interceptor);
-                    }
-                    interceptorClassName = fileReader.readLine();
+            String interceptorClassName = fileReader.readLine();
+            while (interceptorClassName != null) {
+                interceptorClassName = interceptorClassName.trim();
+                if (!interceptorClassName.isEmpty()) {
+                    interceptorClassNames.add(interceptorClassName);
                 }
+                interceptorClassName = fileReader.readLine();
             }
-
-            return interceptors.stream();
-        } catch (IOException e) {
-            throw SdkClientException.builder()
-                                    .message("Unable to instantiate execution interceptor chain.")
-                                    .cause(e)
-                                    .build();
         }
     }
 
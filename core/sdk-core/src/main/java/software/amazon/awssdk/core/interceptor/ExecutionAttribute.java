@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
 /**
@@ -37,12 +38,17 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
  * }
  </pre>
  *
+ * Each attribute is assigned a dense integer ID when it is created, which {@link ExecutionAttributes} uses as an index into
+ * the array holding the values of an execution. Attributes should therefore be created once, not per execution.
+ *
  * @param <T> The type of data associated with this attribute.
  */
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
 
     private final String name;
+    private final int id;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -51,6 +57,21 @@ public final class ExecutionAttribute<T> {
      */
     public ExecutionAttribute(String name) {
         this.name = name;
+        this.id = NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * The number of attributes created so far, ie. one more than the highest {@link #id()} assigned.
+     */
+    static int count() {
+        return NEXT_ID.get();
+    }
+
+    /**
+     * The dense ID of this attribute, unique among all attributes created in this class loader.
+     */
+    int id() {
+        return id;
     }
 
     @Override
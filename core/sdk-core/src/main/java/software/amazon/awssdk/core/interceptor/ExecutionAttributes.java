@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -29,7 +30,22 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 @NotThreadSafe
 public final class ExecutionAttributes {
-    private final Map<ExecutionAttribute<?>, Object> attributes = new HashMap<>();
+    /**
+     * Attributes with an ID below this limit are stored in the array, the others in {@link #overflow}. This bounds the array
+     * if an application creates attributes dynamically, instead of once as recommended.
+     */
+    static final int MAX_INDEXED_ATTRIBUTES = 256;
+
+    /**
+     * The value of each attribute, indexed by {@link ExecutionAttribute#id()}. A null value means that the attribute is not
+     * set, like for a {@link Map}.
+     */
+    private Object[] values = new Object[Math.min(ExecutionAttribute.count(), MAX_INDEXED_ATTRIBUTES)];
+
+    /**
+     * The values of attributes with an ID of at least {@link #MAX_INDEXED_ATTRIBUTES}, created on first use.
+     */
+    private Map<ExecutionAttribute<?>, Object> overflow;
 
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
@@ -37,14 +53,27 @@ public final class ExecutionAttributes {
      */
     @SuppressWarnings("unchecked") // Cast is safe due to implementation of {@link #putAttribute}
     public <U> U getAttribute(ExecutionAttribute<U> attribute) {
-        return (U) attributes.get(attribute);
+        int id = attribute.id();
+        if (id < values.length) {
+            return (U) values[id];
+        }
+        if (id < MAX_INDEXED_ATTRIBUTES || overflow == null) {
+            return null;
+        }
+        return (U) overflow.get(attribute);
     }
 
     /**
      * Update or set the provided attribute in this collection of attributes.
      */
     public <U> ExecutionAttributes putAttribute(ExecutionAttribute<U> attribute, U value) {
-        this.attributes.put(attribute, value);
+        int id = attribute.id();
+        if (id < MAX_INDEXED_ATTRIBUTES) {
+            ensureCapacity(id);
+            values[id] = value;
+        } else {
+            overflow().put(attribute, value);
+        }
         return this;
     }
 
@@ -52,7 +81,26 @@ public final class ExecutionAttributes {
      * Set the provided attribute in this collection of attributes if it does not already exist in the collection.
      */
     public <U> ExecutionAttributes putAttributeIfAbsent(ExecutionAttribute<U> attribute, U value) {
-        attributes.putIfAbsent(attribute, value);
+        if (getAttribute(attribute) == null) {
+            putAttribute(attribute, value);
+        }
         return this;
     }
+
+    /**
+     * Grow the array to hold the given ID, for attributes created after this collection.
+     */
+    private void ensureCapacity(int id) {
+        if (id >= values.length) {
+            int newLength = Math.min(Math.max(id + 1, ExecutionAttribute.count()), MAX_INDEXED_ATTRIBUTES);
+            values = Arrays.copyOf(values, newLength);
+        }
+    }
+
+    private Map<ExecutionAttribute<?>, Object> overflow() {
+        if (overflow == null) {
+            overflow = new HashMap<>();
+        }
+        return overflow;
+    }
 }
@@ -54,6 +54,14 @@ public class ExecutionInterceptorChain {
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
+    /**
+     * Whether this chain has no interceptors, in which case the request pipeline can skip building the contexts it would
+     * pass to them.
+     */
+    public boolean isEmpty() {
+        return interceptors.isEmpty();
+    }
+
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
         interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
     }
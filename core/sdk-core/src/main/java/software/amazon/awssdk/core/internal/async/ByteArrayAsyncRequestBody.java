@@ -61,8 +61,9 @@ public final class ByteArrayAsyncRequestBody implements AsyncRequestBody {
                         public void request(long n) {
                             if (n > 0) {
                                 if (!done) {
-                                    s.onNext(ByteBuffer.wrap(bytes));
+                                    // Set before signalling, subscribers may request more from within onNext
                                     done = true;
+                                    s.onNext(ByteBuffer.wrap(bytes));
                                     s.onComplete();
                                 }
                             } else {
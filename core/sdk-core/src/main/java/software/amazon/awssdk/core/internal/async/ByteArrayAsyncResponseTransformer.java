@@ -15,10 +15,8 @@
 
 package software.amazon.awssdk.core.internal.async;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
-
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
 import org.reactivestreams.Subscriber;
@@ -27,7 +25,6 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * Implementation of {@link AsyncResponseTransformer} that dumps content into a byte array and supports further
@@ -48,7 +45,8 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
     @Override
     public CompletableFuture<ResponseBytes<ResponseT>> prepare() {
         cf = new CompletableFuture<>();
-        return cf.thenApply(arr -> ResponseBytes.fromByteArray(response, arr));
+        // The array is owned by this transformer so there's no need for ResponseBytes to take another copy
+        return cf.thenApply(arr -> ResponseBytes.fromByteArrayUnsafe(response, arr));
     }
 
     @Override
@@ -69,7 +67,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
     static class BaosSubscriber implements Subscriber<ByteBuffer> {
         private final CompletableFuture<byte[]> resultFuture;
 
-        private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        private ByteBufferAccumulator accumulator = new ByteBufferAccumulator();
 
         private Subscription subscription;
 
@@ -89,19 +87,52 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            // The buffer may be backed by memory the publisher reuses, so it must be consumed before requesting more
+            accumulator.append(byteBuffer);
             subscription.request(1);
         }
 
         @Override
         public void onError(Throwable throwable) {
-            baos = null;
+            accumulator = null;
             resultFuture.completeExceptionally(throwable);
         }
 
         @Override
         public void onComplete() {
-            resultFuture.complete(baos.toByteArray());
+            resultFuture.complete(accumulator.toByteArray());
+        }
+    }
+
+    /**
+     * Growable byte array that is appended to straight from {@link ByteBuffer}s, avoiding the intermediate array that
+     * {@link java.io.ByteArrayOutputStream} would require for direct buffers.
+     */
+    private static final class ByteBufferAccumulator {
+        private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+        private byte[] buf = new byte[32];
+        private int count;
+
+        void append(ByteBuffer byteBuffer) {
+            int length = byteBuffer.remaining();
+            ensureCapacity(count + length);
+            byteBuffer.duplicate().get(buf, count, length);
+            count += length;
+        }
+
+        byte[] toByteArray() {
+            return count == buf.length ? buf : Arrays.copyOf(buf, count);
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+                throw new OutOfMemoryError("Response is too large to be buffered in a byte array");
+            }
+            if (minCapacity > buf.length) {
+                int newCapacity = (int) Math.min(MAX_ARRAY_SIZE, Math.max((long) buf.length << 1, minCapacity));
+                buf = Arrays.copyOf(buf, newCapacity);
+            }
         }
     }
 }
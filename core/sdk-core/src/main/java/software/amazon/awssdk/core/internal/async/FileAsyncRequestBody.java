@@ -30,6 +30,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
 /**
@@ -56,15 +57,31 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private final int chunkSizeInBytes;
 
+    /**
+     * Position (in bytes) in the file of the first byte to read.
+     */
+    private final long position;
+
+    /**
+     * Maximum number of bytes to read, or null to read until the end of the file.
+     */
+    private final Long numBytesToRead;
+
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
+        this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
+        this.numBytesToRead = builder.numBytesToRead;
+        if (numBytesToRead != null) {
+            Validate.isNotNegative(numBytesToRead, "numBytesToRead");
+        }
     }
 
     @Override
     public Optional<Long> contentLength() {
         try {
-            return Optional.of(Files.size(path));
+            long remaining = Math.max(0, Files.size(path) - position);
+            return Optional.of(numBytesToRead == null ? remaining : Math.min(remaining, numBytesToRead));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -78,7 +95,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             // We need to synchronize here because the subscriber could call
             // request() from within onSubscribe which would potentially
             // trigger onNext before onSubscribe is finished.
-            Subscription subscription = new FileSubscription(channel, s, chunkSizeInBytes);
+            Subscription subscription = new FileSubscription(channel, s, chunkSizeInBytes, position, endPosition());
             synchronized (subscription) {
                 s.onSubscribe(subscription);
             }
@@ -90,6 +107,16 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    /**
+     * @return Position in the file after the last byte to read.
+     */
+    private long endPosition() {
+        if (numBytesToRead == null || numBytesToRead > Long.MAX_VALUE - position) {
+            return Long.MAX_VALUE;
+        }
+        return position + numBytesToRead;
+    }
+
     /**
      * @return Builder instance to construct a {@link FileAsyncRequestBody}.
      */
@@ -122,12 +149,36 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          */
         Builder chunkSizeInBytes(Integer chunkSize);
 
+        /**
+         * Sets the position in the file of the first byte to send. Used together with {@link #numBytesToRead(Long)} to send
+         * a range of a file, for example one part of a multipart upload.
+         *
+         * <p>The default position is 0.</p>
+         *
+         * @param position Position of the first byte to read.
+         * @return This builder for method chaining.
+         */
+        Builder position(Long position);
+
+        /**
+         * Sets the maximum number of bytes to send, starting at {@link #position(Long)}. If the file ends before that many
+         * bytes are read, only the remainder of the file is sent.
+         *
+         * <p>By default the file is read until its end.</p>
+         *
+         * @param numBytesToRead Maximum number of bytes to read.
+         * @return This builder for method chaining.
+         */
+        Builder numBytesToRead(Long numBytesToRead);
+
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Path path;
         private Integer chunkSizeInBytes;
+        private Long position;
+        private Long numBytesToRead;
 
         @Override
         public Builder path(Path path) {
@@ -149,6 +200,26 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             chunkSizeInBytes(chunkSizeInBytes);
         }
 
+        @Override
+        public Builder position(Long position) {
+            this.position = position;
+            return this;
+        }
+
+        public void setPosition(Long position) {
+            position(position);
+        }
+
+        @Override
+        public Builder numBytesToRead(Long numBytesToRead) {
+            this.numBytesToRead = numBytesToRead;
+            return this;
+        }
+
+        public void setNumBytesToRead(Long numBytesToRead) {
+            numBytesToRead(numBytesToRead);
+        }
+
         @Override
         public FileAsyncRequestBody build() {
             return new FileAsyncRequestBody(this);
@@ -162,16 +233,20 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private final AsynchronousFileChannel inputChannel;
         private final Subscriber<? super ByteBuffer> subscriber;
         private final int chunkSize;
+        private final long endPosition;
 
-        private long position = 0;
+        private long position;
         private AtomicLong outstandingDemand = new AtomicLong(0);
         private boolean writeInProgress = false;
         private volatile boolean done = false;
 
-        private FileSubscription(AsynchronousFileChannel inputChannel, Subscriber<? super ByteBuffer> subscriber, int chunkSize) {
+        private FileSubscription(AsynchronousFileChannel inputChannel, Subscriber<? super ByteBuffer> subscriber, int chunkSize,
+                                 long position, long endPosition) {
             this.inputChannel = inputChannel;
             this.subscriber = subscriber;
             this.chunkSize = chunkSize;
+            this.position = position;
+            this.endPosition = endPosition;
         }
 
         @Override
@@ -225,7 +300,13 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                 return;
             }
 
-            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+            if (position >= endPosition) {
+                signalOnComplete();
+                closeFile();
+                return;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(chunkSize, endPosition - position));
             inputChannel.read(buffer, position, buffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
@@ -31,24 +31,44 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.LentByteBuffers;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
  *
+ * <p>By default the file must not exist and is deleted if the request fails. When created with a position the content is
+ * instead written into the file starting at that position, creating the file if needed. Other regions of the file are left
+ * untouched and the file is not deleted on failure, so several transformers can fill disjoint ranges of the same file
+ * concurrently, for example the parts of a ranged download.</p>
+ *
  * @param <ResponseT> Response POJO type.
  */
 @SdkInternalApi
 public final class FileAsyncResponseTransformer<ResponseT> implements AsyncResponseTransformer<ResponseT, ResponseT> {
     private final Path path;
+    private final long position;
+    private final boolean writeAtPosition;
     private volatile AsynchronousFileChannel fileChannel;
     private volatile CompletableFuture<Void> cf;
     private volatile ResponseT response;
 
     public FileAsyncResponseTransformer(Path path) {
         this.path = path;
+        this.position = 0;
+        this.writeAtPosition = false;
+    }
+
+    public FileAsyncResponseTransformer(Path path, long position) {
+        this.path = path;
+        this.position = Validate.isNotNegative(position, "position");
+        this.writeAtPosition = true;
     }
 
     private AsynchronousFileChannel createChannel(Path path) throws IOException {
+        if (writeAtPosition) {
+            return AsynchronousFileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        }
         return AsynchronousFileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
     }
 
@@ -72,7 +92,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
         // onStream may be called multiple times so reset the file channel every time
         this.fileChannel = invokeSafely(() -> createChannel(path));
-        publisher.subscribe(new FileSubscriber(this.fileChannel, path, cf));
+        publisher.subscribe(new FileSubscriber(this.fileChannel, path, position, cf));
     }
 
     @Override
@@ -82,7 +102,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 invokeSafely(fileChannel::close);
             }
         } finally {
-            invokeSafely(() -> Files.deleteIfExists(path));
+            if (!writeAtPosition) {
+                invokeSafely(() -> Files.deleteIfExists(path));
+            }
         }
         cf.completeExceptionally(throwable);
     }
@@ -91,7 +113,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
      * {@link Subscriber} implementation that writes chunks to a file.
      */
     static class FileSubscriber implements Subscriber<ByteBuffer> {
-        private final AtomicLong position = new AtomicLong();
+        private final AtomicLong position;
 
         private final AsynchronousFileChannel fileChannel;
         private final Path path;
@@ -102,6 +124,11 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         private Subscription subscription;
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future) {
+            this(fileChannel, path, 0, future);
+        }
+
+        FileSubscriber(AsynchronousFileChannel fileChannel, Path path, long startPosition, CompletableFuture<Void> future) {
+            this.position = new AtomicLong(startPosition);
             this.fileChannel = fileChannel;
             this.path = path;
             this.future = future;
@@ -124,20 +151,22 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            // The write completes after onNext returns, so keep a buffer the publisher only lends until it is written
+            performWrite(byteBuffer, LentByteBuffers.retain());
         }
 
-        private void performWrite(ByteBuffer byteBuffer) {
+        private void performWrite(ByteBuffer byteBuffer, Runnable release) {
             writeInProgress = true;
 
-            fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
+            CompletionHandler<Integer, ByteBuffer> handler = new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
                     position.addAndGet(result);
 
                     if (byteBuffer.hasRemaining()) {
-                        performWrite(byteBuffer);
+                        performWrite(byteBuffer, release);
                     } else {
+                        release.run();
                         synchronized (FileSubscriber.this) {
                             if (closeOnLastWrite) {
                                 close();
@@ -151,10 +180,18 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    release.run();
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
-            });
+            };
+
+            try {
+                fileChannel.write(byteBuffer, position.get(), byteBuffer, handler);
+            } catch (RuntimeException e) {
+                release.run();
+                throw e;
+            }
         }
 
         @Override
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.client.config;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.ClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
+
+/**
+ * Options of the SDK client configuration whose values are internal types, which are kept out of {@link SdkClientOption}
+ * so that those types do not become part of its API.
+ */
+@SdkInternalApi
+public final class SdkInternalClientOption<T> extends ClientOption<T> {
+    /**
+     * The internal SDK scheduler of the API call and API call attempt timeouts. Falls back to the
+     * {@link SdkClientOption#SCHEDULED_EXECUTOR_SERVICE} when not set.
+     */
+    public static final SdkInternalClientOption<TimeoutScheduler> TIMEOUT_SCHEDULER =
+        new SdkInternalClientOption<>(TimeoutScheduler.class);
+
+    private SdkInternalClientOption(Class<T> valueClass) {
+        super(valueClass);
+    }
+}
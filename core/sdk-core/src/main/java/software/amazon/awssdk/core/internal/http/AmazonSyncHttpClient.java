@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterTransmissionExecutionInterceptorsStage;
@@ -57,11 +58,49 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 public final class AmazonSyncHttpClient implements SdkAutoCloseable {
     private final HttpClientDependencies httpClientDependencies;
 
+    /**
+     * The pipeline executing every request of this client. The stages hold no request state, so the pipeline is built once
+     * and the per-request inputs, like the response handlers, are passed in the {@link RequestExecutionContext}.
+     */
+    private final RequestPipeline<SdkHttpFullRequest, Object> requestPipeline;
+
     public AmazonSyncHttpClient(SdkClientConfiguration clientConfiguration) {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
                                                             .capacityManager(createCapacityManager())
                                                             .build();
+        this.requestPipeline = buildRequestPipeline(httpClientDependencies);
+    }
+
+    private static RequestPipeline<SdkHttpFullRequest, Object> buildRequestPipeline(HttpClientDependencies dependencies) {
+        return RequestPipelineBuilder
+            // Start of mutating request. These stages share one builder, so the request is copied once on the way in and
+            // built once on the way out. Signing, the interceptors and retries need the immutable request.
+            .first(RequestPipelineBuilder
+                       .first(MakeRequestMutableStage::new)
+                       .then(ApplyTransactionIdStage::new)
+                       .then(ApplyUserAgentStage::new)
+                       .then(MergeCustomHeadersStage::new)
+                       .then(MergeCustomQueryParamsStage::new)
+                       .then(MoveParametersToBodyStage::new)
+                       .then(MakeRequestImmutableStage::new)
+                       // End of mutating request
+                       .then(RequestPipelineBuilder
+                                 .first(SigningStage::new)
+                                 .then(BeforeTransmissionExecutionInterceptorsStage::new)
+                                 .then(MakeHttpRequestStage::new)
+                                 .then(AfterTransmissionExecutionInterceptorsStage::new)
+                                 .then(BeforeUnmarshallingExecutionInterceptorsStage::new)
+                                 .then(() -> new HandleResponseStage<Object>())
+                                 .wrappedWith(ApiCallAttemptTimeoutTrackingStage::new)
+                                 .wrappedWith(TimeoutExceptionHandlingStage::new)
+                                 .wrappedWith(RetryableStage::new)::build)
+                       .wrappedWith(StreamManagingStage::new)
+                       .wrappedWith(ApiCallTimeoutTrackingStage::new)::build)
+            .then(() -> new UnwrapResponseContainer<>())
+            .then(() -> new AfterExecutionInterceptorsStage<>())
+            .wrappedWith(ExecutionFailureExceptionReportingStage::new)
+            .build(dependencies);
     }
 
     private CapacityManager createCapacityManager() {
@@ -208,36 +247,10 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
             }
 
             try {
-                return RequestPipelineBuilder
-                    // Start of mutating request
-                    .first(RequestPipelineBuilder
-                               .first(MakeRequestMutableStage::new)
-                               .then(ApplyTransactionIdStage::new)
-                               .then(ApplyUserAgentStage::new)
-                               .then(MergeCustomHeadersStage::new)
-                               .then(MergeCustomQueryParamsStage::new)
-                               .then(MoveParametersToBodyStage::new)
-                               .then(MakeRequestImmutableStage::new)
-                               // End of mutating request
-                               .then(RequestPipelineBuilder
-                                         .first(SigningStage::new)
-                                         .then(BeforeTransmissionExecutionInterceptorsStage::new)
-                                         .then(MakeHttpRequestStage::new)
-                                         .then(AfterTransmissionExecutionInterceptorsStage::new)
-                                         .then(BeforeUnmarshallingExecutionInterceptorsStage::new)
-                                         .then(() -> new HandleResponseStage<>(
-                                             getNonNullResponseHandler(responseHandler),
-                                             getNonNullResponseHandler(errorResponseHandler)))
-                                         .wrappedWith(ApiCallAttemptTimeoutTrackingStage::new)
-                                         .wrappedWith(TimeoutExceptionHandlingStage::new)
-                                         .wrappedWith(RetryableStage::new)::build)
-                               .wrappedWith(StreamManagingStage::new)
-                               .wrappedWith(ApiCallTimeoutTrackingStage::new)::build)
-                    .then(() -> new UnwrapResponseContainer<>())
-                    .then(() -> new AfterExecutionInterceptorsStage<>())
-                    .wrappedWith(ExecutionFailureExceptionReportingStage::new)
-                    .build(httpClientDependencies)
-                    .execute(request, createRequestExecutionDependencies());
+                RequestExecutionContext context = createRequestExecutionDependencies(responseHandler);
+                @SuppressWarnings("unchecked") // The response handler of the context produces OutputT
+                OutputT result = (OutputT) requestPipeline.execute(request, context);
+                return result;
             } catch (RuntimeException e) {
                 throw e;
             } catch (Exception e) {
@@ -250,10 +263,12 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
             execute(null);
         }
 
-        private RequestExecutionContext createRequestExecutionDependencies() {
+        private RequestExecutionContext createRequestExecutionDependencies(HttpResponseHandler<?> responseHandler) {
             return RequestExecutionContext.builder()
                                           .originalRequest(originalRequest)
                                           .executionContext(executionContext)
+                                          .responseHandler(getNonNullResponseHandler(responseHandler))
+                                          .errorResponseHandler(getNonNullResponseHandler(errorResponseHandler))
                                           .build();
         }
 
@@ -23,6 +23,7 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
@@ -33,6 +34,7 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 @SdkInternalApi
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final ClockSkewAdjuster clockSkewAdjuster = new ClockSkewAdjuster();
+    private final RateLimitingTokenBucket rateLimitingTokenBucket = new RateLimitingTokenBucket();
     private final SdkClientConfiguration clientConfiguration;
     private final CapacityManager capacityManager;
 
@@ -61,6 +63,14 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return capacityManager;
     }
 
+    /**
+     * @return The token bucket limiting the sending rate of this client, when adaptive rate limiting is enabled on its
+     * retry policy.
+     */
+    public RateLimitingTokenBucket rateLimitingTokenBucket() {
+        return rateLimitingTokenBucket;
+    }
+
     /**
      * @return The adjuster used for adjusting the {@link #timeOffset} for this client.
      */
@@ -20,12 +20,16 @@ import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.signer.Signer;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -39,13 +43,18 @@ public final class RequestExecutionContext {
     private AsyncRequestBody requestProvider;
     private final SdkRequest originalRequest;
     private final ExecutionContext executionContext;
+    private final HttpResponseHandler<?> responseHandler;
+    private final HttpResponseHandler<? extends SdkException> errorResponseHandler;
     private TimeoutTracker apiCallTimeoutTracker;
     private TimeoutTracker apiCallAttemptTimeoutTracker;
+    private MetricCollector attemptMetricCollector = NoOpMetricCollector.create();
 
     private RequestExecutionContext(Builder builder) {
         this.requestProvider = builder.requestProvider;
         this.originalRequest = Validate.paramNotNull(builder.originalRequest, "originalRequest");
         this.executionContext = Validate.paramNotNull(builder.executionContext, "executionContext");
+        this.responseHandler = builder.responseHandler;
+        this.errorResponseHandler = builder.errorResponseHandler;
     }
 
     /**
@@ -85,6 +94,20 @@ public final class RequestExecutionContext {
                               .orElse(EMPTY_CONFIG);
     }
 
+    /**
+     * @return The handler for a successful response of a synchronous request, or null if it is not set.
+     */
+    public HttpResponseHandler<?> responseHandler() {
+        return responseHandler;
+    }
+
+    /**
+     * @return The handler for an error response of a synchronous request, or null if it is not set.
+     */
+    public HttpResponseHandler<? extends SdkException> errorResponseHandler() {
+        return errorResponseHandler;
+    }
+
     /**
      * @return SignerProvider used to obtain an instance of a {@link Signer}.
      */
@@ -115,6 +138,20 @@ public final class RequestExecutionContext {
         this.apiCallAttemptTimeoutTracker = timeoutTracker;
     }
 
+    /**
+     * @return The collector for the metrics of the current attempt.
+     */
+    public MetricCollector attemptMetricCollector() {
+        return attemptMetricCollector;
+    }
+
+    /**
+     * Sets the collector for the metrics of the current attempt. Should be called once per attempt.
+     */
+    public void attemptMetricCollector(MetricCollector attemptMetricCollector) {
+        this.attemptMetricCollector = attemptMetricCollector;
+    }
+
     /**
      * Sets the request body provider.
      * Used for transforming the original body provider to sign events for
@@ -132,6 +169,8 @@ public final class RequestExecutionContext {
         private AsyncRequestBody requestProvider;
         private SdkRequest originalRequest;
         private ExecutionContext executionContext;
+        private HttpResponseHandler<?> responseHandler;
+        private HttpResponseHandler<? extends SdkException> errorResponseHandler;
 
         public Builder requestProvider(AsyncRequestBody requestProvider) {
             this.requestProvider = requestProvider;
@@ -148,6 +187,16 @@ public final class RequestExecutionContext {
             return this;
         }
 
+        public Builder responseHandler(HttpResponseHandler<?> responseHandler) {
+            this.responseHandler = responseHandler;
+            return this;
+        }
+
+        public Builder errorResponseHandler(HttpResponseHandler<? extends SdkException> errorResponseHandler) {
+            this.errorResponseHandler = errorResponseHandler;
+            return this;
+        }
+
         public RequestExecutionContext build() {
             return new RequestExecutionContext(this);
         }
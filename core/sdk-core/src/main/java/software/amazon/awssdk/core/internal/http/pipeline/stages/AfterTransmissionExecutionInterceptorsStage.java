@@ -32,6 +32,12 @@ public class AfterTransmissionExecutionInterceptorsStage
     public Pair<SdkHttpFullRequest, SdkHttpFullResponse> execute(Pair<SdkHttpFullRequest, SdkHttpFullResponse> input,
                                                                  RequestExecutionContext context) throws Exception {
         InterruptMonitor.checkInterrupted();
+        if (context.interceptorChain().isEmpty()) {
+            // Nothing can modify the response, so there is no need to copy the context and rebuild the response
+            InterruptMonitor.checkInterrupted(input.right());
+            return input;
+        }
+
         // Update interceptor context
         InterceptorContext interceptorContext =
                 context.executionContext().interceptorContext().copy(b -> b.httpResponse(input.right())
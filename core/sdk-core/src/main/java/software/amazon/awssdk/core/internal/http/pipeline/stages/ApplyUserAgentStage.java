@@ -16,7 +16,6 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ApiName;
 import software.amazon.awssdk.core.ClientType;
@@ -49,19 +48,48 @@ public class ApplyUserAgentStage implements MutableRequestToRequestPipeline {
 
     private final SdkClientConfiguration clientConfig;
 
+    /**
+     * The user agent up to the API names of the request, which is the same for every request of the client.
+     */
+    private final String clientUserAgent;
+
+    /**
+     * The user agent suffix configured for the client, including its separator, or an empty string.
+     */
+    private final String userAgentSuffix;
+
+    /**
+     * The user agent of the requests without API names, applied without building a new string.
+     */
+    private final String userAgent;
+
     public ApplyUserAgentStage(HttpClientDependencies dependencies) {
         this.clientConfig = dependencies.clientConfiguration();
+        this.clientUserAgent = getUserAgent(clientConfig);
+        this.userAgentSuffix = getUserAgentSuffix(clientConfig);
+        this.userAgent = clientUserAgent + userAgentSuffix;
     }
 
     @Override
     public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder request, RequestExecutionContext context)
             throws Exception {
-        StringBuilder userAgentBuilder = getUserAgent(clientConfig, context.requestConfig().apiNames());
-        String userAgent = addUserAgentSuffix(userAgentBuilder, clientConfig);
-        return request.putHeader(HEADER_USER_AGENT, userAgent);
+        List<ApiName> requestApiNames = context.requestConfig().apiNames();
+        if (requestApiNames.isEmpty()) {
+            return request.putHeader(HEADER_USER_AGENT, userAgent);
+        }
+
+        StringBuilder userAgentBuilder = new StringBuilder(clientUserAgent);
+        for (ApiName apiName : requestApiNames) {
+            userAgentBuilder.append(SPACE).append(apiName.name()).append("/").append(apiName.version());
+        }
+        return request.putHeader(HEADER_USER_AGENT, userAgentBuilder.append(userAgentSuffix).toString());
     }
 
-    private StringBuilder getUserAgent(SdkClientConfiguration config, List<ApiName> requestApiNames) {
+    /**
+     * Only the parts of the user agent that are the same for every request of the client are added in this method. The API
+     * names of the request are appended in {@link #execute}, followed by the suffix from {@link #getUserAgentSuffix}.
+     */
+    private String getUserAgent(SdkClientConfiguration config) {
         String userDefinedPrefix = config.option(SdkAdvancedClientOption.USER_AGENT_PREFIX);
         String awsExecutionEnvironment = SdkSystemSetting.AWS_EXECUTION_ENV.getStringValue().orElse(null);
 
@@ -94,29 +122,21 @@ public class ApplyUserAgentStage implements MutableRequestToRequestPipeline {
                  .append("/")
                  .append(SdkHttpUtils.urlEncode(clientName));
 
-        if (!requestApiNames.isEmpty()) {
-            String requestUserAgent = requestApiNames.stream()
-                    .map(n -> n.name() + "/" + n.version())
-                    .collect(Collectors.joining(" "));
-
-            userAgent.append(SPACE).append(requestUserAgent);
-        }
-
-        return userAgent;
+        return userAgent.toString();
     }
 
     /**
      * Only user agent suffix needs to be added in this method. Any other changes to user agent should be handled in
-     * {@link #getUserAgent(SdkClientConfiguration, List)} method.
+     * {@link #getUserAgent(SdkClientConfiguration)} method.
      */
-    private String addUserAgentSuffix(StringBuilder userAgent, SdkClientConfiguration config) {
+    private String getUserAgentSuffix(SdkClientConfiguration config) {
         String userDefinedSuffix = config.option(SdkAdvancedClientOption.USER_AGENT_SUFFIX);
 
         if (!StringUtils.isEmpty(userDefinedSuffix)) {
-            userAgent.append(COMMA).append(userDefinedSuffix.trim());
+            return COMMA + userDefinedSuffix.trim();
         }
 
-        return userAgent.toString();
+        return "";
     }
 
     private String clientName(ClientType clientType) {
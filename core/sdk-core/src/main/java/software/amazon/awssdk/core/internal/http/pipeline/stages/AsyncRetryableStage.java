@@ -36,10 +36,13 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
@@ -86,12 +89,13 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         private final AsyncRequestBody originalRequestBody;
 
         private int requestCount = 0;
+        private Duration backoffDelay;
 
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
             this.originalRequestBody = context.requestProvider();
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, dependencies.rateLimitingTokenBucket());
         }
 
         public CompletableFuture<Response<OutputT>> execute() throws Exception {
@@ -100,9 +104,34 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         }
 
         public CompletableFuture<Response<OutputT>> execute(CompletableFuture<Response<OutputT>> future) throws Exception {
+            Duration sendDelay = retryHandler.acquireSendToken();
+            if (sendDelay.isZero()) {
+                return executeAttempt(future);
+            }
+
+            // Wait for the rate limiter of the client without blocking the calling thread.
+            SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client side rate limit reached, will send in "
+                                                         + sendDelay.toMillis() + "ms");
+            scheduledExecutor.schedule(() -> {
+                try {
+                    executeAttempt(future);
+                } catch (Throwable t) {
+                    completeExceptionally(future, t);
+                }
+            }, sendDelay.toNanos(), TimeUnit.NANOSECONDS);
+            return future;
+        }
+
+        private CompletableFuture<Response<OutputT>> executeAttempt(CompletableFuture<Response<OutputT>> future)
+                throws Exception {
             beforeExecute();
+            MetricCollector attemptMetricCollector = createAttemptMetricCollector();
+            long attemptStart = System.nanoTime();
             CompletableFuture<Response<OutputT>> executeFuture = doExecute();
-            executeFuture.whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
+            executeFuture.whenComplete((resp, err) -> {
+                MetricUtils.reportDurationSince(attemptMetricCollector, CoreMetric.SERVICE_CALL_DURATION, attemptStart);
+                retryIfNeeded(future, resp, err);
+            });
             return CompletableFutureUtils.forwardExceptionTo(future, executeFuture);
         }
 
@@ -124,14 +153,15 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                     retryErrorIfNeeded(sdkException, future);
                 }
             } catch (Throwable t) {
-                future.completeExceptionally(t);
+                completeExceptionally(future, t);
             }
         }
 
         private void retryResponseIfNeeded(Response<OutputT> resp, CompletableFuture<Response<OutputT>> future) {
+            retryHandler.updateSendingRate(resp.isSuccess() ? null : resp.exception());
             if (resp.isSuccess()) {
                 retryHandler.releaseRetryCapacity();
-                future.complete(resp);
+                complete(future, resp);
                 return;
             }
 
@@ -151,13 +181,13 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                 retryHandler.setLastRetriedException(err);
                 executeRetry(future);
             } else {
-                future.completeExceptionally(err);
+                completeExceptionally(future, err);
             }
         }
 
         private void retryErrorIfNeeded(SdkException err, CompletableFuture<Response<OutputT>> future) {
             if (err instanceof NonRetryableException) {
-                future.completeExceptionally(err);
+                completeExceptionally(future, err);
                 return;
             }
 
@@ -170,8 +200,32 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                 retryHandler.setLastRetriedException(err);
                 executeRetry(future);
             } else {
-                future.completeExceptionally(err);
+                completeExceptionally(future, err);
+            }
+        }
+
+        private void complete(CompletableFuture<Response<OutputT>> future, Response<OutputT> resp) {
+            reportRetryCount();
+            future.complete(resp);
+        }
+
+        private void completeExceptionally(CompletableFuture<Response<OutputT>> future, Throwable t) {
+            reportRetryCount();
+            future.completeExceptionally(t);
+        }
+
+        private void reportRetryCount() {
+            context.executionContext().metricCollector().reportMetric(CoreMetric.RETRY_COUNT, Math.max(0, requestCount - 1));
+        }
+
+        private MetricCollector createAttemptMetricCollector() {
+            MetricCollector attemptMetricCollector = context.executionContext().metricCollector().createChild("ApiCallAttempt");
+            context.attemptMetricCollector(attemptMetricCollector);
+            if (backoffDelay != null) {
+                attemptMetricCollector.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, backoffDelay);
+                backoffDelay = null;
             }
+            return attemptMetricCollector;
         }
 
         private boolean shouldRetry(SdkHttpFullResponse httpResponse, SdkException exception) {
@@ -180,6 +234,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         private void executeRetry(CompletableFuture<Response<OutputT>> future) {
             Duration delay = retryHandler.computeDelayBeforeNextRetry();
+            backoffDelay = delay;
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + requestCount);
@@ -35,6 +35,9 @@ import software.amazon.awssdk.utils.IoUtils;
  * Unmarshalls an HTTP response into either a successful response POJO, or into a (possibly modeled) exception. Returns a wrapper
  * {@link Response} object which may contain either the unmarshalled success POJO, or the unmarshalled exception.
  *
+ * <p>The response handlers are taken from the {@link RequestExecutionContext} of each request, so that a single instance of
+ * this stage can be shared by all the requests of a client.
+ *
  * @param <OutputT> Type of successful unmarshalled POJO.
  */
 // TODO: Should this be broken up? It's doing quite a lot...
@@ -42,15 +45,6 @@ import software.amazon.awssdk.utils.IoUtils;
 public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFullResponse, Response<OutputT>> {
     private static final Logger log = LoggerFactory.getLogger(HandleResponseStage.class);
 
-    private final HttpResponseHandler<OutputT> successResponseHandler;
-    private final HttpResponseHandler<? extends SdkException> errorResponseHandler;
-
-    public HandleResponseStage(HttpResponseHandler<OutputT> successResponseHandler,
-                               HttpResponseHandler<? extends SdkException> errorResponseHandler) {
-        this.successResponseHandler = successResponseHandler;
-        this.errorResponseHandler = errorResponseHandler;
-    }
-
     @Override
     public Response<OutputT> execute(SdkHttpFullResponse httpResponse, RequestExecutionContext context) throws Exception {
         boolean didRequestFail = true;
@@ -59,7 +53,7 @@ public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFull
             didRequestFail = response.isFailure();
             return response;
         } finally {
-            closeInputStreamIfNeeded(httpResponse, didRequestFail);
+            closeInputStreamIfNeeded(httpResponse, context, didRequestFail);
         }
     }
 
@@ -86,7 +80,7 @@ public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFull
             throws IOException, InterruptedException {
         try {
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Received successful response: " + httpResponse.statusCode());
-            return successResponseHandler.handle(httpResponse, context.executionAttributes());
+            return successResponseHandler(context).handle(httpResponse, context.executionAttributes());
         } catch (IOException | InterruptedException | RetryableException e) {
             throw e;
         } catch (Exception e) {
@@ -111,7 +105,7 @@ public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFull
                                              RequestExecutionContext context)
             throws IOException, InterruptedException {
         try {
-            SdkException exception = errorResponseHandler.handle(httpResponse, context.executionAttributes());
+            SdkException exception = context.errorResponseHandler().handle(httpResponse, context.executionAttributes());
             exception.fillInStackTrace();
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Received error response: " + exception);
             return exception;
@@ -129,12 +123,18 @@ public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFull
      * Close the input stream if required.
      */
     private void closeInputStreamIfNeeded(SdkHttpFullResponse httpResponse,
+                                          RequestExecutionContext context,
                                           boolean didRequestFail) {
         // Always close on failed requests. Close on successful requests unless it needs connection left open
-        if (didRequestFail || !successResponseHandler.needsConnectionLeftOpen()) {
+        if (didRequestFail || !successResponseHandler(context).needsConnectionLeftOpen()) {
             Optional.ofNullable(httpResponse)
                     .flatMap(SdkHttpFullResponse::content) // If no content, no need to close
                     .ifPresent(s -> IoUtils.closeQuietly(s, log));
         }
     }
+
+    @SuppressWarnings("unchecked") // The pipeline producing OutputT is executed with a handler of OutputT
+    private HttpResponseHandler<OutputT> successResponseHandler(RequestExecutionContext context) {
+        return (HttpResponseHandler<OutputT>) context.responseHandler();
+    }
 }
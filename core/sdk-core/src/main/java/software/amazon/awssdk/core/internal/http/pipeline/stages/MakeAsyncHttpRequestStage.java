@@ -23,7 +23,6 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -43,8 +42,10 @@ import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -52,6 +53,7 @@ import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -67,7 +69,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final TransformingAsyncResponseHandler<OutputT> responseHandler;
     private final TransformingAsyncResponseHandler<? extends SdkException> errorResponseHandler;
     private final Executor futureCompletionExecutor;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final TimeoutScheduler timeoutScheduler;
     private final Duration apiCallAttemptTimeout;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<OutputT> responseHandler,
@@ -79,7 +81,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutScheduler = TimerUtils.resolveTimeoutScheduler(dependencies.clientConfiguration());
     }
 
     @Override
@@ -99,7 +101,8 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         //FIXME(dongie): We need to be careful to only call responseHandler.prepare() exactly once per execute() call
         //because it calls prepare() under the hood and we guarantee that we call that once per execution. It would be good
         //to find a way to prevent multiple calls to prepare() within a single execution to only call prepare() once.
-        ResponseHandler handler = new ResponseHandler(responseFuture, preparedTransformFuture, preparedErrorTransformFuture);
+        ResponseHandler handler = new ResponseHandler(responseFuture, preparedTransformFuture, preparedErrorTransformFuture,
+                                                      context.attemptMetricCollector());
 
         CompletableFuture<Response<OutputT>> preparedWrapperTransformFuture = handler.prepare();
 
@@ -114,6 +117,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                                                                 .requestContentPublisher(requestProvider)
                                                                 .responseHandler(handler)
                                                                 .fullDuplex(isFullDuplex(context.executionAttributes()))
+                                                                .metricCollector(context.attemptMetricCollector())
                                                                 .build();
 
         CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
@@ -170,7 +174,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         Supplier<SdkClientException> exceptionSupplier = () -> ApiCallAttemptTimeoutException.create(timeoutMillis);
 
         return TimerUtils.timeAsyncTaskIfNeeded(executeFuture,
-                                                timeoutExecutor,
+                                                timeoutScheduler,
                                                 exceptionSupplier,
                                                 timeoutMillis);
     }
@@ -206,6 +210,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         private final CompletableFuture<Response<OutputT>> responseFuture;
         private final CompletableFuture<OutputT> transformFuture;
         private final CompletableFuture<? extends SdkException> errorTransformFuture;
+        private final MetricCollector attemptMetricCollector;
         private CompletableFuture<SdkHttpResponse> headersFuture;
         private volatile SdkHttpFullResponse response;
 
@@ -215,17 +220,21 @@ public final class MakeAsyncHttpRequestStage<OutputT>
          * @param transformFuture the transformFuture returned from {@link MakeAsyncHttpRequestStage#responseHandler#prepare()}
          * @param errorTransformFuture the error transform future returned from
          * {@link MakeAsyncHttpRequestStage#errorResponseHandler#prepare()}
+         * @param attemptMetricCollector the collector for the metrics of the attempt
          */
         ResponseHandler(CompletableFuture<Response<OutputT>> responseFuture,
                         CompletableFuture<OutputT> transformFuture,
-                        CompletableFuture<? extends SdkException> errorTransformFuture) {
+                        CompletableFuture<? extends SdkException> errorTransformFuture,
+                        MetricCollector attemptMetricCollector) {
             this.responseFuture = responseFuture;
             this.transformFuture = transformFuture;
             this.errorTransformFuture = errorTransformFuture;
+            this.attemptMetricCollector = attemptMetricCollector;
         }
 
         @Override
         public void onHeaders(SdkHttpResponse response) {
+            attemptMetricCollector.reportMetric(HttpMetric.HTTP_STATUS_CODE, response.statusCode());
             headersFuture.complete(response);
             if (response.isSuccessful()) {
                 SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Received successful response: " + response.statusCode());
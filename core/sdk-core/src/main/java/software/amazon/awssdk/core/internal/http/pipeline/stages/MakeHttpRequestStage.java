@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -51,6 +52,7 @@ public class MakeHttpRequestStage
         HttpExecuteResponse executeResponse = executeHttpRequest(request, context);
         // TODO: Plumb through ExecuteResponse instead
         SdkHttpFullResponse httpResponse = (SdkHttpFullResponse) executeResponse.httpResponse();
+        context.attemptMetricCollector().reportMetric(HttpMetric.HTTP_STATUS_CODE, httpResponse.statusCode());
         return Pair.of(request, httpResponse.toBuilder().content(executeResponse.responseBody().orElse(null)).build());
     }
 
@@ -59,6 +61,7 @@ public class MakeHttpRequestStage
             .prepareRequest(HttpExecuteRequest.builder()
                                               .request(request)
                                               .contentStreamProvider(request.contentStreamProvider().orElse(null))
+                                              .metricCollector(context.attemptMetricCollector())
                                               .build());
 
         context.apiCallTimeoutTracker().abortable(requestCallable);
@@ -15,13 +15,11 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -34,32 +32,35 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 @SdkInternalApi
 public class MergeCustomHeadersStage implements MutableRequestToRequestPipeline {
 
-    private final SdkClientConfiguration config;
+    /**
+     * The additional headers of the client, which are the same for every request.
+     */
+    private final Map<String, List<String>> clientHeaders;
 
     public MergeCustomHeadersStage(HttpClientDependencies dependencies) {
-        this.config = dependencies.clientConfiguration();
+        Map<String, List<String>> headers =
+            dependencies.clientConfiguration().option(SdkClientOption.ADDITIONAL_HTTP_HEADERS);
+        this.clientHeaders = headers == null ? Collections.emptyMap() : headers;
     }
 
     @Override
     public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder request, RequestExecutionContext context)
             throws Exception {
-        return request.headers(mergeHeaders(request.headers(),
-                                            config.option(SdkClientOption.ADDITIONAL_HTTP_HEADERS),
-                                            adaptHeaders(context.requestConfig().headers())));
-    }
+        Map<String, List<String>> requestHeaders = context.requestConfig().headers();
+        if (clientHeaders.isEmpty() && requestHeaders.isEmpty()) {
+            return request;
+        }
 
-    @SafeVarargs
-    private final Map<String, List<String>> mergeHeaders(Map<String, List<String>>... headers) {
-        Map<String, List<String>> result = new LinkedHashMap<>();
-        for (Map<String, List<String>> header : headers) {
-            header.forEach((k, v) -> result.computeIfAbsent(k, ignored -> new ArrayList<>()).addAll(v));
+        // Append to the request in place, in the order the headers used to be merged in: the client headers, then the
+        // request headers sorted by name.
+        appendHeaders(request, clientHeaders);
+        if (!requestHeaders.isEmpty()) {
+            appendHeaders(request, new TreeMap<>(requestHeaders));
         }
-        return result;
+        return request;
     }
 
-    private Map<String, List<String>> adaptHeaders(Map<String, List<String>> toConvert) {
-        Map<String, List<String>> adapted = new TreeMap<>();
-        toConvert.forEach((name, value) -> adapted.put(name, new ArrayList<>(value)));
-        return adapted;
+    private void appendHeaders(SdkHttpFullRequest.Builder request, Map<String, List<String>> headers) {
+        headers.forEach((name, values) -> values.forEach(value -> request.appendHeader(name, value)));
     }
 }
@@ -15,14 +15,11 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
-import software.amazon.awssdk.utils.CollectionUtils;
 
 /**
  * Merge customer supplied query params into the marshalled request.
@@ -33,14 +30,19 @@ public class MergeCustomQueryParamsStage implements MutableRequestToRequestPipel
     @Override
     public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder request, RequestExecutionContext context)
             throws Exception {
-        return request.rawQueryParameters(mergeParams(request, context));
+        // Append to the request in place, there is nothing to merge for most requests
+        context.requestConfig().rawQueryParameters().forEach((name, values) -> appendParameter(request, name, values));
+        return request;
     }
 
-    private Map<String, List<String>> mergeParams(SdkHttpFullRequest.Builder request, RequestExecutionContext context) {
-        Map<String, List<String>> merged = new LinkedHashMap<>(request.rawQueryParameters().size());
-        merged.putAll(request.rawQueryParameters());
-        context.requestConfig().rawQueryParameters()
-               .forEach((key, val) -> merged.put(key, CollectionUtils.mergeLists(merged.get(key), val)));
-        return merged;
+    private void appendParameter(SdkHttpFullRequest.Builder request, String name, List<String> values) {
+        if (values.isEmpty()) {
+            // A parameter without values is still added, unless the request already has it
+            if (!request.rawQueryParameters().containsKey(name)) {
+                request.putRawQueryParameter(name, values);
+            }
+            return;
+        }
+        values.forEach(value -> request.appendRawQueryParameter(name, value));
     }
 }
@@ -32,8 +32,11 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipel
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -76,23 +79,28 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, dependencies.rateLimitingTokenBucket());
         }
 
         public Response<OutputT> execute() throws Exception {
-            while (true) {
-                try {
-                    beforeExecute();
-                    Response<OutputT> response = doExecute();
-                    if (response.isSuccess()) {
-                        retryHandler.releaseRetryCapacity();
-                        return response;
-                    } else {
-                        retryHandler.setLastRetriedException(handleUnmarshalledException(response));
+            try {
+                while (true) {
+                    try {
+                        beforeExecute();
+                        Response<OutputT> response = doExecute();
+                        retryHandler.updateSendingRate(response.isSuccess() ? null : response.exception());
+                        if (response.isSuccess()) {
+                            retryHandler.releaseRetryCapacity();
+                            return response;
+                        } else {
+                            retryHandler.setLastRetriedException(handleUnmarshalledException(response));
+                        }
+                    } catch (SdkClientException | IOException e) {
+                        retryHandler.setLastRetriedException(handleThrownException(e));
                     }
-                } catch (SdkClientException | IOException e) {
-                    retryHandler.setLastRetriedException(handleThrownException(e));
                 }
+            } finally {
+                context.executionContext().metricCollector().reportMetric(CoreMetric.RETRY_COUNT, Math.max(0, requestCount - 1));
             }
         }
 
@@ -103,14 +111,23 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         }
 
         private Response<OutputT> doExecute() throws Exception {
+            MetricCollector attemptMetricCollector = context.executionContext().metricCollector().createChild("ApiCallAttempt");
+            context.attemptMetricCollector(attemptMetricCollector);
+
             if (retryHandler.isRetry()) {
-                doPauseBeforeRetry();
+                doPauseBeforeRetry(attemptMetricCollector);
             }
+            doPauseForSendToken();
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") + "Request: " +
                                                          request);
 
-            return requestPipeline.execute(retryHandler.addRetryInfoHeader(request, requestCount), context);
+            long attemptStart = System.nanoTime();
+            try {
+                return requestPipeline.execute(retryHandler.addRetryInfoHeader(request, requestCount), context);
+            } finally {
+                MetricUtils.reportDurationSince(attemptMetricCollector, CoreMetric.SERVICE_CALL_DURATION, attemptStart);
+            }
         }
 
         private SdkException handleUnmarshalledException(Response<OutputT> response) {
@@ -145,12 +162,25 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
             return sdkClientException;
         }
 
+        /**
+         * Wait for the rate limiter of the client to allow sending the attempt, when adaptive rate limiting is enabled.
+         */
+        private void doPauseForSendToken() throws InterruptedException {
+            Duration delay = retryHandler.acquireSendToken();
+            if (!delay.isZero()) {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client side rate limit reached, will send in "
+                                                             + delay.toMillis() + "ms");
+                TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+            }
+        }
+
         /**
          * Sleep for a period of time on failed request to avoid flooding a service with retries.
          */
-        private void doPauseBeforeRetry() throws InterruptedException {
+        private void doPauseBeforeRetry(MetricCollector attemptMetricCollector) throws InterruptedException {
             int retriesAttempted = requestCount - 2;
             Duration delay = retryHandler.computeDelayBeforeNextRetry();
+            attemptMetricCollector.reportMetric(CoreMetric.BACKOFF_DELAY_DURATION, delay);
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + retriesAttempted);
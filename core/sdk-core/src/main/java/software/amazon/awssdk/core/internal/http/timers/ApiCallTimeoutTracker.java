@@ -21,18 +21,22 @@ import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link ScheduledFuture}.
+ * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link TimeoutScheduler.Timeout} that schedules it.
  */
 @SdkInternalApi
 public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     private final TimeoutTask timeoutTask;
 
-    private final ScheduledFuture<?> future;
+    private final TimeoutScheduler.Timeout scheduledTimeout;
 
-    public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
+    public ApiCallTimeoutTracker(TimeoutTask timeout, TimeoutScheduler.Timeout scheduledTimeout) {
         this.timeoutTask = Validate.paramNotNull(timeout, "timeoutTask");
-        this.future = Validate.paramNotNull(future, "scheduledFuture");
+        this.scheduledTimeout = Validate.paramNotNull(scheduledTimeout, "scheduledTimeout");
+    }
+
+    public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
+        this(timeout, cancelFuture(Validate.paramNotNull(future, "scheduledFuture")));
     }
 
     @Override
@@ -47,11 +51,15 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     @Override
     public void cancel() {
-        future.cancel(false);
+        scheduledTimeout.cancel();
     }
 
     @Override
     public void abortable(Abortable abortable) {
         timeoutTask.abortable(abortable);
     }
+
+    private static TimeoutScheduler.Timeout cancelFuture(ScheduledFuture<?> future) {
+        return () -> future.cancel(false);
+    }
 }
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.VirtualThreadUtils;
+
+/**
+ * A {@link TimeoutScheduler} backed by a hashed timing wheel, built for the API call and attempt timeouts of the SDK: a large
+ * number of timeouts that are almost always cancelled before they expire, and that don't need to fire more precisely than
+ * a few milliseconds.
+ *
+ * <p>Scheduling and cancelling a timeout are O(1): they only add it to a lock-free queue. A single worker thread moves the
+ * scheduled timeouts into the bucket of the wheel they expire in, unlinks the cancelled timeouts and, every tick, runs all the
+ * timeouts of the current bucket that have expired. By default the tasks run on the worker thread, so they must be short and
+ * must not block.
+ *
+ * <p>When the runtime supports virtual threads and {@link SdkSystemSetting#AWS_VIRTUAL_THREADS_ENABLED} is not disabled, the
+ * default timer needs no dedicated platform thread: the worker is a virtual thread, and every expired task runs on a virtual
+ * thread of its own, so a task that blocks (eg. aborting a request in a blocking HTTP client) doesn't delay the other
+ * timeouts.
+ *
+ * <p>The worker thread is started when the first timeout is scheduled, and stopped when the timer is closed. Timeouts that
+ * have not expired when the timer is closed never run.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HashedWheelTimer implements TimeoutScheduler, SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /**
+     * Bound the work done between two ticks when timeouts are scheduled faster than the worker can bucket them.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long tickNanos;
+    private final Thread workerThread;
+    private final Executor taskExecutor;
+
+    /**
+     * The time the worker was started at, as measured by {@link System#nanoTime()}. The deadlines of the timeouts are relative
+     * to it. Set before the worker thread is started, and only read once it is.
+     */
+    private volatile long startTime;
+
+    public HashedWheelTimer() {
+        this(defaultThreadFactory(), defaultTaskExecutor(), DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    public HashedWheelTimer(ThreadFactory threadFactory) {
+        this(threadFactory, Runnable::run, DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    @SdkTestInternalApi
+    HashedWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(threadFactory, Runnable::run, tickDuration, unit, ticksPerWheel);
+    }
+
+    /**
+     * @param taskExecutor The executor the expired tasks are run on. If it is an {@link ExecutorService}, it is owned by the
+     * timer and shut down when the timer is closed.
+     */
+    @SdkTestInternalApi
+    HashedWheelTimer(ThreadFactory threadFactory, Executor taskExecutor, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isPositive(ticksPerWheel, "ticksPerWheel");
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = createWheel(ticksPerWheel);
+        this.mask = wheel.length - 1;
+        this.workerThread = threadFactory.newThread(new Worker());
+        this.taskExecutor = Validate.paramNotNull(taskExecutor, "taskExecutor");
+    }
+
+    @Override
+    public TimeoutScheduler.Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Validate.paramNotNull(task, "task");
+        start();
+
+        WheelTimeout timeout = new WheelTimeout(this, task, System.nanoTime() + unit.toNanos(delay) - startTime);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stop the worker thread. Timeouts that have not expired yet never run.
+     */
+    @Override
+    public void close() {
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            workerThread.interrupt();
+        }
+        if (taskExecutor instanceof ExecutorService) {
+            ((ExecutorService) taskExecutor).shutdown();
+        }
+    }
+
+    private static boolean useVirtualThreads() {
+        return VirtualThreadUtils.isSupported() && SdkSystemSetting.AWS_VIRTUAL_THREADS_ENABLED.getBooleanValue().orElse(true);
+    }
+
+    private static ThreadFactory defaultThreadFactory() {
+        if (useVirtualThreads()) {
+            return VirtualThreadUtils.virtualThreadFactory("sdk-timeout-timer")
+                                     .orElseGet(HashedWheelTimer::platformThreadFactory);
+        }
+        return platformThreadFactory();
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        return new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-timer").daemonThreads(true).build();
+    }
+
+    private static Executor defaultTaskExecutor() {
+        if (useVirtualThreads()) {
+            return VirtualThreadUtils.newVirtualThreadPerTaskExecutor("sdk-timeout-task")
+                                     .<Executor>map(e -> e)
+                                     .orElse(Runnable::run);
+        }
+        return Runnable::run;
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    // Zero means that the worker has not been started yet.
+                    long now = System.nanoTime();
+                    startTime = now == 0 ? 1 : now;
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            case WORKER_SHUTDOWN:
+                throw new IllegalStateException("Cannot schedule a timeout after the timer has been closed.");
+            default:
+                throw new IllegalStateException("Invalid worker state: " + workerState.get());
+        }
+
+        // Wait for the thread that started the worker to publish the start time.
+        while (startTime == 0) {
+            Thread.yield();
+        }
+    }
+
+    private static Bucket[] createWheel(int ticksPerWheel) {
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        Bucket[] wheel = new Bucket[Math.max(size, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        return wheel;
+    }
+
+    private final class Worker implements Runnable {
+        private long tick;
+
+        @Override
+        public void run() {
+            while (workerState.get() == WORKER_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    break;
+                }
+
+                removeCancelledTimeouts();
+                transferPendingTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                tick++;
+            }
+
+            pendingTimeouts.clear();
+            cancelledTimeouts.clear();
+        }
+
+        /**
+         * Sleep until the start of the next tick.
+         *
+         * @return The current time relative to the start time, or -1 if the timer was closed while sleeping.
+         */
+        private long waitForNextTick() {
+            long deadline = tickNanos * (tick + 1);
+            while (true) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepMillis = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999_999);
+                if (sleepMillis <= 0) {
+                    return currentTime;
+                }
+
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    if (workerState.get() == WORKER_SHUTDOWN) {
+                        return -1;
+                    }
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+                WheelTimeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    return;
+                }
+                if (timeout.state() == WheelTimeout.ST_CANCELLED) {
+                    continue;
+                }
+
+                long expiryTick = timeout.deadline / tickNanos;
+                timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+
+                // Timeouts that are already late go in the current bucket, and expire on this tick.
+                long ticks = Math.max(expiryTick, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+
+        private void removeCancelledTimeouts() {
+            WheelTimeout timeout = cancelledTimeouts.poll();
+            while (timeout != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+                timeout = cancelledTimeouts.poll();
+            }
+        }
+    }
+
+    private static final class WheelTimeout implements TimeoutScheduler.Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+
+        private volatile int state = ST_INIT;
+
+        // Only accessed by the worker thread.
+        private long remainingRounds;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+        private Bucket bucket;
+
+        private WheelTimeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // Let the worker unlink it from its bucket, so cancelled timeouts don't stay on the heap until their deadline.
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        private int state() {
+            return state;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+
+            try {
+                timer.taskExecutor.execute(() -> runTask(task));
+            } catch (RejectedExecutionException e) {
+                log.debug(() -> "The timer was closed before the timeout task could run.", e);
+            }
+        }
+
+        private static void runTask(Runnable task) {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn(() -> "A timeout task threw an exception.", t);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts expiring in a slot of the wheel. Only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.state() == WheelTimeout.ST_CANCELLED) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                } else if (timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
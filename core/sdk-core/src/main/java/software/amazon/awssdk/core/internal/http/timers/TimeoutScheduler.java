@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Schedules the {@link TimeoutTask}s tracked by {@link TimeoutTracker}s.
+ *
+ * @see HashedWheelTimer
+ */
+@SdkInternalApi
+@FunctionalInterface
+public interface TimeoutScheduler {
+
+    /**
+     * Schedule a task to run once after the given delay.
+     *
+     * @return A handle to cancel the task.
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Adapt a {@link ScheduledExecutorService} to a {@link TimeoutScheduler}.
+     */
+    static TimeoutScheduler fromExecutor(ScheduledExecutorService executor) {
+        return (task, delay, unit) -> {
+            ScheduledFuture<?> future = executor.schedule(task, delay, unit);
+            return () -> future.cancel(false);
+        };
+    }
+
+    /**
+     * A task scheduled by a {@link TimeoutScheduler}.
+     */
+    @FunctionalInterface
+    interface Timeout {
+        /**
+         * Cancel the task if it has not run yet.
+         *
+         * @return True if the task was cancelled, false if it already ran or was already cancelled.
+         */
+        boolean cancel();
+    }
+}
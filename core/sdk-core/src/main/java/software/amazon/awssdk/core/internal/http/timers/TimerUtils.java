@@ -18,12 +18,13 @@ package software.amazon.awssdk.core.internal.http.timers;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.client.config.SdkInternalClientOption;
 import software.amazon.awssdk.utils.OptionalUtils;
 
 @SdkInternalApi
@@ -37,14 +38,14 @@ public final class TimerUtils {
      * if not otherwise completed before the given timeout.
      *
      * @param completableFuture the completableFuture to be timed
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutScheduler the scheduler to execute the {@link TimeoutTask}
      * @param exceptionSupplier the exception to thrown after timeout
      * @param timeoutInMills the timeout in milliseconds.
      * @param <T> the type of the {@link CompletableFuture}
      * @return a {@link TimeoutTracker}
      */
     public static <T> TimeoutTracker timeAsyncTaskIfNeeded(CompletableFuture<T> completableFuture,
-                                                           ScheduledExecutorService timeoutExecutor,
+                                                           TimeoutScheduler timeoutScheduler,
                                                            Supplier<SdkClientException> exceptionSupplier,
                                                            long timeoutInMills) {
         if (timeoutInMills <= 0) {
@@ -53,11 +54,11 @@ public final class TimerUtils {
 
         TimeoutTask timeoutTask = new AsyncTimeoutTask(completableFuture, exceptionSupplier);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        TimeoutScheduler.Timeout scheduledTimeout =
+            timeoutScheduler.schedule(timeoutTask,
+                                      timeoutInMills,
+                                      TimeUnit.MILLISECONDS);
+        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledTimeout);
 
         completableFuture.whenComplete((o, t) -> timeoutTracker.cancel());
 
@@ -67,12 +68,12 @@ public final class TimerUtils {
     /**
      * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
      *
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutScheduler the scheduler to execute the {@link TimeoutTask}
      * @param timeoutInMills the timeout in milliseconds.
      * @param threadToInterrupt the thread to interrupt
      * @return a {@link TimeoutTracker}
      */
-    public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
+    public static TimeoutTracker timeSyncTaskIfNeeded(TimeoutScheduler timeoutScheduler,
                                                       long timeoutInMills,
                                                       Thread threadToInterrupt) {
         if (timeoutInMills <= 0) {
@@ -81,11 +82,24 @@ public final class TimerUtils {
 
         SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        return new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        TimeoutScheduler.Timeout scheduledTimeout =
+            timeoutScheduler.schedule(timeoutTask,
+                                      timeoutInMills,
+                                      TimeUnit.MILLISECONDS);
+        return new ApiCallTimeoutTracker(timeoutTask, scheduledTimeout);
+    }
+
+    /**
+     * Resolve the scheduler of the API call and attempt timeouts of a client: its
+     * {@link SdkInternalClientOption#TIMEOUT_SCHEDULER} if configured, otherwise its
+     * {@link SdkClientOption#SCHEDULED_EXECUTOR_SERVICE}.
+     */
+    public static TimeoutScheduler resolveTimeoutScheduler(SdkClientConfiguration clientConfiguration) {
+        TimeoutScheduler timeoutScheduler = clientConfiguration.option(SdkInternalClientOption.TIMEOUT_SCHEDULER);
+        if (timeoutScheduler != null) {
+            return timeoutScheduler;
+        }
+        return TimeoutScheduler.fromExecutor(clientConfiguration.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE));
     }
 
     public static long resolveTimeoutInMillis(Supplier<Optional<Duration>> supplier, Duration fallback) {
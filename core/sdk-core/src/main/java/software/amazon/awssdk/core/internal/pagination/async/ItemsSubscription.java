@@ -52,11 +52,8 @@ public final class ItemsSubscription<ResponseT, ItemT> extends PaginationSubscri
             return;
         }
 
-        synchronized (this) {
-            if (outstandingRequests.get() <= 0) {
-                stopTask();
-                return;
-            }
+        if (stopTaskIfNoOutstandingRequests()) {
+            return;
         }
 
         if (!isTerminated()) {
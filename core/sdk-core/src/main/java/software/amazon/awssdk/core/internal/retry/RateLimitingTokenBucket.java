@@ -0,0 +1,194 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Client side rate limiter used when {@link software.amazon.awssdk.core.retry.RetryPolicy#adaptiveRateLimiting()} is
+ * enabled.
+ *
+ * <p>The bucket is disabled until the first throttling response is seen, so requests are not limited in the absence of
+ * throttling. From then on, every attempt takes one token. The fill rate of the bucket is cut multiplicatively on every
+ * throttling response and grows back along a cubic curve on successful responses, centered on the rate at which the
+ * throttling happened (the CUBIC congestion control algorithm).
+ *
+ * <p>Acquiring a token never blocks: it reserves the token and returns how long the caller has to wait before sending
+ * the request, so it can be used by both the sync and the async retryable stages. The state is guarded by a
+ * {@link ReentrantLock} rather than a monitor, so callers running on virtual threads don't pin their carrier thread.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RateLimitingTokenBucket {
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final LongSupplier nanoClock;
+    private final Lock lock = new ReentrantLock();
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastTimestamp = Double.NaN;
+    private boolean enabled;
+
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    public RateLimitingTokenBucket() {
+        this(System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    RateLimitingTokenBucket(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        double now = now();
+        this.lastTxRateBucket = Math.floor(now);
+        this.lastThrottleTime = now;
+    }
+
+    /**
+     * Take a token for an attempt.
+     *
+     * @return How long to wait before sending the attempt, {@link Duration#ZERO} if it can be sent immediately.
+     */
+    public Duration acquire() {
+        lock.lock();
+        try {
+            if (!enabled) {
+                return Duration.ZERO;
+            }
+
+            refill();
+            currentCapacity -= 1;
+            if (currentCapacity >= 0) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) (-currentCapacity / fillRate * NANOS_PER_SECOND));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Update the sending rate of the client with the outcome of an attempt.
+     *
+     * @param throttled True if the attempt failed because the service throttled it.
+     */
+    public void updateClientSendingRate(boolean throttled) {
+        lock.lock();
+        try {
+            updateMeasuredRate();
+
+            double calculatedRate;
+            if (throttled) {
+                double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+                lastMaxRate = rateToUse;
+                calculateTimeWindow();
+                lastThrottleTime = now();
+                calculatedRate = cubicThrottle(rateToUse);
+                enabled = true;
+            } else {
+                calculateTimeWindow();
+                calculatedRate = cubicSuccess(now());
+            }
+
+            updateRate(Math.min(calculatedRate, 2 * measuredTxRate));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SdkTestInternalApi
+    double fillRate() {
+        lock.lock();
+        try {
+            return fillRate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SdkTestInternalApi
+    boolean isEnabled() {
+        lock.lock();
+        try {
+            return enabled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        double now = now();
+        if (Double.isNaN(lastTimestamp)) {
+            lastTimestamp = now;
+            return;
+        }
+        currentCapacity = Math.min(maxCapacity, currentCapacity + (now - lastTimestamp) * fillRate);
+        lastTimestamp = now;
+    }
+
+    private void updateRate(double newRate) {
+        refill();
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate() {
+        double now = now();
+        double timeBucket = Math.floor(now * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    private double cubicSuccess(double timestamp) {
+        double delta = timestamp - lastThrottleTime;
+        return SCALE_CONSTANT * Math.pow(delta - timeWindow, 3) + lastMaxRate;
+    }
+
+    private double cubicThrottle(double rateToUse) {
+        return rateToUse * BETA;
+    }
+
+    private double now() {
+        return nanoClock.getAsLong() / NANOS_PER_SECOND;
+    }
+}
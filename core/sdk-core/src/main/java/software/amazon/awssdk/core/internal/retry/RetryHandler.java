@@ -35,6 +35,7 @@ public final class RetryHandler {
 
     private final RetryPolicy retryPolicy;
     private final CapacityManager retryCapacity;
+    private final RateLimitingTokenBucket rateLimitingTokenBucket;
 
     private Duration lastBackoffDelay = Duration.ZERO;
     private boolean retryCapacityConsumed;
@@ -42,9 +43,11 @@ public final class RetryHandler {
     private SdkException lastRetriedException;
 
     public RetryHandler(RetryPolicy retryPolicy,
-                        CapacityManager retryCapacity) {
+                        CapacityManager retryCapacity,
+                        RateLimitingTokenBucket rateLimitingTokenBucket) {
         this.retryPolicy = retryPolicy;
         this.retryCapacity = retryCapacity;
+        this.rateLimitingTokenBucket = Boolean.TRUE.equals(retryPolicy.adaptiveRateLimiting()) ? rateLimitingTokenBucket : null;
     }
 
     public boolean shouldRetry(SdkHttpFullResponse httpResponse,
@@ -110,6 +113,26 @@ public final class RetryHandler {
         return lastBackoffDelay;
     }
 
+    /**
+     * Take a token from the rate limiter of the client for the next attempt, if adaptive rate limiting is enabled.
+     *
+     * @return How long to wait before sending the attempt.
+     */
+    public Duration acquireSendToken() {
+        return rateLimitingTokenBucket == null ? Duration.ZERO : rateLimitingTokenBucket.acquire();
+    }
+
+    /**
+     * Update the sending rate of the client with the outcome of an attempt, if adaptive rate limiting is enabled.
+     *
+     * @param exception The failure of the attempt, or null if it succeeded.
+     */
+    public void updateSendingRate(SdkException exception) {
+        if (rateLimitingTokenBucket != null) {
+            rateLimitingTokenBucket.updateClientSendingRate(exception != null && RetryUtils.isThrottlingException(exception));
+        }
+    }
+
     /**
      * Sets whether retry capacity has been consumed for this request
      */
@@ -15,18 +15,21 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
  * Manages capacity of a finite resource.  Capacity can be acquired and
  * released.
+ *
+ * <p>The capacity is updated with compare-and-set rather than under a lock, so threads acquiring it (including virtual threads)
+ * never block on each other.
  */
 @SdkInternalApi
 public class CapacityManager {
 
     private final int maxCapacity;
-    private final Object lock = new Object();
-    private volatile int availableCapacity;
+    private final AtomicInteger availableCapacity;
 
     /**
      * Creates a CapacityManager.
@@ -38,7 +41,7 @@ public class CapacityManager {
      */
     public CapacityManager(final int maxCapacity) {
         this.maxCapacity = maxCapacity;
-        this.availableCapacity = maxCapacity;
+        this.availableCapacity = new AtomicInteger(maxCapacity);
     }
 
     /**
@@ -64,17 +67,18 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to acquire cannot be negative");
         }
 
-        if (availableCapacity < 0) {
+        if (maxCapacity < 0) {
             return true;
         }
 
-        synchronized (lock) {
-            if (availableCapacity - capacity >= 0) {
-                availableCapacity -= capacity;
-                return true;
-            } else {
+        while (true) {
+            int available = availableCapacity.get();
+            if (available - capacity < 0) {
                 return false;
             }
+            if (availableCapacity.compareAndSet(available, available - capacity)) {
+                return true;
+            }
         }
     }
 
@@ -98,11 +102,19 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to release cannot be negative");
         }
 
-        // in the common 'good' case where we have our full capacity available we can
-        // short circuit going any further and avoid unnecessary locking.
-        if (availableCapacity >= 0 && availableCapacity != maxCapacity) {
-            synchronized (lock) {
-                availableCapacity = Math.min((availableCapacity + capacity), maxCapacity);
+        if (maxCapacity < 0) {
+            return;
+        }
+
+        while (true) {
+            int available = availableCapacity.get();
+            // in the common 'good' case where we have our full capacity available we can
+            // short circuit going any further and avoid an unnecessary update.
+            if (available == maxCapacity) {
+                return;
+            }
+            if (availableCapacity.compareAndSet(available, Math.min(available + capacity, maxCapacity))) {
+                return;
             }
         }
     }
@@ -113,7 +125,7 @@ public class CapacityManager {
      * @return consumed capacity
      */
     public int consumedCapacity() {
-        return (availableCapacity < 0) ? 0 : (maxCapacity - availableCapacity);
+        return (maxCapacity < 0) ? 0 : (maxCapacity - availableCapacity.get());
     }
 
     /**
@@ -122,6 +134,6 @@ public class CapacityManager {
      * @return available capacity
      */
     public int availableCapacity() {
-        return availableCapacity;
+        return availableCapacity.get();
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.time.Duration;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Helpers for reporting metrics without paying for them when no {@link MetricPublisher} is configured.
+ */
+@SdkInternalApi
+public final class MetricUtils {
+    private static final Logger log = Logger.loggerFor(MetricUtils.class);
+
+    private MetricUtils() {
+    }
+
+    /**
+     * Create the collector for an API call: a real collector if any publisher is configured, otherwise the shared no-op
+     * collector.
+     */
+    public static MetricCollector createApiCallMetricCollector(List<MetricPublisher> publishers) {
+        if (publishers == null || publishers.isEmpty()) {
+            return NoOpMetricCollector.create();
+        }
+        return MetricCollector.create("ApiCall");
+    }
+
+    /**
+     * @return True if the values reported to the given collector are discarded, so there is no need to compute them.
+     */
+    public static boolean isNoOp(MetricCollector collector) {
+        return collector == null || collector instanceof NoOpMetricCollector;
+    }
+
+    /**
+     * Report the time elapsed since {@code startNanos} (a {@link System#nanoTime()} reading), unless the collector discards
+     * it anyway.
+     */
+    public static void reportDurationSince(MetricCollector collector, SdkMetric<Duration> metric, long startNanos) {
+        if (!isNoOp(collector)) {
+            collector.reportMetric(metric, Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * Collect the metrics of an API call and hand them to every publisher. A failing publisher is logged and does not affect
+     * the other publishers or the result of the call.
+     */
+    public static void publish(List<MetricPublisher> publishers, MetricCollector collector) {
+        if (isNoOp(collector) || publishers == null || publishers.isEmpty()) {
+            return;
+        }
+
+        MetricCollection collection = collector.collect();
+        for (MetricPublisher publisher : publishers) {
+            try {
+                publisher.publish(collection);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Failed to publish metrics to " + publisher, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.waiters.AsyncWaiter;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterState;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default implementation of {@link AsyncWaiter}. Each poll is started from the completion of the previous one, or from a
+ * task scheduled on the {@link ScheduledExecutorService} once the delay between them has elapsed, so no thread is blocked
+ * while waiting.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultAsyncWaiter<T> implements AsyncWaiter<T> {
+    private final List<WaiterAcceptor<? super T>> waiterAcceptors;
+    private final WaiterConfiguration waiterConfiguration;
+    private final ScheduledExecutorService executorService;
+
+    private DefaultAsyncWaiter(DefaultBuilder<T> builder) {
+        Validate.notEmpty(builder.waiterAcceptors, "waiterAcceptors must not be empty");
+        this.waiterAcceptors = Collections.unmodifiableList(new ArrayList<>(builder.waiterAcceptors));
+        this.waiterConfiguration = new WaiterConfiguration(builder.overrideConfiguration);
+        this.executorService = Validate.paramNotNull(builder.executorService, "scheduledExecutorService");
+    }
+
+    public static <T> AsyncWaiter.Builder<T> builder() {
+        return new DefaultBuilder<>();
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<T>> runAsync(Supplier<CompletableFuture<T>> asyncPollingFunction) {
+        return runAsync(asyncPollingFunction, waiterConfiguration);
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<T>> runAsync(Supplier<CompletableFuture<T>> asyncPollingFunction,
+                                                         WaiterOverrideConfiguration overrideConfiguration) {
+        return runAsync(asyncPollingFunction, waiterConfiguration.merge(overrideConfiguration));
+    }
+
+    private CompletableFuture<WaiterResponse<T>> runAsync(Supplier<CompletableFuture<T>> asyncPollingFunction,
+                                                          WaiterConfiguration configuration) {
+        CompletableFuture<WaiterResponse<T>> future = new CompletableFuture<>();
+        WaiterExecutorHelper<T> helper = new WaiterExecutorHelper<>(waiterAcceptors, configuration);
+        poll(asyncPollingFunction, helper, future, 1, System.nanoTime());
+        return future;
+    }
+
+    private void poll(Supplier<CompletableFuture<T>> asyncPollingFunction,
+                      WaiterExecutorHelper<T> helper,
+                      CompletableFuture<WaiterResponse<T>> future,
+                      int attemptNumber,
+                      long startNanos) {
+        if (future.isDone()) {
+            // Cancelled by the caller, stop polling.
+            return;
+        }
+
+        CompletableFuture<T> pollFuture;
+        try {
+            pollFuture = asyncPollingFunction.get();
+        } catch (RuntimeException e) {
+            pollFuture = new CompletableFuture<>();
+            pollFuture.completeExceptionally(e);
+        }
+
+        pollFuture.whenComplete((response, exception) -> {
+            try {
+                Throwable cause = exception == null ? null : WaiterExecutorHelper.unwrap(exception);
+                Optional<WaiterAcceptor<? super T>> acceptor = helper.firstWaiterAcceptorIfMatched(response, cause);
+                WaiterState state = helper.nextState(cause, acceptor);
+                if (state == WaiterState.SUCCESS) {
+                    future.complete(helper.waiterResponse(response, cause, attemptNumber));
+                    return;
+                }
+                if (state == WaiterState.FAILURE) {
+                    future.completeExceptionally(helper.waiterFailureException(cause, acceptor));
+                    return;
+                }
+
+                Duration delay = helper.computeNextDelay(attemptNumber);
+                Optional<SdkClientException> exhausted = helper.exhaustedException(attemptNumber, startNanos, delay);
+                if (exhausted.isPresent()) {
+                    future.completeExceptionally(exhausted.get());
+                    return;
+                }
+                executorService.schedule(() -> poll(asyncPollingFunction, helper, future, attemptNumber + 1, startNanos),
+                                         delay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+    }
+
+    private static final class DefaultBuilder<T> implements AsyncWaiter.Builder<T> {
+        private List<WaiterAcceptor<? super T>> waiterAcceptors = new ArrayList<>();
+        private WaiterOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService executorService;
+
+        @Override
+        public AsyncWaiter.Builder<T> acceptors(List<WaiterAcceptor<? super T>> waiterAcceptors) {
+            this.waiterAcceptors = new ArrayList<>(waiterAcceptors);
+            return this;
+        }
+
+        @Override
+        public AsyncWaiter.Builder<T> addAcceptor(WaiterAcceptor<? super T> waiterAcceptor) {
+            this.waiterAcceptors.add(waiterAcceptor);
+            return this;
+        }
+
+        @Override
+        public AsyncWaiter.Builder<T> overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public AsyncWaiter.Builder<T> scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.executorService = scheduledExecutorService;
+            return this;
+        }
+
+        @Override
+        public AsyncWaiter<T> build() {
+            return new DefaultAsyncWaiter<>(this);
+        }
+    }
+}
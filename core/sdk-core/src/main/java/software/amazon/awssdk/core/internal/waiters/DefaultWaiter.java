@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.waiters.Waiter;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterState;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default implementation of {@link Waiter}, sleeping on the calling thread between polls.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultWaiter<T> implements Waiter<T> {
+    private final List<WaiterAcceptor<? super T>> waiterAcceptors;
+    private final WaiterConfiguration waiterConfiguration;
+
+    private DefaultWaiter(DefaultBuilder<T> builder) {
+        Validate.notEmpty(builder.waiterAcceptors, "waiterAcceptors must not be empty");
+        this.waiterAcceptors = Collections.unmodifiableList(new ArrayList<>(builder.waiterAcceptors));
+        this.waiterConfiguration = new WaiterConfiguration(builder.overrideConfiguration);
+    }
+
+    public static <T> Waiter.Builder<T> builder() {
+        return new DefaultBuilder<>();
+    }
+
+    @Override
+    public WaiterResponse<T> run(Supplier<T> pollingFunction) {
+        return run(pollingFunction, waiterConfiguration);
+    }
+
+    @Override
+    public WaiterResponse<T> run(Supplier<T> pollingFunction, WaiterOverrideConfiguration overrideConfiguration) {
+        return run(pollingFunction, waiterConfiguration.merge(overrideConfiguration));
+    }
+
+    private WaiterResponse<T> run(Supplier<T> pollingFunction, WaiterConfiguration configuration) {
+        WaiterExecutorHelper<T> helper = new WaiterExecutorHelper<>(waiterAcceptors, configuration);
+        long startNanos = System.nanoTime();
+        int attemptsExecuted = 0;
+
+        while (true) {
+            T response = null;
+            Throwable exception = null;
+            attemptsExecuted++;
+            try {
+                response = pollingFunction.get();
+            } catch (RuntimeException e) {
+                exception = WaiterExecutorHelper.unwrap(e);
+            }
+
+            Optional<WaiterAcceptor<? super T>> acceptor = helper.firstWaiterAcceptorIfMatched(response, exception);
+            WaiterState state = helper.nextState(exception, acceptor);
+            if (state == WaiterState.SUCCESS) {
+                return helper.waiterResponse(response, exception, attemptsExecuted);
+            }
+            if (state == WaiterState.FAILURE) {
+                throw helper.waiterFailureException(exception, acceptor);
+            }
+
+            Duration delay = helper.computeNextDelay(attemptsExecuted);
+            Optional<SdkClientException> exhausted = helper.exhaustedException(attemptsExecuted, startNanos, delay);
+            if (exhausted.isPresent()) {
+                throw exhausted.get();
+            }
+            sleep(delay);
+        }
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("The thread was interrupted while waiting", e);
+        }
+    }
+
+    private static final class DefaultBuilder<T> implements Waiter.Builder<T> {
+        private List<WaiterAcceptor<? super T>> waiterAcceptors = new ArrayList<>();
+        private WaiterOverrideConfiguration overrideConfiguration;
+
+        @Override
+        public Waiter.Builder<T> acceptors(List<WaiterAcceptor<? super T>> waiterAcceptors) {
+            this.waiterAcceptors = new ArrayList<>(waiterAcceptors);
+            return this;
+        }
+
+        @Override
+        public Waiter.Builder<T> addAcceptor(WaiterAcceptor<? super T> waiterAcceptor) {
+            this.waiterAcceptors.add(waiterAcceptor);
+            return this;
+        }
+
+        @Override
+        public Waiter.Builder<T> overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public Waiter<T> build() {
+            return new DefaultWaiter<>(this);
+        }
+    }
+}
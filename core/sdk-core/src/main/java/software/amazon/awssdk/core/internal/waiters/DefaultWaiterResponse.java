@@ -0,0 +1,69 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The default implementation of {@link WaiterResponse}.
+ */
+@SdkInternalApi
+public final class DefaultWaiterResponse<T> implements WaiterResponse<T> {
+    private final T response;
+    private final Throwable exception;
+    private final int attemptsExecuted;
+
+    private DefaultWaiterResponse(T response, Throwable exception, int attemptsExecuted) {
+        this.response = response;
+        this.exception = exception;
+        this.attemptsExecuted = attemptsExecuted;
+    }
+
+    public static <T> DefaultWaiterResponse<T> fromResponse(T response, int attemptsExecuted) {
+        return new DefaultWaiterResponse<>(response, null, attemptsExecuted);
+    }
+
+    public static <T> DefaultWaiterResponse<T> fromException(Throwable exception, int attemptsExecuted) {
+        return new DefaultWaiterResponse<>(null, exception, attemptsExecuted);
+    }
+
+    @Override
+    public Optional<T> response() {
+        return Optional.ofNullable(response);
+    }
+
+    @Override
+    public Optional<Throwable> exception() {
+        return Optional.ofNullable(exception);
+    }
+
+    @Override
+    public int attemptsExecuted() {
+        return attemptsExecuted;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("WaiterResponse")
+                       .add("response", response)
+                       .add("exception", exception)
+                       .add("attemptsExecuted", attemptsExecuted)
+                       .build();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.time.Duration;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+
+/**
+ * The configuration of a waiter, with the SDK defaults applied to the values that were not overridden.
+ */
+@SdkInternalApi
+public final class WaiterConfiguration {
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY = FixedDelayBackoffStrategy.create(Duration.ofSeconds(5));
+
+    private final WaiterOverrideConfiguration overrideConfiguration;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final Duration waitTimeout;
+
+    public WaiterConfiguration(WaiterOverrideConfiguration overrideConfiguration) {
+        this.overrideConfiguration = overrideConfiguration == null ? WaiterOverrideConfiguration.builder().build()
+                                                                   : overrideConfiguration;
+        this.maxAttempts = this.overrideConfiguration.maxAttempts().orElse(DEFAULT_MAX_ATTEMPTS);
+        this.backoffStrategy = this.overrideConfiguration.backoffStrategy().orElse(DEFAULT_BACKOFF_STRATEGY);
+        this.waitTimeout = this.overrideConfiguration.waitTimeout().orElse(null);
+    }
+
+    /**
+     * @return This configuration, with the values set in the given configuration taking precedence.
+     */
+    public WaiterConfiguration merge(WaiterOverrideConfiguration other) {
+        if (other == null) {
+            return this;
+        }
+        WaiterOverrideConfiguration merged =
+            overrideConfiguration.toBuilder()
+                                 .maxAttempts(other.maxAttempts().orElse(overrideConfiguration.maxAttempts().orElse(null)))
+                                 .backoffStrategy(other.backoffStrategy()
+                                                       .orElse(overrideConfiguration.backoffStrategy().orElse(null)))
+                                 .waitTimeout(other.waitTimeout().orElse(overrideConfiguration.waitTimeout().orElse(null)))
+                                 .build();
+        return new WaiterConfiguration(merged);
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    public Optional<Duration> waitTimeout() {
+        return Optional.ofNullable(waitTimeout);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterState;
+
+/**
+ * The logic shared by the sync and async waiters: matching the result of a poll against the acceptors, and deciding whether
+ * and when to poll again.
+ */
+@SdkInternalApi
+final class WaiterExecutorHelper<T> {
+    private final List<WaiterAcceptor<? super T>> waiterAcceptors;
+    private final WaiterConfiguration waiterConfiguration;
+
+    WaiterExecutorHelper(List<WaiterAcceptor<? super T>> waiterAcceptors, WaiterConfiguration waiterConfiguration) {
+        this.waiterAcceptors = waiterAcceptors;
+        this.waiterConfiguration = waiterConfiguration;
+    }
+
+    /**
+     * @return The first acceptor matching the result of a poll, if any. {@code exception} is null if the poll returned
+     * {@code response}.
+     */
+    Optional<WaiterAcceptor<? super T>> firstWaiterAcceptorIfMatched(T response, Throwable exception) {
+        for (WaiterAcceptor<? super T> acceptor : waiterAcceptors) {
+            boolean matches = exception == null ? acceptor.matches(response) : acceptor.matches(exception);
+            if (matches) {
+                return Optional.of(acceptor);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return The state the waiter transitions to after a poll. A response matching no acceptor is polled again, an exception
+     * matching no acceptor fails the waiter.
+     */
+    WaiterState nextState(Throwable exception, Optional<WaiterAcceptor<? super T>> acceptor) {
+        if (acceptor.isPresent()) {
+            return acceptor.get().waiterState();
+        }
+        return exception == null ? WaiterState.RETRY : WaiterState.FAILURE;
+    }
+
+    WaiterResponse<T> waiterResponse(T response, Throwable exception, int attemptsExecuted) {
+        return exception == null ? DefaultWaiterResponse.fromResponse(response, attemptsExecuted)
+                                 : DefaultWaiterResponse.fromException(exception, attemptsExecuted);
+    }
+
+    SdkClientException waiterFailureException(Throwable exception, Optional<WaiterAcceptor<? super T>> acceptor) {
+        if (acceptor.isPresent()) {
+            return SdkClientException.create("A waiter acceptor was matched and transitioned the waiter to failure state",
+                                             exception);
+        }
+        return SdkClientException.create("An exception was thrown and did not match any waiter acceptors", exception);
+    }
+
+    /**
+     * @return The exception failing the waiter because it cannot poll again, or empty if it can poll again after
+     * {@code nextDelay}.
+     */
+    Optional<SdkClientException> exhaustedException(int attemptsExecuted, long startNanos, Duration nextDelay) {
+        if (attemptsExecuted >= waiterConfiguration.maxAttempts()) {
+            return Optional.of(SdkClientException.create("The waiter has exceeded the max retry attempts: "
+                                                         + waiterConfiguration.maxAttempts()));
+        }
+        Optional<Duration> waitTimeout = waiterConfiguration.waitTimeout();
+        if (waitTimeout.isPresent()
+            && Duration.ofNanos(System.nanoTime() - startNanos).plus(nextDelay).compareTo(waitTimeout.get()) > 0) {
+            return Optional.of(SdkClientException.create("The waiter has exceeded the max wait time or the next retry will "
+                                                         + "exceed the max wait time: " + waitTimeout.get()));
+        }
+        return Optional.empty();
+    }
+
+    Duration computeNextDelay(int attemptsExecuted) {
+        RetryPolicyContext context = RetryPolicyContext.builder().retriesAttempted(attemptsExecuted - 1).build();
+        return waiterConfiguration.backoffStrategy().computeDelayBeforeNextRetry(context);
+    }
+
+    static Throwable unwrap(Throwable throwable) {
+        if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+            && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by the SDK for every API call.
+ *
+ * <p>The API call level metrics ({@link #SERVICE_ID}, {@link #OPERATION_NAME}, {@link #API_CALL_SUCCESSFUL},
+ * {@link #API_CALL_DURATION}, {@link #MARSHALLING_DURATION}, {@link #UNMARSHALLING_DURATION}, {@link #RETRY_COUNT}) are
+ * reported to the root collection published for the call. The remaining metrics are reported to the child collection of
+ * each attempt, along with the {@code HttpMetric}s of the HTTP client that executed it.
+ */
+@SdkPublicApi
+public final class CoreMetric {
+    /**
+     * The unique ID of the service.
+     */
+    public static final SdkMetric<String> SERVICE_ID = SdkMetric.create("ServiceId", String.class);
+
+    /**
+     * The name of the service operation being invoked.
+     */
+    public static final SdkMetric<String> OPERATION_NAME = SdkMetric.create("OperationName", String.class);
+
+    /**
+     * True if the API call succeeded, false otherwise.
+     */
+    public static final SdkMetric<Boolean> API_CALL_SUCCESSFUL = SdkMetric.create("ApiCallSuccessful", Boolean.class);
+
+    /**
+     * The number of times the API call was retried.
+     */
+    public static final SdkMetric<Integer> RETRY_COUNT = SdkMetric.create("RetryCount", Integer.class);
+
+    /**
+     * The duration of the API call, from the start of marshalling until the response or failure was produced.
+     */
+    public static final SdkMetric<Duration> API_CALL_DURATION = SdkMetric.create("ApiCallDuration", Duration.class);
+
+    /**
+     * The time taken to marshall the request.
+     */
+    public static final SdkMetric<Duration> MARSHALLING_DURATION = SdkMetric.create("MarshallingDuration", Duration.class);
+
+    /**
+     * The time the SDK waited before starting an attempt, because the previous attempt failed and was retried.
+     */
+    public static final SdkMetric<Duration> BACKOFF_DELAY_DURATION = SdkMetric.create("BackoffDelayDuration", Duration.class);
+
+    /**
+     * The time taken to sign the request of an attempt.
+     */
+    public static final SdkMetric<Duration> SIGNING_DURATION = SdkMetric.create("SigningDuration", Duration.class);
+
+    /**
+     * The duration of an attempt, from signing its request until its response was handled or it failed.
+     */
+    public static final SdkMetric<Duration> SERVICE_CALL_DURATION = SdkMetric.create("ServiceCallDuration", Duration.class);
+
+    /**
+     * The time taken to unmarshall the successful response.
+     */
+    public static final SdkMetric<Duration> UNMARSHALLING_DURATION =
+        SdkMetric.create("UnmarshallingDuration", Duration.class);
+
+    private CoreMetric() {
+    }
+}
@@ -17,6 +17,8 @@ package software.amazon.awssdk.core.pagination.async;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
@@ -35,6 +37,10 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     // boolean indicating whether task to handle requests is running
     private AtomicBoolean isTaskRunning = new AtomicBoolean(false);
 
+    // Guards the transitions of the task state. A lock rather than a monitor, so the subscription doesn't pin the carrier
+    // thread when it is driven from a virtual thread.
+    private final Lock lock = new ReentrantLock();
+
     protected PaginationSubscription(BuilderImpl builder) {
         this.subscriber = builder.subscriber;
         this.nextPageFetcher = builder.nextPageFetcher;
@@ -50,13 +56,16 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
             subscriber.onError(new IllegalArgumentException("Non-positive request signals are illegal"));
         }
 
-        AtomicBoolean startTask = new AtomicBoolean(false);
-        synchronized (this) {
+        boolean startTask;
+        lock.lock();
+        try {
             outstandingRequests.addAndGet(n);
-            startTask.set(startTask());
+            startTask = startTask();
+        } finally {
+            lock.unlock();
         }
 
-        if (startTask.get()) {
+        if (startTask) {
             handleRequests();
         }
     }
@@ -95,13 +104,42 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
         isTaskRunning.set(false);
     }
 
-    private synchronized boolean startTask() {
-        return !isTerminated() && isTaskRunning.compareAndSet(false, true);
+    /**
+     * Stop the task if there are no outstanding requests. This is atomic with respect to {@link #request(long)}, so a request
+     * made concurrently either restarts the task or is seen by the running one.
+     *
+     * @return True if the task was stopped.
+     */
+    protected boolean stopTaskIfNoOutstandingRequests() {
+        lock.lock();
+        try {
+            if (outstandingRequests.get() <= 0) {
+                stopTask();
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean startTask() {
+        lock.lock();
+        try {
+            return !isTerminated() && isTaskRunning.compareAndSet(false, true);
+        } finally {
+            lock.unlock();
+        }
     }
 
-    protected synchronized void cleanup() {
-        terminate();
-        stopTask();
+    protected void cleanup() {
+        lock.lock();
+        try {
+            terminate();
+            stopTask();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public interface Builder<TypeToBuildT extends PaginationSubscription, BuilderT extends Builder> {
@@ -45,11 +45,8 @@ public final class ResponsesSubscription<ResponseT> extends PaginationSubscripti
             return;
         }
 
-        synchronized (this) {
-            if (outstandingRequests.get() <= 0) {
-                stopTask();
-                return;
-            }
+        if (stopTaskIfNoOutstandingRequests()) {
+            return;
         }
 
         if (!isTerminated()) {
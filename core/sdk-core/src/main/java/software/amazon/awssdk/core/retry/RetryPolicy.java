@@ -49,11 +49,13 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
     private final BackoffStrategy backoffStrategy;
     private final BackoffStrategy throttlingBackoffStrategy;
     private final Integer numRetries;
+    private final Boolean adaptiveRateLimiting;
 
     private RetryPolicy(BuilderImpl builder) {
         this.backoffStrategy = builder.backoffStrategy;
         this.throttlingBackoffStrategy = builder.throttlingBackoffStrategy;
         this.numRetries = builder.numRetries;
+        this.adaptiveRateLimiting = Boolean.TRUE.equals(builder.adaptiveRateLimiting);
         this.retryConditionFromBuilder = builder.retryCondition;
         this.retryCondition = AndRetryCondition.create(MaxNumberOfRetriesCondition.create(numRetries),
                                                        retryConditionFromBuilder);
@@ -75,11 +77,20 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         return numRetries;
     }
 
+    /**
+     * @return True if the client limits the rate at which it sends requests once the service starts throttling them.
+     * @see Builder#adaptiveRateLimiting(Boolean)
+     */
+    public Boolean adaptiveRateLimiting() {
+        return adaptiveRateLimiting;
+    }
+
     public Builder toBuilder() {
         return builder().numRetries(numRetries)
                         .retryCondition(retryConditionFromBuilder)
                         .backoffStrategy(backoffStrategy)
-                        .throttlingBackoffStrategy(throttlingBackoffStrategy);
+                        .throttlingBackoffStrategy(throttlingBackoffStrategy)
+                        .adaptiveRateLimiting(adaptiveRateLimiting);
     }
 
     @Override
@@ -89,6 +100,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
                        .add("retryCondition", retryCondition)
                        .add("backoffStrategy", backoffStrategy)
                        .add("throttlingBackoffStrategy", throttlingBackoffStrategy)
+                       .add("adaptiveRateLimiting", adaptiveRateLimiting)
                        .build();
     }
 
@@ -112,6 +124,9 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         if (!throttlingBackoffStrategy.equals(that.throttlingBackoffStrategy)) {
             return false;
         }
+        if (!adaptiveRateLimiting.equals(that.adaptiveRateLimiting)) {
+            return false;
+        }
         return numRetries.equals(that.numRetries);
     }
 
@@ -121,6 +136,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         result = 31 * result + backoffStrategy.hashCode();
         result = 31 * result + throttlingBackoffStrategy.hashCode();
         result = 31 * result + numRetries.hashCode();
+        result = 31 * result + adaptiveRateLimiting.hashCode();
         return result;
     }
 
@@ -163,6 +179,20 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
 
         RetryCondition retryCondition();
 
+        /**
+         * Whether the client should limit the rate at which it sends requests once the service starts throttling them.
+         *
+         * <p>When enabled, the client keeps a token bucket shared by all the requests it sends. The bucket is only
+         * enforced after a throttling error has been received. Every throttling error lowers the sending rate, every
+         * successful response raises it back, so a fleet of clients backs off as a whole instead of retrying into the
+         * throttling. Attempts that have to wait for a token are delayed before being sent.
+         *
+         * <p>By default, adaptive rate limiting is disabled.
+         */
+        Builder adaptiveRateLimiting(Boolean adaptiveRateLimiting);
+
+        Boolean adaptiveRateLimiting();
+
         RetryPolicy build();
     }
 
@@ -175,6 +205,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         private BackoffStrategy backoffStrategy = BackoffStrategy.defaultStrategy();
         private BackoffStrategy throttlingBackoffStrategy = BackoffStrategy.defaultThrottlingStrategy();
         private RetryCondition retryCondition = RetryCondition.defaultRetryCondition();
+        private Boolean adaptiveRateLimiting = Boolean.FALSE;
 
         private BuilderImpl(){
         }
@@ -239,6 +270,21 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
             return retryCondition;
         }
 
+        @Override
+        public Builder adaptiveRateLimiting(Boolean adaptiveRateLimiting) {
+            this.adaptiveRateLimiting = adaptiveRateLimiting;
+            return this;
+        }
+
+        public void setAdaptiveRateLimiting(Boolean adaptiveRateLimiting) {
+            adaptiveRateLimiting(adaptiveRateLimiting);
+        }
+
+        @Override
+        public Boolean adaptiveRateLimiting() {
+            return adaptiveRateLimiting;
+        }
+
         @Override
         public RetryPolicy build() {
             return new RetryPolicy(this);
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Unmodifiable lists and maps whose backing collection is owned by the SDK: no other code holds a reference to it, so their
+ * contents can never change.
+ * <p>
+ * The generated model copiers return these, and unmarshallers wrap the collections they create in them. A copier can hand
+ * one of these over as-is instead of copying it again, which saves a deep copy each time a model's collections are passed
+ * to a builder (from an unmarshaller, {@code toBuilder()}, or another model object).
+ */
+@SdkProtectedApi
+public final class TrustedCollections {
+
+    private TrustedCollections() {
+    }
+
+    /**
+     * Wrap a list in an unmodifiable list that copiers will not copy. The caller must not keep a reference to the list, and
+     * its elements must already be immutable or trusted themselves.
+     *
+     * @param ownedList A list that supports fast random access, eg. an {@link java.util.ArrayList}.
+     */
+    public static <T> List<T> unmodifiableList(List<T> ownedList) {
+        return new TrustedList<>(ownedList);
+    }
+
+    /**
+     * Wrap a map in an unmodifiable map that copiers will not copy. The caller must not keep a reference to the map, and its
+     * values must already be immutable or trusted themselves.
+     */
+    public static <K, V> Map<K, V> unmodifiableMap(Map<K, V> ownedMap) {
+        return new TrustedMap<>(ownedMap);
+    }
+
+    /**
+     * @return True if the given collection was created by {@link #unmodifiableList(List)} or {@link #unmodifiableMap(Map)},
+     * and can therefore be used without being copied.
+     */
+    public static boolean isTrusted(Object collection) {
+        return collection instanceof TrustedList || collection instanceof TrustedMap;
+    }
+
+    /**
+     * Use a trusted list (see {@link #isTrusted(Object)}) as a list of the given element type. The caller must know that the
+     * elements are of that type, eg. because the list was created by the copier of the same member.
+     *
+     * @throws IllegalArgumentException If the list is not trusted.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> trustedList(Collection<?> trustedList) {
+        if (!(trustedList instanceof TrustedList)) {
+            throw new IllegalArgumentException("The collection was not created by TrustedCollections.");
+        }
+        return (TrustedList<T>) trustedList;
+    }
+
+    /**
+     * Use a trusted map (see {@link #isTrusted(Object)}) as a map of the given key and value types. The caller must know that
+     * the entries are of those types, eg. because the map was created by the copier of the same member.
+     *
+     * @throws IllegalArgumentException If the map is not trusted.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Map<K, V> trustedMap(Map<?, ?> trustedMap) {
+        if (!(trustedMap instanceof TrustedMap)) {
+            throw new IllegalArgumentException("The map was not created by TrustedCollections.");
+        }
+        return (TrustedMap<K, V>) trustedMap;
+    }
+
+    private static final class TrustedList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> impl;
+
+        private TrustedList(List<T> impl) {
+            this.impl = impl;
+        }
+
+        @Override
+        public T get(int index) {
+            return impl.get(index);
+        }
+
+        @Override
+        public int size() {
+            return impl.size();
+        }
+    }
+
+    private static final class TrustedMap<K, V> extends AbstractMap<K, V> implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Map<K, V> impl;
+
+        private TrustedMap(Map<K, V> impl) {
+            this.impl = Collections.unmodifiableMap(impl);
+        }
+
+        @Override
+        public V get(Object key) {
+            return impl.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return impl.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return impl.size();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return impl.entrySet();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.waiters.DefaultAsyncWaiter;
+
+/**
+ * Polls a resource with a non-blocking call until one of its {@link WaiterAcceptor}s transitions it to a final state, the
+ * maximum number of polls is reached or the wait timeout expires.
+ *
+ * <p>No thread is parked while waiting: the next poll is scheduled on the configured {@link ScheduledExecutorService}, so
+ * thousands of resources can be waited on from a handful of threads.
+ *
+ * @param <T> The type of the response being polled.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface AsyncWaiter<T> {
+
+    /**
+     * Poll the resource until the waiter completes.
+     *
+     * @param asyncPollingFunction The call polling the resource, invoked once per attempt.
+     * @return A future completed with the result of the poll that completed the waiter successfully, or completed
+     * exceptionally with an {@link software.amazon.awssdk.core.exception.SdkClientException} if the waiter failed, ran out of
+     * attempts or timed out.
+     */
+    CompletableFuture<WaiterResponse<T>> runAsync(Supplier<CompletableFuture<T>> asyncPollingFunction);
+
+    /**
+     * Poll the resource until the waiter completes, overriding the configuration of the waiter for this call only.
+     *
+     * @param asyncPollingFunction The call polling the resource, invoked once per attempt.
+     * @param overrideConfiguration Values overriding the configuration of the waiter.
+     * @return A future completed with the result of the poll that completed the waiter successfully.
+     * @see #runAsync(Supplier)
+     */
+    CompletableFuture<WaiterResponse<T>> runAsync(Supplier<CompletableFuture<T>> asyncPollingFunction,
+                                                  WaiterOverrideConfiguration overrideConfiguration);
+
+    /**
+     * Create a builder of a waiter polling responses of the given type.
+     *
+     * @param responseClass The type of the response being polled.
+     */
+    static <T> Builder<T> builder(Class<? extends T> responseClass) {
+        return DefaultAsyncWaiter.builder();
+    }
+
+    interface Builder<T> extends WaiterBuilder<T, Builder<T>> {
+
+        /**
+         * Define the executor on which the polls after the first one are scheduled. This is required.
+         *
+         * @param scheduledExecutorService The executor to schedule polls on. It is not shut down by the waiter.
+         * @return This builder for method chaining.
+         */
+        Builder<T> scheduledExecutorService(ScheduledExecutorService scheduledExecutorService);
+
+        AsyncWaiter<T> build();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.waiters.DefaultWaiter;
+
+/**
+ * Polls a resource with a blocking call until one of its {@link WaiterAcceptor}s transitions it to a final state, the
+ * maximum number of polls is reached or the wait timeout expires. The calling thread sleeps between two polls.
+ *
+ * @param <T> The type of the response being polled.
+ * @see AsyncWaiter for a waiter that does not block a thread between polls
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface Waiter<T> {
+
+    /**
+     * Poll the resource until the waiter completes.
+     *
+     * @param pollingFunction The call polling the resource, invoked once per attempt.
+     * @return The result of the poll that completed the waiter successfully.
+     * @throws software.amazon.awssdk.core.exception.SdkClientException If the waiter failed, ran out of attempts or timed out.
+     */
+    WaiterResponse<T> run(Supplier<T> pollingFunction);
+
+    /**
+     * Poll the resource until the waiter completes, overriding the configuration of the waiter for this call only.
+     *
+     * @param pollingFunction The call polling the resource, invoked once per attempt.
+     * @param overrideConfiguration Values overriding the configuration of the waiter.
+     * @return The result of the poll that completed the waiter successfully.
+     * @throws software.amazon.awssdk.core.exception.SdkClientException If the waiter failed, ran out of attempts or timed out.
+     */
+    WaiterResponse<T> run(Supplier<T> pollingFunction, WaiterOverrideConfiguration overrideConfiguration);
+
+    /**
+     * Create a builder of a waiter polling responses of the given type.
+     *
+     * @param responseClass The type of the response being polled.
+     */
+    static <T> Builder<T> builder(Class<? extends T> responseClass) {
+        return DefaultWaiter.builder();
+    }
+
+    interface Builder<T> extends WaiterBuilder<T, Builder<T>> {
+        Waiter<T> build();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Inspects the result of a single poll of a waiter and decides which {@link WaiterState} the waiter should transition to.
+ *
+ * <p>The acceptors of a waiter are evaluated in order and the first one that matches the response (or the exception) of a
+ * poll decides the outcome. If no acceptor matches a response the waiter polls again; if no acceptor matches an exception
+ * the waiter fails with that exception.
+ *
+ * @param <T> The type of the response being polled.
+ */
+@SdkPublicApi
+public interface WaiterAcceptor<T> {
+
+    /**
+     * @return The state the waiter transitions to when this acceptor matches.
+     */
+    WaiterState waiterState();
+
+    /**
+     * @param response The response returned by the poll.
+     * @return True if this acceptor matches the response.
+     */
+    default boolean matches(T response) {
+        return false;
+    }
+
+    /**
+     * @param throwable The exception thrown by the poll.
+     * @return True if this acceptor matches the exception.
+     */
+    default boolean matches(Throwable throwable) {
+        return false;
+    }
+
+    /**
+     * Create an acceptor that completes the waiter successfully when a response matches the given predicate.
+     */
+    static <T> WaiterAcceptor<T> successOnResponseAcceptor(Predicate<T> responsePredicate) {
+        return onResponseAcceptor(WaiterState.SUCCESS, responsePredicate);
+    }
+
+    /**
+     * Create an acceptor that fails the waiter when a response matches the given predicate.
+     */
+    static <T> WaiterAcceptor<T> errorOnResponseAcceptor(Predicate<T> responsePredicate) {
+        return onResponseAcceptor(WaiterState.FAILURE, responsePredicate);
+    }
+
+    /**
+     * Create an acceptor that polls again when a response matches the given predicate.
+     */
+    static <T> WaiterAcceptor<T> retryOnResponseAcceptor(Predicate<T> responsePredicate) {
+        return onResponseAcceptor(WaiterState.RETRY, responsePredicate);
+    }
+
+    /**
+     * Create an acceptor that completes the waiter successfully when an exception matches the given predicate.
+     */
+    static <T> WaiterAcceptor<T> successOnExceptionAcceptor(Predicate<Throwable> errorPredicate) {
+        return onExceptionAcceptor(WaiterState.SUCCESS, errorPredicate);
+    }
+
+    /**
+     * Create an acceptor that fails the waiter when an exception matches the given predicate.
+     */
+    static <T> WaiterAcceptor<T> errorOnExceptionAcceptor(Predicate<Throwable> errorPredicate) {
+        return onExceptionAcceptor(WaiterState.FAILURE, errorPredicate);
+    }
+
+    /**
+     * Create an acceptor that polls again when an exception matches the given predicate.
+     */
+    static <T> WaiterAcceptor<T> retryOnExceptionAcceptor(Predicate<Throwable> errorPredicate) {
+        return onExceptionAcceptor(WaiterState.RETRY, errorPredicate);
+    }
+
+    static <T> WaiterAcceptor<T> onResponseAcceptor(WaiterState state, Predicate<T> responsePredicate) {
+        Validate.paramNotNull(state, "state");
+        Validate.paramNotNull(responsePredicate, "responsePredicate");
+        return new WaiterAcceptor<T>() {
+            @Override
+            public WaiterState waiterState() {
+                return state;
+            }
+
+            @Override
+            public boolean matches(T response) {
+                return responsePredicate.test(response);
+            }
+        };
+    }
+
+    static <T> WaiterAcceptor<T> onExceptionAcceptor(WaiterState state, Predicate<Throwable> errorPredicate) {
+        Validate.paramNotNull(state, "state");
+        Validate.paramNotNull(errorPredicate, "errorPredicate");
+        return new WaiterAcceptor<T>() {
+            @Override
+            public WaiterState waiterState() {
+                return state;
+            }
+
+            @Override
+            public boolean matches(Throwable throwable) {
+                return errorPredicate.test(throwable);
+            }
+        };
+    }
+}
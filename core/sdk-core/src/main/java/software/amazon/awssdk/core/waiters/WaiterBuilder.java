@@ -0,0 +1,67 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.util.List;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The configuration shared by the builders of {@link Waiter} and {@link AsyncWaiter}.
+ *
+ * @param <T> The type of the response being polled.
+ * @param <B> The type of the builder, for method chaining.
+ */
+@SdkPublicApi
+public interface WaiterBuilder<T, B> {
+
+    /**
+     * Define the acceptors of the waiter, which are evaluated in order against the result of every poll. This replaces any
+     * acceptor that was previously added.
+     *
+     * @param waiterAcceptors The acceptors of the waiter.
+     * @return This builder for method chaining.
+     */
+    B acceptors(List<WaiterAcceptor<? super T>> waiterAcceptors);
+
+    /**
+     * Add an acceptor to the end of the acceptors of the waiter.
+     *
+     * @param waiterAcceptor The acceptor to add.
+     * @return This builder for method chaining.
+     */
+    B addAcceptor(WaiterAcceptor<? super T> waiterAcceptor);
+
+    /**
+     * Define the maximum number of polls, the delay between them and the maximum time to wait. Values not set fall back to
+     * the defaults of the waiter.
+     *
+     * @param overrideConfiguration The configuration of the waiter.
+     * @return This builder for method chaining.
+     */
+    B overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration);
+
+    /**
+     * Define the configuration of the waiter without creating a {@link WaiterOverrideConfiguration.Builder} manually.
+     *
+     * @see #overrideConfiguration(WaiterOverrideConfiguration)
+     */
+    default B overrideConfiguration(Consumer<WaiterOverrideConfiguration.Builder> overrideConfiguration) {
+        WaiterOverrideConfiguration.Builder builder = WaiterOverrideConfiguration.builder();
+        overrideConfiguration.accept(builder);
+        return overrideConfiguration(builder.build());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration that overrides the defaults of a waiter, which are taken from the service model. Any value that is not set
+ * keeps its default.
+ */
+@Immutable
+@SdkPublicApi
+public final class WaiterOverrideConfiguration
+    implements ToCopyableBuilder<WaiterOverrideConfiguration.Builder, WaiterOverrideConfiguration> {
+
+    private final Integer maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final Duration waitTimeout;
+
+    private WaiterOverrideConfiguration(BuilderImpl builder) {
+        this.maxAttempts = builder.maxAttempts == null ? null : Validate.isPositive(builder.maxAttempts, "maxAttempts");
+        this.backoffStrategy = builder.backoffStrategy;
+        this.waitTimeout = Validate.isPositiveOrNull(builder.waitTimeout, "waitTimeout");
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * @return The maximum number of polls before the waiter gives up.
+     */
+    public Optional<Integer> maxAttempts() {
+        return Optional.ofNullable(maxAttempts);
+    }
+
+    /**
+     * @return The strategy computing the delay between two polls.
+     */
+    public Optional<BackoffStrategy> backoffStrategy() {
+        return Optional.ofNullable(backoffStrategy);
+    }
+
+    /**
+     * @return The maximum time the waiter waits before giving up.
+     */
+    public Optional<Duration> waitTimeout() {
+        return Optional.ofNullable(waitTimeout);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl().maxAttempts(maxAttempts)
+                                .backoffStrategy(backoffStrategy)
+                                .waitTimeout(waitTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("WaiterOverrideConfiguration")
+                       .add("maxAttempts", maxAttempts)
+                       .add("backoffStrategy", backoffStrategy)
+                       .add("waitTimeout", waitTimeout)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        WaiterOverrideConfiguration that = (WaiterOverrideConfiguration) o;
+
+        return Objects.equals(maxAttempts, that.maxAttempts)
+               && Objects.equals(backoffStrategy, that.backoffStrategy)
+               && Objects.equals(waitTimeout, that.waitTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxAttempts);
+        result = 31 * result + Objects.hashCode(backoffStrategy);
+        result = 31 * result + Objects.hashCode(waitTimeout);
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, WaiterOverrideConfiguration> {
+
+        /**
+         * Define the maximum number of polls before the waiter gives up and fails.
+         *
+         * @param maxAttempts The maximum number of polls, which must be positive.
+         * @return This builder for method chaining.
+         */
+        Builder maxAttempts(Integer maxAttempts);
+
+        /**
+         * Define the strategy computing the delay between two polls. The {@link BackoffStrategy} is given the number of
+         * polls already executed as {@code retriesAttempted}.
+         *
+         * @param backoffStrategy The strategy to use.
+         * @return This builder for method chaining.
+         */
+        Builder backoffStrategy(BackoffStrategy backoffStrategy);
+
+        /**
+         * Define the maximum time the waiter waits before giving up and failing, regardless of the number of polls left.
+         *
+         * @param waitTimeout The maximum wait time, which must be positive.
+         * @return This builder for method chaining.
+         */
+        Builder waitTimeout(Duration waitTimeout);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private Integer maxAttempts;
+        private BackoffStrategy backoffStrategy;
+        private Duration waitTimeout;
+
+        @Override
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        @Override
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        @Override
+        public Builder waitTimeout(Duration waitTimeout) {
+            this.waitTimeout = waitTimeout;
+            return this;
+        }
+
+        @Override
+        public WaiterOverrideConfiguration build() {
+            return new WaiterOverrideConfiguration(this);
+        }
+    }
+}
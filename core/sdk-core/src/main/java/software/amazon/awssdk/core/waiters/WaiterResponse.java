@@ -0,0 +1,44 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The result of a waiter that completed successfully.
+ *
+ * @param <T> The type of the response being polled.
+ */
+@SdkPublicApi
+public interface WaiterResponse<T> {
+
+    /**
+     * @return The response of the poll that completed the waiter, if the matching acceptor matched a response.
+     */
+    Optional<T> response();
+
+    /**
+     * @return The exception of the poll that completed the waiter, if the matching acceptor matched an exception (for
+     * example a "not found" error when waiting for a resource to be deleted).
+     */
+    Optional<Throwable> exception();
+
+    /**
+     * @return The number of polls executed, including the one that completed the waiter.
+     */
+    int attemptsExecuted();
+}
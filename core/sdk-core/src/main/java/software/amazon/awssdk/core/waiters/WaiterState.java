@@ -0,0 +1,40 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The state a {@link Waiter} or {@link AsyncWaiter} transitions to when one of its {@link WaiterAcceptor}s matches the
+ * result of a poll.
+ */
+@SdkPublicApi
+public enum WaiterState {
+    /**
+     * The resource reached the desired state and the waiter completes successfully.
+     */
+    SUCCESS,
+
+    /**
+     * The resource can no longer reach the desired state and the waiter fails.
+     */
+    FAILURE,
+
+    /**
+     * The resource has not reached the desired state yet and the waiter polls again.
+     */
+    RETRY
+}
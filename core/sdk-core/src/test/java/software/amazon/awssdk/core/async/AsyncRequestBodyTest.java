@@ -36,12 +36,15 @@ import software.amazon.awssdk.http.async.SimpleSubscriber;
 public class AsyncRequestBodyTest {
     private final static String testString = "Hello!";
     private final static Path path;
+    private final static Path paddedPath;
 
     static {
         FileSystem fs = Jimfs.newFileSystem(Configuration.unix());
         path = fs.getPath("./test");
+        paddedPath = fs.getPath("./padded-test");
         try {
             Files.write(path, testString.getBytes());
+            Files.write(paddedPath, ("before" + testString + "after").getBytes());
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -51,7 +54,9 @@ public class AsyncRequestBodyTest {
     public static AsyncRequestBody[] data() {
         return new AsyncRequestBody[]{
                 AsyncRequestBody.fromString(testString),
-                AsyncRequestBody.fromFile(path)
+                AsyncRequestBody.fromFile(path),
+                AsyncRequestBody.fromFile(paddedPath, "before".length(), testString.length()),
+                AsyncRequestBody.fromFile(path, 0, Long.MAX_VALUE)
         };
     }
 
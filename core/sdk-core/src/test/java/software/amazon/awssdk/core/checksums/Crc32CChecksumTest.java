@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+public class Crc32CChecksumTest {
+
+    private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.US_ASCII);
+    private static final long CHECK_VALUE = 0xE3069283L;
+
+    @Test
+    public void checkValue_isCalculated() {
+        Crc32CChecksum checksum = new Crc32CChecksum();
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+
+        assertThat(checksum.getValue()).isEqualTo(CHECK_VALUE);
+        assertThat(checksum.getChecksumBytes()).containsExactly(0xE3, 0x06, 0x92, 0x83);
+    }
+
+    @Test
+    public void softwareImplementation_matchesCheckValue() {
+        SoftwareCrc32C checksum = new SoftwareCrc32C();
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+
+        assertThat(checksum.getValue()).isEqualTo(CHECK_VALUE);
+    }
+
+    @Test
+    public void softwareImplementation_matchesChecksum_forAllLengthsAndOffsets() {
+        byte[] data = randomBytes(64);
+        for (int offset = 0; offset < 8; offset++) {
+            for (int length = 0; length <= data.length - offset; length++) {
+                Crc32CChecksum expected = new Crc32CChecksum();
+                SoftwareCrc32C actual = new SoftwareCrc32C();
+                for (int i = offset; i < offset + length; i++) {
+                    expected.update(data[i]);
+                }
+                actual.update(data, offset, length);
+
+                assertThat(actual.getValue()).isEqualTo(expected.getValue());
+            }
+        }
+    }
+
+    @Test
+    public void directAndHeapBuffers_produceSameChecksum() {
+        byte[] data = randomBytes(100_000);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+
+        Crc32CChecksum fromArray = new Crc32CChecksum();
+        fromArray.update(data, 0, data.length);
+        Crc32CChecksum fromDirect = new Crc32CChecksum();
+        fromDirect.update(direct);
+        SoftwareCrc32C softwareFromDirect = new SoftwareCrc32C();
+        direct.rewind();
+        softwareFromDirect.update(direct);
+
+        assertThat(fromDirect.getValue()).isEqualTo(fromArray.getValue());
+        assertThat(softwareFromDirect.getValue()).isEqualTo(fromArray.getValue());
+        assertThat(direct.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void combine_matchesChecksumOfConcatenation() {
+        byte[] data = randomBytes(10_000);
+        int split = 3_333;
+
+        Crc32CChecksum whole = new Crc32CChecksum();
+        whole.update(data, 0, data.length);
+        Crc32CChecksum first = new Crc32CChecksum();
+        first.update(data, 0, split);
+        Crc32CChecksum second = new Crc32CChecksum();
+        second.update(data, split, data.length - split);
+
+        assertThat(Crc32CChecksum.combine(first.getValue(), second.getValue(), data.length - split))
+            .isEqualTo(whole.getValue());
+        assertThat(Crc32CChecksum.combine(first.getValue(), new Crc32CChecksum().getValue(), 0))
+            .isEqualTo(first.getValue());
+    }
+
+    @Test
+    public void reset_returnsToLastMark() {
+        byte[] data = randomBytes(1_000);
+        Crc32CChecksum expected = new Crc32CChecksum();
+        expected.update(data, 0, data.length);
+
+        Crc32CChecksum checksum = new Crc32CChecksum();
+        checksum.update(data, 0, 400);
+        checksum.mark(1_000);
+        checksum.update(data, 400, 300);
+        checksum.reset();
+        checksum.update(data, 400, 600);
+
+        assertThat(checksum.getValue()).isEqualTo(expected.getValue());
+    }
+
+    @Test
+    public void reset_withoutMark_returnsToInitialState() {
+        Crc32CChecksum checksum = new Crc32CChecksum();
+        checksum.update(new byte[] {1, 2, 3}, 0, 3);
+        checksum.reset();
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+
+        assertThat(checksum.getValue()).isEqualTo(CHECK_VALUE);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32;
+import org.junit.Test;
+
+public class Crc32ChecksumTest {
+
+    @Test
+    public void checkValue_isCalculated() {
+        byte[] input = "123456789".getBytes(StandardCharsets.US_ASCII);
+        Crc32Checksum checksum = new Crc32Checksum();
+        checksum.update(input, 0, input.length);
+
+        assertThat(checksum.getValue()).isEqualTo(0xCBF43926L);
+        assertThat(checksum.getChecksumBytes()).containsExactly(0xCB, 0xF4, 0x39, 0x26);
+    }
+
+    @Test
+    public void combine_matchesJdkChecksumOfConcatenation() {
+        byte[] data = randomBytes(10_000);
+        int split = 7_001;
+
+        CRC32 whole = new CRC32();
+        whole.update(data, 0, data.length);
+        Crc32Checksum first = new Crc32Checksum();
+        first.update(data, 0, split);
+        Crc32Checksum second = new Crc32Checksum();
+        second.update(ByteBuffer.wrap(data, split, data.length - split));
+
+        assertThat(Crc32Checksum.combine(first.getValue(), second.getValue(), data.length - split))
+            .isEqualTo(whole.getValue());
+    }
+
+    @Test
+    public void markAndReset_acrossSeveralMarks() {
+        byte[] data = randomBytes(1_000);
+        CRC32 expected = new CRC32();
+        expected.update(data, 0, data.length);
+
+        Crc32Checksum checksum = new Crc32Checksum();
+        checksum.update(data, 0, 100);
+        checksum.mark(1_000);
+        checksum.update(data, 100, 200);
+        checksum.mark(1_000);
+        checksum.update(data, 300, 50);
+        checksum.reset();
+        checksum.update(data, 300, 700);
+
+        assertThat(checksum.getValue()).isEqualTo(expected.getValue());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -43,6 +43,7 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkSharedRuntime;
 import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
@@ -160,6 +161,50 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void sharedRuntimeProvided_ClientsUseSharedResources() {
+        SdkAsyncHttpClient sharedHttpClient = mock(SdkAsyncHttpClient.class);
+        SdkSharedRuntime runtime = SdkSharedRuntime.builder().asyncHttpClient(sharedHttpClient).build();
+
+        TestAsyncClient client = testAsyncClientBuilder().sharedRuntime(runtime).build();
+
+        assertThat(client.clientConfiguration.option(SdkClientOption.ASYNC_HTTP_CLIENT))
+                .isInstanceOf(SdkDefaultClientBuilder.NonManagedSdkAsyncHttpClient.class);
+        assertThat(client.clientConfiguration.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE))
+                .isSameAs(runtime.scheduledExecutorService());
+        verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
+
+        client.clientConfiguration.close();
+        runtime.close();
+    }
+
+    @Test
+    public void sharedRuntime_IsReleasedWhenRuntimeAndAllClientsAreClosed() throws Exception {
+        SdkAsyncHttpClient sharedHttpClient = mock(SdkAsyncHttpClient.class);
+        SdkSharedRuntime runtime = SdkSharedRuntime.builder().asyncHttpClient(sharedHttpClient).build();
+        TestAsyncClient asyncClient = testAsyncClientBuilder().sharedRuntime(runtime).build();
+        TestClient syncClient = testClientBuilder().sharedRuntime(runtime).build();
+
+        runtime.close();
+        asyncClient.clientConfiguration.close();
+        asyncClient.clientConfiguration.close();
+        assertThat(runtime.scheduledExecutorService().isShutdown()).isFalse();
+        verify(sharedHttpClient, never()).close();
+
+        syncClient.clientConfiguration.close();
+        assertThat(runtime.scheduledExecutorService().isShutdown()).isTrue();
+        verify(sharedHttpClient).close();
+    }
+
+    @Test
+    public void releasedSharedRuntime_CannotBeUsedByNewClients() {
+        SdkSharedRuntime runtime = SdkSharedRuntime.create();
+        runtime.close();
+
+        assertThatThrownBy(() -> testClientBuilder().sharedRuntime(runtime).build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         SdkClientBuilder<TestClientBuilder, TestClient> builder = testClientBuilder();
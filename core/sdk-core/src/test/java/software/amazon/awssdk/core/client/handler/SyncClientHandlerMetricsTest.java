@@ -0,0 +1,207 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SyncClientHandlerMetricsTest {
+    private final SdkHttpFullRequest marshalledRequest = ValidSdkObjects.sdkHttpFullRequest().build();
+    private final CapturingPublisher publisher = new CapturingPublisher();
+
+    @Mock
+    private SdkRequest request;
+
+    @Mock
+    private Marshaller<SdkRequest> marshaller;
+
+    @Mock
+    private SdkHttpClient httpClient;
+
+    @Mock
+    private ExecutableHttpRequest httpClientCall;
+
+    @Mock
+    private HttpResponseHandler<SdkResponse> responseHandler;
+
+    @Mock
+    private HttpResponseHandler<SdkServiceException> errorResponseHandler;
+
+    @Before
+    public void setup() throws Exception {
+        when(request.overrideConfiguration()).thenReturn(Optional.empty());
+        when(marshaller.marshall(request)).thenReturn(marshalledRequest);
+        when(httpClient.prepareRequest(any())).thenReturn(httpClientCall);
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+    }
+
+    @Test
+    public void successfulCall_publishesApiCallAndAttemptMetrics() throws Exception {
+        when(httpClientCall.call()).thenReturn(successfulResponse());
+
+        handler(publisher).execute(clientExecutionParams());
+
+        assertThat(publisher.published).hasSize(1);
+        MetricCollection apiCall = publisher.published.get(0);
+        assertThat(apiCall.metricValues(CoreMetric.OPERATION_NAME)).containsExactly("TestOperation");
+        assertThat(apiCall.metricValues(CoreMetric.API_CALL_SUCCESSFUL)).containsExactly(true);
+        assertThat(apiCall.metricValues(CoreMetric.RETRY_COUNT)).containsExactly(0);
+        assertThat(apiCall.metricValues(CoreMetric.API_CALL_DURATION)).hasSize(1);
+        assertThat(apiCall.metricValues(CoreMetric.MARSHALLING_DURATION)).hasSize(1);
+        assertThat(apiCall.metricValues(CoreMetric.UNMARSHALLING_DURATION)).hasSize(1);
+
+        assertThat(apiCall.children()).hasSize(1);
+        MetricCollection attempt = apiCall.children().get(0);
+        assertThat(attempt.metricValues(CoreMetric.SIGNING_DURATION)).hasSize(1);
+        assertThat(attempt.metricValues(CoreMetric.SERVICE_CALL_DURATION)).hasSize(1);
+        assertThat(attempt.metricValues(CoreMetric.BACKOFF_DELAY_DURATION)).isEmpty();
+        assertThat(attempt.metricValues(HttpMetric.HTTP_STATUS_CODE)).containsExactly(200);
+    }
+
+    @Test
+    public void retriedCall_publishesOneChildPerAttempt() throws Exception {
+        when(httpClientCall.call()).thenThrow(new IOException("Connection reset"))
+                                   .thenReturn(successfulResponse());
+
+        handler(publisher).execute(clientExecutionParams());
+
+        MetricCollection apiCall = publisher.published.get(0);
+        assertThat(apiCall.metricValues(CoreMetric.RETRY_COUNT)).containsExactly(1);
+        assertThat(apiCall.children()).hasSize(2);
+        assertThat(apiCall.children().get(0).metricValues(HttpMetric.HTTP_STATUS_CODE)).isEmpty();
+        assertThat(apiCall.children().get(1).metricValues(CoreMetric.BACKOFF_DELAY_DURATION)).hasSize(1);
+        assertThat(apiCall.children().get(1).metricValues(HttpMetric.HTTP_STATUS_CODE)).containsExactly(200);
+    }
+
+    @Test
+    public void failedCall_publishesUnsuccessfulCall() throws Exception {
+        when(httpClientCall.call()).thenThrow(new IOException("Connection reset"));
+
+        assertThatThrownBy(() -> handler(publisher).execute(clientExecutionParams())).isInstanceOf(SdkClientException.class);
+
+        assertThat(publisher.published).hasSize(1);
+        assertThat(publisher.published.get(0).metricValues(CoreMetric.API_CALL_SUCCESSFUL)).containsExactly(false);
+    }
+
+    @Test
+    public void failingPublisher_doesNotFailCallOrOtherPublishers() throws Exception {
+        when(httpClientCall.call()).thenReturn(successfulResponse());
+        MetricPublisher failingPublisher = new CapturingPublisher() {
+            @Override
+            public void publish(MetricCollection metricCollection) {
+                throw new IllegalStateException("Publisher is broken");
+            }
+        };
+
+        handler(failingPublisher, publisher).execute(clientExecutionParams());
+
+        assertThat(publisher.published).hasSize(1);
+    }
+
+    @Test
+    public void noPublisher_passesNoOpCollectorToHttpClient() throws Exception {
+        when(httpClientCall.call()).thenReturn(successfulResponse());
+
+        handler().execute(clientExecutionParams());
+
+        ArgumentCaptor<HttpExecuteRequest> requestCaptor = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        verify(httpClient).prepareRequest(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().metricCollector()).containsSame(NoOpMetricCollector.create());
+    }
+
+    private SdkSyncClientHandler handler(MetricPublisher... publishers) {
+        List<MetricPublisher> publisherList = new ArrayList<>();
+        Collections.addAll(publisherList, publishers);
+        SdkClientConfiguration configuration =
+            HttpTestUtils.testClientConfiguration().toBuilder()
+                         .option(SdkClientOption.SYNC_HTTP_CLIENT, httpClient)
+                         .option(SdkClientOption.RETRY_POLICY, RetryPolicy.builder()
+                                                                          .numRetries(1)
+                                                                          .backoffStrategy(BackoffStrategy.none())
+                                                                          .build())
+                         .option(SdkClientOption.METRIC_PUBLISHERS, publisherList)
+                         .build();
+        return new SdkSyncClientHandler(configuration);
+    }
+
+    private ClientExecutionParams<SdkRequest, SdkResponse> clientExecutionParams() {
+        return new ClientExecutionParams<SdkRequest, SdkResponse>()
+            .withOperationName("TestOperation")
+            .withInput(request)
+            .withMarshaller(marshaller)
+            .withResponseHandler(responseHandler)
+            .withErrorResponseHandler(errorResponseHandler);
+    }
+
+    private static HttpExecuteResponse successfulResponse() {
+        return HttpExecuteResponse.builder()
+                                  .response(SdkHttpResponse.builder().statusCode(200).build())
+                                  .build();
+    }
+
+    private static class CapturingPublisher implements MetricPublisher {
+        private final List<MetricCollection> published = new ArrayList<>();
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            published.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
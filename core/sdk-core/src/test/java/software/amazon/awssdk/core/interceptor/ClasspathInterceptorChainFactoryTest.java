@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+public class ClasspathInterceptorChainFactoryTest {
+    private static final String INTERCEPTORS_PATH = "software/amazon/awssdk/core/interceptor/test.interceptors";
+
+    private final ClasspathInterceptorChainFactory factory = new ClasspathInterceptorChainFactory();
+
+    @Test
+    public void getInterceptors_createsListedInterceptorsInOrder() {
+        List<ExecutionInterceptor> interceptors = factory.getInterceptors(INTERCEPTORS_PATH);
+
+        assertThat(interceptors).hasSize(2);
+        assertThat(interceptors.get(0)).isInstanceOf(FirstInterceptor.class);
+        assertThat(interceptors.get(1)).isInstanceOf(SecondInterceptor.class);
+    }
+
+    @Test
+    public void getInterceptors_createsNewInterceptorsForEachCall() {
+        List<ExecutionInterceptor> first = factory.getInterceptors(INTERCEPTORS_PATH);
+        List<ExecutionInterceptor> second = new ClasspathInterceptorChainFactory().getInterceptors(INTERCEPTORS_PATH);
+
+        assertThat(second).hasSize(2);
+        assertThat(second.get(0)).isNotSameAs(first.get(0));
+        assertThat(second.get(1)).isNotSameAs(first.get(1));
+    }
+
+    @Test
+    public void getAdditionalInterceptors_scanDisabled_returnsEmptyList() {
+        assertThat(factory.getAdditionalInterceptors(INTERCEPTORS_PATH, Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void getAdditionalInterceptors_skipsInterceptorsAlreadyCreated() {
+        List<ExecutionInterceptor> existing = Collections.singletonList(new FirstInterceptor());
+
+        List<ExecutionInterceptor> interceptors = withServiceInterceptorScan(
+            () -> factory.getAdditionalInterceptors(INTERCEPTORS_PATH, existing));
+
+        assertThat(interceptors).hasSize(1);
+        assertThat(interceptors.get(0)).isInstanceOf(SecondInterceptor.class);
+    }
+
+    @Test
+    public void getAdditionalInterceptors_noneCreated_createsAllListedInterceptors() {
+        List<ExecutionInterceptor> interceptors = withServiceInterceptorScan(
+            () -> factory.getAdditionalInterceptors(INTERCEPTORS_PATH, Collections.emptyList()));
+
+        assertThat(interceptors).hasSize(2);
+        assertThat(interceptors.get(0)).isInstanceOf(FirstInterceptor.class);
+        assertThat(interceptors.get(1)).isInstanceOf(SecondInterceptor.class);
+    }
+
+    @Test
+    public void getInterceptors_missingResource_returnsEmptyList() {
+        assertThat(factory.getInterceptors("software/amazon/awssdk/core/interceptor/missing.interceptors")).isEmpty();
+    }
+
+    @Test
+    public void getInterceptors_classIsNotAnInterceptor_throwsException() {
+        assertThatThrownBy(() -> factory.getInterceptors("software/amazon/awssdk/core/interceptor/invalid.interceptors"))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("java.lang.Object");
+    }
+
+    private static <T> T withServiceInterceptorScan(Supplier<T> supplier) {
+        String property = SdkSystemSetting.AWS_SERVICE_INTERCEPTOR_SCAN_ENABLED.property();
+        System.setProperty(property, "true");
+        try {
+            return supplier.get();
+        } finally {
+            System.clearProperty(property);
+        }
+    }
+
+    public static class FirstInterceptor implements ExecutionInterceptor {
+    }
+
+    public static class SecondInterceptor implements ExecutionInterceptor {
+    }
+}
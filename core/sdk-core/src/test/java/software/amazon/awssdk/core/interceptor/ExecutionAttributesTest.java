@@ -0,0 +1,90 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ExecutionAttributesTest {
+    private static final ExecutionAttribute<String> FIRST = new ExecutionAttribute<>("First");
+    private static final ExecutionAttribute<Integer> SECOND = new ExecutionAttribute<>("Second");
+
+    @Test
+    public void getAttribute_unsetAttribute_returnsNull() {
+        assertThat(new ExecutionAttributes().getAttribute(FIRST)).isNull();
+    }
+
+    @Test
+    public void putAttribute_storesValuePerAttribute() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(FIRST, "value")
+                                                                  .putAttribute(SECOND, 1);
+
+        assertThat(attributes.getAttribute(FIRST)).isEqualTo("value");
+        assertThat(attributes.getAttribute(SECOND)).isEqualTo(1);
+    }
+
+    @Test
+    public void putAttribute_replacesValue() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(FIRST, "old")
+                                                                  .putAttribute(FIRST, "new");
+
+        assertThat(attributes.getAttribute(FIRST)).isEqualTo("new");
+    }
+
+    @Test
+    public void putAttributeIfAbsent_onlySetsUnsetOrNullAttributes() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(FIRST, "old")
+                                                                  .putAttribute(SECOND, null)
+                                                                  .putAttributeIfAbsent(FIRST, "new")
+                                                                  .putAttributeIfAbsent(SECOND, 2);
+
+        assertThat(attributes.getAttribute(FIRST)).isEqualTo("old");
+        assertThat(attributes.getAttribute(SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    public void attributeCreatedAfterAttributes_canBeStored() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        ExecutionAttribute<String> late = new ExecutionAttribute<>("Late");
+
+        assertThat(attributes.getAttribute(late)).isNull();
+        attributes.putAttribute(late, "value");
+        assertThat(attributes.getAttribute(late)).isEqualTo("value");
+    }
+
+    @Test
+    public void attributesBeyondIndexedLimit_areStored() {
+        List<ExecutionAttribute<Integer>> manyAttributes = new ArrayList<>();
+        for (int i = 0; i < ExecutionAttributes.MAX_INDEXED_ATTRIBUTES + 10; i++) {
+            manyAttributes.add(new ExecutionAttribute<>("Attribute" + i));
+        }
+
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        ExecutionAttribute<Integer> overflowing = manyAttributes.get(manyAttributes.size() - 1);
+        assertThat(attributes.getAttribute(overflowing)).isNull();
+
+        for (int i = 0; i < manyAttributes.size(); i++) {
+            attributes.putAttribute(manyAttributes.get(i), i);
+        }
+        for (int i = 0; i < manyAttributes.size(); i++) {
+            assertThat(attributes.getAttribute(manyAttributes.get(i))).isEqualTo(i);
+        }
+        assertThat(attributes.getAttribute(FIRST)).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer.FileSubscriber;
+import software.amazon.awssdk.http.async.LentByteBuffers;
+
+public class FileSubscriberTest {
+    private final AtomicInteger references = new AtomicInteger();
+    private final Supplier<Runnable> retainer = () -> {
+        references.incrementAndGet();
+        return references::decrementAndGet;
+    };
+
+    private AsynchronousFileChannel channel;
+    private Subscription subscription;
+    private CompletableFuture<Void> future;
+    private FileSubscriber subscriber;
+
+    @Before
+    public void setup() {
+        channel = mock(AsynchronousFileChannel.class);
+        subscription = mock(Subscription.class);
+        future = new CompletableFuture<>();
+        subscriber = new FileSubscriber(channel, Paths.get("file"), future);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Test
+    public void lentBuffers_writtenWithoutCopyingAndReleasedWhenWritten() {
+        for (int i = 0; i < 3; i++) {
+            ByteBuffer lent = ByteBuffer.wrap(new byte[1024]).asReadOnlyBuffer();
+
+            lend(lent);
+            assertThat(references.get()).isEqualTo(1);
+
+            ArgumentCaptor<ByteBuffer> written = ArgumentCaptor.forClass(ByteBuffer.class);
+            CompletionHandler<Integer, ByteBuffer> handler = captureWrite(written, i + 1);
+            assertThat(written.getValue()).isSameAs(lent);
+
+            lent.position(lent.limit());
+            handler.completed(1024, lent);
+            assertThat(references.get()).isZero();
+        }
+        verify(subscription, times(4)).request(1);
+    }
+
+    @Test
+    public void partialWrite_releasedOnlyOnceFullyWritten() {
+        ByteBuffer lent = ByteBuffer.wrap(new byte[1024]).asReadOnlyBuffer();
+        lend(lent);
+
+        ArgumentCaptor<ByteBuffer> written = ArgumentCaptor.forClass(ByteBuffer.class);
+        lent.position(512);
+        captureWrite(written, 1).completed(512, lent);
+        assertThat(references.get()).isEqualTo(1);
+
+        lent.position(lent.limit());
+        captureWrite(written, 2).completed(512, lent);
+        assertThat(references.get()).isZero();
+    }
+
+    @Test
+    public void failedWrite_releasesBuffer() {
+        ByteBuffer lent = ByteBuffer.wrap(new byte[1024]).asReadOnlyBuffer();
+        lend(lent);
+
+        IOException failure = new IOException("disk full");
+        captureWrite(ArgumentCaptor.forClass(ByteBuffer.class), 1).failed(failure, lent);
+
+        assertThat(references.get()).isZero();
+        assertThat(future).isCompletedExceptionally();
+        verify(subscription).cancel();
+    }
+
+    /**
+     * Deliver the buffer the way a zero copy publisher does: lent for the duration of onNext, and released afterwards.
+     */
+    private void lend(ByteBuffer buffer) {
+        references.incrementAndGet();
+        LentByteBuffers.lend(retainer, () -> subscriber.onNext(buffer));
+        references.decrementAndGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionHandler<Integer, ByteBuffer> captureWrite(ArgumentCaptor<ByteBuffer> written, int writes) {
+        ArgumentCaptor<CompletionHandler> handler = ArgumentCaptor.forClass(CompletionHandler.class);
+        verify(channel, times(writes)).write(written.capture(), anyLong(), any(), handler.capture());
+        return handler.getValue();
+    }
+}
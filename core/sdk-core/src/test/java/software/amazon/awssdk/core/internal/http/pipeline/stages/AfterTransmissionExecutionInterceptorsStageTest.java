@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.signer.NoOpSigner;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.utils.Pair;
+import utils.ValidSdkObjects;
+
+public class AfterTransmissionExecutionInterceptorsStageTest {
+
+    private final AfterTransmissionExecutionInterceptorsStage stage = new AfterTransmissionExecutionInterceptorsStage();
+
+    @Test
+    public void noInterceptors_returnsResponseUnchanged() throws Exception {
+        Pair<SdkHttpFullRequest, SdkHttpFullResponse> input = Pair.of(ValidSdkObjects.sdkHttpFullRequest().build(),
+                                                                      response());
+
+        Pair<SdkHttpFullRequest, SdkHttpFullResponse> output = stage.execute(input, requestContext(Collections.emptyList()));
+
+        assertThat(output).isSameAs(input);
+    }
+
+    @Test
+    public void interceptorModifiesResponse_returnsModifiedResponse() throws Exception {
+        ExecutionInterceptor interceptor = new ExecutionInterceptor() {
+            @Override
+            public SdkHttpResponse modifyHttpResponse(Context.ModifyHttpResponse context,
+                                                      ExecutionAttributes executionAttributes) {
+                return context.httpResponse().toBuilder().putHeader("Foo", "bar").build();
+            }
+        };
+        Pair<SdkHttpFullRequest, SdkHttpFullResponse> input = Pair.of(ValidSdkObjects.sdkHttpFullRequest().build(),
+                                                                      response());
+        RequestExecutionContext context = requestContext(Collections.singletonList(interceptor));
+
+        Pair<SdkHttpFullRequest, SdkHttpFullResponse> output = stage.execute(input, context);
+
+        assertThat(output.right().firstMatchingHeader("Foo")).hasValue("bar");
+        assertThat(context.executionContext().interceptorContext().httpResponse()).isSameAs(output.right());
+    }
+
+    private SdkHttpFullResponse response() {
+        return SdkHttpFullResponse.builder().statusCode(200).build();
+    }
+
+    private RequestExecutionContext requestContext(List<ExecutionInterceptor> interceptors) {
+        ExecutionContext executionContext =
+            ExecutionContext.builder()
+                            .signer(new NoOpSigner())
+                            .interceptorChain(new ExecutionInterceptorChain(interceptors))
+                            .executionAttributes(new ExecutionAttributes())
+                            .interceptorContext(InterceptorContext.builder()
+                                                                  .request(NoopTestRequest.builder().build())
+                                                                  .build())
+                            .build();
+        return RequestExecutionContext.builder()
+                                      .executionContext(executionContext)
+                                      .originalRequest(NoopTestRequest.builder().build())
+                                      .build();
+    }
+}
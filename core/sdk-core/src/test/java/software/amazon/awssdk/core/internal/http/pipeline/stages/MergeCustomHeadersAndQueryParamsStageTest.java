@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+public class MergeCustomHeadersAndQueryParamsStageTest {
+
+    @Test
+    public void noCustomHeaders_leavesHeadersUnchanged() throws Exception {
+        SdkHttpFullRequest.Builder request = ValidSdkObjects.sdkHttpFullRequest().clearHeaders().putHeader("Foo", "bar");
+
+        SdkHttpFullRequest output = headersStage(Collections.emptyMap())
+            .execute(request, requestContext(SdkRequestOverrideConfiguration.builder().build()))
+            .build();
+
+        assertThat(output.headers()).containsOnlyKeys("Foo");
+        assertThat(output.headers().get("Foo")).containsExactly("bar");
+    }
+
+    @Test
+    public void customHeaders_areAppendedAfterRequestHeaders() throws Exception {
+        Map<String, List<String>> clientHeaders = new LinkedHashMap<>();
+        clientHeaders.put("Foo", singletonList("client"));
+        clientHeaders.put("Client", singletonList("client"));
+        SdkHttpFullRequest.Builder request = ValidSdkObjects.sdkHttpFullRequest().clearHeaders().putHeader("Foo", "bar");
+        SdkRequestOverrideConfiguration requestConfig = SdkRequestOverrideConfiguration.builder()
+                                                                                       .putHeader("Foo", "request")
+                                                                                       .putHeader("B-Request", "b")
+                                                                                       .putHeader("A-Request", "a")
+                                                                                       .build();
+
+        SdkHttpFullRequest output = headersStage(clientHeaders).execute(request, requestContext(requestConfig)).build();
+
+        assertThat(output.headers().get("Foo")).containsExactly("bar", "client", "request");
+        assertThat(output.headers()).containsOnlyKeys("A-Request", "B-Request", "Client", "Foo");
+    }
+
+    @Test
+    public void noCustomQueryParams_leavesQueryParamsUnchanged() throws Exception {
+        SdkHttpFullRequest.Builder request = ValidSdkObjects.sdkHttpFullRequest().putRawQueryParameter("foo", "bar");
+
+        SdkHttpFullRequest output = new MergeCustomQueryParamsStage()
+            .execute(request, requestContext(SdkRequestOverrideConfiguration.builder().build()))
+            .build();
+
+        assertThat(output.rawQueryParameters()).containsOnlyKeys("foo");
+        assertThat(output.rawQueryParameters().get("foo")).containsExactly("bar");
+    }
+
+    @Test
+    public void customQueryParams_areAppendedToRequestQueryParams() throws Exception {
+        SdkHttpFullRequest.Builder request = ValidSdkObjects.sdkHttpFullRequest().putRawQueryParameter("foo", "bar");
+        SdkRequestOverrideConfiguration requestConfig = SdkRequestOverrideConfiguration.builder()
+                                                                                       .putRawQueryParameter("foo", "baz")
+                                                                                       .putRawQueryParameter("other",
+                                                                                                             asList("1", "2"))
+                                                                                       .build();
+
+        SdkHttpFullRequest output = new MergeCustomQueryParamsStage().execute(request, requestContext(requestConfig)).build();
+
+        assertThat(output.rawQueryParameters().get("foo")).containsExactly("bar", "baz");
+        assertThat(output.rawQueryParameters().get("other")).containsExactly("1", "2");
+    }
+
+    private MergeCustomHeadersStage headersStage(Map<String, List<String>> clientHeaders) {
+        return new MergeCustomHeadersStage(
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(HttpTestUtils.testClientConfiguration()
+                                                                    .toBuilder()
+                                                                    .option(SdkClientOption.ADDITIONAL_HTTP_HEADERS,
+                                                                            clientHeaders)
+                                                                    .build())
+                                  .capacityManager(new CapacityManager(1))
+                                  .build());
+    }
+
+    private RequestExecutionContext requestContext(SdkRequestOverrideConfiguration requestConfig) {
+        ExecutionContext executionContext = ClientExecutionAndRequestTimerTestUtils.executionContext(null);
+        return RequestExecutionContext.builder()
+                                      .executionContext(executionContext)
+                                      .originalRequest(NoopTestRequest.builder().overrideConfiguration(requestConfig).build())
+                                      .build();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelTimerTest {
+    private final HashedWheelTimer timer = new HashedWheelTimer(new ThreadFactoryBuilder().threadNamePrefix("test-timer")
+                                                                                         .daemonThreads(true)
+                                                                                         .build(),
+                                                                1, TimeUnit.MILLISECONDS, 8);
+
+    @After
+    public void closeTimer() {
+        timer.close();
+    }
+
+    @Test
+    public void scheduledTask_runsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicLong ranAfterNanos = new AtomicLong();
+        long start = System.nanoTime();
+
+        timer.schedule(() -> {
+            ranAfterNanos.set(System.nanoTime() - start);
+            latch.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ranAfterNanos.get()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void cancelledTask_doesNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean(false);
+
+        TimeoutScheduler.Timeout timeout = timer.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        Thread.sleep(100);
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    public void expiredTask_cannotBeCancelled() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        TimeoutScheduler.Timeout timeout = timer.schedule(latch::countDown, 1, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void tasksSpanningManyRoundsOfTheWheel_allRun() throws InterruptedException {
+        int tasks = 100;
+        CountDownLatch latch = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            timer.schedule(latch::countDown, i, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void failingTask_doesNotStopTheTimer() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.schedule(() -> {
+            throw new IllegalStateException("Task failed");
+        }, 1, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void blockingTask_onTaskExecutor_doesNotDelayOtherTasks() throws InterruptedException {
+        ExecutorService taskExecutor = Executors.newCachedThreadPool();
+        HashedWheelTimer timerWithExecutor = new HashedWheelTimer(new ThreadFactoryBuilder().threadNamePrefix("test-timer")
+                                                                                          .daemonThreads(true)
+                                                                                          .build(),
+                                                                  taskExecutor, 1, TimeUnit.MILLISECONDS, 8);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            timerWithExecutor.schedule(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 1, TimeUnit.MILLISECONDS);
+            timerWithExecutor.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            blocked.countDown();
+            timerWithExecutor.close();
+        }
+        assertThat(taskExecutor.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void closedTimer_doesNotRunPendingTasksAndRejectsNewOnes() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        timer.schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+
+        timer.close();
+
+        Thread.sleep(100);
+        assertThat(ran).isFalse();
+        assertThatThrownBy(() -> timer.schedule(() -> { }, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class RateLimitingTokenBucketTest {
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock::get);
+
+    @Test
+    public void noThrottling_doesNotLimitRequests() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(bucket.acquire()).isEqualTo(Duration.ZERO);
+            bucket.updateClientSendingRate(false);
+        }
+
+        assertThat(bucket.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void throttling_enablesBucketAndDelaysOnceCapacityIsExhausted() {
+        bucket.updateClientSendingRate(true);
+
+        assertThat(bucket.isEnabled()).isTrue();
+        assertThat(bucket.acquire()).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    public void throttling_reducesFillRateBelowMeasuredRate() {
+        sendSuccessfulRequests(20, 5);
+
+        bucket.updateClientSendingRate(true);
+
+        assertThat(bucket.fillRate()).isLessThan(20.0);
+    }
+
+    @Test
+    public void successesAfterThrottling_increaseFillRate() {
+        sendSuccessfulRequests(20, 5);
+        bucket.updateClientSendingRate(true);
+        double throttledRate = bucket.fillRate();
+
+        sendSuccessfulRequests(20, 10);
+
+        assertThat(bucket.fillRate()).isGreaterThan(throttledRate);
+    }
+
+    @Test
+    public void delay_isTimeToRefillReservedTokens() {
+        bucket.updateClientSendingRate(true);
+        double fillRate = bucket.fillRate();
+
+        Duration first = bucket.acquire();
+        Duration second = bucket.acquire();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(second.minus(first).toNanos()).isEqualTo((long) (TimeUnit.SECONDS.toNanos(1) / fillRate));
+    }
+
+    private void sendSuccessfulRequests(int requestsPerSecond, int seconds) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        for (int i = 0; i < requestsPerSecond * seconds; i++) {
+            clock.addAndGet(interval);
+            bucket.updateClientSendingRate(false);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class TrustedCollectionsTest {
+
+    @Test
+    public void unmodifiableList_isUnmodifiableAndEqualToBackingList() {
+        List<String> list = TrustedCollections.unmodifiableList(new ArrayList<>(Arrays.asList("a", "b")));
+
+        assertThat(list).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(list.hashCode()).isEqualTo(Arrays.asList("a", "b").hashCode());
+        assertThatThrownBy(() -> list.add("c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.set(0, "c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.subList(0, 1).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void unmodifiableMap_isUnmodifiableAndEqualToBackingMap() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("k", "v");
+        Map<String, String> map = TrustedCollections.unmodifiableMap(new HashMap<>(expected));
+
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+        assertThatThrownBy(() -> map.put("k2", "v2")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.entrySet().iterator().next().setValue("v2"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.keySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void isTrusted_onlyForTrustedCollections() {
+        assertThat(TrustedCollections.isTrusted(TrustedCollections.unmodifiableList(new ArrayList<>()))).isTrue();
+        assertThat(TrustedCollections.isTrusted(TrustedCollections.unmodifiableMap(new HashMap<>()))).isTrue();
+        assertThat(TrustedCollections.isTrusted(Collections.unmodifiableList(new ArrayList<>()))).isFalse();
+        assertThat(TrustedCollections.isTrusted(new HashMap<>())).isFalse();
+        assertThat(TrustedCollections.isTrusted(null)).isFalse();
+    }
+
+    @Test
+    public void trustedListAndMap_returnTrustedCollectionsAsIs() {
+        List<String> list = TrustedCollections.unmodifiableList(new ArrayList<>());
+        Map<String, String> map = TrustedCollections.unmodifiableMap(new HashMap<>());
+
+        assertThat(TrustedCollections.<String>trustedList(list)).isSameAs(list);
+        assertThat(TrustedCollections.<String, String>trustedMap(map)).isSameAs(map);
+        assertThatThrownBy(() -> TrustedCollections.trustedList(new ArrayList<>())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TrustedCollections.trustedMap(new HashMap<>())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void trustedCollections_canBeSerialized() throws Exception {
+        List<String> list = TrustedCollections.unmodifiableList(new ArrayList<>(Arrays.asList("a", "b")));
+        Map<String, String> map = TrustedCollections.unmodifiableMap(Collections.singletonMap("k", "v"));
+
+        assertThat(roundTrip(list)).isEqualTo(list);
+        assertThat(roundTrip(map)).isEqualTo(map);
+    }
+
+    private static Object roundTrip(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
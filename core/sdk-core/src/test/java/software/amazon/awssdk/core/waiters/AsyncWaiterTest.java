@@ -0,0 +1,131 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+
+public class AsyncWaiterTest {
+    private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+
+    private final AsyncWaiter<Integer> waiter =
+        AsyncWaiter.builder(Integer.class)
+                   .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(r -> r >= 3))
+                   .addAcceptor(WaiterAcceptor.retryOnExceptionAcceptor(e -> e instanceof IllegalStateException))
+                   .overrideConfiguration(c -> c.maxAttempts(5)
+                                                .backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMillis(1))))
+                   .scheduledExecutorService(executorService)
+                   .build();
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void pollsUntilSuccessAcceptorMatches() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        WaiterResponse<Integer> response =
+            waiter.runAsync(() -> CompletableFuture.completedFuture(attempts.incrementAndGet())).join();
+
+        assertThat(response.response()).contains(3);
+        assertThat(response.attemptsExecuted()).isEqualTo(3);
+    }
+
+    @Test
+    public void failedFutureMatchingRetryAcceptor_pollsAgain() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        WaiterResponse<Integer> response = waiter.runAsync(() -> {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            if (attempts.incrementAndGet() == 1) {
+                future.completeExceptionally(new CompletionException(new IllegalStateException("Not found")));
+            } else {
+                future.complete(3);
+            }
+            return future;
+        }).join();
+
+        assertThat(response.attemptsExecuted()).isEqualTo(2);
+    }
+
+    @Test
+    public void maxAttemptsExceeded_completesExceptionally() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<WaiterResponse<Integer>> future =
+            waiter.runAsync(() -> CompletableFuture.completedFuture(0 * attempts.incrementAndGet()));
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(SdkClientException.class);
+        assertThat(attempts).hasValue(5);
+    }
+
+    @Test
+    public void pollingFunctionThrowing_isTreatedAsFailedPoll() {
+        CompletableFuture<WaiterResponse<Integer>> future = waiter.runAsync(() -> {
+            throw new IllegalArgumentException("Bad request");
+        });
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class);
+        assertThat(future).hasFailedWithThrowableThat().isInstanceOf(SdkClientException.class)
+                          .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void manyConcurrentWaits_shareOneSchedulerThread() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[500];
+        for (int i = 0; i < futures.length; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            futures[i] = waiter.runAsync(() -> CompletableFuture.completedFuture(attempts.incrementAndGet()));
+        }
+
+        CompletableFuture.allOf(futures).join();
+
+        for (CompletableFuture<?> future : futures) {
+            assertThat(future).isCompleted();
+        }
+    }
+
+    @Test
+    public void cancelledWait_stopsPolling() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        AsyncWaiter<Integer> slowWaiter =
+            AsyncWaiter.builder(Integer.class)
+                       .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(r -> r >= 100))
+                       .overrideConfiguration(c -> c.maxAttempts(100)
+                                                    .backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMillis(50))))
+                       .scheduledExecutorService(executorService)
+                       .build();
+
+        slowWaiter.runAsync(() -> CompletableFuture.completedFuture(attempts.incrementAndGet())).cancel(false);
+        executorService.schedule(() -> { }, 200, TimeUnit.MILLISECONDS).get();
+
+        assertThat(attempts.get()).isLessThanOrEqualTo(2);
+    }
+}
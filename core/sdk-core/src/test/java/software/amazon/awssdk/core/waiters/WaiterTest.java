@@ -0,0 +1,149 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+
+public class WaiterTest {
+    private static final String SUCCESS = "SUCCESS";
+    private static final String PENDING = "PENDING";
+    private static final String FAILED = "FAILED";
+
+    private final Waiter<String> waiter =
+        Waiter.builder(String.class)
+              .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(SUCCESS::equals))
+              .addAcceptor(WaiterAcceptor.errorOnResponseAcceptor(FAILED::equals))
+              .addAcceptor(WaiterAcceptor.retryOnExceptionAcceptor(e -> e instanceof IllegalStateException))
+              .overrideConfiguration(c -> c.maxAttempts(3)
+                                           .backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMillis(1))))
+              .build();
+
+    @Test
+    public void responseMatchingSuccessAcceptor_completesWaiter() {
+        WaiterResponse<String> response = waiter.run(responses(PENDING, SUCCESS));
+
+        assertThat(response.response()).contains(SUCCESS);
+        assertThat(response.exception()).isEmpty();
+        assertThat(response.attemptsExecuted()).isEqualTo(2);
+    }
+
+    @Test
+    public void exceptionMatchingRetryAcceptor_pollsAgain() {
+        AtomicInteger attempts = new AtomicInteger();
+        WaiterResponse<String> response = waiter.run(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Not found");
+            }
+            return SUCCESS;
+        });
+
+        assertThat(response.attemptsExecuted()).isEqualTo(2);
+    }
+
+    @Test
+    public void exceptionMatchingSuccessAcceptor_completesWithException() {
+        Waiter<String> notExistsWaiter =
+            Waiter.builder(String.class)
+                  .addAcceptor(WaiterAcceptor.successOnExceptionAcceptor(e -> e instanceof IllegalStateException))
+                  .build();
+        IllegalStateException notFound = new IllegalStateException("Not found");
+
+        WaiterResponse<String> response = notExistsWaiter.run(() -> {
+            throw notFound;
+        });
+
+        assertThat(response.exception()).containsSame(notFound);
+        assertThat(response.response()).isEmpty();
+    }
+
+    @Test
+    public void responseMatchingFailureAcceptor_failsWaiter() {
+        assertThatThrownBy(() -> waiter.run(responses(PENDING, FAILED)))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("failure state");
+    }
+
+    @Test
+    public void exceptionMatchingNoAcceptor_failsWaiterWithCause() {
+        IllegalArgumentException cause = new IllegalArgumentException("Bad request");
+
+        assertThatThrownBy(() -> waiter.run(() -> {
+            throw cause;
+        })).isInstanceOf(SdkClientException.class).hasCause(cause);
+    }
+
+    @Test
+    public void maxAttemptsExceeded_failsWaiter() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> waiter.run(() -> {
+            attempts.incrementAndGet();
+            return PENDING;
+        })).isInstanceOf(SdkClientException.class).hasMessageContaining("max retry attempts: 3");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void perCallOverride_takesPrecedenceOverWaiterConfiguration() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> waiter.run(() -> {
+            attempts.incrementAndGet();
+            return PENDING;
+        }, WaiterOverrideConfiguration.builder().maxAttempts(5).build())).isInstanceOf(SdkClientException.class);
+        assertThat(attempts).hasValue(5);
+    }
+
+    @Test
+    public void nextDelayExceedingWaitTimeout_failsWaiterWithoutSleeping() {
+        Waiter<String> slowWaiter =
+            waiterWithConfiguration(c -> c.maxAttempts(10)
+                                          .backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMinutes(1)))
+                                          .waitTimeout(Duration.ofSeconds(1)));
+
+        assertThatThrownBy(() -> slowWaiter.run(() -> PENDING)).isInstanceOf(SdkClientException.class)
+                                                                .hasMessageContaining("max wait time");
+    }
+
+    @Test
+    public void noAcceptor_isRejected() {
+        assertThatThrownBy(() -> Waiter.builder(String.class).build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Waiter<String> waiterWithConfiguration(
+        Consumer<WaiterOverrideConfiguration.Builder> configuration) {
+        return Waiter.builder(String.class)
+                     .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(SUCCESS::equals))
+                     .overrideConfiguration(configuration)
+                     .build();
+    }
+
+    private static Supplier<String> responses(String... responses) {
+        Iterator<String> iterator = Arrays.asList(responses).iterator();
+        return iterator::next;
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.http;
 
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
  * Request object containing the parameters necessary to make a synchronous HTTP request.
@@ -28,10 +29,12 @@ public final class HttpExecuteRequest {
 
     private final SdkHttpRequest request;
     private final Optional<ContentStreamProvider> contentStreamProvider;
+    private final Optional<MetricCollector> metricCollector;
 
     private HttpExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.contentStreamProvider = builder.contentStreamProvider;
+        this.metricCollector = builder.metricCollector;
     }
 
     /**
@@ -48,6 +51,13 @@ public final class HttpExecuteRequest {
         return contentStreamProvider;
     }
 
+    /**
+     * @return The {@link MetricCollector} the HTTP client should report {@link HttpMetric}s for this request to.
+     */
+    public Optional<MetricCollector> metricCollector() {
+        return metricCollector;
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -68,12 +78,21 @@ public final class HttpExecuteRequest {
          */
         Builder contentStreamProvider(ContentStreamProvider contentStreamProvider);
 
+        /**
+         * Set the {@link MetricCollector} the HTTP client should report {@link HttpMetric}s for this request to.
+         *
+         * @param metricCollector The metric collector
+         * @return This builder for method chaining
+         */
+        Builder metricCollector(MetricCollector metricCollector);
+
         HttpExecuteRequest build();
     }
 
     private static class BuilderImpl implements Builder {
         private SdkHttpRequest request;
         private Optional<ContentStreamProvider> contentStreamProvider = Optional.empty();
+        private Optional<MetricCollector> metricCollector = Optional.empty();
 
         @Override
         public Builder request(SdkHttpRequest request) {
@@ -87,6 +106,12 @@ public final class HttpExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder metricCollector(MetricCollector metricCollector) {
+            this.metricCollector = Optional.ofNullable(metricCollector);
+            return this;
+        }
+
         @Override
         public HttpExecuteRequest build() {
             return new HttpExecuteRequest(this);
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by HTTP client implementations to the collector provided in {@link HttpExecuteRequest#metricCollector()}
+ * and {@link software.amazon.awssdk.http.async.AsyncExecuteRequest#metricCollector()}.
+ */
+@SdkPublicApi
+public final class HttpMetric {
+    /**
+     * The name of the HTTP client.
+     */
+    public static final SdkMetric<String> HTTP_CLIENT_NAME = SdkMetric.create("HttpClientName", String.class);
+
+    /**
+     * The maximum number of concurrent requests supported by the HTTP client, ie. the size of the connection pool for
+     * HTTP/1.1 or the maximum number of streams for HTTP/2.
+     */
+    public static final SdkMetric<Integer> MAX_CONCURRENCY = SdkMetric.create("MaxConcurrency", Integer.class);
+
+    /**
+     * The number of additional requests that could be executed without establishing a new connection, ie. the number of idle
+     * connections in the pool.
+     */
+    public static final SdkMetric<Integer> AVAILABLE_CONCURRENCY = SdkMetric.create("AvailableConcurrency", Integer.class);
+
+    /**
+     * The number of requests currently being executed, ie. the number of connections leased from the pool.
+     */
+    public static final SdkMetric<Integer> LEASED_CONCURRENCY = SdkMetric.create("LeasedConcurrency", Integer.class);
+
+    /**
+     * The number of requests waiting for a connection to become available.
+     */
+    public static final SdkMetric<Integer> PENDING_CONCURRENCY_ACQUIRES =
+        SdkMetric.create("PendingConcurrencyAcquires", Integer.class);
+
+    /**
+     * The time taken to acquire a connection (or an HTTP/2 stream) for the request.
+     */
+    public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
+        SdkMetric.create("ConcurrencyAcquireDuration", Duration.class);
+
+    /**
+     * The status code of the HTTP response.
+     */
+    public static final SdkMetric<Integer> HTTP_STATUS_CODE = SdkMetric.create("HttpStatusCode", Integer.class);
+
+    /**
+     * The number of HTTP/2 streams open on the connection the request was executed on, including the request's own stream.
+     */
+    public static final SdkMetric<Integer> HTTP2_OPEN_STREAMS = SdkMetric.create("Http2OpenStreams", Integer.class);
+
+    /**
+     * The maximum number of concurrent HTTP/2 streams the server allows on the connection the request was executed on.
+     */
+    public static final SdkMetric<Integer> HTTP2_MAX_STREAMS = SdkMetric.create("Http2MaxStreams", Integer.class);
+
+    /**
+     * The number of HTTP/2 connections open, or being established, to the endpoint of the request.
+     */
+    public static final SdkMetric<Integer> HTTP2_CONNECTIONS = SdkMetric.create("Http2Connections", Integer.class);
+
+    private HttpMetric() {
+    }
+}
@@ -15,8 +15,11 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
  * Request object containing the parameters necessary to make an asynchronous HTTP request.
@@ -29,12 +32,14 @@ public final class AsyncExecuteRequest {
     private final SdkHttpContentPublisher requestContentPublisher;
     private final SdkAsyncHttpResponseHandler responseHandler;
     private final boolean isFullDuplex;
+    private final Optional<MetricCollector> metricCollector;
 
     private AsyncExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.requestContentPublisher = builder.requestContentPublisher;
         this.responseHandler = builder.responseHandler;
         this.isFullDuplex = builder.isFullDuplex;
+        this.metricCollector = builder.metricCollector;
     }
 
     /**
@@ -65,6 +70,13 @@ public final class AsyncExecuteRequest {
         return isFullDuplex;
     }
 
+    /**
+     * @return The {@link MetricCollector} the HTTP client should report {@link HttpMetric}s for this request to.
+     */
+    public Optional<MetricCollector> metricCollector() {
+        return metricCollector;
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -105,6 +117,14 @@ public final class AsyncExecuteRequest {
          */
         Builder fullDuplex(boolean fullDuplex);
 
+        /**
+         * Set the {@link MetricCollector} the HTTP client should report {@link HttpMetric}s for this request to.
+         *
+         * @param metricCollector The metric collector.
+         * @return This builder for method chaining.
+         */
+        Builder metricCollector(MetricCollector metricCollector);
+
         AsyncExecuteRequest build();
     }
 
@@ -113,6 +133,7 @@ public final class AsyncExecuteRequest {
         private SdkHttpContentPublisher requestContentPublisher;
         private SdkAsyncHttpResponseHandler responseHandler;
         private boolean isFullDuplex;
+        private Optional<MetricCollector> metricCollector = Optional.empty();
 
         @Override
         public Builder request(SdkHttpRequest request) {
@@ -138,6 +159,12 @@ public final class AsyncExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder metricCollector(MetricCollector metricCollector) {
+            this.metricCollector = Optional.ofNullable(metricCollector);
+            return this;
+        }
+
         @Override
         public AsyncExecuteRequest build() {
             return new AsyncExecuteRequest(this);
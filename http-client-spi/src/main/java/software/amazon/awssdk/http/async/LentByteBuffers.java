@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Lets a response publisher lend a subscriber a {@link ByteBuffer} whose memory is reclaimed as soon as the subscriber's
+ * {@code onNext} returns, like the pooled buffers of a zero copy HTTP client, while still allowing subscribers that use the
+ * buffer later, for example to write it asynchronously, to keep it without copying it.
+ *
+ * <p>The publisher delivers the buffer through {@link #lend}. A subscriber that needs the buffer after {@code onNext}
+ * returns calls {@link #retain()} from within {@code onNext}, and runs the returned hook once it is done with the buffer.
+ * Buffers that are not lent need no retaining, so the hook does nothing for them.
+ */
+@SdkProtectedApi
+public final class LentByteBuffers {
+    private static final ThreadLocal<Supplier<Runnable>> RETAINER = new ThreadLocal<>();
+    private static final Runnable NO_OP = () -> {
+    };
+
+    private LentByteBuffers() {
+    }
+
+    /**
+     * Run the given delivery, usually a call to a subscriber's {@code onNext}, lending it a buffer that the caller reclaims
+     * when the delivery returns unless it was retained.
+     *
+     * @param retainer Keeps the lent buffer from being reclaimed and returns the hook that releases it again.
+     * @param delivery The delivery of the lent buffer.
+     */
+    public static void lend(Supplier<Runnable> retainer, Runnable delivery) {
+        Supplier<Runnable> previous = RETAINER.get();
+        RETAINER.set(retainer);
+        try {
+            delivery.run();
+        } finally {
+            if (previous == null) {
+                RETAINER.remove();
+            } else {
+                RETAINER.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Keep the buffer passed to the {@code onNext} call this is made from until the returned hook is run. The hook must be
+     * run exactly once. If the buffer was not lent, the hook does nothing.
+     *
+     * @return The hook that releases the buffer.
+     */
+    public static Runnable retain() {
+        Supplier<Runnable> retainer = RETAINER.get();
+        return retainer == null ? NO_OP : retainer.get();
+    }
+}
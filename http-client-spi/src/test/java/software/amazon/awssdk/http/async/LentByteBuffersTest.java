@@ -0,0 +1,69 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+public class LentByteBuffersTest {
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private final Supplier<Runnable> retainer = () -> {
+        references.incrementAndGet();
+        return references::decrementAndGet;
+    };
+
+    @Test
+    public void retainDuringDelivery_keepsBufferUntilHookRuns() {
+        Runnable[] release = new Runnable[1];
+
+        LentByteBuffers.lend(retainer, () -> release[0] = LentByteBuffers.retain());
+
+        assertThat(references.get()).isEqualTo(2);
+        release[0].run();
+        assertThat(references.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void retainOutsideDelivery_returnsNoOpHook() {
+        LentByteBuffers.lend(retainer, () -> { });
+
+        LentByteBuffers.retain().run();
+
+        assertThat(references.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void nestedDelivery_restoresOuterRetainer() {
+        AtomicInteger innerReferences = new AtomicInteger(1);
+        Supplier<Runnable> innerRetainer = () -> {
+            innerReferences.incrementAndGet();
+            return innerReferences::decrementAndGet;
+        };
+
+        LentByteBuffers.lend(retainer, () -> {
+            LentByteBuffers.lend(innerRetainer, LentByteBuffers::retain);
+            LentByteBuffers.retain();
+        });
+
+        assertThat(innerReferences.get()).isEqualTo(2);
+        assertThat(references.get()).isEqualTo(2);
+    }
+}
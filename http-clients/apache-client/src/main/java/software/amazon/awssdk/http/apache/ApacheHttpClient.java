@@ -64,6 +64,7 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -71,6 +72,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -78,6 +80,7 @@ import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionRequestFactory;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
@@ -85,6 +88,8 @@ import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
 import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
@@ -211,10 +216,11 @@ public final class ApacheHttpClient implements SdkHttpClient {
     @Override
     public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
         HttpRequestBase apacheRequest = toApacheRequest(request);
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
         return new ExecutableHttpRequest() {
             @Override
             public HttpExecuteResponse call() throws IOException {
-                return execute(apacheRequest);
+                return execute(apacheRequest, metricCollector);
             }
 
             @Override
@@ -231,10 +237,36 @@ public final class ApacheHttpClient implements SdkHttpClient {
         cm.shutdown();
     }
 
-    private HttpExecuteResponse execute(HttpRequestBase apacheRequest) throws IOException {
+    private HttpExecuteResponse execute(HttpRequestBase apacheRequest, MetricCollector metricCollector) throws IOException {
         HttpClientContext localRequestContext = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
-        HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
-        return createResponse(httpResponse, apacheRequest);
+        if (metricCollector instanceof NoOpMetricCollector) {
+            HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
+            return createResponse(httpResponse, apacheRequest);
+        }
+
+        ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.set(metricCollector);
+        try {
+            HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
+            collectPoolMetrics(metricCollector);
+            return createResponse(httpResponse, apacheRequest);
+        } finally {
+            ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.remove();
+        }
+    }
+
+    /**
+     * Report the state of the connection pool, as seen by a request that currently holds one of its connections.
+     */
+    private void collectPoolMetrics(MetricCollector metricCollector) {
+        metricCollector.reportMetric(HttpMetric.HTTP_CLIENT_NAME, clientName());
+        HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
+        if (cm instanceof PoolingHttpClientConnectionManager) {
+            PoolStats totalStats = ((PoolingHttpClientConnectionManager) cm).getTotalStats();
+            metricCollector.reportMetric(HttpMetric.MAX_CONCURRENCY, totalStats.getMax());
+            metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, totalStats.getAvailable());
+            metricCollector.reportMetric(HttpMetric.LEASED_CONCURRENCY, totalStats.getLeased());
+            metricCollector.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, totalStats.getPending());
+        }
     }
 
     private HttpRequestBase toApacheRequest(HttpExecuteRequest request) {
@@ -20,13 +20,23 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import org.apache.http.conn.ConnectionRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 @SdkInternalApi
-final class ClientConnectionRequestFactory {
+public final class ClientConnectionRequestFactory {
+    /**
+     * The collector of the request executing on the current thread, if metrics are being collected for it. Apache acquires
+     * the connection on the thread executing the request, from deep inside {@code HttpClient#execute}, so this is the only
+     * way to associate the time spent waiting for a connection with the request.
+     */
+    public static final ThreadLocal<MetricCollector> THREAD_LOCAL_REQUEST_METRIC_COLLECTOR = new ThreadLocal<>();
+
     private static final Logger log = LoggerFactory.getLogger(ClientConnectionRequestFactory.class);
     private static final Class<?>[] INTERFACES = {
             ConnectionRequest.class,
@@ -69,22 +79,29 @@ final class ClientConnectionRequestFactory {
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
-                // TODO v2 service metrics
-                //                if ("get".equals(method.getName())) {
-                //                    ServiceLatencyProvider latencyProvider = new ServiceLatencyProvider(
-                //                            AWSServiceMetrics.HttpClientGetConnectionTime);
-                //                    try {
-                //                        return method.invoke(orig, args);
-                //                    } finally {
-                //                        AwsSdkMetrics.getServiceMetricCollector()
-                //                                .collectLatency(latencyProvider.endTiming());
-                //                    }
-                //                }
+                if ("get".equals(method.getName())) {
+                    return timedGet(method, args);
+                }
                 return method.invoke(orig, args);
             } catch (InvocationTargetException e) {
                 log.debug("", e);
                 throw e.getCause();
             }
         }
+
+        private Object timedGet(Method method, Object[] args) throws InvocationTargetException, IllegalAccessException {
+            MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+            if (metricCollector == null) {
+                return method.invoke(orig, args);
+            }
+
+            long start = System.nanoTime();
+            try {
+                return method.invoke(orig, args);
+            } finally {
+                metricCollector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION,
+                                             Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
     }
 }
@@ -45,12 +45,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.NettyClientOption;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -106,6 +108,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     @Override
     public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
         RequestContext ctx = createRequestContext(request);
+        request.metricCollector().ifPresent(metrics -> metrics.reportMetric(HttpMetric.HTTP_CLIENT_NAME, CLIENT_NAME));
         return new NettyRequestExecutor(ctx).execute();
     }
 
@@ -343,6 +346,37 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder of the method chaining.
          */
         Builder sslProvider(SslProvider sslProvider);
+
+        /**
+         * Configure whether response content should be published as read-only views of Netty's pooled buffers rather
+         * than being copied into a new heap {@link java.nio.ByteBuffer} for every chunk received. This avoids a copy and an
+         * allocation per chunk, which is significant for large downloads.
+         *
+         * <p>When enabled, a read-only {@link java.nio.ByteBuffer} published to the response subscriber is only valid until
+         * the subscriber's {@code onNext} returns, at which point the underlying memory is returned to the pool. Subscribers
+         * that use a buffer after {@code onNext} returns, for example to write it asynchronously, must either copy it or keep
+         * it with {@link software.amazon.awssdk.http.async.LentByteBuffers#retain()} and release it when they are done. The
+         * {@code AsyncResponseTransformer}s provided by the SDK follow this rule.</p>
+         *
+         * <p>By default, this is disabled.</p>
+         *
+         * @param zeroCopyResponses True to publish views of pooled buffers, false to publish copies.
+         * @return the builder for method chaining.
+         */
+        Builder zeroCopyResponses(Boolean zeroCopyResponses);
+
+        /**
+         * Configure how often an HTTP/2 connection that has requests in flight is health checked with a PING frame. If the
+         * server doesn't acknowledge a PING before the next one is due, the connection is closed and the requests on it fail
+         * with an {@link java.io.IOException}, so that they can be retried on a healthy connection instead of waiting for
+         * the read timeout. This setting is only respected when the HTTP/2 protocol is used.
+         *
+         * <p>By default, this is 5 seconds. A period of {@link java.time.Duration#ZERO} disables the health checks.</p>
+         *
+         * @param http2HealthCheckPingPeriod The period between two PINGs.
+         * @return the builder for method chaining.
+         */
+        Builder http2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod);
     }
 
     /**
@@ -515,6 +549,27 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             sslProvider(sslProvider);
         }
 
+        @Override
+        public Builder zeroCopyResponses(Boolean zeroCopyResponses) {
+            standardOptions.put(NettyClientOption.ZERO_COPY_RESPONSES, zeroCopyResponses);
+            return this;
+        }
+
+        public void setZeroCopyResponses(Boolean zeroCopyResponses) {
+            zeroCopyResponses(zeroCopyResponses);
+        }
+
+        @Override
+        public Builder http2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod) {
+            standardOptions.put(NettyClientOption.HTTP2_HEALTH_CHECK_PING_PERIOD,
+                                Validate.isNotNegative(http2HealthCheckPingPeriod, "http2HealthCheckPingPeriod"));
+            return this;
+        }
+
+        public void setHttp2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod) {
+            http2HealthCheckPingPeriod(http2HealthCheckPingPeriod);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             return new NettyNioAsyncHttpClient(this, standardOptions.build()
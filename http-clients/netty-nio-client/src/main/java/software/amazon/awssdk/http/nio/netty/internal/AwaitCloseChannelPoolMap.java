@@ -43,6 +43,7 @@ import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -147,6 +148,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI,
         // from the underlying pool, the channel is closed and released.
         channelPool = new CancellableAcquireChannelPool(bootstrap.config().group().next(), channelPool);
 
+        // Wrap the channel pool to track the number of leased channels and pending acquires for metrics.
+        channelPool = new ConcurrencyTrackingChannelPool(channelPool, configuration.maxConnections());
+
         return channelPool;
     }
 
@@ -169,7 +173,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI,
         return configuration.trustAllCertificates() ? InsecureTrustManagerFactory.INSTANCE : null;
     }
 
-    static final class SimpleChannelPoolAwareChannelPool implements ChannelPool {
+    static final class SimpleChannelPoolAwareChannelPool implements SdkChannelPool {
         private final BetterSimpleChannelPool underlyingSimpleChannelPool;
         private final ChannelPool actualChannelPool;
 
@@ -204,6 +208,13 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI,
             actualChannelPool.close();
         }
 
+        @Override
+        public void collectChannelPoolMetrics(MetricCollector metrics) {
+            if (actualChannelPool instanceof SdkChannelPool) {
+                ((SdkChannelPool) actualChannelPool).collectChannelPoolMetrics(metrics);
+            }
+        }
+
         @SdkTestInternalApi
         BetterSimpleChannelPool underlyingSimpleChannelPool() {
             return underlyingSimpleChannelPool;
@@ -22,6 +22,7 @@ import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
 
 /**
@@ -42,6 +43,12 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<MultiplexedChannelRecord> CHANNEL_POOL_RECORD = AttributeKey.newInstance(
         "aws.http.nio.netty.async.channelPoolRecord");
 
+    /**
+     * Reference to the {@link Http2MultiplexedChannelPool} that owns a multiplexed connection.
+     */
+    public static final AttributeKey<Http2MultiplexedChannelPool> HTTP2_CHANNEL_POOL = AttributeKey.newInstance(
+        "aws.http.nio.netty.async.http2ChannelPool");
+
     /**
      * Value of the MAX_CONCURRENT_STREAMS from the server's SETTING frame.
      */
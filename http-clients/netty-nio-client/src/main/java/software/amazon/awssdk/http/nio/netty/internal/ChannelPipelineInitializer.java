@@ -38,6 +38,8 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayFrameHandler;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
 
 /**
@@ -124,6 +126,13 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
 
         pipeline.addLast(codecBuilder.build());
 
+        // Added ahead of the settings frame handler, which closes the connection when a health check fails
+        long pingPeriodMillis = configuration.http2HealthCheckPingPeriodMillis();
+        if (pingPeriodMillis > 0) {
+            pipeline.addLast(new Http2PingHandler(pingPeriodMillis));
+        }
+        pipeline.addLast(Http2GoAwayFrameHandler.getInstance());
+
         pipeline.addLast(new Http2SettingsFrameHandler(ch, clientMaxStreams, channelPoolRef));
     }
 
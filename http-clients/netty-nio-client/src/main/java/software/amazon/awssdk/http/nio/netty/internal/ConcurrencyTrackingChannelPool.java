@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.Promise;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Wrapper around a {@link ChannelPool} that tracks how many channels are currently leased from it and how many acquires are
+ * waiting for a channel, so that they can be reported with the metrics of the requests using the pool.
+ */
+@SdkInternalApi
+public class ConcurrencyTrackingChannelPool implements SdkChannelPool {
+
+    private static final AttributeKey<AtomicBoolean> IS_LEASED = AttributeKey.newInstance(
+        "aws.http.nio.netty.async.isLeased");
+
+    private final ChannelPool delegate;
+    private final int maxConcurrency;
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+
+    public ConcurrencyTrackingChannelPool(ChannelPool delegate, int maxConcurrency) {
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        pendingAcquires.incrementAndGet();
+        return delegate.acquire().addListener(onAcquire());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        pendingAcquires.incrementAndGet();
+        return delegate.acquire(promise).addListener(onAcquire());
+    }
+
+    private GenericFutureListener<Future<Channel>> onAcquire() {
+        return future -> {
+            pendingAcquires.decrementAndGet();
+            if (future.isSuccess()) {
+                future.getNow().attr(IS_LEASED).set(new AtomicBoolean(true));
+                leased.incrementAndGet();
+            }
+        };
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        onRelease(channel);
+        return delegate.release(channel);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        onRelease(channel);
+        return delegate.release(channel, promise);
+    }
+
+    private void onRelease(Channel channel) {
+        // IS_LEASED may be null if this channel was not acquired by this pool, and a channel may be released more than once.
+        AtomicBoolean isLeased = channel.attr(IS_LEASED).get();
+        if (isLeased != null && isLeased.compareAndSet(true, false)) {
+            leased.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void collectChannelPoolMetrics(MetricCollector metrics) {
+        metrics.reportMetric(HttpMetric.MAX_CONCURRENCY, maxConcurrency);
+        metrics.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased.get());
+        metrics.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pendingAcquires.get());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
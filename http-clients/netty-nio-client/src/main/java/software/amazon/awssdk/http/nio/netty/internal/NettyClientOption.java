@@ -0,0 +1,54 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Type safe key for configuration that only applies to the Netty client and therefore doesn't belong in
+ * {@link software.amazon.awssdk.http.SdkHttpConfigurationOption}.
+ *
+ * @param <T> Type of option
+ */
+@SdkInternalApi
+public final class NettyClientOption<T> extends AttributeMap.Key<T> {
+
+    /**
+     * Whether response content is published as read-only views of Netty's pooled buffers instead of copies.
+     */
+    public static final NettyClientOption<Boolean> ZERO_COPY_RESPONSES =
+        new NettyClientOption<>("ZeroCopyResponses", Boolean.class);
+
+    /**
+     * How often an HTTP/2 connection with open streams is health checked with a PING frame.
+     */
+    public static final NettyClientOption<Duration> HTTP2_HEALTH_CHECK_PING_PERIOD =
+        new NettyClientOption<>("Http2HealthCheckPingPeriod", Duration.class);
+
+    private final String name;
+
+    private NettyClientOption(String name, Class<T> valueType) {
+        super(valueType);
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -22,6 +22,7 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -36,6 +37,7 @@ public final class NettyConfiguration {
     public static final int EVENTLOOP_SHUTDOWN_QUIET_PERIOD_SECONDS = 2;
     public static final int EVENTLOOP_SHUTDOWN_TIMEOUT_SECONDS = 15;
     public static final int EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS = 16;
+    public static final Duration DEFAULT_HTTP2_HEALTH_CHECK_PING_PERIOD = Duration.ofSeconds(5);
 
     private final AttributeMap configuration;
 
@@ -86,4 +88,13 @@ public final class NettyConfiguration {
     public boolean reapIdleConnections() {
         return configuration.get(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS);
     }
+
+    public long http2HealthCheckPingPeriodMillis() {
+        Duration period = configuration.get(NettyClientOption.HTTP2_HEALTH_CHECK_PING_PERIOD);
+        return (period == null ? DEFAULT_HTTP2_HEALTH_CHECK_PING_PERIOD : period).toMillis();
+    }
+
+    public boolean zeroCopyResponses() {
+        return Boolean.TRUE.equals(configuration.get(NettyClientOption.ZERO_COPY_RESPONSES));
+    }
 }
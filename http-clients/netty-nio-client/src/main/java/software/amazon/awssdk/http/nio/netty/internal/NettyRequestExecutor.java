@@ -17,11 +17,14 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import static software.amazon.awssdk.http.Protocol.HTTP1_1;
 import static software.amazon.awssdk.http.Protocol.HTTP2;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.EXECUTE_FUTURE_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.EXECUTION_ID_KEY;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CHANNEL_POOL;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.IN_USE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_COMPLETE_KEY;
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import com.typesafe.netty.http.HttpStreamsClientHandler;
 import com.typesafe.netty.http.StreamedHttpRequest;
@@ -61,10 +64,15 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpToHttp2OutboundAdapter;
+import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
 @SdkInternalApi
 public final class NettyRequestExecutor {
@@ -73,22 +81,63 @@ public final class NettyRequestExecutor {
     private static final AtomicLong EXECUTION_COUNTER = new AtomicLong(0L);
     private final long executionId = EXECUTION_COUNTER.incrementAndGet();
     private final RequestContext context;
+    private final MetricCollector metricCollector;
     private CompletableFuture<Void> executeFuture;
     private Channel channel;
+    private long acquireStartNanos;
 
     public NettyRequestExecutor(RequestContext context) {
         this.context = context;
+        this.metricCollector = resolveMetricCollector(context);
+    }
+
+    /**
+     * @return The collector for the metrics of this request, or null if nobody is interested in them.
+     */
+    private static MetricCollector resolveMetricCollector(RequestContext context) {
+        MetricCollector collector = context.executeRequest().metricCollector().orElse(null);
+        return collector instanceof NoOpMetricCollector ? null : collector;
     }
 
     @SuppressWarnings("unchecked")
     public CompletableFuture<Void> execute() {
         Promise<Channel> channelFuture = context.eventLoopGroup().next().newPromise();
+        acquireStartNanos = System.nanoTime();
+        collectChannelPoolMetrics();
         context.channelPool().acquire(channelFuture);
         executeFuture = createExecuteFuture(channelFuture);
         channelFuture.addListener((GenericFutureListener) this::makeRequestListener);
         return executeFuture;
     }
 
+    private void collectChannelPoolMetrics() {
+        if (metricCollector != null && context.channelPool() instanceof SdkChannelPool) {
+            ((SdkChannelPool) context.channelPool()).collectChannelPoolMetrics(metricCollector);
+        }
+    }
+
+    private void collectAcquireMetrics() {
+        if (metricCollector == null) {
+            return;
+        }
+
+        metricCollector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION,
+                                     Duration.ofNanos(System.nanoTime() - acquireStartNanos));
+
+        // HTTP/2 streams are child channels of the connection, whose record tracks the streams open on it.
+        Channel parent = channel.parent();
+        MultiplexedChannelRecord record = parent == null ? null : parent.attr(CHANNEL_POOL_RECORD).get();
+        if (record != null) {
+            metricCollector.reportMetric(HttpMetric.HTTP2_MAX_STREAMS, saturatedCast(record.maxStreams()));
+            metricCollector.reportMetric(HttpMetric.HTTP2_OPEN_STREAMS,
+                                         saturatedCast(record.maxStreams() - record.availableStreams()));
+        }
+        Http2MultiplexedChannelPool http2Pool = parent == null ? null : parent.attr(HTTP2_CHANNEL_POOL).get();
+        if (http2Pool != null) {
+            http2Pool.collectChannelPoolMetrics(metricCollector);
+        }
+    }
+
     /**
      * Convenience method to create the execution future and set up the cancellation logic.
      *
@@ -130,6 +179,7 @@ public final class NettyRequestExecutor {
     private void makeRequestListener(Future<Channel> channelFuture) {
         if (channelFuture.isSuccess()) {
             channel = channelFuture.getNow();
+            collectAcquireMetrics();
             configureChannel();
             if (tryConfigurePipeline()) {
                 makeRequest();
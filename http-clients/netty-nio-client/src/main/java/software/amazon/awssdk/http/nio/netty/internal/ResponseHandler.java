@@ -39,6 +39,8 @@ import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.WriteTimeoutException;
 import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ReferenceCounted;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.List;
@@ -57,6 +59,7 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.LentByteBuffers;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.utils.FunctionalUtils.UnsafeRunnable;
@@ -108,8 +111,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                                                   LastHttpContentSwallower.getInstance());
 
                 fullContent = ((FullHttpResponse) msg).content();
-                ByteBuffer bb = copyToByteBuffer(fullContent);
-                requestContext.handler().onStream(new FullResponseContentPublisher(channelContext, bb, ef));
+                FullResponseContentPublisher publisher =
+                    zeroCopy(requestContext) && fullContent.isReadable()
+                    ? new FullResponseContentPublisher(channelContext, fullContent.retain(), ef)
+                    : new FullResponseContentPublisher(channelContext, copyToByteBuffer(fullContent), ef);
+                requestContext.handler().onStream(publisher);
                 finalizeResponse(requestContext, channelContext);
             } finally {
                 Optional.ofNullable(fullContent).ifPresent(ByteBuf::release);
@@ -196,6 +202,10 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         return bb;
     }
 
+    private static boolean zeroCopy(RequestContext requestContext) {
+        return requestContext.configuration() != null && requestContext.configuration().zeroCopyResponses();
+    }
+
     private static CompletableFuture<Void> executeFuture(ChannelHandlerContext ctx) {
         return ctx.channel().attr(EXECUTE_FUTURE_KEY).get();
     }
@@ -205,6 +215,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final ChannelHandlerContext channelContext;
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
+        private final boolean zeroCopy;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
         private PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
@@ -213,6 +224,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.zeroCopy = zeroCopy(requestContext);
         }
 
         @Override
@@ -233,6 +245,31 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                private ByteBuffer toByteBuffer(HttpContent httpContent) {
+                    return zeroCopy ? httpContent.content().nioBuffer().asReadOnlyBuffer()
+                                    : copyToByteBuffer(httpContent.content());
+                }
+
+                private void releaseIfCopied(HttpContent httpContent) {
+                    if (!zeroCopy) {
+                        httpContent.release();
+                    }
+                }
+
+                private void deliver(HttpContent httpContent, ByteBuffer byteBuffer) {
+                    if (zeroCopy) {
+                        LentByteBuffers.lend(() -> retain(httpContent), () -> subscriber.onNext(byteBuffer));
+                    } else {
+                        subscriber.onNext(byteBuffer);
+                    }
+                }
+
+                private void releaseIfLent(HttpContent httpContent) {
+                    if (zeroCopy) {
+                        ReferenceCountUtil.safeRelease(httpContent);
+                    }
+                }
+
                 private void onCancel() {
                     if (!isDone.compareAndSet(false, true)) {
                         return;
@@ -252,22 +289,29 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                 public void onNext(HttpContent httpContent) {
                     // isDone may be true if the subscriber cancelled
                     if (isDone.get()) {
+                        ReferenceCountUtil.release(httpContent);
                         return;
                     }
 
-                    // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
-                    ByteBuffer byteBuffer =
-                        tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
-                                        this::onError,
-                                        httpContent::release);
-
+                    // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous. In zero copy mode
+                    // the subscriber is lent a view of the content instead, which is released as soon as onNext returns
+                    // unless the subscriber retains it.
+                    ByteBuffer byteBuffer;
+                    try {
+                        byteBuffer = tryCatchFinally(() -> toByteBuffer(httpContent), this::onError,
+                            () -> releaseIfCopied(httpContent));
+
+                        //As per reactive-streams rule 2.13, we should not call subscriber#onError when
+                        //exception is thrown from subscriber#onNext
+                        if (byteBuffer != null) {
+                            tryCatch(() -> deliver(httpContent, byteBuffer),
+                                     this::notifyError);
+                        }
+                    } finally {
+                        releaseIfLent(httpContent);
+                    }
 
-                    //As per reactive-streams rule 2.13, we should not call subscriber#onError when
-                    //exception is thrown from subscriber#onNext
                     if (byteBuffer != null) {
-                        tryCatch(() -> subscriber.onNext(byteBuffer),
-                                 this::notifyError);
-
                         tryCatch(channelContext::read, this::onError);
                     }
                 }
@@ -336,6 +380,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
     static class FullResponseContentPublisher implements Publisher<ByteBuffer> {
         private final ChannelHandlerContext channelContext;
         private final ByteBuffer fullContent;
+        private final ByteBuf pooledContent;
         private final CompletableFuture<Void> executeFuture;
         private boolean running = true;
         private Subscriber<? super ByteBuffer> subscriber;
@@ -344,6 +389,20 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                                      CompletableFuture<Void> executeFuture) {
             this.channelContext = channelContext;
             this.fullContent = fullContent;
+            this.pooledContent = null;
+            this.executeFuture = executeFuture;
+        }
+
+        /**
+         * Publishes a read-only view of the given pooled buffer instead of a copy. Ownership of the buffer is transferred
+         * to the publisher, which releases it as soon as the subscriber's onNext returns unless the subscriber retains it
+         * through {@link LentByteBuffers#retain()}.
+         */
+        FullResponseContentPublisher(ChannelHandlerContext channelContext, ByteBuf pooledContent,
+                                     CompletableFuture<Void> executeFuture) {
+            this.channelContext = channelContext;
+            this.fullContent = null;
+            this.pooledContent = pooledContent;
             this.executeFuture = executeFuture;
         }
 
@@ -363,9 +422,18 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     if (running) {
                         running = false;
                         if (l <= 0) {
+                            releasePooledContent();
                             subscriber.onError(new IllegalArgumentException("Demand must be positive!"));
                         } else {
-                            subscriber.onNext(fullContent);
+                            try {
+                                if (pooledContent != null) {
+                                    LentByteBuffers.lend(() -> retain(pooledContent), () -> subscriber.onNext(content()));
+                                } else {
+                                    subscriber.onNext(fullContent);
+                                }
+                            } finally {
+                                releasePooledContent();
+                            }
                             subscriber.onComplete();
                             executeFuture.complete(null);
                         }
@@ -374,11 +442,32 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
                 @Override
                 public void cancel() {
-                    running = false;
+                    if (running) {
+                        running = false;
+                        releasePooledContent();
+                    }
                 }
             });
 
         }
+
+        private ByteBuffer content() {
+            return pooledContent != null ? pooledContent.nioBuffer().asReadOnlyBuffer() : fullContent;
+        }
+
+        private void releasePooledContent() {
+            if (pooledContent != null) {
+                ReferenceCountUtil.safeRelease(pooledContent);
+            }
+        }
+    }
+
+    /**
+     * Keep a lent buffer for a subscriber that retains it, returning the hook that releases it again.
+     */
+    private static Runnable retain(ReferenceCounted lent) {
+        lent.retain();
+        return () -> ReferenceCountUtil.safeRelease(lent);
     }
 
     private Throwable wrapException(Throwable originalCause) {
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.pool.ChannelPool;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * A {@link ChannelPool} that can report metrics about its state.
+ */
+@SdkInternalApi
+public interface SdkChannelPool extends ChannelPool {
+    /**
+     * Report the current state of this pool to the given collector.
+     *
+     * @param metrics The collector of the request that is using this pool.
+     */
+    void collectChannelPoolMetrics(MetricCollector metrics);
+}
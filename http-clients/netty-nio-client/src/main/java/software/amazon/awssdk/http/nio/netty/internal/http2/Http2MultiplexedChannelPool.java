@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CHANNEL_POOL;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
 
 import io.netty.channel.Channel;
@@ -24,20 +25,31 @@ import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are placed on the established connection with the fewest
+ * open streams, when the max concurrency for every connection is reached then a new connection will be opened.
+ *
+ * <p>
+ * When the last connection with available streams fills up, the next connection is established in the background (as
+ * long as the pool's max concurrency could make use of it), so that later requests don't have to wait for a connection
+ * to be established. Connections for which the server sent a GOAWAY receive no new streams and are released once their
+ * open streams complete, and connections are removed from the pool as soon as they are closed.
+ * </p>
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -45,25 +57,31 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPo
  * </p>
  */
 @SdkInternalApi
-public class Http2MultiplexedChannelPool implements ChannelPool {
+public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
     private final EventLoop eventLoop;
     private final ChannelPool connectionPool;
     private final long maxConcurrencyPerConnection;
+    private final int maxConcurrency;
     private final ArrayList<MultiplexedChannelRecord> connections;
+    private volatile int connectionCount;
     private boolean closed = false;
 
     /**
      * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
      * @param eventLoop Event loop to run all tasks in.
      * @param maxConcurrencyPerConnection Max concurrent streams per HTTP/2 connection.
+     * @param maxConcurrency Max concurrent streams enforced by the wrapping pool, which bounds how many connections are
+     * established in advance.
      */
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoop eventLoop,
-                                long maxConcurrencyPerConnection) {
+                                long maxConcurrencyPerConnection,
+                                int maxConcurrency) {
         this.connectionPool = connectionPool;
         this.eventLoop = eventLoop;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
+        this.maxConcurrency = maxConcurrency;
         // Customers that want an unbounded connection pool may set max concurrency to something like
         // Long.MAX_VALUE so we just stick with the initial ArrayList capacity and grow from there.
         this.connections = new ArrayList<>();
@@ -73,11 +91,14 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoop eventLoop,
                                 long maxConcurrencyPerConnection,
+                                int maxConcurrency,
                                 Collection<MultiplexedChannelRecord> connections) {
         this.connectionPool = connectionPool;
         this.eventLoop = eventLoop;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
+        this.maxConcurrency = maxConcurrency;
         this.connections = new ArrayList<>(connections);
+        this.connectionCount = connections.size();
     }
 
     @Override
@@ -96,18 +117,74 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
             return promise.setFailure(new IllegalStateException("Channel pool is closed!"));
         }
 
+        MultiplexedChannelRecord connection = leastLoadedConnection();
+        if (connection == null) {
+            // No available streams, establish new connection and add it to list
+            connection = newConnection();
+        }
+        connection.acquire(promise);
+        warmUpConnectionIfSaturated();
+        return promise;
+    }
+
+    /**
+     * Finds the connection with the most available streams. Established connections are preferred over ones that are still
+     * being established, so that requests aren't held back by a connection that is warming up.
+     *
+     * @return The least loaded connection, or null if no connection can take a new stream.
+     */
+    private MultiplexedChannelRecord leastLoadedConnection() {
+        MultiplexedChannelRecord established = null;
+        MultiplexedChannelRecord connecting = null;
         for (MultiplexedChannelRecord connection : connections) {
-            if (connection.availableStreams() > 0) {
-                connection.acquire(promise);
-                return promise;
+            if (!connection.acceptsNewStreams()) {
+                continue;
+            }
+            if (connection.isConnected()) {
+                established = lessLoaded(established, connection);
+            } else {
+                connecting = lessLoaded(connecting, connection);
             }
         }
-        // No available streams, establish new connection and add it to list
-        connections.add(new MultiplexedChannelRecord(connectionPool.acquire(),
-                                                     maxConcurrencyPerConnection,
-                                                     this::releaseParentChannel)
-                            .acquire(promise));
-        return promise;
+        return established != null ? established : connecting;
+    }
+
+    private static MultiplexedChannelRecord lessLoaded(MultiplexedChannelRecord current, MultiplexedChannelRecord candidate) {
+        return current == null || candidate.availableStreams() > current.availableStreams() ? candidate : current;
+    }
+
+    /**
+     * Starts establishing a new connection if no connection can take another stream, unless the existing connections can
+     * already carry the max concurrency of the pool.
+     */
+    private void warmUpConnectionIfSaturated() {
+        for (MultiplexedChannelRecord connection : connections) {
+            if (connection.acceptsNewStreams()) {
+                return;
+            }
+        }
+        long connectionsNeeded = (maxConcurrency + maxConcurrencyPerConnection - 1) / maxConcurrencyPerConnection;
+        if (connections.size() < connectionsNeeded) {
+            newConnection().warmUp();
+        }
+    }
+
+    private MultiplexedChannelRecord newConnection() {
+        Future<Channel> connectionFuture = connectionPool.acquire();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(connectionFuture,
+                                                                       maxConcurrencyPerConnection,
+                                                                       this::releaseParentChannel);
+        connectionFuture.addListener((GenericFutureListener<Future<Channel>>) future -> {
+            if (future.isSuccess()) {
+                Channel parentChannel = future.getNow();
+                parentChannel.attr(HTTP2_CHANNEL_POOL).set(this);
+                // Don't wait for a stream to fail before forgetting about a connection that was closed
+                parentChannel.closeFuture().addListener(f -> releaseParentChannel(parentChannel, record));
+            }
+        });
+        connections.add(record);
+        connectionCount = connections.size();
+        return record;
     }
 
     /**
@@ -121,6 +198,10 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     }
 
     private void releaseParentChannel0(Channel parentChannel, MultiplexedChannelRecord record) {
+        // A connection may be released more than once, e.g. when it is drained after a GOAWAY and then closed.
+        if (!removeConnection(record)) {
+            return;
+        }
         if (parentChannel != null) {
             try {
                 parentChannel.close();
@@ -128,7 +209,12 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
                 connectionPool.release(parentChannel);
             }
         }
-        connections.remove(record);
+    }
+
+    private boolean removeConnection(MultiplexedChannelRecord record) {
+        boolean removed = connections.remove(record);
+        connectionCount = connections.size();
+        return removed;
     }
 
     @Override
@@ -162,11 +248,19 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
 
     private void releaseParentChannel(Channel parentChannel) {
         MultiplexedChannelRecord channelRecord = parentChannel.attr(CHANNEL_POOL_RECORD).get();
-        connections.remove(channelRecord);
+        if (channelRecord != null && !removeConnection(channelRecord)) {
+            // Already released when the connection was closed or drained
+            return;
+        }
         parentChannel.close();
         connectionPool.release(parentChannel);
     }
 
+    @Override
+    public void collectChannelPoolMetrics(MetricCollector metrics) {
+        metrics.reportMetric(HttpMetric.HTTP2_CONNECTIONS, connectionCount);
+    }
+
     @Override
     public void close() {
         try {
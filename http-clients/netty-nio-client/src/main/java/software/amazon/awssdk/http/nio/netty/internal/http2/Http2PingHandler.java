@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Health checks an HTTP/2 connection that has open streams by periodically sending a PING frame. If the server hasn't
+ * acknowledged a PING by the time the next one is due, the connection is considered broken: an exception is fired down the
+ * pipeline, which fails the streams open on the connection and closes it, instead of leaving them to wait for a read
+ * timeout.
+ *
+ * <p>Connections without open streams aren't pinged, so that they can still be considered idle.</p>
+ */
+@SdkInternalApi
+public final class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame> {
+
+    private final long pingPeriodMillis;
+    private ScheduledFuture<?> periodicPing;
+    private long outstandingPing = -1;
+    private long nextPingContent;
+
+    public Http2PingHandler(long pingPeriodMillis) {
+        this.pingPeriodMillis = pingPeriodMillis;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive()) {
+            start(ctx);
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        start(ctx);
+        super.channelActive(ctx);
+    }
+
+    private void start(ChannelHandlerContext ctx) {
+        if (periodicPing == null) {
+            periodicPing = ctx.executor().scheduleWithFixedDelay(() -> doPeriodicPing(ctx),
+                                                                 pingPeriodMillis, pingPeriodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void doPeriodicPing(ChannelHandlerContext ctx) {
+        if (outstandingPing >= 0) {
+            stop();
+            ctx.fireExceptionCaught(new IOException("Server did not acknowledge the HTTP/2 PING sent on connection "
+                                                    + ctx.channel().id() + " within " + pingPeriodMillis + " ms."));
+            return;
+        }
+
+        MultiplexedChannelRecord record = ctx.channel().attr(CHANNEL_POOL_RECORD).get();
+        if (record == null || record.availableStreams() >= record.maxStreams()) {
+            return;
+        }
+
+        outstandingPing = nextPingContent++;
+        ctx.writeAndFlush(new DefaultHttp2PingFrame(outstandingPing));
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, Http2PingFrame frame) {
+        // PINGs sent by the server are acknowledged by the codec, we only need to track the acknowledgements of our own.
+        if (frame.ack() && frame.content() == outstandingPing) {
+            outstandingPing = -1;
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        stop();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stop();
+    }
+
+    private void stop() {
+        if (periodicPing != null) {
+            periodicPing.cancel(false);
+        }
+    }
+}
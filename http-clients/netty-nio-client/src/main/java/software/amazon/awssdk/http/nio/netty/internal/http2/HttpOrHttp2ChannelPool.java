@@ -150,7 +150,7 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
                                                  .build();
         } else {
             ChannelPool h2Pool = new Http2MultiplexedChannelPool(
-                    delegatePool, eventLoop, newChannel.attr(MAX_CONCURRENT_STREAMS).get());
+                    delegatePool, eventLoop, newChannel.attr(MAX_CONCURRENT_STREAMS).get(), maxConcurrency);
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
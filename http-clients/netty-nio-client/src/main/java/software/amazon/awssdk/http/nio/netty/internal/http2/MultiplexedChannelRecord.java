@@ -47,10 +47,12 @@ public final class MultiplexedChannelRecord {
 
     private final Future<Channel> connectionFuture;
     private final Map<ChannelId, Channel> childChannels;
+    private final long maxConcurrencyPerConnection;
     private final AtomicLong availableStreams;
     private final BiConsumer<Channel, MultiplexedChannelRecord> channelReleaser;
 
     private volatile Channel connection;
+    private volatile boolean draining;
 
     /**
      * @param connectionFuture Future for parent socket channel.
@@ -61,6 +63,7 @@ public final class MultiplexedChannelRecord {
                              long maxConcurrencyPerConnection,
                              BiConsumer<Channel, MultiplexedChannelRecord> channelReleaser) {
         this.connectionFuture = connectionFuture;
+        this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.availableStreams = new AtomicLong(maxConcurrencyPerConnection);
         this.childChannels = new ConcurrentHashMap<>(saturatedCast(maxConcurrencyPerConnection));
         this.channelReleaser = channelReleaser;
@@ -73,6 +76,7 @@ public final class MultiplexedChannelRecord {
                              BiConsumer<Channel, MultiplexedChannelRecord> channelReleaser) {
         this.connectionFuture = connectionFuture;
         this.childChannels = new ConcurrentHashMap<>(saturatedCast(maxConcurrencyPerConnection));
+        this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.availableStreams = new AtomicLong(maxConcurrencyPerConnection);
         this.channelReleaser = channelReleaser;
         this.connection = connection;
@@ -85,8 +89,7 @@ public final class MultiplexedChannelRecord {
         } else {
             connectionFuture.addListener((GenericFutureListener<Future<Channel>>) future -> {
                 if (future.isSuccess()) {
-                    connection = future.getNow();
-                    connection.attr(CHANNEL_POOL_RECORD).set(this);
+                    setConnection(future.getNow());
                     createChildChannel(channelPromise, connection);
                 } else {
                     channelPromise.setFailure(future.cause());
@@ -97,6 +100,40 @@ public final class MultiplexedChannelRecord {
         return this;
     }
 
+    /**
+     * Establishes the connection without opening a stream on it, so that it is ready by the time a stream is needed.
+     */
+    MultiplexedChannelRecord warmUp() {
+        connectionFuture.addListener((GenericFutureListener<Future<Channel>>) future -> {
+            if (future.isSuccess()) {
+                setConnection(future.getNow());
+            } else {
+                channelReleaser.accept(connection, this);
+            }
+        });
+        return this;
+    }
+
+    private void setConnection(Channel connection) {
+        this.connection = connection;
+        connection.attr(CHANNEL_POOL_RECORD).set(this);
+    }
+
+    /**
+     * Stops new streams from being opened on this connection because the server sent a GOAWAY. Streams that are already
+     * open are allowed to complete, after which the connection is released.
+     */
+    public void goAway() {
+        draining = true;
+        releaseIfDrained();
+    }
+
+    private void releaseIfDrained() {
+        if (draining && connection != null && availableStreams.get() == maxConcurrencyPerConnection) {
+            channelReleaser.accept(connection, this);
+        }
+    }
+
     /**
      * Delivers the exception to all registered child channels.
      *
@@ -144,6 +181,7 @@ public final class MultiplexedChannelRecord {
                         channelReleaser.accept(connection, this);
                     }
                     availableStreams.incrementAndGet();
+                    releaseIfDrained();
                 }
             })
             .addListener(promiseNotifyingListener(p));
@@ -152,14 +190,46 @@ public final class MultiplexedChannelRecord {
     void release(Channel channel) {
         availableStreams.incrementAndGet();
         childChannels.remove(channel.id());
+        releaseIfDrained();
     }
 
     public Future<Channel> getConnectionFuture() {
         return connectionFuture;
     }
 
-    long availableStreams() {
+    /**
+     * @return The maximum number of streams allowed on this connection.
+     */
+    public long maxStreams() {
+        return maxConcurrencyPerConnection;
+    }
+
+    /**
+     * @return The number of streams that can still be opened on this connection.
+     */
+    public long availableStreams() {
         return availableStreams.get();
     }
 
+    /**
+     * @return True if a new stream can be opened on this connection, ie. it has available streams and isn't draining.
+     */
+    boolean acceptsNewStreams() {
+        return !draining && availableStreams.get() > 0;
+    }
+
+    /**
+     * @return True once the connection has been established.
+     */
+    boolean isConnected() {
+        return connection != null;
+    }
+
+    /**
+     * @return True if the server sent a GOAWAY for this connection.
+     */
+    boolean isDraining() {
+        return draining;
+    }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Pooled allocator that remembers every buffer it hands out so tests can assert that all of them were released. Install
+ * it on a client with {@code putChannelOption(ChannelOption.ALLOCATOR, allocator)}.
+ */
+public final class LeakTrackingByteBufAllocator extends AbstractByteBufAllocator {
+
+    private final PooledByteBufAllocator delegate = new PooledByteBufAllocator(true);
+    private final Queue<ByteBuf> allocated = new ConcurrentLinkedQueue<>();
+
+    public LeakTrackingByteBufAllocator() {
+        super(true);
+    }
+
+    @Override
+    protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+        return track(delegate.heapBuffer(initialCapacity, maxCapacity));
+    }
+
+    @Override
+    protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+        return track(delegate.directBuffer(initialCapacity, maxCapacity));
+    }
+
+    @Override
+    public boolean isDirectBufferPooled() {
+        return true;
+    }
+
+    /**
+     * @return Number of buffers allocated so far.
+     */
+    public int allocatedCount() {
+        return allocated.size();
+    }
+
+    /**
+     * @return Buffers that have been allocated but not yet released.
+     */
+    public List<ByteBuf> unreleasedBuffers() {
+        return allocated.stream().filter(b -> b.refCnt() > 0).collect(Collectors.toList());
+    }
+
+    private ByteBuf track(ByteBuf byteBuf) {
+        allocated.add(byteBuf);
+        return byteBuf;
+    }
+}
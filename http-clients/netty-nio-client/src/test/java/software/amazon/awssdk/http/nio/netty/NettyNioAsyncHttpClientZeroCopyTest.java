@@ -0,0 +1,264 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.netty.channel.ChannelOption;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.LentByteBuffers;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+/**
+ * Verifies that responses published as views of pooled buffers are delivered intact and that every buffer is returned to
+ * the pool, using {@link LeakTrackingByteBufAllocator}.
+ */
+public class NettyNioAsyncHttpClientZeroCopyTest {
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private LeakTrackingByteBufAllocator allocator;
+    private SdkAsyncHttpClient client;
+
+    @Before
+    public void setup() {
+        allocator = new LeakTrackingByteBufAllocator();
+        client = NettyNioAsyncHttpClient.builder()
+                                        .zeroCopyResponses(true)
+                                        .putChannelOption(ChannelOption.ALLOCATOR, allocator)
+                                        .build();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void largeBody_deliveredIntactAndAllBuffersReleased() throws Exception {
+        byte[] body = new byte[4 * 1024 * 1024];
+        new Random(42).nextBytes(body);
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(body)));
+
+        CollectingHandler handler = execute(new CollectingHandler(Long.MAX_VALUE));
+
+        assertThat(handler.future.get(10, TimeUnit.SECONDS)).isEqualTo(body);
+        assertThat(handler.readOnlyBuffers).isTrue();
+        assertNoLeaks();
+    }
+
+    @Test
+    public void unboundedDemandRequestedOnce_allBuffersReleased() throws Exception {
+        byte[] body = new byte[4 * 1024 * 1024];
+        new Random(7).nextBytes(body);
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(body)));
+
+        CollectingHandler handler = execute(CollectingHandler.unboundedDemand());
+
+        assertThat(handler.future.get(10, TimeUnit.SECONDS)).isEqualTo(body);
+        assertNoLeaks();
+    }
+
+    @Test
+    public void retainedBuffers_readableAfterOnNextAndReleasedBySubscriber() throws Exception {
+        byte[] body = new byte[4 * 1024 * 1024];
+        new Random(11).nextBytes(body);
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(body)));
+
+        CollectingHandler handler = execute(CollectingHandler.retaining());
+        handler.future.get(10, TimeUnit.SECONDS);
+        assertThat(allocator.unreleasedBuffers()).isNotEmpty();
+
+        assertThat(handler.readRetained()).isEqualTo(body);
+        assertNoLeaks();
+    }
+
+    @Test
+    public void subscriberCancels_allBuffersReleased() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(new byte[1024 * 1024])));
+
+        CollectingHandler handler = execute(new CollectingHandler(1));
+
+        assertThat(handler.future.get(10, TimeUnit.SECONDS)).isNotEmpty();
+        assertNoLeaks();
+    }
+
+    @Test
+    public void emptyBody_completesAndAllBuffersReleased() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(204)));
+
+        CollectingHandler handler = execute(new CollectingHandler(Long.MAX_VALUE));
+
+        assertThat(handler.future.get(10, TimeUnit.SECONDS)).isEmpty();
+        assertNoLeaks();
+    }
+
+    private CollectingHandler execute(CollectingHandler handler) {
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(uri)
+                                                       .method(SdkHttpMethod.GET)
+                                                       .putHeader("Host", uri.getHost())
+                                                       .build();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(new EmptyPublisher())
+                                          .responseHandler(handler)
+                                          .build());
+        return handler;
+    }
+
+    private void assertNoLeaks() {
+        // Closing the client closes every connection, which releases any buffers the codecs are still holding on to
+        client.close();
+        assertThat(allocator.allocatedCount()).isPositive();
+        assertThat(allocator.unreleasedBuffers()).isEmpty();
+    }
+
+    /**
+     * Reads the response one buffer at a time, copying each buffer before onNext returns as required in zero copy mode, or
+     * retaining it.
+     * Cancels once {@code maxBuffers} buffers have been read.
+     */
+    private static final class CollectingHandler implements SdkAsyncHttpResponseHandler {
+        private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private final List<Runnable> releases = new ArrayList<>();
+        private final long maxBuffers;
+        private final boolean unboundedDemand;
+        private volatile boolean readOnlyBuffers = true;
+        private boolean retain;
+
+        private CollectingHandler(long maxBuffers) {
+            this(maxBuffers, false);
+        }
+
+        private CollectingHandler(long maxBuffers, boolean unboundedDemand) {
+            this.maxBuffers = maxBuffers;
+            this.unboundedDemand = unboundedDemand;
+        }
+
+        /**
+         * Keeps every buffer with {@link LentByteBuffers#retain()} instead of copying it, to be read after the response
+         * completes with {@link #readRetained()}.
+         */
+        private static CollectingHandler retaining() {
+            CollectingHandler handler = new CollectingHandler(Long.MAX_VALUE);
+            handler.retain = true;
+            return handler;
+        }
+
+        /**
+         * Read the retained buffers and release them.
+         */
+        private byte[] readRetained() {
+            ByteArrayOutputStream retainedContent = new ByteArrayOutputStream();
+            for (int i = 0; i < received.size(); i++) {
+                ByteBuffer byteBuffer = received.get(i);
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                retainedContent.write(bytes, 0, bytes.length);
+                releases.get(i).run();
+            }
+            return retainedContent.toByteArray();
+        }
+
+        /**
+         * Requests {@code Long.MAX_VALUE} once and never signals demand again.
+         */
+        private static CollectingHandler unboundedDemand() {
+            return new CollectingHandler(Long.MAX_VALUE, true);
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription = s;
+                    s.request(unboundedDemand ? Long.MAX_VALUE : 1);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    readOnlyBuffers &= byteBuffer.isReadOnly() || !byteBuffer.hasRemaining();
+                    if (retain) {
+                        releases.add(LentByteBuffers.retain());
+                    } else {
+                        byte[] bytes = new byte[byteBuffer.remaining()];
+                        byteBuffer.get(bytes);
+                        content.write(bytes, 0, bytes.length);
+                    }
+                    received.add(byteBuffer);
+                    if (received.size() >= maxBuffers) {
+                        future.complete(content.toByteArray());
+                        subscription.cancel();
+                    } else if (!unboundedDemand) {
+                        subscription.request(1);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    future.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    future.complete(content.toByteArray());
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            future.completeExceptionally(error);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class ConcurrencyTrackingChannelPoolTest {
+    private ChannelPool delegatePool;
+    private ConcurrencyTrackingChannelPool channelPool;
+
+    @Before
+    public void setup() {
+        delegatePool = mock(ChannelPool.class);
+        when(delegatePool.acquire(any())).thenAnswer(i -> i.getArguments()[0]);
+        channelPool = new ConcurrencyTrackingChannelPool(delegatePool, 10);
+    }
+
+    @Test
+    public void pendingAcquire_isCountedUntilChannelIsAcquired() throws Exception {
+        Promise<Channel> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+        channelPool.acquire(promise);
+
+        MetricCollection pending = collectMetrics();
+        assertThat(pending.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(10);
+        assertThat(pending.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(1);
+        assertThat(pending.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+
+        promise.setSuccess(new MockChannel());
+
+        MetricCollection acquired = collectMetrics();
+        assertThat(acquired.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        assertThat(acquired.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+    }
+
+    @Test
+    public void failedAcquire_isNotCountedAsLeased() {
+        Promise<Channel> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+        channelPool.acquire(promise);
+        promise.setFailure(new RuntimeException("Connection failed"));
+
+        MetricCollection metrics = collectMetrics();
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+    }
+
+    @Test
+    public void releasingChannelTwice_onlyDecrementsLeasedOnce() throws Exception {
+        Channel first = new MockChannel();
+        Channel second = new MockChannel();
+        channelPool.acquire(ImmediateEventExecutor.INSTANCE.<Channel>newPromise().setSuccess(first));
+        channelPool.acquire(ImmediateEventExecutor.INSTANCE.<Channel>newPromise().setSuccess(second));
+
+        channelPool.release(first);
+        channelPool.release(first);
+
+        assertThat(collectMetrics().metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+    }
+
+    @Test
+    public void releasingChannelNotAcquiredFromPool_isIgnored() throws Exception {
+        channelPool.release(new MockChannel());
+
+        assertThat(collectMetrics().metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+    }
+
+    private MetricCollection collectMetrics() {
+        MetricCollector collector = MetricCollector.create("test");
+        channelPool.collectChannelPoolMetrics(collector);
+        return collector.collect();
+    }
+}
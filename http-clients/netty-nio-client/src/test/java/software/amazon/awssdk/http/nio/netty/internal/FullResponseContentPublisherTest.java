@@ -0,0 +1,141 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.async.LentByteBuffers;
+
+public class FullResponseContentPublisherTest {
+
+    private final ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+
+    private ByteBuf pooledContent;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void methodSetup() {
+        Channel chan = mock(Channel.class);
+        when(mockCtx.channel()).thenReturn(chan);
+        when(chan.attr(any(AttributeKey.class))).thenReturn(mock(Attribute.class));
+        pooledContent = PooledByteBufAllocator.DEFAULT.directBuffer();
+        pooledContent.writeCharSequence("content", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void pooledContent_publishedAsReadOnlyViewAndReleasedWhenOnNextReturns() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new ResponseHandler.FullResponseContentPublisher(mockCtx, pooledContent, new CompletableFuture<>())
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.received.isReadOnly()).isTrue();
+        assertThat(subscriber.contentInOnNext).isEqualTo("content");
+        assertThat(subscriber.completed).isTrue();
+        assertThat(pooledContent.refCnt()).isZero();
+    }
+
+    @Test
+    public void pooledContent_retainedBySubscriber_releasedWhenSubscriberReleasesIt() {
+        Runnable[] release = new Runnable[1];
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                super.onNext(byteBuffer);
+                release[0] = LentByteBuffers.retain();
+            }
+        };
+        new ResponseHandler.FullResponseContentPublisher(mockCtx, pooledContent, new CompletableFuture<>())
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(pooledContent.refCnt()).isEqualTo(1);
+        assertThat(StandardCharsets.UTF_8.decode(subscriber.received).toString()).isEqualTo("content");
+
+        release[0].run();
+        assertThat(pooledContent.refCnt()).isZero();
+    }
+
+    @Test
+    public void pooledContent_subscriberThrowsFromOnNext_released() {
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                throw new IllegalStateException("onNext failed");
+            }
+        };
+        new ResponseHandler.FullResponseContentPublisher(mockCtx, pooledContent, new CompletableFuture<>())
+            .subscribe(subscriber);
+
+        assertThatThrownBy(() -> subscriber.subscription.request(1)).isInstanceOf(IllegalStateException.class);
+        assertThat(pooledContent.refCnt()).isZero();
+    }
+
+    @Test
+    public void pooledContent_cancelledBeforeDelivery_released() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new ResponseHandler.FullResponseContentPublisher(mockCtx, pooledContent, new CompletableFuture<>())
+            .subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        assertThat(subscriber.received).isNull();
+        assertThat(pooledContent.refCnt()).isZero();
+    }
+
+    private static class TestSubscriber implements Subscriber<ByteBuffer> {
+        private Subscription subscription;
+        private ByteBuffer received;
+        private String contentInOnNext;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            received = byteBuffer;
+            contentInOnNext = StandardCharsets.UTF_8.decode(byteBuffer.duplicate()).toString();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.util.concurrent.DefaultPromise;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Http2GoAwayFrameHandler}.
+ */
+public class Http2GoAwayFrameHandlerTest {
+
+    @Test
+    public void goAway_drainsConnection() {
+        EmbeddedChannel channel = new EmbeddedChannel(Http2GoAwayFrameHandler.getInstance());
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(new DefaultPromise<>(channel.eventLoop()), 8,
+                                                                       (ch, rec) -> {});
+        channel.attr(CHANNEL_POOL_RECORD).set(record);
+
+        channel.writeInbound(new DefaultHttp2GoAwayFrame(Http2Error.NO_ERROR));
+
+        assertThat(record.isDraining()).isTrue();
+        assertThat(record.acceptsNewStreams()).isFalse();
+        channel.finishAndReleaseAll();
+    }
+}
@@ -22,13 +22,17 @@ import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Promise;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
@@ -68,7 +72,7 @@ public class Http2MultiplexedChannelPoolTest {
                                                                            channel,
                                                                            8,
                                                                            (ch, rec) -> {});
-            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, Collections.singletonList(record));
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 2, Collections.singletonList(record));
 
             h2Pool.close();
 
@@ -84,7 +88,7 @@ public class Http2MultiplexedChannelPoolTest {
     public void acquireAfterCloseFails() throws InterruptedException {
         ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
 
-        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, Collections.emptyList());
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 2, Collections.emptyList());
 
         h2Pool.close();
 
@@ -109,7 +113,7 @@ public class Http2MultiplexedChannelPoolTest {
                     8,
                     (ch, rec) -> {
                     });
-            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, Collections.singletonList(record));
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 2, Collections.singletonList(record));
 
             CompletableFuture<Boolean> interrupteFlagPreserved = new CompletableFuture<>();
 
@@ -131,4 +135,92 @@ public class Http2MultiplexedChannelPoolTest {
             channel.close().awaitUninterruptibly();
         }
     }
+
+    @Test
+    public void acquirePlacesStreamOnLeastLoadedConnection() {
+        MultiplexedChannelRecord busy = connectingRecord(8);
+        MultiplexedChannelRecord idle = connectingRecord(8);
+        busy.acquire(new DefaultPromise<>(loopGroup.next()));
+        busy.acquire(new DefaultPromise<>(loopGroup.next()));
+
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(Mockito.mock(ChannelPool.class), loopGroup.next(),
+                                                                             8, 16, Arrays.asList(busy, idle));
+        h2Pool.acquire();
+
+        waitForEventLoop();
+        assertThat(busy.availableStreams()).isEqualTo(6);
+        assertThat(idle.availableStreams()).isEqualTo(7);
+    }
+
+    @Test
+    public void acquireSkipsDrainingConnection() {
+        MultiplexedChannelRecord draining = connectingRecord(8);
+        MultiplexedChannelRecord busy = connectingRecord(8);
+        draining.goAway();
+        busy.acquire(new DefaultPromise<>(loopGroup.next()));
+
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(Mockito.mock(ChannelPool.class), loopGroup.next(),
+                                                                             8, 16, Arrays.asList(draining, busy));
+        h2Pool.acquire();
+
+        waitForEventLoop();
+        assertThat(draining.availableStreams()).isEqualTo(8);
+        assertThat(busy.availableStreams()).isEqualTo(6);
+    }
+
+    @Test
+    public void saturatedConnectionWarmsUpNextConnectionUpToMaxConcurrency() {
+        ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+        Mockito.when(connectionPool.acquire()).thenAnswer(i -> new DefaultPromise<Channel>(loopGroup.next()));
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 4,
+                                                                             Collections.emptyList());
+
+        h2Pool.acquire();
+        waitForEventLoop();
+        Mockito.verify(connectionPool, Mockito.times(1)).acquire();
+
+        h2Pool.acquire();
+        waitForEventLoop();
+        Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+
+        h2Pool.acquire();
+        h2Pool.acquire();
+        waitForEventLoop();
+        Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+
+        MetricCollector metrics = MetricCollector.create("test");
+        h2Pool.collectChannelPoolMetrics(metrics);
+        assertThat(metrics.collect().metricValues(HttpMetric.HTTP2_CONNECTIONS)).containsExactly(2);
+    }
+
+    @Test
+    public void drainedConnectionIsReleased() throws InterruptedException {
+        SocketChannel channel = new NioSocketChannel();
+        try {
+            loopGroup.register(channel).awaitUninterruptibly();
+            Promise<Channel> channelPromise = new DefaultPromise<>(loopGroup.next());
+            channelPromise.setSuccess(channel);
+            CompletableFuture<Channel> released = new CompletableFuture<>();
+
+            MultiplexedChannelRecord record = new MultiplexedChannelRecord(channelPromise, channel, 8,
+                                                                           (ch, rec) -> released.complete(ch));
+            record.goAway();
+
+            assertThat(record.isDraining()).isTrue();
+            assertThat(released.join()).isSameAs(channel);
+        } finally {
+            channel.close().awaitUninterruptibly();
+        }
+    }
+
+    private static MultiplexedChannelRecord connectingRecord(long maxStreams) {
+        return new MultiplexedChannelRecord(new DefaultPromise<>(loopGroup.next()), maxStreams, (ch, rec) -> {});
+    }
+
+    private static void waitForEventLoop() {
+        // Tasks run in order, so once an empty task has run every task submitted before it has run too.
+        for (EventExecutor executor : loopGroup) {
+            executor.submit(() -> {}).awaitUninterruptibly();
+        }
+    }
 }
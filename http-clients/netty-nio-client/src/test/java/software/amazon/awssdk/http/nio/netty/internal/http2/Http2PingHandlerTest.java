@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import io.netty.util.concurrent.DefaultPromise;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link Http2PingHandler}.
+ */
+public class Http2PingHandlerTest {
+    private static final int PING_PERIOD_MILLIS = 50;
+
+    private static NioEventLoopGroup loopGroup;
+    private EmbeddedChannel channel;
+    private MultiplexedChannelRecord record;
+    private AtomicReference<Throwable> exception;
+
+    @BeforeClass
+    public static void setupLoopGroup() {
+        loopGroup = new NioEventLoopGroup(1);
+    }
+
+    @AfterClass
+    public static void teardownLoopGroup() {
+        loopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Before
+    public void setup() {
+        exception = new AtomicReference<>();
+        record = new MultiplexedChannelRecord(new DefaultPromise<>(loopGroup.next()), 8, (ch, rec) -> {});
+        channel = new EmbeddedChannel(new Http2PingHandler(PING_PERIOD_MILLIS), new ChannelInboundHandlerAdapter() {
+            @Override
+            public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                exception.set(cause);
+            }
+        });
+        channel.attr(CHANNEL_POOL_RECORD).set(record);
+    }
+
+    @After
+    public void teardown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void connectionWithoutStreams_isNotPinged() throws InterruptedException {
+        waitForPingPeriod();
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(exception.get()).isNull();
+    }
+
+    @Test
+    public void acknowledgedPing_keepsConnectionHealthy() throws InterruptedException {
+        record.acquire(new DefaultPromise<>(loopGroup.next()));
+
+        waitForPingPeriod();
+        Http2PingFrame ping = channel.readOutbound();
+        assertThat(ping.ack()).isFalse();
+        channel.writeInbound(pingAck(ping.content()));
+
+        waitForPingPeriod();
+        assertThat((Object) channel.readOutbound()).isInstanceOf(Http2PingFrame.class);
+        assertThat(exception.get()).isNull();
+    }
+
+    @Test
+    public void unacknowledgedPing_failsConnection() throws InterruptedException {
+        record.acquire(new DefaultPromise<>(loopGroup.next()));
+
+        waitForPingPeriod();
+        assertThat((Object) channel.readOutbound()).isInstanceOf(Http2PingFrame.class);
+
+        waitForPingPeriod();
+        assertThat(exception.get()).isInstanceOf(IOException.class);
+    }
+
+    private static Http2PingFrame pingAck(long content) {
+        // The codec creates the acknowledgements, their constructor isn't public
+        Http2PingFrame ack = Mockito.mock(Http2PingFrame.class);
+        Mockito.when(ack.ack()).thenReturn(true);
+        Mockito.when(ack.content()).thenReturn(content);
+        return ack;
+    }
+
+    private void waitForPingPeriod() throws InterruptedException {
+        Thread.sleep(PING_PERIOD_MILLIS * 2);
+        channel.runPendingTasks();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Request to download an object from Amazon S3 to a file.
+ *
+ * @see S3TransferManager#download(DownloadRequest)
+ */
+@SdkPublicApi
+public final class DownloadRequest implements ToCopyableBuilder<DownloadRequest.Builder, DownloadRequest> {
+    private final GetObjectRequest getObjectRequest;
+
+    private final Path destination;
+
+    private final Path checkpoint;
+
+    private DownloadRequest(BuilderImpl builder) {
+        this.getObjectRequest = Validate.paramNotNull(builder.getObjectRequest, "getObjectRequest");
+        this.destination = Validate.paramNotNull(builder.destination, "destination");
+        this.checkpoint = builder.checkpoint;
+    }
+
+    /**
+     * @return The request describing the object to download.
+     */
+    public GetObjectRequest getObjectRequest() {
+        return getObjectRequest;
+    }
+
+    /**
+     * @return The file to download to.
+     */
+    public Path destination() {
+        return destination;
+    }
+
+    /**
+     * @return The file recording the progress of the transfer, if one was given.
+     */
+    public Optional<Path> checkpoint() {
+        return Optional.ofNullable(checkpoint);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DownloadRequest")
+                       .add("getObjectRequest", getObjectRequest)
+                       .add("destination", destination)
+                       .add("checkpoint", checkpoint)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, DownloadRequest> {
+        /**
+         * Sets the request describing the object to download.
+         *
+         * @param getObjectRequest
+         *        The request describing the object to download.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder getObjectRequest(GetObjectRequest getObjectRequest);
+
+        /**
+         * Sets the request describing the object to download. This is a convenience which creates an instance of the
+         * {@link GetObjectRequest.Builder} avoiding the need to create one manually via {@link
+         * GetObjectRequest#builder()}.
+         *
+         * @param getObjectRequest
+         *        A consumer that will call methods on {@link GetObjectRequest.Builder}.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        default Builder getObjectRequest(Consumer<GetObjectRequest.Builder> getObjectRequest) {
+            return getObjectRequest(GetObjectRequest.builder().applyMutation(getObjectRequest).build());
+        }
+
+        /**
+         * Sets the file to download to.
+         *
+         * @param destination
+         *        The file to download to.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder destination(Path destination);
+
+        /**
+         * Sets the file recording the progress of the transfer. The ETag of the object and the parts that were already
+         * written to the destination are recorded in the checkpoint as the download progresses. If the download fails,
+         * sending the same request again resumes it and only requests the missing parts, provided the object has not
+         * changed. The checkpoint is deleted once the download completes.
+         *
+         * <p>The checkpoint is only valid for the same bucket, key and part size; resuming with a different one
+         * fails.</p>
+         *
+         * @param checkpoint
+         *        The file recording the progress of the transfer.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder checkpoint(Path checkpoint);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private GetObjectRequest getObjectRequest;
+
+        private Path destination;
+
+        private Path checkpoint;
+
+        private BuilderImpl() {
+        }
+
+        private BuilderImpl(DownloadRequest request) {
+            getObjectRequest(request.getObjectRequest);
+            destination(request.destination);
+            checkpoint(request.checkpoint);
+        }
+
+        @Override
+        public Builder getObjectRequest(GetObjectRequest getObjectRequest) {
+            this.getObjectRequest = getObjectRequest;
+            return this;
+        }
+
+        @Override
+        public Builder destination(Path destination) {
+            this.destination = destination;
+            return this;
+        }
+
+        @Override
+        public Builder checkpoint(Path checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        @Override
+        public DownloadRequest build() {
+            return new DownloadRequest(this);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.transfer.s3.internal.DefaultS3TransferManager;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Transfers files to and from Amazon S3, splitting large files into parts that are transferred concurrently.
+ *
+ * <p>Files at least as large as the {@link Builder#multipartThresholdInBytes(Long) multipart threshold} are uploaded with
+ * a multipart upload, and objects larger than one {@link Builder#partSizeInBytes(Long) part} are downloaded with ranged
+ * {@code GetObject} requests whose content is written directly at its offset in the destination file. At most
+ * {@link Builder#maxConcurrentParts(Integer)} parts of a single transfer are in flight at once. Parts are sent through the
+ * underlying {@link S3AsyncClient}, so its HTTP client should allow at least that many concurrent connections.</p>
+ *
+ * <p>A transfer can be resumed after a failure by giving it a checkpoint file, see
+ * {@link UploadRequest.Builder#checkpoint(java.nio.file.Path)}.</p>
+ *
+ * <pre>
+ * try (S3TransferManager transferManager = S3TransferManager.create(s3AsyncClient)) {
+ *     transferManager.upload(r -&gt; r.putObjectRequest(p -&gt; p.bucket("bucket").key("key"))
+ *                                  .source(Paths.get("backup.tar")))
+ *                    .join();
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface S3TransferManager extends SdkAutoCloseable {
+
+    /**
+     * Uploads a file to S3. Files smaller than the multipart threshold are uploaded with a single {@code PutObject}
+     * request, larger files with a multipart upload.
+     *
+     * <p>If a multipart upload fails and no checkpoint was given, the upload is aborted so that its parts are not
+     * retained. With a checkpoint the upload is left in place so that it can be resumed.</p>
+     *
+     * @param uploadRequest The object to create and the file to upload.
+     * @return A future completed with the response of the upload. For multipart uploads the response is populated from the
+     * {@code CompleteMultipartUpload} response.
+     */
+    CompletableFuture<PutObjectResponse> upload(UploadRequest uploadRequest);
+
+    /**
+     * Uploads a file to S3. This is a convenience which creates an instance of the {@link UploadRequest.Builder} avoiding
+     * the need to create one manually via {@link UploadRequest#builder()}.
+     *
+     * @see #upload(UploadRequest)
+     */
+    default CompletableFuture<PutObjectResponse> upload(Consumer<UploadRequest.Builder> uploadRequest) {
+        return upload(UploadRequest.builder().applyMutation(uploadRequest).build());
+    }
+
+    /**
+     * Downloads an object from S3 to a file. The first part is requested with a ranged {@code GetObject} request, and if
+     * the object turns out to be larger than one part the remaining parts are requested concurrently. Every part after the
+     * first is conditional on the object's ETag, so the download fails rather than mixing the content of two versions of
+     * an object that is overwritten while it is being downloaded.
+     *
+     * <p>Unless the download is resumed from a checkpoint, the destination file must not exist. If the download fails the
+     * partially written file is left in place when a checkpoint was given, and deleted otherwise.</p>
+     *
+     * @param downloadRequest The object to download and the file to download it to.
+     * @return A future completed with the response of the download. For ranged downloads this is the response to the
+     * first part with the content length of the whole object.
+     */
+    CompletableFuture<GetObjectResponse> download(DownloadRequest downloadRequest);
+
+    /**
+     * Downloads an object from S3 to a file. This is a convenience which creates an instance of the
+     * {@link DownloadRequest.Builder} avoiding the need to create one manually via {@link DownloadRequest#builder()}.
+     *
+     * @see #download(DownloadRequest)
+     */
+    default CompletableFuture<GetObjectResponse> download(Consumer<DownloadRequest.Builder> downloadRequest) {
+        return download(DownloadRequest.builder().applyMutation(downloadRequest).build());
+    }
+
+    /**
+     * Create a transfer manager with the default configuration that transfers through the given client. The client is not
+     * closed when the transfer manager is closed.
+     */
+    static S3TransferManager create(S3AsyncClient s3AsyncClient) {
+        return builder().s3Client(s3AsyncClient).build();
+    }
+
+    /**
+     * Create a builder that can be used to configure and create a {@link S3TransferManager}.
+     */
+    static Builder builder() {
+        return DefaultS3TransferManager.builder();
+    }
+
+    /**
+     * A builder for creating a {@link S3TransferManager}.
+     */
+    interface Builder extends SdkBuilder<Builder, S3TransferManager> {
+
+        /**
+         * The client used to send the requests of each transfer. The client is not closed when the transfer manager is
+         * closed.
+         *
+         * <p>If not set, a client is created with {@link S3AsyncClient#create()} and closed with the transfer
+         * manager.</p>
+         */
+        Builder s3Client(S3AsyncClient s3Client);
+
+        /**
+         * The size of each part of a multipart upload or ranged download. S3 requires every part of a multipart upload but
+         * the last to be at least 5 MiB, and allows at most 10,000 parts: larger files are uploaded with proportionally
+         * larger parts.
+         *
+         * <p>The default part size is 8 MiB.</p>
+         */
+        Builder partSizeInBytes(Long partSizeInBytes);
+
+        /**
+         * The size from which files are uploaded with a multipart upload rather than a single {@code PutObject} request.
+         *
+         * <p>The default threshold is 16 MiB.</p>
+         */
+        Builder multipartThresholdInBytes(Long multipartThresholdInBytes);
+
+        /**
+         * The maximum number of parts of a single transfer that are in flight at once.
+         *
+         * <p>The default is 10.</p>
+         */
+        Builder maxConcurrentParts(Integer maxConcurrentParts);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Request to upload a file to Amazon S3.
+ *
+ * @see S3TransferManager#upload(UploadRequest)
+ */
+@SdkPublicApi
+public final class UploadRequest implements ToCopyableBuilder<UploadRequest.Builder, UploadRequest> {
+    private final PutObjectRequest putObjectRequest;
+
+    private final Path source;
+
+    private final Path checkpoint;
+
+    private UploadRequest(BuilderImpl builder) {
+        this.putObjectRequest = Validate.paramNotNull(builder.putObjectRequest, "putObjectRequest");
+        this.source = Validate.paramNotNull(builder.source, "source");
+        this.checkpoint = builder.checkpoint;
+    }
+
+    /**
+     * @return The request describing the object to create.
+     */
+    public PutObjectRequest putObjectRequest() {
+        return putObjectRequest;
+    }
+
+    /**
+     * @return The file to upload.
+     */
+    public Path source() {
+        return source;
+    }
+
+    /**
+     * @return The file recording the progress of the transfer, if one was given.
+     */
+    public Optional<Path> checkpoint() {
+        return Optional.ofNullable(checkpoint);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("UploadRequest")
+                       .add("putObjectRequest", putObjectRequest)
+                       .add("source", source)
+                       .add("checkpoint", checkpoint)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, UploadRequest> {
+        /**
+         * Sets the request describing the object to create.
+         *
+         * @param putObjectRequest
+         *        The request describing the object to create.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder putObjectRequest(PutObjectRequest putObjectRequest);
+
+        /**
+         * Sets the request describing the object to create. This is a convenience which creates an instance of the
+         * {@link PutObjectRequest.Builder} avoiding the need to create one manually via {@link
+         * PutObjectRequest#builder()}.
+         *
+         * @param putObjectRequest
+         *        A consumer that will call methods on {@link PutObjectRequest.Builder}.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        default Builder putObjectRequest(Consumer<PutObjectRequest.Builder> putObjectRequest) {
+            return putObjectRequest(PutObjectRequest.builder().applyMutation(putObjectRequest).build());
+        }
+
+        /**
+         * Sets the file to upload.
+         *
+         * @param source
+         *        The file to upload.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder source(Path source);
+
+        /**
+         * Sets the file recording the progress of the transfer. The upload is multipart whenever a checkpoint is given,
+         * and the upload ID and the ETag of every uploaded part are recorded in the checkpoint as the upload
+         * progresses. If the upload fails, sending the same request again resumes the multipart upload and skips the
+         * parts that were already uploaded. The checkpoint is deleted once the upload completes.
+         *
+         * <p>The checkpoint is only valid for the same bucket, key, file size and part size; resuming with a different
+         * one fails.</p>
+         *
+         * @param checkpoint
+         *        The file recording the progress of the transfer.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder checkpoint(Path checkpoint);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private PutObjectRequest putObjectRequest;
+
+        private Path source;
+
+        private Path checkpoint;
+
+        private BuilderImpl() {
+        }
+
+        private BuilderImpl(UploadRequest request) {
+            putObjectRequest(request.putObjectRequest);
+            source(request.source);
+            checkpoint(request.checkpoint);
+        }
+
+        @Override
+        public Builder putObjectRequest(PutObjectRequest putObjectRequest) {
+            this.putObjectRequest = putObjectRequest;
+            return this;
+        }
+
+        @Override
+        public Builder source(Path source) {
+            this.source = source;
+            return this;
+        }
+
+        @Override
+        public Builder checkpoint(Path checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        @Override
+        public UploadRequest build() {
+            return new UploadRequest(this);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Runs the parts of a transfer with at most a fixed number of parts in flight at once.
+ *
+ * <p>The parts are started in iteration order on a number of lanes equal to the concurrency limit. Whenever a part
+ * completes, its lane starts the next one. Parts that complete synchronously are drained in a loop rather than recursively,
+ * so a lane of parts that complete immediately (for example from an error or a cached result) cannot overflow the stack.
+ * Once a part fails no further parts are started, and the returned future fails with the first failure once all parts in
+ * flight have completed.</p>
+ *
+ * @param <T> The type identifying a part.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class BoundedPartRunner<T> {
+    private final Iterator<T> parts;
+    private final Function<T, CompletableFuture<?>> partRunner;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private int inFlight;
+    private Throwable failure;
+
+    private BoundedPartRunner(Iterator<T> parts, Function<T, CompletableFuture<?>> partRunner) {
+        this.parts = parts;
+        this.partRunner = partRunner;
+    }
+
+    /**
+     * Run all the given parts.
+     *
+     * @param parts The parts to run, in the order they should be started.
+     * @param maxConcurrency The maximum number of parts in flight at once.
+     * @param partRunner Starts a part, returning a future that completes when the part has completed.
+     * @return A future that completes when all parts have completed, or fails with the first failure of a part.
+     */
+    static <T> CompletableFuture<Void> run(Iterable<T> parts, int maxConcurrency,
+                                           Function<T, CompletableFuture<?>> partRunner) {
+        BoundedPartRunner<T> runner = new BoundedPartRunner<>(parts.iterator(), partRunner);
+        runner.maybeComplete();
+        for (int i = 0; i < maxConcurrency; i++) {
+            runner.runLane();
+        }
+        return runner.result;
+    }
+
+    private void runLane() {
+        T part;
+        while ((part = nextPart()) != null) {
+            CompletableFuture<?> partFuture = startPart(part);
+            if (!partFuture.isDone()) {
+                partFuture.whenComplete((r, t) -> {
+                    partCompleted(t);
+                    runLane();
+                });
+                return;
+            }
+            partCompleted(failureOf(partFuture));
+        }
+    }
+
+    private synchronized T nextPart() {
+        if (failure != null || !parts.hasNext()) {
+            return null;
+        }
+        inFlight++;
+        return parts.next();
+    }
+
+    private CompletableFuture<?> startPart(T part) {
+        try {
+            return partRunner.apply(part);
+        } catch (RuntimeException e) {
+            CompletableFuture<?> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private void partCompleted(Throwable t) {
+        synchronized (this) {
+            inFlight--;
+            if (t != null && failure == null) {
+                failure = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            }
+        }
+        maybeComplete();
+    }
+
+    private void maybeComplete() {
+        Throwable completedWith;
+        synchronized (this) {
+            if (inFlight > 0 || (failure == null && parts.hasNext())) {
+                return;
+            }
+            completedWith = failure;
+        }
+        if (completedWith != null) {
+            result.completeExceptionally(completedWith);
+        } else {
+            result.complete(null);
+        }
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.transfer.s3.DownloadRequest;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.UploadRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Default implementation of {@link S3TransferManager}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultS3TransferManager implements S3TransferManager {
+    private static final Logger log = Logger.loggerFor(DefaultS3TransferManager.class);
+
+    private static final long DEFAULT_PART_SIZE = 8L * 1024 * 1024;
+    private static final long DEFAULT_MULTIPART_THRESHOLD = 16L * 1024 * 1024;
+    private static final int DEFAULT_MAX_CONCURRENT_PARTS = 10;
+    private static final int MAX_UPLOAD_PARTS = 10_000;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final S3AsyncClient s3;
+    private final boolean closeClient;
+    private final long partSize;
+    private final long multipartThreshold;
+    private final int maxConcurrentParts;
+
+    private DefaultS3TransferManager(DefaultBuilder builder) {
+        this.partSize = Validate.isPositive(resolve(builder.partSizeInBytes, DEFAULT_PART_SIZE), "partSizeInBytes");
+        this.multipartThreshold = Validate.isNotNegative(resolve(builder.multipartThresholdInBytes,
+                                                                 DEFAULT_MULTIPART_THRESHOLD),
+                                                         "multipartThresholdInBytes");
+        this.maxConcurrentParts = Validate.isPositive(resolve(builder.maxConcurrentParts, DEFAULT_MAX_CONCURRENT_PARTS),
+                                                      "maxConcurrentParts");
+        this.closeClient = builder.s3Client == null;
+        this.s3 = closeClient ? S3AsyncClient.create() : builder.s3Client;
+    }
+
+    public static S3TransferManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> upload(UploadRequest uploadRequest) {
+        try {
+            long size = Files.size(uploadRequest.source());
+            if (!uploadRequest.checkpoint().isPresent() && size < multipartThreshold) {
+                return s3.putObject(uploadRequest.putObjectRequest(), AsyncRequestBody.fromFile(uploadRequest.source()));
+            }
+            return new MultipartUpload(uploadRequest, size).start();
+        } catch (IOException e) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("Unable to read the size of " + uploadRequest.source(), e));
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<GetObjectResponse> download(DownloadRequest downloadRequest) {
+        GetObjectRequest getObjectRequest = downloadRequest.getObjectRequest();
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            return s3.getObject(getObjectRequest, AsyncResponseTransformer.toFile(downloadRequest.destination()));
+        }
+        try {
+            return new RangedDownload(downloadRequest).start();
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closeClient) {
+            s3.close();
+        }
+    }
+
+    private static <T> T resolve(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    /**
+     * The state of a single multipart upload. Parts are read straight from their range of the source file, and the upload
+     * ID and part ETags are recorded in the checkpoint, if any, as soon as they are known.
+     */
+    private final class MultipartUpload {
+        private final PutObjectRequest putObjectRequest;
+        private final Path source;
+        private final long size;
+        private final long uploadPartSize;
+        private final int partCount;
+        private final TransferCheckpoint checkpoint;
+        private final SortedMap<Integer, String> partETags = new ConcurrentSkipListMap<>();
+        private volatile String uploadId;
+
+        private MultipartUpload(UploadRequest uploadRequest, long size) {
+            this.putObjectRequest = uploadRequest.putObjectRequest();
+            this.source = uploadRequest.source();
+            this.size = size;
+            // S3 allows at most 10,000 parts, so very large files need larger parts than configured
+            this.uploadPartSize = Math.max(partSize, ceilDiv(size, MAX_UPLOAD_PARTS));
+            this.partCount = size == 0 ? 1 : (int) ceilDiv(size, uploadPartSize);
+            this.checkpoint = uploadRequest.checkpoint().map(p -> TransferCheckpoint.open(p, identity())).orElse(null);
+            if (checkpoint != null) {
+                this.uploadId = checkpoint.get("uploadId");
+                this.partETags.putAll(checkpoint.completedParts());
+            }
+        }
+
+        private Map<String, String> identity() {
+            Map<String, String> identity = new LinkedHashMap<>();
+            identity.put("type", "upload");
+            identity.put("bucket", putObjectRequest.bucket());
+            identity.put("key", putObjectRequest.key());
+            identity.put("size", String.valueOf(size));
+            identity.put("partSize", String.valueOf(uploadPartSize));
+            return identity;
+        }
+
+        private CompletableFuture<PutObjectResponse> start() {
+            CompletableFuture<String> uploadIdFuture = uploadId != null ? CompletableFuture.completedFuture(uploadId)
+                                                                        : createMultipartUpload();
+            CompletableFuture<PutObjectResponse> result = new CompletableFuture<>();
+            uploadIdFuture.thenCompose(id -> uploadParts())
+                          .thenCompose(v -> completeMultipartUpload())
+                          .whenComplete((r, t) -> {
+                              if (t == null) {
+                                  result.complete(r);
+                              } else {
+                                  abortIfDiscardable().whenComplete((ignored, abortFailure) ->
+                                                                        result.completeExceptionally(unwrap(t)));
+                              }
+                          });
+            return result;
+        }
+
+        private CompletableFuture<String> createMultipartUpload() {
+            return s3.createMultipartUpload(createMultipartUploadRequest()).thenApply(r -> {
+                uploadId = r.uploadId();
+                if (checkpoint != null) {
+                    checkpoint.put("uploadId", uploadId);
+                }
+                return uploadId;
+            });
+        }
+
+        private CreateMultipartUploadRequest createMultipartUploadRequest() {
+            PutObjectRequest put = putObjectRequest;
+            return CreateMultipartUploadRequest.builder()
+                                               .bucket(put.bucket())
+                                               .key(put.key())
+                                               .acl(put.aclAsString())
+                                               .cacheControl(put.cacheControl())
+                                               .contentDisposition(put.contentDisposition())
+                                               .contentEncoding(put.contentEncoding())
+                                               .contentLanguage(put.contentLanguage())
+                                               .contentType(put.contentType())
+                                               .expires(put.expires())
+                                               .grantFullControl(put.grantFullControl())
+                                               .grantRead(put.grantRead())
+                                               .grantReadACP(put.grantReadACP())
+                                               .grantWriteACP(put.grantWriteACP())
+                                               .metadata(put.metadata())
+                                               .serverSideEncryption(put.serverSideEncryptionAsString())
+                                               .storageClass(put.storageClassAsString())
+                                               .websiteRedirectLocation(put.websiteRedirectLocation())
+                                               .sseCustomerAlgorithm(put.sseCustomerAlgorithm())
+                                               .sseCustomerKey(put.sseCustomerKey())
+                                               .ssekmsKeyId(put.ssekmsKeyId())
+                                               .requestPayer(put.requestPayerAsString())
+                                               .tagging(put.tagging())
+                                               .objectLockMode(put.objectLockModeAsString())
+                                               .objectLockRetainUntilDate(put.objectLockRetainUntilDate())
+                                               .objectLockLegalHoldStatus(put.objectLockLegalHoldStatusAsString())
+                                               .overrideConfiguration(put.overrideConfiguration().orElse(null))
+                                               .build();
+        }
+
+        private CompletableFuture<Void> uploadParts() {
+            List<Integer> remainingParts = new ArrayList<>();
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                if (!partETags.containsKey(partNumber)) {
+                    remainingParts.add(partNumber);
+                }
+            }
+            return BoundedPartRunner.run(remainingParts, maxConcurrentParts, this::uploadPart);
+        }
+
+        private CompletableFuture<?> uploadPart(int partNumber) {
+            long offset = (partNumber - 1) * uploadPartSize;
+            long length = Math.min(uploadPartSize, size - offset);
+            UploadPartRequest request = UploadPartRequest.builder()
+                                                         .bucket(putObjectRequest.bucket())
+                                                         .key(putObjectRequest.key())
+                                                         .uploadId(uploadId)
+                                                         .partNumber(partNumber)
+                                                         .contentLength(length)
+                                                         .sseCustomerAlgorithm(putObjectRequest.sseCustomerAlgorithm())
+                                                         .sseCustomerKey(putObjectRequest.sseCustomerKey())
+                                                         .requestPayer(putObjectRequest.requestPayerAsString())
+                                                         .overrideConfiguration(
+                                                             putObjectRequest.overrideConfiguration().orElse(null))
+                                                         .build();
+            return s3.uploadPart(request, AsyncRequestBody.fromFile(source, offset, length)).thenAccept(r -> {
+                partETags.put(partNumber, r.eTag());
+                if (checkpoint != null) {
+                    checkpoint.completePart(partNumber, r.eTag());
+                }
+            });
+        }
+
+        private CompletableFuture<PutObjectResponse> completeMultipartUpload() {
+            List<CompletedPart> parts = new ArrayList<>(partETags.size());
+            partETags.forEach((partNumber, eTag) -> parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build()));
+            return s3.completeMultipartUpload(r -> r.bucket(putObjectRequest.bucket())
+                                                    .key(putObjectRequest.key())
+                                                    .uploadId(uploadId)
+                                                    .requestPayer(putObjectRequest.requestPayerAsString())
+                                                    .overrideConfiguration(putObjectRequest.overrideConfiguration().orElse(null))
+                                                    .multipartUpload(u -> u.parts(parts)))
+                     .thenApply(r -> {
+                         if (checkpoint != null) {
+                             checkpoint.delete();
+                         }
+                         return PutObjectResponse.builder()
+                                                 .eTag(r.eTag())
+                                                 .expiration(r.expiration())
+                                                 .serverSideEncryption(r.serverSideEncryptionAsString())
+                                                 .ssekmsKeyId(r.ssekmsKeyId())
+                                                 .versionId(r.versionId())
+                                                 .requestCharged(r.requestChargedAsString())
+                                                 .sseCustomerAlgorithm(putObjectRequest.sseCustomerAlgorithm())
+                                                 .build();
+                     });
+        }
+
+        /**
+         * Abort the upload unless it can be resumed from its checkpoint, so that its parts are not retained (and billed)
+         * indefinitely.
+         */
+        private CompletableFuture<?> abortIfDiscardable() {
+            if (checkpoint != null || uploadId == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return s3.abortMultipartUpload(r -> r.bucket(putObjectRequest.bucket())
+                                                 .key(putObjectRequest.key())
+                                                 .uploadId(uploadId)
+                                                 .requestPayer(putObjectRequest.requestPayerAsString())
+                                                 .overrideConfiguration(putObjectRequest.overrideConfiguration().orElse(null)))
+                     .whenComplete((r, t) -> {
+                         if (t != null) {
+                             log.warn(() -> "Unable to abort multipart upload " + uploadId + " after it failed", t);
+                         }
+                     });
+        }
+    }
+
+    /**
+     * The state of a single ranged download. Every part is written straight to its offset in the destination file, and
+     * the ETag and size of the object and the completed parts are recorded in the checkpoint, if any, as soon as they are
+     * known.
+     */
+    private final class RangedDownload {
+        private final GetObjectRequest getObjectRequest;
+        private final Path destination;
+        private final TransferCheckpoint checkpoint;
+        private final SortedMap<Integer, String> completedParts;
+        private volatile String eTag;
+        private volatile long size = -1;
+
+        private RangedDownload(DownloadRequest downloadRequest) {
+            this.getObjectRequest = downloadRequest.getObjectRequest();
+            this.destination = downloadRequest.destination();
+            this.checkpoint = downloadRequest.checkpoint().map(p -> TransferCheckpoint.open(p, identity())).orElse(null);
+            this.completedParts = new ConcurrentSkipListMap<>();
+            if (checkpoint != null && checkpoint.get("eTag") != null) {
+                this.eTag = checkpoint.get("eTag");
+                this.size = Long.parseLong(checkpoint.get("size"));
+                this.completedParts.putAll(checkpoint.completedParts());
+            }
+        }
+
+        private Map<String, String> identity() {
+            Map<String, String> identity = new LinkedHashMap<>();
+            identity.put("type", "download");
+            identity.put("bucket", getObjectRequest.bucket());
+            identity.put("key", getObjectRequest.key());
+            if (getObjectRequest.versionId() != null) {
+                identity.put("versionId", getObjectRequest.versionId());
+            }
+            identity.put("partSize", String.valueOf(partSize));
+            return identity;
+        }
+
+        private CompletableFuture<GetObjectResponse> start() {
+            boolean resuming = eTag != null;
+            if (!resuming && Files.exists(destination)) {
+                throw SdkClientException.create("Destination file " + destination + " already exists");
+            }
+            if (resuming && !Files.exists(destination)) {
+                throw SdkClientException.create("Destination file " + destination + " of the download recorded in the "
+                                                + "checkpoint no longer exists");
+            }
+
+            int firstPart = resuming ? firstMissingPart() : 1;
+            CompletableFuture<GetObjectResponse> result = new CompletableFuture<>();
+            downloadPart(firstPart)
+                .handle((r, t) -> t == null ? downloadRemainingParts(firstPart, r) : downloadIfEmpty(unwrap(t)))
+                .thenCompose(f -> f)
+                .whenComplete((r, t) -> {
+                    if (t == null) {
+                        if (checkpoint != null) {
+                            checkpoint.delete();
+                        }
+                        result.complete(r);
+                    } else {
+                        deleteIfDiscardable();
+                        result.completeExceptionally(unwrap(t));
+                    }
+                });
+            return result;
+        }
+
+        private int firstMissingPart() {
+            long partCount = Math.max(1, ceilDiv(size, partSize));
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                if (!completedParts.containsKey(partNumber)) {
+                    return partNumber;
+                }
+            }
+            return 1;
+        }
+
+        private CompletableFuture<GetObjectResponse> downloadPart(int partNumber) {
+            long offset = (partNumber - 1) * partSize;
+            GetObjectRequest request = getObjectRequest.toBuilder()
+                                                       .range("bytes=" + offset + "-" + (offset + partSize - 1))
+                                                       .ifMatch(eTag != null ? eTag : getObjectRequest.ifMatch())
+                                                       .build();
+            return s3.getObject(request, AsyncResponseTransformer.toFile(destination, offset)).thenApply(r -> {
+                if (eTag == null) {
+                    recordObject(r);
+                }
+                completedParts.put(partNumber, r.eTag());
+                if (checkpoint != null) {
+                    checkpoint.completePart(partNumber, r.eTag());
+                }
+                return r;
+            });
+        }
+
+        private void recordObject(GetObjectResponse firstPart) {
+            String contentRange = firstPart.contentRange();
+            // A server that ignores the range sends the whole object, which has then already been written
+            size = contentRange != null ? Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1))
+                                        : firstPart.contentLength();
+            eTag = firstPart.eTag();
+            if (checkpoint != null) {
+                checkpoint.put("size", String.valueOf(size));
+                checkpoint.put("eTag", eTag);
+            }
+        }
+
+        private CompletableFuture<GetObjectResponse> downloadRemainingParts(int firstPart, GetObjectResponse firstResponse) {
+            List<Integer> remainingParts = new ArrayList<>();
+            long partCount = firstResponse.contentRange() != null ? ceilDiv(size, partSize) : 1;
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                if (partNumber != firstPart && !completedParts.containsKey(partNumber)) {
+                    remainingParts.add(partNumber);
+                }
+            }
+            return BoundedPartRunner.run(remainingParts, maxConcurrentParts, this::downloadPart)
+                                    .thenApply(v -> firstResponse.toBuilder()
+                                                                 .contentLength(size)
+                                                                 .contentRange(null)
+                                                                 .build());
+        }
+
+        /**
+         * A range cannot be satisfied by an empty object, so download it without one.
+         */
+        private CompletableFuture<GetObjectResponse> downloadIfEmpty(Throwable firstPartFailure) {
+            if (eTag == null && firstPartFailure instanceof S3Exception
+                && ((S3Exception) firstPartFailure).statusCode() == RANGE_NOT_SATISFIABLE) {
+                return s3.getObject(getObjectRequest, AsyncResponseTransformer.toFile(destination));
+            }
+            return CompletableFutureUtils.failedFuture(firstPartFailure);
+        }
+
+        /**
+         * Delete the partially written destination file unless the download can be resumed from its checkpoint.
+         */
+        private void deleteIfDiscardable() {
+            if (checkpoint != null && eTag != null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(destination);
+            } catch (IOException e) {
+                log.warn(() -> "Unable to delete " + destination + " after the download failed", e);
+            }
+        }
+    }
+
+    private static final class DefaultBuilder implements S3TransferManager.Builder {
+        private S3AsyncClient s3Client;
+        private Long partSizeInBytes;
+        private Long multipartThresholdInBytes;
+        private Integer maxConcurrentParts;
+
+        @Override
+        public S3TransferManager.Builder s3Client(S3AsyncClient s3Client) {
+            this.s3Client = s3Client;
+            return this;
+        }
+
+        @Override
+        public S3TransferManager.Builder partSizeInBytes(Long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public S3TransferManager.Builder multipartThresholdInBytes(Long multipartThresholdInBytes) {
+            this.multipartThresholdInBytes = multipartThresholdInBytes;
+            return this;
+        }
+
+        @Override
+        public S3TransferManager.Builder maxConcurrentParts(Integer maxConcurrentParts) {
+            this.maxConcurrentParts = maxConcurrentParts;
+            return this;
+        }
+
+        @Override
+        public S3TransferManager build() {
+            return new DefaultS3TransferManager(this);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The progress of a transfer, persisted to a properties file so that a failed transfer can be resumed.
+ *
+ * <p>A checkpoint is identified by the properties it is {@link #open(Path, Map) opened} with, such as the bucket, key and
+ * part size of the transfer. Reopening an existing checkpoint with different identifying properties fails, so that parts of
+ * one transfer are never combined with parts of another. Every update is written to a temporary file which then replaces
+ * the checkpoint, so a transfer interrupted at any point leaves a consistent checkpoint behind.</p>
+ *
+ * <p>Completed parts are the exception: rewriting the whole checkpoint for every part would write a quadratic number of
+ * bytes over a transfer with many parts, so each part is appended to the checkpoint as a single line instead. An incomplete
+ * last line left by an interrupted append is ignored when the checkpoint is loaded, and the appended parts are compacted
+ * into a rewritten checkpoint whenever it is reopened.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+final class TransferCheckpoint {
+    private static final String PART_PREFIX = "part.";
+
+    private final Path path;
+    private final Path directory;
+    private final Properties properties;
+
+    /**
+     * Whether the last append failed and may have left an incomplete line, which the next append would be joined to.
+     */
+    private boolean appendFailed;
+
+    private TransferCheckpoint(Path path, Properties properties) {
+        this.path = path;
+        this.directory = Validate.paramNotNull(path.toAbsolutePath().getParent(), "checkpoint directory");
+        this.properties = properties;
+    }
+
+    /**
+     * Load the checkpoint stored at the given path, or create a new one if there is none.
+     *
+     * @param path The file the checkpoint is stored in.
+     * @param identity The properties identifying the transfer.
+     * @throws SdkClientException If the stored checkpoint belongs to a different transfer.
+     */
+    static TransferCheckpoint open(Path path, Map<String, String> identity) {
+        Properties properties = new Properties();
+        if (Files.exists(path)) {
+            try (InputStream in = new ByteArrayInputStream(completeLines(Files.readAllBytes(path)))) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw SdkClientException.create("Unable to read transfer checkpoint " + path, e);
+            }
+            identity.forEach((name, value) -> {
+                if (!value.equals(properties.getProperty(name))) {
+                    throw SdkClientException.create("Transfer checkpoint " + path + " belongs to a different transfer: "
+                                                    + name + " is " + properties.getProperty(name) + ", expected " + value);
+                }
+            });
+            TransferCheckpoint checkpoint = new TransferCheckpoint(path, properties);
+            // Compact the parts appended while the transfer last ran
+            checkpoint.save();
+            return checkpoint;
+        }
+        properties.putAll(identity);
+        TransferCheckpoint checkpoint = new TransferCheckpoint(path, properties);
+        checkpoint.save();
+        return checkpoint;
+    }
+
+    /**
+     * Drop an incomplete last line, which an append interrupted part way through may have left behind.
+     */
+    private static byte[] completeLines(byte[] content) {
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        return end == content.length ? content : Arrays.copyOf(content, end);
+    }
+
+    /**
+     * @return The value of the given property, or null if it has not been recorded.
+     */
+    synchronized String get(String name) {
+        return properties.getProperty(name);
+    }
+
+    /**
+     * Record a property of the transfer, such as the upload ID of a multipart upload.
+     */
+    synchronized void put(String name, String value) {
+        properties.setProperty(name, value);
+        save();
+    }
+
+    /**
+     * @return The ETags of the parts completed so far, by part number.
+     */
+    synchronized SortedMap<Integer, String> completedParts() {
+        SortedMap<Integer, String> parts = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(PART_PREFIX)) {
+                parts.put(Integer.parseInt(name.substring(PART_PREFIX.length())), properties.getProperty(name));
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Record that a part of the transfer has completed.
+     */
+    synchronized void completePart(int partNumber, String eTag) {
+        String name = PART_PREFIX + partNumber;
+        properties.setProperty(name, eTag);
+        if (appendFailed) {
+            save();
+            appendFailed = false;
+        } else {
+            append(name, eTag);
+        }
+    }
+
+    /**
+     * Delete the checkpoint once the transfer has completed.
+     */
+    synchronized void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw SdkClientException.create("Unable to delete transfer checkpoint " + path, e);
+        }
+    }
+
+    private void save() {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, "checkpoint", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw SdkClientException.create("Unable to write transfer checkpoint " + path, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private void append(String name, String value) {
+        byte[] line = (name + "=" + escape(value) + "\n").getBytes(StandardCharsets.ISO_8859_1);
+        try (OutputStream out = Files.newOutputStream(path, StandardOpenOption.APPEND)) {
+            out.write(line);
+        } catch (IOException e) {
+            appendFailed = true;
+            throw SdkClientException.create("Unable to write transfer checkpoint " + path, e);
+        }
+    }
+
+    /**
+     * Escape a property value the way {@link Properties#store} does, so that {@link Properties#load} reads it back.
+     */
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                escaped.append("\\\\");
+            } else if (c == ' ' && i == 0) {
+                escaped.append("\\ ");
+            } else if (c < 0x20 || c > 0x7e) {
+                escaped.append(String.format("\\u%04X", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp != null) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // The checkpoint itself is unaffected by a stray temporary file
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+public class S3TransferManagerTest {
+    private static final String OBJECT_PATH = "/bucket/key";
+    private static final int PART_SIZE = 1024;
+    private static final byte[] CONTENT = randomBytes(2500);
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(0);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private S3AsyncClient s3;
+
+    private S3TransferManager transferManager;
+
+    @Before
+    public void setup() {
+        s3 = S3AsyncClient.builder()
+                          .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                          .region(Region.US_WEST_2)
+                          .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
+                          .serviceConfiguration(S3Configuration.builder()
+                                                               .pathStyleAccessEnabled(true)
+                                                               .checksumValidationEnabled(false)
+                                                               .build())
+                          .build();
+        transferManager = S3TransferManager.builder()
+                                           .s3Client(s3)
+                                           .partSizeInBytes((long) PART_SIZE)
+                                           .multipartThresholdInBytes((long) PART_SIZE)
+                                           .maxConcurrentParts(2)
+                                           .build();
+    }
+
+    @After
+    public void tearDown() {
+        transferManager.close();
+        s3.close();
+    }
+
+    @Test
+    public void upload_belowThreshold_sendsSinglePutObject() throws IOException {
+        Path source = writeFile(Arrays.copyOf(CONTENT, PART_SIZE - 1));
+        stubFor(put(urlPathEqualTo(OBJECT_PATH)).willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+
+        PutObjectResponse response = transferManager.upload(r -> r.putObjectRequest(p -> p.bucket("bucket").key("key"))
+                                                                  .source(source))
+                                                    .join();
+
+        assertThat(response.eTag()).isEqualTo("\"etag\"");
+        verify(0, postRequestedFor(urlPathEqualTo(OBJECT_PATH)));
+        assertThat(mockServer.findAll(putRequestedFor(urlPathEqualTo(OBJECT_PATH)))).hasSize(1);
+    }
+
+    @Test
+    public void upload_aboveThreshold_uploadsEveryRangeAsAPart() throws IOException {
+        Path source = writeFile(CONTENT);
+        stubMultipartUpload();
+
+        PutObjectResponse response = transferManager.upload(r -> r.putObjectRequest(p -> p.bucket("bucket")
+                                                                                          .key("key")
+                                                                                          .contentType("text/plain"))
+                                                                  .source(source))
+                                                    .join();
+
+        assertThat(response.eTag()).isEqualTo("\"object-etag\"");
+        verify(postRequestedFor(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploads", equalTo(""))
+                                                             .withHeader("Content-Type", equalTo("text/plain")));
+        for (int part = 1; part <= 3; part++) {
+            assertThat(partBody(part)).isEqualTo(range(CONTENT, (part - 1) * PART_SIZE, PART_SIZE));
+        }
+        verify(postRequestedFor(urlPathEqualTo(OBJECT_PATH))
+                   .withQueryParam("uploadId", equalTo("upload-id"))
+                   .withRequestBody(containing("<Part><ETag>etag-1</ETag><PartNumber>1</PartNumber></Part>"
+                                               + "<Part><ETag>etag-2</ETag><PartNumber>2</PartNumber></Part>"
+                                               + "<Part><ETag>etag-3</ETag><PartNumber>3</PartNumber></Part>")));
+    }
+
+    @Test
+    public void upload_partFailsWithoutCheckpoint_abortsUpload() throws IOException {
+        Path source = writeFile(CONTENT);
+        stubMultipartUpload();
+        stubPart(2, aResponse().withStatus(403));
+        stubFor(delete(urlPathEqualTo(OBJECT_PATH)).willReturn(aResponse().withStatus(204)));
+
+        assertThatThrownBy(() -> transferManager.upload(r -> r.putObjectRequest(p -> p.bucket("bucket").key("key"))
+                                                              .source(source))
+                                                .join())
+            .hasCauseInstanceOf(S3Exception.class);
+
+        verify(deleteRequestedFor(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploadId", equalTo("upload-id")));
+        verify(0, postRequestedFor(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploadId", equalTo("upload-id")));
+    }
+
+    @Test
+    public void upload_resumedFromCheckpoint_skipsCompletedParts() throws IOException {
+        Path source = writeFile(CONTENT);
+        Path checkpoint = temporaryFolder.getRoot().toPath().resolve("upload.checkpoint");
+        stubMultipartUpload();
+        stubPart(3, aResponse().withStatus(403));
+        UploadRequest request = UploadRequest.builder()
+                                             .putObjectRequest(p -> p.bucket("bucket").key("key"))
+                                             .source(source)
+                                             .checkpoint(checkpoint)
+                                             .build();
+
+        assertThatThrownBy(() -> transferManager.upload(request).join()).hasCauseInstanceOf(S3Exception.class);
+        assertThat(checkpoint).exists();
+        verify(0, deleteRequestedFor(urlPathEqualTo(OBJECT_PATH)));
+
+        stubPart(3, aResponse().withStatus(200).withHeader("ETag", "etag-3"));
+        assertThat(transferManager.upload(request).join().eTag()).isEqualTo("\"object-etag\"");
+
+        assertThat(checkpoint).doesNotExist();
+        verify(1, postRequestedFor(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploads", equalTo("")));
+        assertThat(partRequests(1)).hasSize(1);
+        assertThat(partRequests(2)).hasSize(1);
+        assertThat(partRequests(3)).hasSize(2);
+        verify(postRequestedFor(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploadId", equalTo("upload-id"))
+                                                             .withRequestBody(containing("<ETag>etag-3</ETag>")));
+    }
+
+    @Test
+    public void upload_checkpointOfDifferentTransfer_fails() throws IOException {
+        Path source = writeFile(CONTENT);
+        Path checkpoint = temporaryFolder.getRoot().toPath().resolve("upload.checkpoint");
+        stubMultipartUpload();
+        stubPart(1, aResponse().withStatus(403));
+        transferManager.upload(r -> r.putObjectRequest(p -> p.bucket("bucket").key("key")).source(source).checkpoint(checkpoint))
+                       .exceptionally(t -> null)
+                       .join();
+
+        assertThatThrownBy(() -> transferManager.upload(r -> r.putObjectRequest(p -> p.bucket("bucket").key("other"))
+                                                              .source(source)
+                                                              .checkpoint(checkpoint))
+                                                .join())
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("different transfer");
+    }
+
+    @Test
+    public void download_largeObject_writesEveryRangeToItsOffset() throws IOException {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("download");
+        stubRangedObject();
+
+        GetObjectResponse response = transferManager.download(r -> r.getObjectRequest(g -> g.bucket("bucket").key("key"))
+                                                                    .destination(destination))
+                                                    .join();
+
+        assertThat(response.contentLength()).isEqualTo(CONTENT.length);
+        assertThat(response.contentRange()).isNull();
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        verify(getRequestedFor(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=0-1023"))
+                                                            .withHeader("If-Match", absent()));
+        verify(getRequestedFor(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=1024-2047"))
+                                                            .withHeader("If-Match", equalTo("\"etag\"")));
+        verify(getRequestedFor(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=2048-3071"))
+                                                            .withHeader("If-Match", equalTo("\"etag\"")));
+    }
+
+    @Test
+    public void download_emptyObject_fallsBackToUnrangedGet() throws IOException {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("download");
+        stubFor(get(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=0-1023"))
+                                                .willReturn(aResponse().withStatus(416)
+                                                                       .withBody("<Error><Code>InvalidRange</Code></Error>")));
+        stubFor(get(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", absent())
+                                                .willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+
+        transferManager.download(r -> r.getObjectRequest(g -> g.bucket("bucket").key("key")).destination(destination)).join();
+
+        assertThat(Files.readAllBytes(destination)).isEmpty();
+    }
+
+    @Test
+    public void download_destinationExists_fails() throws IOException {
+        Path destination = writeFile(CONTENT);
+
+        assertThatThrownBy(() -> transferManager.download(r -> r.getObjectRequest(g -> g.bucket("bucket").key("key"))
+                                                                .destination(destination))
+                                                .join())
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("already exists");
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void download_resumedFromCheckpoint_onlyRequestsMissingParts() throws IOException {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("download");
+        Path checkpoint = temporaryFolder.getRoot().toPath().resolve("download.checkpoint");
+        stubRangedObject();
+        stubFor(get(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=2048-3071"))
+                                                .willReturn(aResponse().withStatus(403)));
+        DownloadRequest request = DownloadRequest.builder()
+                                                 .getObjectRequest(g -> g.bucket("bucket").key("key"))
+                                                 .destination(destination)
+                                                 .checkpoint(checkpoint)
+                                                 .build();
+
+        assertThatThrownBy(() -> transferManager.download(request).join()).hasCauseInstanceOf(S3Exception.class);
+        assertThat(destination).exists();
+        assertThat(checkpoint).exists();
+
+        stubRangedObject();
+        GetObjectResponse response = transferManager.download(request).join();
+
+        assertThat(response.contentLength()).isEqualTo(CONTENT.length);
+        assertThat(Files.readAllBytes(destination)).isEqualTo(CONTENT);
+        assertThat(checkpoint).doesNotExist();
+        verify(1, getRequestedFor(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=0-1023")));
+        verify(1, getRequestedFor(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=1024-2047")));
+        verify(2, getRequestedFor(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=2048-3071")));
+    }
+
+    @Test
+    public void download_partFailsWithoutCheckpoint_deletesDestination() {
+        Path destination = temporaryFolder.getRoot().toPath().resolve("download");
+        stubRangedObject();
+        stubFor(get(urlPathEqualTo(OBJECT_PATH)).withHeader("Range", equalTo("bytes=1024-2047"))
+                                                .willReturn(aResponse().withStatus(412)));
+
+        assertThatThrownBy(() -> transferManager.download(r -> r.getObjectRequest(g -> g.bucket("bucket").key("key"))
+                                                                .destination(destination))
+                                                .join())
+            .isInstanceOf(CompletionException.class);
+        assertThat(destination).doesNotExist();
+    }
+
+    private void stubMultipartUpload() {
+        stubFor(post(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploads", equalTo(""))
+                                                 .willReturn(aResponse().withStatus(200).withBody(
+                                                     "<InitiateMultipartUploadResult><UploadId>upload-id</UploadId>"
+                                                     + "</InitiateMultipartUploadResult>")));
+        for (int part = 1; part <= 3; part++) {
+            stubPart(part, aResponse().withStatus(200).withHeader("ETag", "etag-" + part));
+        }
+        stubFor(post(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploadId", equalTo("upload-id"))
+                                                 .willReturn(aResponse().withStatus(200).withBody(
+                                                     "<CompleteMultipartUploadResult><ETag>\"object-etag\"</ETag>"
+                                                     + "</CompleteMultipartUploadResult>")));
+    }
+
+    private void stubPart(int partNumber, ResponseDefinitionBuilder response) {
+        stubFor(put(urlPathEqualTo(OBJECT_PATH)).withQueryParam("partNumber", equalTo(String.valueOf(partNumber)))
+                                                .willReturn(response));
+    }
+
+    private void stubRangedObject() {
+        for (int offset = 0; offset < CONTENT.length; offset += PART_SIZE) {
+            int length = Math.min(PART_SIZE, CONTENT.length - offset);
+            stubFor(get(urlPathEqualTo(OBJECT_PATH))
+                        .withHeader("Range", equalTo("bytes=" + offset + "-" + (offset + PART_SIZE - 1)))
+                        .willReturn(aResponse().withStatus(206)
+                                               .withHeader("ETag", "\"etag\"")
+                                               .withHeader("Content-Range", "bytes " + offset + "-" + (offset + length - 1)
+                                                                            + "/" + CONTENT.length)
+                                               .withBody(range(CONTENT, offset, length))));
+        }
+    }
+
+    private List<LoggedRequest> partRequests(int partNumber) {
+        return mockServer.findAll(putRequestedFor(urlPathEqualTo(OBJECT_PATH))
+                                      .withQueryParam("partNumber", equalTo(String.valueOf(partNumber))));
+    }
+
+    private byte[] partBody(int partNumber) {
+        return partRequests(partNumber).get(0).getBody();
+    }
+
+    private Path writeFile(byte[] content) throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content);
+        return file;
+    }
+
+    private static byte[] range(byte[] content, int offset, int length) {
+        return Arrays.copyOfRange(content, offset, Math.min(content.length, offset + length));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
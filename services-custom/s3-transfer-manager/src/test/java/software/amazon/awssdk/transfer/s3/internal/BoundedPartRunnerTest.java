@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class BoundedPartRunnerTest {
+
+    @Test
+    public void noParts_completesImmediately() {
+        assertThat(BoundedPartRunner.run(Collections.emptyList(), 4, p -> new CompletableFuture<>())).isCompleted();
+    }
+
+    @Test
+    public void neverExceedsMaxConcurrency() {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        List<Integer> started = new ArrayList<>();
+        CompletableFuture<Void> result = BoundedPartRunner.run(parts(10), 3, p -> {
+            started.add(p);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        assertThat(started).containsExactly(0, 1, 2);
+        while (!pending.isEmpty()) {
+            assertThat(result).isNotDone();
+            pending.remove(0).complete(null);
+            assertThat(pending.size()).isLessThanOrEqualTo(3);
+        }
+
+        assertThat(started).isEqualTo(parts(10));
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    public void synchronouslyCompletedParts_doNotOverflowStack() {
+        AtomicInteger count = new AtomicInteger();
+        CompletableFuture<Void> result = BoundedPartRunner.run(parts(100_000), 1, p -> {
+            count.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        assertThat(result).isCompleted();
+        assertThat(count).hasValue(100_000);
+    }
+
+    @Test
+    public void failedPart_stopsStartingPartsAndWaitsForPartsInFlight() {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        CompletableFuture<Void> result = BoundedPartRunner.run(parts(10), 2, p -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        IllegalStateException failure = new IllegalStateException("part failed");
+        pending.get(0).completeExceptionally(failure);
+        assertThat(pending).hasSize(2);
+        assertThat(result).isNotDone();
+
+        pending.get(1).complete(null);
+        assertThat(pending).hasSize(2);
+        assertThatThrownBy(result::join).hasCause(failure);
+    }
+
+    @Test
+    public void partThrowing_failsResult() {
+        IllegalStateException failure = new IllegalStateException("part failed");
+        CompletableFuture<Void> result = BoundedPartRunner.run(parts(3), 2, p -> {
+            throw failure;
+        });
+
+        assertThatThrownBy(result::join).hasCause(failure);
+    }
+
+    private static List<Integer> parts(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+}
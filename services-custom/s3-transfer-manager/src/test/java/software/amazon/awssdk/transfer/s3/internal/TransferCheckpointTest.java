@@ -0,0 +1,119 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+public class TransferCheckpointTest {
+    private static final Map<String, String> IDENTITY = Collections.singletonMap("key", "object");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path path;
+
+    @Before
+    public void setup() {
+        path = folder.getRoot().toPath().resolve("checkpoint");
+    }
+
+    @Test
+    public void completedParts_surviveReopen() {
+        TransferCheckpoint checkpoint = TransferCheckpoint.open(path, IDENTITY);
+        checkpoint.put("uploadId", "upload");
+        checkpoint.completePart(2, "\"etag-2\"");
+        checkpoint.completePart(1, "\"etag-1\"");
+
+        TransferCheckpoint reopened = TransferCheckpoint.open(path, IDENTITY);
+
+        assertThat(reopened.get("uploadId")).isEqualTo("upload");
+        assertThat(reopened.completedParts()).containsExactly(entry(1, "\"etag-1\""), entry(2, "\"etag-2\""));
+    }
+
+    @Test
+    public void completePart_appendsOneLineInsteadOfRewritingCheckpoint() throws IOException {
+        TransferCheckpoint checkpoint = TransferCheckpoint.open(path, IDENTITY);
+        for (int i = 1; i < 100; i++) {
+            checkpoint.completePart(i, "etag");
+        }
+        long size = Files.size(path);
+
+        checkpoint.completePart(100, "etag");
+
+        assertThat(Files.size(path) - size).isEqualTo("part.100=etag\n".length());
+    }
+
+    @Test
+    public void valuesNeedingEscapes_readBack() {
+        String eTag = "\\ \u00e9\ttag";
+        TransferCheckpoint.open(path, IDENTITY).completePart(1, eTag);
+
+        assertThat(TransferCheckpoint.open(path, IDENTITY).completedParts()).containsExactly(entry(1, eTag));
+    }
+
+    @Test
+    public void incompleteLastLine_ignored() throws IOException {
+        TransferCheckpoint.open(path, IDENTITY).completePart(1, "etag-1");
+        Files.write(path, "part.2=eta".getBytes(StandardCharsets.ISO_8859_1), StandardOpenOption.APPEND);
+
+        TransferCheckpoint reopened = TransferCheckpoint.open(path, IDENTITY);
+        reopened.completePart(3, "etag-3");
+
+        assertThat(TransferCheckpoint.open(path, IDENTITY).completedParts())
+            .containsExactly(entry(1, "etag-1"), entry(3, "etag-3"));
+    }
+
+    @Test
+    public void reopen_compactsAppendedParts() throws IOException {
+        TransferCheckpoint checkpoint = TransferCheckpoint.open(path, IDENTITY);
+        checkpoint.completePart(1, "etag-1");
+        checkpoint.completePart(1, "etag-1");
+
+        TransferCheckpoint.open(path, IDENTITY);
+
+        assertThat(Files.readAllLines(path, StandardCharsets.ISO_8859_1)).filteredOn(l -> l.startsWith("part."))
+                                                                          .containsExactly("part.1=etag-1");
+    }
+
+    @Test
+    public void differentTransfer_throwsException() {
+        TransferCheckpoint.open(path, IDENTITY);
+
+        assertThatThrownBy(() -> TransferCheckpoint.open(path, Collections.singletonMap("key", "other")))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("belongs to a different transfer");
+    }
+
+    private static Map.Entry<Integer, String> entry(int partNumber, String eTag) {
+        return new AbstractMap.SimpleImmutableEntry<>(partNumber, eTag);
+    }
+}
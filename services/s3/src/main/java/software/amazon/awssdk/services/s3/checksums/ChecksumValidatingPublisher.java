@@ -18,7 +18,6 @@ package software.amazon.awssdk.services.s3.checksums;
 import static java.lang.Math.toIntExact;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -26,7 +25,6 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 @SdkInternalApi
 public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffer> {
@@ -78,14 +76,14 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
+            int bufLength = byteBuffer.remaining();
 
             if (lengthRead < strippedLength) {
-                int toUpdate = (int) Math.min(strippedLength - lengthRead, buf.length);
+                int toUpdate = (int) Math.min(strippedLength - lengthRead, bufLength);
 
-                sdkChecksum.update(buf, 0, toUpdate);
+                sdkChecksum.update(slice(byteBuffer, 0, toUpdate));
             }
-            lengthRead += buf.length;
+            lengthRead += bufLength;
 
             if (lengthRead >= strippedLength) {
                 // Incoming buffer contains at least a bit of the checksum
@@ -103,12 +101,12 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
                 //                                |           <--- bufChecksumOffset
                 //                            |<->|           <--- streamChecksumOffset
                 int cksumBytesSoFar = toIntExact(lengthRead - strippedLength);
-                int bufChecksumOffset = (buf.length > cksumBytesSoFar) ? (buf.length - cksumBytesSoFar) : 0;
-                int streamChecksumOffset = (buf.length > cksumBytesSoFar) ? 0 : (cksumBytesSoFar - buf.length);
-                int cksumBytes = Math.min(cksumBytesSoFar, buf.length);
-                System.arraycopy(buf, bufChecksumOffset, streamChecksum, streamChecksumOffset, cksumBytes);
-                if (buf.length > cksumBytesSoFar) {
-                    wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - cksumBytesSoFar)));
+                int bufChecksumOffset = (bufLength > cksumBytesSoFar) ? (bufLength - cksumBytesSoFar) : 0;
+                int streamChecksumOffset = (bufLength > cksumBytesSoFar) ? 0 : (cksumBytesSoFar - bufLength);
+                int cksumBytes = Math.min(cksumBytesSoFar, bufLength);
+                slice(byteBuffer, bufChecksumOffset, cksumBytes).get(streamChecksum, streamChecksumOffset, cksumBytes);
+                if (bufLength > cksumBytesSoFar) {
+                    wrapped.onNext(slice(byteBuffer, 0, bufLength - cksumBytesSoFar));
                 } else {
                     // Always be sure to satisfy the wrapped publisher's demand.
                     wrapped.onNext(ByteBuffer.allocate(0));
@@ -161,8 +159,7 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
-            wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - CHECKSUM_SIZE)));
+            wrapped.onNext(slice(byteBuffer, 0, byteBuffer.remaining() - CHECKSUM_SIZE));
         }
 
         @Override
@@ -176,4 +173,14 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
         }
     }
 
+    /**
+     * Returns a view of {@code length} bytes of the remaining bytes of the buffer, starting {@code offset} bytes after its
+     * position. The position of the buffer isn't changed.
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(slice.position() + offset);
+        slice.limit(slice.position() + length);
+        return slice.slice();
+    }
 }
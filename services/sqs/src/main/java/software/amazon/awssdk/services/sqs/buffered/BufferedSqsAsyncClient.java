@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.buffered;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.buffered.DefaultBufferedSqsAsyncClient;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * An {@link SqsAsyncClient} that buffers single-message requests and sends them to SQS in batches.
+ *
+ * <p>{@code SendMessage}, {@code DeleteMessage} and {@code ChangeMessageVisibility} requests are held per queue until
+ * {@link Builder#maxBatchSize(Integer)} requests have been buffered or the first of them has been buffered for
+ * {@link Builder#maxBatchOpenDuration(Duration)}, and are then sent as a single {@code SendMessageBatch},
+ * {@code DeleteMessageBatch} or {@code ChangeMessageVisibilityBatch} request. Every call still returns its own future, which
+ * completes with the result of its entry in the batch, or fails with an {@link
+ * software.amazon.awssdk.services.sqs.model.SqsException} if SQS rejected that entry.</p>
+ *
+ * <p>When {@link Builder#maxConcurrentReceives(Integer)} is positive, {@code ReceiveMessage} requests are served from a
+ * per-queue buffer that is filled by that many concurrent long polls, so that consumers usually receive messages without
+ * waiting for a round trip. Prefetched messages are invisible to other consumers from the moment they are buffered, so the
+ * buffer should be small compared to the number of messages that can be processed within the queue's visibility
+ * timeout. Prefetched messages whose visibility timeout has expired are dropped rather than returned. To know the timeout,
+ * the queue's {@code VisibilityTimeout} attribute is read with {@code GetQueueAttributes} before the first prefetch.</p>
+ *
+ * <p>Requests that cannot be buffered, such as requests with an override configuration, and all other operations are sent
+ * directly to the wrapped client. Closing this client sends the requests that are still buffered, but does not close the
+ * wrapped client.</p>
+ *
+ * <pre>
+ * SqsAsyncClient sqs = BufferedSqsAsyncClient.builder()
+ *                                            .client(SqsAsyncClient.create())
+ *                                            .maxBatchOpenDuration(Duration.ofMillis(50))
+ *                                            .build();
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface BufferedSqsAsyncClient extends SqsAsyncClient {
+
+    /**
+     * Create a buffered client with the default configuration that sends its requests through the given client.
+     */
+    static BufferedSqsAsyncClient create(SqsAsyncClient client) {
+        return builder().client(client).build();
+    }
+
+    /**
+     * Create a builder that can be used to configure and create a {@link BufferedSqsAsyncClient}.
+     */
+    static Builder builder() {
+        return DefaultBufferedSqsAsyncClient.builder();
+    }
+
+    /**
+     * A builder for creating a {@link BufferedSqsAsyncClient}.
+     */
+    interface Builder extends SdkBuilder<Builder, BufferedSqsAsyncClient> {
+
+        /**
+         * The client used to send requests to SQS. This is required, and it is not closed when the buffered client is
+         * closed.
+         */
+        Builder client(SqsAsyncClient client);
+
+        /**
+         * The maximum number of requests sent in one batch, at most 10.
+         *
+         * <p>The default is 10.</p>
+         */
+        Builder maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * The maximum time a request is buffered waiting for a batch to fill up. Larger values produce fuller batches, and
+         * so fewer requests to SQS, at the cost of latency.
+         *
+         * <p>The default is 200 milliseconds.</p>
+         */
+        Builder maxBatchOpenDuration(Duration maxBatchOpenDuration);
+
+        /**
+         * The number of concurrent long polls used to prefetch messages from each queue that is received from. Zero
+         * disables prefetching, sending every {@code ReceiveMessage} request directly to SQS.
+         *
+         * <p>The default is 1.</p>
+         */
+        Builder maxConcurrentReceives(Integer maxConcurrentReceives);
+
+        /**
+         * The number of prefetched messages per queue above which no more long polls are started.
+         *
+         * <p>The default is 10.</p>
+         */
+        Builder maxBufferedMessages(Integer maxBufferedMessages);
+
+        /**
+         * The long poll wait time of the requests that prefetch messages, at most 20 seconds.
+         *
+         * <p>The default is 20 seconds.</p>
+         */
+        Builder receiveWaitTime(Duration receiveWaitTime);
+
+        /**
+         * The message attribute names requested when prefetching messages. Only {@code ReceiveMessage} requests asking for
+         * exactly these message attributes (in any order) are served from the prefetch buffer.
+         *
+         * <p>By default no message attributes are requested.</p>
+         */
+        Builder receiveMessageAttributeNames(List<String> receiveMessageAttributeNames);
+
+        /**
+         * The message system attribute names requested when prefetching messages. Only {@code ReceiveMessage} requests
+         * asking for exactly these attributes (in any order) are served from the prefetch buffer.
+         *
+         * <p>By default no attributes are requested.</p>
+         */
+        Builder receiveAttributeNames(List<String> receiveAttributeNames);
+
+        /**
+         * The executor used to send batches whose {@link #maxBatchOpenDuration(Duration)} has expired and to time out
+         * {@code ReceiveMessage} requests waiting on the prefetch buffer. It is not shut down when the buffered client is
+         * closed.
+         *
+         * <p>By default a single daemon thread owned by the buffered client is used.</p>
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+    }
+}
@@ -15,16 +15,10 @@
 
 package software.amazon.awssdk.services.sqs.internal;
 
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -43,7 +37,6 @@ import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
-import software.amazon.awssdk.utils.Md5Utils;
 
 /**
  * SQS operations on sending and receiving messages will return the MD5 digest of the message body.
@@ -53,12 +46,6 @@ import software.amazon.awssdk.utils.Md5Utils;
 @SdkInternalApi
 public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor {
 
-    private static final int INTEGER_SIZE_IN_BYTES = 4;
-    private static final byte STRING_TYPE_FIELD_INDEX = 1;
-    private static final byte BINARY_TYPE_FIELD_INDEX = 2;
-    private static final byte STRING_LIST_TYPE_FIELD_INDEX = 3;
-    private static final byte BINARY_LIST_TYPE_FIELD_INDEX = 4;
-
     /*
      * Constant strings for composing error message.
      */
@@ -101,24 +88,25 @@ public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor
      */
     private static void sendMessageOperationMd5Check(SendMessageRequest sendMessageRequest,
                                                      SendMessageResponse sendMessageResult) {
+        MessageMd5Calculator calculator = MessageMd5Calculator.get();
         String messageBodySent = sendMessageRequest.messageBody();
         String bodyMd5Returned = sendMessageResult.md5OfMessageBody();
-        String clientSideBodyMd5 = calculateMessageBodyMd5(messageBodySent);
-        if (!clientSideBodyMd5.equals(bodyMd5Returned)) {
+        byte[] clientSideBodyMd5 = calculateMessageBodyMd5(calculator, messageBodySent);
+        if (!MessageMd5Calculator.matches(clientSideBodyMd5, bodyMd5Returned)) {
             throw SdkClientException.builder()
-                                    .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_BODY, clientSideBodyMd5,
-                                                          bodyMd5Returned))
+                                    .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_BODY,
+                                                          BinaryUtils.toHex(clientSideBodyMd5), bodyMd5Returned))
                                     .build();
         }
 
         Map<String, MessageAttributeValue> messageAttrSent = sendMessageRequest.messageAttributes();
         if (messageAttrSent != null && !messageAttrSent.isEmpty()) {
-            String clientSideAttrMd5 = calculateMessageAttributesMd5(messageAttrSent);
+            byte[] clientSideAttrMd5 = calculateMessageAttributesMd5(calculator, messageAttrSent);
             String attrMd5Returned = sendMessageResult.md5OfMessageAttributes();
-            if (!clientSideAttrMd5.equals(attrMd5Returned)) {
+            if (!MessageMd5Calculator.matches(clientSideAttrMd5, attrMd5Returned)) {
                 throw SdkClientException.builder()
                                         .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_ATTRIBUTES,
-                                                              clientSideAttrMd5, attrMd5Returned))
+                                                              BinaryUtils.toHex(clientSideAttrMd5), attrMd5Returned))
                                         .build();
             }
         }
@@ -130,25 +118,26 @@ public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor
      */
     private static void receiveMessageResultMd5Check(ReceiveMessageResponse receiveMessageResult) {
         if (receiveMessageResult.messages() != null) {
+            MessageMd5Calculator calculator = MessageMd5Calculator.get();
             for (Message messageReceived : receiveMessageResult.messages()) {
                 String messageBody = messageReceived.body();
                 String bodyMd5Returned = messageReceived.md5OfBody();
-                String clientSideBodyMd5 = calculateMessageBodyMd5(messageBody);
-                if (!clientSideBodyMd5.equals(bodyMd5Returned)) {
+                byte[] clientSideBodyMd5 = calculateMessageBodyMd5(calculator, messageBody);
+                if (!MessageMd5Calculator.matches(clientSideBodyMd5, bodyMd5Returned)) {
                     throw SdkClientException.builder()
                                             .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_BODY,
-                                                                  clientSideBodyMd5, bodyMd5Returned))
+                                                                  BinaryUtils.toHex(clientSideBodyMd5), bodyMd5Returned))
                                             .build();
                 }
 
                 Map<String, MessageAttributeValue> messageAttr = messageReceived.messageAttributes();
                 if (messageAttr != null && !messageAttr.isEmpty()) {
                     String attrMd5Returned = messageReceived.md5OfMessageAttributes();
-                    String clientSideAttrMd5 = calculateMessageAttributesMd5(messageAttr);
-                    if (!clientSideAttrMd5.equals(attrMd5Returned)) {
+                    byte[] clientSideAttrMd5 = calculateMessageAttributesMd5(calculator, messageAttr);
+                    if (!MessageMd5Calculator.matches(clientSideAttrMd5, attrMd5Returned)) {
                         throw SdkClientException.builder()
                                                 .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_ATTRIBUTES,
-                                                                      clientSideAttrMd5, attrMd5Returned))
+                                                                      BinaryUtils.toHex(clientSideAttrMd5), attrMd5Returned))
                                                 .build();
                     }
                 }
@@ -162,135 +151,81 @@ public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor
      */
     private static void sendMessageBatchOperationMd5Check(SendMessageBatchRequest sendMessageBatchRequest,
                                                           SendMessageBatchResponse sendMessageBatchResult) {
+        if (sendMessageBatchResult.successful() == null || sendMessageBatchResult.successful().isEmpty()) {
+            return;
+        }
+
+        List<SendMessageBatchRequestEntry> requestEntries = sendMessageBatchRequest.entries();
         Map<String, SendMessageBatchRequestEntry> idToRequestEntryMap = new HashMap<>();
-        if (sendMessageBatchRequest.entries() != null) {
-            for (SendMessageBatchRequestEntry entry : sendMessageBatchRequest.entries()) {
+        if (requestEntries != null) {
+            for (SendMessageBatchRequestEntry entry : requestEntries) {
                 idToRequestEntryMap.put(entry.id(), entry);
             }
         }
 
-        if (sendMessageBatchResult.successful() != null) {
-            for (SendMessageBatchResultEntry entry : sendMessageBatchResult.successful()) {
-                String messageBody = idToRequestEntryMap.get(entry.id()).messageBody();
-                String bodyMd5Returned = entry.md5OfMessageBody();
-                String clientSideBodyMd5 = calculateMessageBodyMd5(messageBody);
-                if (!clientSideBodyMd5.equals(bodyMd5Returned)) {
+        MessageMd5Calculator calculator = MessageMd5Calculator.get();
+        for (SendMessageBatchResultEntry entry : sendMessageBatchResult.successful()) {
+            SendMessageBatchRequestEntry requestEntry = idToRequestEntryMap.get(entry.id());
+            String messageBody = requestEntry.messageBody();
+            String bodyMd5Returned = entry.md5OfMessageBody();
+            byte[] clientSideBodyMd5 = calculateMessageBodyMd5(calculator, messageBody);
+            if (!MessageMd5Calculator.matches(clientSideBodyMd5, bodyMd5Returned)) {
+                throw SdkClientException.builder()
+                                        .message(String.format(MD5_MISMATCH_ERROR_MESSAGE_WITH_ID, MESSAGE_BODY,
+                                                              entry.id(), BinaryUtils.toHex(clientSideBodyMd5),
+                                                              bodyMd5Returned))
+                                        .build();
+            }
+
+            Map<String, MessageAttributeValue> messageAttr = requestEntry.messageAttributes();
+            if (messageAttr != null && !messageAttr.isEmpty()) {
+                String attrMd5Returned = entry.md5OfMessageAttributes();
+                byte[] clientSideAttrMd5 = calculateMessageAttributesMd5(calculator, messageAttr);
+                if (!MessageMd5Calculator.matches(clientSideAttrMd5, attrMd5Returned)) {
                     throw SdkClientException.builder()
-                                            .message(String.format(MD5_MISMATCH_ERROR_MESSAGE_WITH_ID, MESSAGE_BODY,
-                                                                  entry.id(), clientSideBodyMd5, bodyMd5Returned))
+                                            .message(String.format(MD5_MISMATCH_ERROR_MESSAGE_WITH_ID,
+                                                                  MESSAGE_ATTRIBUTES, entry.id(),
+                                                                  BinaryUtils.toHex(clientSideAttrMd5), attrMd5Returned))
                                             .build();
                 }
-
-                Map<String, MessageAttributeValue> messageAttr = idToRequestEntryMap.get(entry.id())
-                                                                                    .messageAttributes();
-                if (messageAttr != null && !messageAttr.isEmpty()) {
-                    String attrMd5Returned = entry.md5OfMessageAttributes();
-                    String clientSideAttrMd5 = calculateMessageAttributesMd5(messageAttr);
-                    if (!clientSideAttrMd5.equals(attrMd5Returned)) {
-                        throw SdkClientException.builder()
-                                                .message(String.format(MD5_MISMATCH_ERROR_MESSAGE_WITH_ID,
-                                                                      MESSAGE_ATTRIBUTES, entry.id(), clientSideAttrMd5,
-                                                                      attrMd5Returned))
-                                                .build();
-                    }
-                }
             }
         }
     }
 
     /**
-     * Returns the hex-encoded MD5 hash String of the given message body.
+     * Returns the MD5 hash of the given message body, in an array reused by the next calculation on this thread.
      */
-    private static String calculateMessageBodyMd5(String messageBody) {
+    private static byte[] calculateMessageBodyMd5(MessageMd5Calculator calculator, String messageBody) {
         log.debug(() -> "Message body: " + messageBody);
         byte[] expectedMd5;
         try {
-            expectedMd5 = Md5Utils.computeMD5Hash(messageBody.getBytes(StandardCharsets.UTF_8));
+            expectedMd5 = calculator.messageBodyMd5(messageBody);
         } catch (Exception e) {
             throw SdkClientException.builder()
                                     .message("Unable to calculate the MD5 hash of the message body. " + e.getMessage())
                                     .cause(e)
                                     .build();
         }
-        String expectedMd5Hex = BinaryUtils.toHex(expectedMd5);
-        log.debug(() -> "Expected  MD5 of message body: " + expectedMd5Hex);
-        return expectedMd5Hex;
+        log.debug(() -> "Expected  MD5 of message body: " + BinaryUtils.toHex(expectedMd5));
+        return expectedMd5;
     }
 
     /**
-     * Returns the hex-encoded MD5 hash String of the given message attributes.
+     * Returns the MD5 hash of the given message attributes, in an array reused by the next calculation on this thread.
      */
-    private static String calculateMessageAttributesMd5(final Map<String, MessageAttributeValue> messageAttributes) {
+    private static byte[] calculateMessageAttributesMd5(MessageMd5Calculator calculator,
+                                                        Map<String, MessageAttributeValue> messageAttributes) {
         log.debug(() -> "Message attributes: " + messageAttributes);
-        List<String> sortedAttributeNames = new ArrayList<>(messageAttributes.keySet());
-        Collections.sort(sortedAttributeNames);
-
-        MessageDigest md5Digest;
+        byte[] expectedMd5;
         try {
-            md5Digest = MessageDigest.getInstance("MD5");
-
-            for (String attrName : sortedAttributeNames) {
-                MessageAttributeValue attrValue = messageAttributes.get(attrName);
-
-                // Encoded Name
-                updateLengthAndBytes(md5Digest, attrName);
-
-                // Encoded Type
-                updateLengthAndBytes(md5Digest, attrValue.dataType());
-
-                // Encoded Value
-                if (attrValue.stringValue() != null) {
-                    md5Digest.update(STRING_TYPE_FIELD_INDEX);
-                    updateLengthAndBytes(md5Digest, attrValue.stringValue());
-                } else if (attrValue.binaryValue() != null) {
-                    md5Digest.update(BINARY_TYPE_FIELD_INDEX);
-                    updateLengthAndBytes(md5Digest, attrValue.binaryValue().asByteBuffer());
-                } else if (attrValue.stringListValues() != null &&
-                           attrValue.stringListValues().size() > 0) {
-                    md5Digest.update(STRING_LIST_TYPE_FIELD_INDEX);
-                    for (String strListMember : attrValue.stringListValues()) {
-                        updateLengthAndBytes(md5Digest, strListMember);
-                    }
-                } else if (attrValue.binaryListValues() != null &&
-                           attrValue.binaryListValues().size() > 0) {
-                    md5Digest.update(BINARY_LIST_TYPE_FIELD_INDEX);
-                    for (SdkBytes byteListMember : attrValue.binaryListValues()) {
-                        updateLengthAndBytes(md5Digest, byteListMember.asByteBuffer());
-                    }
-                }
-            }
+            expectedMd5 = calculator.messageAttributesMd5(messageAttributes);
         } catch (Exception e) {
             throw SdkClientException.builder()
                                     .message("Unable to calculate the MD5 hash of the message attributes. " + e.getMessage())
                                     .cause(e)
                                     .build();
         }
-
-        String expectedMd5Hex = BinaryUtils.toHex(md5Digest.digest());
-        log.debug(() -> "Expected  MD5 of message attributes: " + expectedMd5Hex);
-        return expectedMd5Hex;
-    }
-
-    /**
-     * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
-     * input String and the actual utf8-encoded byte values.
-     */
-    private static void updateLengthAndBytes(MessageDigest digest, String str) {
-        byte[] utf8Encoded = str.getBytes(StandardCharsets.UTF_8);
-        ByteBuffer lengthBytes = ByteBuffer.allocate(INTEGER_SIZE_IN_BYTES).putInt(utf8Encoded.length);
-        digest.update(lengthBytes.array());
-        digest.update(utf8Encoded);
-    }
-
-    /**
-     * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
-     * input ByteBuffer and all the bytes it contains.
-     */
-    private static void updateLengthAndBytes(MessageDigest digest, ByteBuffer binaryValue) {
-        ByteBuffer readOnlyBuffer = binaryValue.asReadOnlyBuffer();
-        int size = readOnlyBuffer.remaining();
-        ByteBuffer lengthBytes = ByteBuffer.allocate(INTEGER_SIZE_IN_BYTES).putInt(size);
-        digest.update(lengthBytes.array());
-        digest.update(readOnlyBuffer);
+        log.debug(() -> "Expected  MD5 of message attributes: " + BinaryUtils.toHex(expectedMd5));
+        return expectedMd5;
     }
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+
+/**
+ * Calculates the MD5 digests SQS returns for message bodies and message attributes.
+ * <p>
+ * Each thread reuses one calculator, so checking a message doesn't create a {@link MessageDigest}. Strings are encoded to
+ * UTF-8 into a small scratch buffer that is flushed into the digest, instead of into a new array per string.
+ */
+@SdkInternalApi
+final class MessageMd5Calculator {
+
+    private static final int MD5_SIZE = 16;
+    private static final int INTEGER_SIZE_IN_BYTES = 4;
+    private static final int MAX_UTF8_BYTES_PER_CHAR = 4;
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final byte STRING_TYPE_FIELD_INDEX = 1;
+    private static final byte BINARY_TYPE_FIELD_INDEX = 2;
+    private static final byte STRING_LIST_TYPE_FIELD_INDEX = 3;
+    private static final byte BINARY_LIST_TYPE_FIELD_INDEX = 4;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<MessageMd5Calculator> CALCULATORS = ThreadLocal.withInitial(MessageMd5Calculator::new);
+
+    private final MessageDigest digest;
+    private final byte[] md5 = new byte[MD5_SIZE];
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final char[] chars = new char[BUFFER_SIZE / MAX_UTF8_BYTES_PER_CHAR];
+    private int position;
+    private String[] attributeNames = new String[8];
+
+    private MessageMd5Calculator() {
+        try {
+            this.digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to create the MD5 digest. " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    /**
+     * @return The calculator of the current thread.
+     */
+    static MessageMd5Calculator get() {
+        return CALCULATORS.get();
+    }
+
+    /**
+     * Calculate the MD5 digest of the UTF-8 encoded message body.
+     *
+     * @return The digest, in an array that is overwritten by the next calculation on this thread.
+     */
+    byte[] messageBodyMd5(String messageBody) {
+        start();
+        updateUtf8(messageBody);
+        return finish();
+    }
+
+    /**
+     * Calculate the MD5 digest of the message attributes: for each attribute, sorted by name, the length-prefixed name,
+     * data type and value(s), with a byte identifying the kind of value before the value(s).
+     *
+     * @return The digest, in an array that is overwritten by the next calculation on this thread.
+     */
+    byte[] messageAttributesMd5(Map<String, MessageAttributeValue> messageAttributes) {
+        start();
+        int count = sortedAttributeNames(messageAttributes);
+        try {
+            for (int i = 0; i < count; i++) {
+                String attrName = attributeNames[i];
+                MessageAttributeValue attrValue = messageAttributes.get(attrName);
+
+                // Encoded Name
+                updateLengthAndUtf8(attrName);
+
+                // Encoded Type
+                updateLengthAndUtf8(attrValue.dataType());
+
+                // Encoded Value
+                if (attrValue.stringValue() != null) {
+                    updateByte(STRING_TYPE_FIELD_INDEX);
+                    updateLengthAndUtf8(attrValue.stringValue());
+                } else if (attrValue.binaryValue() != null) {
+                    updateByte(BINARY_TYPE_FIELD_INDEX);
+                    updateLengthAndBytes(attrValue.binaryValue());
+                } else if (attrValue.stringListValues() != null &&
+                           attrValue.stringListValues().size() > 0) {
+                    updateByte(STRING_LIST_TYPE_FIELD_INDEX);
+                    for (String strListMember : attrValue.stringListValues()) {
+                        updateLengthAndUtf8(strListMember);
+                    }
+                } else if (attrValue.binaryListValues() != null &&
+                           attrValue.binaryListValues().size() > 0) {
+                    updateByte(BINARY_LIST_TYPE_FIELD_INDEX);
+                    for (SdkBytes byteListMember : attrValue.binaryListValues()) {
+                        updateLengthAndBytes(byteListMember);
+                    }
+                }
+            }
+        } finally {
+            Arrays.fill(attributeNames, 0, count, null);
+        }
+        return finish();
+    }
+
+    /**
+     * @return Whether the digest matches the lower-case hex encoded digest returned by SQS.
+     */
+    static boolean matches(byte[] md5, String md5Hex) {
+        if (md5Hex == null || md5Hex.length() != md5.length * 2) {
+            return false;
+        }
+        for (int i = 0; i < md5.length; i++) {
+            int b = md5[i] & 0xFF;
+            if (md5Hex.charAt(2 * i) != HEX_DIGITS[b >>> 4] || md5Hex.charAt(2 * i + 1) != HEX_DIGITS[b & 0xF]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int sortedAttributeNames(Map<String, MessageAttributeValue> messageAttributes) {
+        int count = messageAttributes.size();
+        if (attributeNames.length < count) {
+            attributeNames = new String[count];
+        }
+        int i = 0;
+        for (String attrName : messageAttributes.keySet()) {
+            attributeNames[i++] = attrName;
+        }
+        Arrays.sort(attributeNames, 0, count);
+        return count;
+    }
+
+    private void start() {
+        digest.reset();
+        position = 0;
+    }
+
+    private byte[] finish() {
+        flush();
+        try {
+            digest.digest(md5, 0, MD5_SIZE);
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate the MD5 hash. " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+        return md5;
+    }
+
+    private void updateByte(byte b) {
+        ensureCapacity(1);
+        buffer[position++] = b;
+    }
+
+    private void updateInt(int value) {
+        ensureCapacity(INTEGER_SIZE_IN_BYTES);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
+     * input String and the actual utf8-encoded byte values.
+     */
+    private void updateLengthAndUtf8(String str) {
+        updateInt(utf8Length(str));
+        updateUtf8(str);
+    }
+
+    /**
+     * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
+     * input bytes and all the bytes it contains.
+     */
+    private void updateLengthAndBytes(SdkBytes bytes) {
+        ByteBuffer binaryValue = bytes.asByteBuffer();
+        updateInt(binaryValue.remaining());
+        flush();
+        digest.update(binaryValue);
+    }
+
+    /**
+     * Encode the string to UTF-8 the same way as {@link String#getBytes(java.nio.charset.Charset)}, which replaces unpaired
+     * surrogates with '?'.
+     */
+    private void updateUtf8(String str) {
+        int length = str.length();
+        int start = 0;
+        while (start < length) {
+            ensureCapacity(MAX_UTF8_BYTES_PER_CHAR);
+            // Encode as many chars as are sure to fit in the buffer without checking its capacity for each of them
+            int count = Math.min(length - start, (buffer.length - position) / MAX_UTF8_BYTES_PER_CHAR);
+            str.getChars(start, start + count, chars, 0);
+            int i = 0;
+            for (; i < count; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >>> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (!Character.isSurrogate(c)) {
+                    buffer[position++] = (byte) (0xE0 | (c >>> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (isSurrogatePair(str, start + i)) {
+                    int codePoint = Character.toCodePoint(c, str.charAt(start + i + 1));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >>> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    // The low surrogate is consumed too, even if it wasn't copied into this chunk
+                    i++;
+                } else {
+                    buffer[position++] = '?';
+                }
+            }
+            start += i;
+        }
+    }
+
+    private static int utf8Length(String str) {
+        int length = str.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                utf8Length += 1;
+            } else if (!Character.isSurrogate(c)) {
+                utf8Length += 2;
+            } else if (isSurrogatePair(str, i)) {
+                // Two chars encoded in four bytes
+                utf8Length += 2;
+                i++;
+            }
+        }
+        return utf8Length;
+    }
+
+    private static boolean isSurrogatePair(String str, int index) {
+        return Character.isHighSurrogate(str.charAt(index)) &&
+               index + 1 < str.length() &&
+               Character.isLowSurrogate(str.charAt(index + 1));
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (position + bytes > buffer.length) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (position > 0) {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.buffered;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+/**
+ * A buffered request, identified within its batch by an ID that is unique to that batch.
+ *
+ * @param <RequestT> The type of the buffered request.
+ * @param <ResponseT> The type of the response to the request.
+ */
+@SdkInternalApi
+final class BatchEntry<RequestT, ResponseT> {
+    private static final int SENDER_FAULT_STATUS_CODE = 400;
+    private static final int SERVER_FAULT_STATUS_CODE = 500;
+
+    private final String id;
+    private final RequestT request;
+    private final CompletableFuture<ResponseT> response;
+
+    BatchEntry(String id, RequestT request, CompletableFuture<ResponseT> response) {
+        this.id = id;
+        this.request = request;
+        this.response = response;
+    }
+
+    String id() {
+        return id;
+    }
+
+    RequestT request() {
+        return request;
+    }
+
+    CompletableFuture<ResponseT> response() {
+        return response;
+    }
+
+    /**
+     * Complete every entry of a batch from the outcome of the batch request.
+     *
+     * @param batch The entries of the batch.
+     * @param failure The failure of the batch request as a whole, or null if it succeeded.
+     * @param successful The successful result entries of the batch response.
+     * @param idOf Gets the entry ID of a successful result entry.
+     * @param toResponse Converts a successful result entry to the response of its request.
+     * @param failed The failed result entries of the batch response.
+     */
+    static <RequestT, ResponseT, ResultT> void complete(List<BatchEntry<RequestT, ResponseT>> batch,
+                                                        Throwable failure,
+                                                        List<ResultT> successful,
+                                                        Function<ResultT, String> idOf,
+                                                        Function<ResultT, ResponseT> toResponse,
+                                                        List<BatchResultErrorEntry> failed) {
+        if (failure != null) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+                                                                                                   : failure;
+            batch.forEach(entry -> entry.response.completeExceptionally(cause));
+            return;
+        }
+
+        Map<String, BatchEntry<RequestT, ResponseT>> entriesById = new HashMap<>();
+        batch.forEach(entry -> entriesById.put(entry.id, entry));
+        for (ResultT result : successful) {
+            BatchEntry<RequestT, ResponseT> entry = entriesById.remove(idOf.apply(result));
+            if (entry != null) {
+                entry.response.complete(toResponse.apply(result));
+            }
+        }
+        for (BatchResultErrorEntry error : failed) {
+            BatchEntry<RequestT, ResponseT> entry = entriesById.remove(error.id());
+            if (entry != null) {
+                entry.response.completeExceptionally(toException(error));
+            }
+        }
+        entriesById.values().forEach(entry -> entry.response.completeExceptionally(
+            SdkClientException.create("The batch response did not contain a result for entry " + entry.id)));
+    }
+
+    private static SqsException toException(BatchResultErrorEntry error) {
+        boolean senderFault = Boolean.TRUE.equals(error.senderFault());
+        return (SqsException) SqsException.builder()
+                                          .message(error.message())
+                                          .statusCode(senderFault ? SENDER_FAULT_STATUS_CODE : SERVER_FAULT_STATUS_CODE)
+                                          .awsErrorDetails(AwsErrorDetails.builder()
+                                                                          .errorCode(error.code())
+                                                                          .errorMessage(error.message())
+                                                                          .serviceName(SqsAsyncClient.SERVICE_NAME)
+                                                                          .build())
+                                          .build();
+    }
+}
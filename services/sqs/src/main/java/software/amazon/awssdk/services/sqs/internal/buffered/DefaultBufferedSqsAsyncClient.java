@@ -0,0 +1,500 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.buffered;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.buffered.BufferedSqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.AddPermissionRequest;
+import software.amazon.awssdk.services.sqs.model.AddPermissionResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.ListDeadLetterSourceQueuesRequest;
+import software.amazon.awssdk.services.sqs.model.ListDeadLetterSourceQueuesResponse;
+import software.amazon.awssdk.services.sqs.model.ListQueueTagsRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueueTagsResponse;
+import software.amazon.awssdk.services.sqs.model.ListQueuesRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueuesResponse;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.PurgeQueueRequest;
+import software.amazon.awssdk.services.sqs.model.PurgeQueueResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.RemovePermissionRequest;
+import software.amazon.awssdk.services.sqs.model.RemovePermissionResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.SetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.TagQueueRequest;
+import software.amazon.awssdk.services.sqs.model.TagQueueResponse;
+import software.amazon.awssdk.services.sqs.model.UntagQueueRequest;
+import software.amazon.awssdk.services.sqs.model.UntagQueueResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Default implementation of {@link BufferedSqsAsyncClient}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultBufferedSqsAsyncClient implements BufferedSqsAsyncClient {
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long MAX_SEND_BATCH_BYTES = 256 * 1024;
+    private static final int MAX_RECEIVE_WAIT_SECONDS = 20;
+    private static final Duration DEFAULT_MAX_BATCH_OPEN_DURATION = Duration.ofMillis(200);
+    private static final int DEFAULT_MAX_CONCURRENT_RECEIVES = 1;
+    private static final int DEFAULT_MAX_BUFFERED_MESSAGES = 10;
+    private static final Duration DEFAULT_RECEIVE_WAIT_TIME = Duration.ofSeconds(MAX_RECEIVE_WAIT_SECONDS);
+
+    private final SqsAsyncClient client;
+    private final ScheduledExecutorService scheduler;
+    private final boolean shutdownScheduler;
+    private final int maxConcurrentReceives;
+    private final int maxBufferedMessages;
+    private final ReceiveMessageRequest prefetchRequest;
+    private final RequestBatcher<SendMessageRequest, SendMessageResponse> sendMessageBatcher;
+    private final RequestBatcher<DeleteMessageRequest, DeleteMessageResponse> deleteMessageBatcher;
+    private final RequestBatcher<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResponse> changeVisibilityBatcher;
+    private final Map<String, ReceiveQueueBuffer> receiveBuffers = new ConcurrentHashMap<>();
+
+    private DefaultBufferedSqsAsyncClient(DefaultBuilder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        this.shutdownScheduler = builder.scheduledExecutor == null;
+        this.scheduler = shutdownScheduler ? createScheduler() : builder.scheduledExecutor;
+
+        int maxBatchSize = builder.maxBatchSize != null ? builder.maxBatchSize : MAX_BATCH_SIZE;
+        Validate.isTrue(maxBatchSize > 0 && maxBatchSize <= MAX_BATCH_SIZE, "maxBatchSize must be between 1 and %s.",
+                        MAX_BATCH_SIZE);
+        Duration maxBatchOpenDuration = Validate.isPositive(builder.maxBatchOpenDuration != null
+                                                            ? builder.maxBatchOpenDuration
+                                                            : DEFAULT_MAX_BATCH_OPEN_DURATION,
+                                                            "maxBatchOpenDuration");
+        this.maxConcurrentReceives = Validate.isNotNegative(builder.maxConcurrentReceives != null
+                                                            ? builder.maxConcurrentReceives
+                                                            : DEFAULT_MAX_CONCURRENT_RECEIVES,
+                                                            "maxConcurrentReceives");
+        this.maxBufferedMessages = Validate.isPositive(builder.maxBufferedMessages != null
+                                                       ? builder.maxBufferedMessages
+                                                       : DEFAULT_MAX_BUFFERED_MESSAGES,
+                                                       "maxBufferedMessages");
+        Duration receiveWaitTime = builder.receiveWaitTime != null ? builder.receiveWaitTime : DEFAULT_RECEIVE_WAIT_TIME;
+        Validate.isTrue(!receiveWaitTime.isNegative() && receiveWaitTime.getSeconds() <= MAX_RECEIVE_WAIT_SECONDS,
+                        "receiveWaitTime must be between 0 and %s seconds.", MAX_RECEIVE_WAIT_SECONDS);
+        this.prefetchRequest = ReceiveMessageRequest.builder()
+                                                    .maxNumberOfMessages(MAX_BATCH_SIZE)
+                                                    .waitTimeSeconds((int) receiveWaitTime.getSeconds())
+                                                    .messageAttributeNames(builder.receiveMessageAttributeNames)
+                                                    .attributeNamesWithStrings(builder.receiveAttributeNames)
+                                                    .build();
+
+        this.sendMessageBatcher = new RequestBatcher<>(maxBatchSize, MAX_SEND_BATCH_BYTES, maxBatchOpenDuration,
+                                                       DefaultBufferedSqsAsyncClient::payloadSize, scheduler,
+                                                       this::sendMessageBatch);
+        this.deleteMessageBatcher = new RequestBatcher<>(maxBatchSize, Long.MAX_VALUE, maxBatchOpenDuration, r -> 0, scheduler,
+                                                         this::deleteMessageBatch);
+        this.changeVisibilityBatcher = new RequestBatcher<>(maxBatchSize, Long.MAX_VALUE, maxBatchOpenDuration, r -> 0,
+                                                            scheduler, this::changeMessageVisibilityBatch);
+    }
+
+    public static BufferedSqsAsyncClient.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public String serviceName() {
+        return client.serviceName();
+    }
+
+    @Override
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest sendMessageRequest) {
+        if (sendMessageRequest.overrideConfiguration().isPresent()) {
+            return client.sendMessage(sendMessageRequest);
+        }
+        return sendMessageBatcher.add(sendMessageRequest.queueUrl(), sendMessageRequest);
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest deleteMessageRequest) {
+        if (deleteMessageRequest.overrideConfiguration().isPresent()) {
+            return client.deleteMessage(deleteMessageRequest);
+        }
+        return deleteMessageBatcher.add(deleteMessageRequest.queueUrl(), deleteMessageRequest);
+    }
+
+    @Override
+    public CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(
+        ChangeMessageVisibilityRequest changeMessageVisibilityRequest) {
+        if (changeMessageVisibilityRequest.overrideConfiguration().isPresent()) {
+            return client.changeMessageVisibility(changeMessageVisibilityRequest);
+        }
+        return changeVisibilityBatcher.add(changeMessageVisibilityRequest.queueUrl(), changeMessageVisibilityRequest);
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest receiveMessageRequest) {
+        if (!isPrefetchable(receiveMessageRequest)) {
+            return client.receiveMessage(receiveMessageRequest);
+        }
+        return receiveBuffers.computeIfAbsent(receiveMessageRequest.queueUrl(), this::createReceiveBuffer)
+                             .receive(receiveMessageRequest);
+    }
+
+    @Override
+    public CompletableFuture<AddPermissionResponse> addPermission(AddPermissionRequest addPermissionRequest) {
+        return client.addPermission(addPermissionRequest);
+    }
+
+    @Override
+    public CompletableFuture<ChangeMessageVisibilityBatchResponse> changeMessageVisibilityBatch(
+        ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest) {
+        return client.changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
+    }
+
+    @Override
+    public CompletableFuture<CreateQueueResponse> createQueue(CreateQueueRequest createQueueRequest) {
+        return client.createQueue(createQueueRequest);
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageBatchResponse> deleteMessageBatch(DeleteMessageBatchRequest deleteMessageBatchRequest) {
+        return client.deleteMessageBatch(deleteMessageBatchRequest);
+    }
+
+    @Override
+    public CompletableFuture<DeleteQueueResponse> deleteQueue(DeleteQueueRequest deleteQueueRequest) {
+        return client.deleteQueue(deleteQueueRequest);
+    }
+
+    @Override
+    public CompletableFuture<GetQueueAttributesResponse> getQueueAttributes(GetQueueAttributesRequest getQueueAttributesRequest) {
+        return client.getQueueAttributes(getQueueAttributesRequest);
+    }
+
+    @Override
+    public CompletableFuture<GetQueueUrlResponse> getQueueUrl(GetQueueUrlRequest getQueueUrlRequest) {
+        return client.getQueueUrl(getQueueUrlRequest);
+    }
+
+    @Override
+    public CompletableFuture<ListDeadLetterSourceQueuesResponse> listDeadLetterSourceQueues(
+        ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest) {
+        return client.listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
+    }
+
+    @Override
+    public CompletableFuture<ListQueueTagsResponse> listQueueTags(ListQueueTagsRequest listQueueTagsRequest) {
+        return client.listQueueTags(listQueueTagsRequest);
+    }
+
+    @Override
+    public CompletableFuture<ListQueuesResponse> listQueues(ListQueuesRequest listQueuesRequest) {
+        return client.listQueues(listQueuesRequest);
+    }
+
+    @Override
+    public CompletableFuture<PurgeQueueResponse> purgeQueue(PurgeQueueRequest purgeQueueRequest) {
+        return client.purgeQueue(purgeQueueRequest);
+    }
+
+    @Override
+    public CompletableFuture<RemovePermissionResponse> removePermission(RemovePermissionRequest removePermissionRequest) {
+        return client.removePermission(removePermissionRequest);
+    }
+
+    @Override
+    public CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest sendMessageBatchRequest) {
+        return client.sendMessageBatch(sendMessageBatchRequest);
+    }
+
+    @Override
+    public CompletableFuture<SetQueueAttributesResponse> setQueueAttributes(SetQueueAttributesRequest setQueueAttributesRequest) {
+        return client.setQueueAttributes(setQueueAttributesRequest);
+    }
+
+    @Override
+    public CompletableFuture<TagQueueResponse> tagQueue(TagQueueRequest tagQueueRequest) {
+        return client.tagQueue(tagQueueRequest);
+    }
+
+    @Override
+    public CompletableFuture<UntagQueueResponse> untagQueue(UntagQueueRequest untagQueueRequest) {
+        return client.untagQueue(untagQueueRequest);
+    }
+
+    /**
+     * Send the buffered requests and stop prefetching. The wrapped client is not closed.
+     */
+    @Override
+    public void close() {
+        sendMessageBatcher.close();
+        deleteMessageBatcher.close();
+        changeVisibilityBatcher.close();
+        receiveBuffers.values().forEach(ReceiveQueueBuffer::close);
+        if (shutdownScheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor executor =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("sqs-buffered-client").build());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private ReceiveQueueBuffer createReceiveBuffer(String queueUrl) {
+        return new ReceiveQueueBuffer(queueUrl, client, scheduler, prefetchRequest, maxConcurrentReceives,
+                                      maxBufferedMessages);
+    }
+
+    private boolean isPrefetchable(ReceiveMessageRequest request) {
+        return maxConcurrentReceives > 0
+               && request.queueUrl() != null
+               && !request.overrideConfiguration().isPresent()
+               && request.visibilityTimeout() == null
+               && request.receiveRequestAttemptId() == null
+               && sameNames(request.messageAttributeNames(), prefetchRequest.messageAttributeNames())
+               && sameNames(request.attributeNamesAsStrings(), prefetchRequest.attributeNamesAsStrings());
+    }
+
+    private static boolean sameNames(Collection<String> names, Collection<String> prefetchedNames) {
+        return new HashSet<>(names).equals(new HashSet<>(prefetchedNames));
+    }
+
+    private void sendMessageBatch(String queueUrl, List<BatchEntry<SendMessageRequest, SendMessageResponse>> batch) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (BatchEntry<SendMessageRequest, SendMessageResponse> entry : batch) {
+            SendMessageRequest request = entry.request();
+            entries.add(SendMessageBatchRequestEntry.builder()
+                                                    .id(entry.id())
+                                                    .messageBody(request.messageBody())
+                                                    .delaySeconds(request.delaySeconds())
+                                                    .messageAttributes(request.messageAttributes())
+                                                    .messageDeduplicationId(request.messageDeduplicationId())
+                                                    .messageGroupId(request.messageGroupId())
+                                                    .build());
+        }
+        SendMessageBatchRequest batchRequest = SendMessageBatchRequest.builder().queueUrl(queueUrl).entries(entries).build();
+        client.sendMessageBatch(batchRequest)
+              .whenComplete((r, t) -> BatchEntry.complete(batch, t,
+                                                          t == null ? r.successful() : null,
+                                                          SendMessageBatchResultEntry::id,
+                                                          DefaultBufferedSqsAsyncClient::toSendMessageResponse,
+                                                          t == null ? r.failed() : null));
+    }
+
+    private static SendMessageResponse toSendMessageResponse(SendMessageBatchResultEntry result) {
+        return SendMessageResponse.builder()
+                                  .messageId(result.messageId())
+                                  .md5OfMessageBody(result.md5OfMessageBody())
+                                  .md5OfMessageAttributes(result.md5OfMessageAttributes())
+                                  .sequenceNumber(result.sequenceNumber())
+                                  .build();
+    }
+
+    private void deleteMessageBatch(String queueUrl, List<BatchEntry<DeleteMessageRequest, DeleteMessageResponse>> batch) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (BatchEntry<DeleteMessageRequest, DeleteMessageResponse> entry : batch) {
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                                                      .id(entry.id())
+                                                      .receiptHandle(entry.request().receiptHandle())
+                                                      .build());
+        }
+        DeleteMessageBatchRequest batchRequest = DeleteMessageBatchRequest.builder().queueUrl(queueUrl).entries(entries).build();
+        client.deleteMessageBatch(batchRequest)
+              .whenComplete((r, t) -> BatchEntry.complete(batch, t,
+                                                          t == null ? r.successful() : null,
+                                                          DeleteMessageBatchResultEntry::id,
+                                                          DefaultBufferedSqsAsyncClient::toDeleteMessageResponse,
+                                                          t == null ? r.failed() : null));
+    }
+
+    private static DeleteMessageResponse toDeleteMessageResponse(DeleteMessageBatchResultEntry result) {
+        return DeleteMessageResponse.builder().build();
+    }
+
+    private void changeMessageVisibilityBatch(String queueUrl,
+                                              List<BatchEntry<ChangeMessageVisibilityRequest,
+                                                  ChangeMessageVisibilityResponse>> batch) {
+        List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (BatchEntry<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResponse> entry : batch) {
+            entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                .id(entry.id())
+                                                                .receiptHandle(entry.request().receiptHandle())
+                                                                .visibilityTimeout(entry.request().visibilityTimeout())
+                                                                .build());
+        }
+        ChangeMessageVisibilityBatchRequest batchRequest = ChangeMessageVisibilityBatchRequest.builder()
+                                                                                              .queueUrl(queueUrl)
+                                                                                              .entries(entries)
+                                                                                              .build();
+        client.changeMessageVisibilityBatch(batchRequest)
+              .whenComplete((r, t) -> BatchEntry.complete(batch, t,
+                                                          t == null ? r.successful() : null,
+                                                          ChangeMessageVisibilityBatchResultEntry::id,
+                                                          DefaultBufferedSqsAsyncClient::toChangeMessageVisibilityResponse,
+                                                          t == null ? r.failed() : null));
+    }
+
+    private static ChangeMessageVisibilityResponse toChangeMessageVisibilityResponse(
+        ChangeMessageVisibilityBatchResultEntry result) {
+        return ChangeMessageVisibilityResponse.builder().build();
+    }
+
+    /**
+     * The size a message counts against the payload limit of a batch: its body and the names, types and values of its
+     * attributes.
+     */
+    private static long payloadSize(SendMessageRequest request) {
+        long size = utf8Length(request.messageBody());
+        for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+            MessageAttributeValue value = attribute.getValue();
+            size += utf8Length(attribute.getKey()) + utf8Length(value.dataType()) + utf8Length(value.stringValue());
+            SdkBytes binaryValue = value.binaryValue();
+            if (binaryValue != null) {
+                size += binaryValue.asByteBuffer().remaining();
+            }
+        }
+        return size;
+    }
+
+    private static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static final class DefaultBuilder implements BufferedSqsAsyncClient.Builder {
+        private SqsAsyncClient client;
+        private Integer maxBatchSize;
+        private Duration maxBatchOpenDuration;
+        private Integer maxConcurrentReceives;
+        private Integer maxBufferedMessages;
+        private Duration receiveWaitTime;
+        private List<String> receiveMessageAttributeNames = new ArrayList<>();
+        private List<String> receiveAttributeNames = new ArrayList<>();
+        private ScheduledExecutorService scheduledExecutor;
+
+        @Override
+        public BufferedSqsAsyncClient.Builder client(SqsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder maxBatchOpenDuration(Duration maxBatchOpenDuration) {
+            this.maxBatchOpenDuration = maxBatchOpenDuration;
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder maxConcurrentReceives(Integer maxConcurrentReceives) {
+            this.maxConcurrentReceives = maxConcurrentReceives;
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder maxBufferedMessages(Integer maxBufferedMessages) {
+            this.maxBufferedMessages = maxBufferedMessages;
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder receiveWaitTime(Duration receiveWaitTime) {
+            this.receiveWaitTime = receiveWaitTime;
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder receiveMessageAttributeNames(List<String> receiveMessageAttributeNames) {
+            this.receiveMessageAttributeNames = new ArrayList<>(receiveMessageAttributeNames);
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder receiveAttributeNames(List<String> receiveAttributeNames) {
+            this.receiveAttributeNames = new ArrayList<>(receiveAttributeNames);
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public BufferedSqsAsyncClient build() {
+            return new DefaultBufferedSqsAsyncClient(this);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.buffered;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Prefetches messages from one queue with a bounded number of concurrent long polls, and serves {@code ReceiveMessage}
+ * requests from the prefetched messages.
+ *
+ * <p>A request that finds the buffer empty waits for up to its own wait time for the next long poll to return messages.
+ * Long polls are started whenever fewer than the maximum are in flight and the buffer holds fewer than the maximum number
+ * of messages. If a long poll fails, the requests waiting at that time fail with the same error and no further long polls
+ * are started until the next request, so that a missing queue or a permissions error is not polled in a tight loop.</p>
+ *
+ * <p>The visibility timeout of prefetched messages starts when SQS returns them, not when they are handed out. Each batch
+ * therefore remembers when its long poll was sent, and messages whose visibility timeout may have expired since are dropped
+ * instead of being served, because another consumer may already have received them. Unless the prefetch request sets a
+ * visibility timeout, the queue's {@code VisibilityTimeout} attribute is fetched before the first long poll.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ReceiveQueueBuffer implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(ReceiveQueueBuffer.class);
+
+    private static final int MAX_MESSAGES_PER_RECEIVE = 10;
+
+    private final String queueUrl;
+    private final SqsAsyncClient client;
+    private final ScheduledExecutorService scheduler;
+    private final ReceiveMessageRequest prefetchRequest;
+    private final int maxConcurrentReceives;
+    private final int maxBufferedMessages;
+    private final LongSupplier nanoClock;
+
+    private final Deque<Batch> batches = new ArrayDeque<>();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int bufferedMessages;
+    private int receivesInFlight;
+    private boolean paused;
+    private boolean closed;
+
+    /**
+     * Visibility timeout of prefetched messages, or -1 until it has been fetched from the queue's attributes.
+     */
+    private long visibilityTimeoutNanos;
+    private boolean fetchingVisibilityTimeout;
+
+    ReceiveQueueBuffer(String queueUrl, SqsAsyncClient client, ScheduledExecutorService scheduler,
+                       ReceiveMessageRequest prefetchRequest, int maxConcurrentReceives, int maxBufferedMessages) {
+        this(queueUrl, client, scheduler, prefetchRequest, maxConcurrentReceives, maxBufferedMessages, System::nanoTime);
+    }
+
+    ReceiveQueueBuffer(String queueUrl, SqsAsyncClient client, ScheduledExecutorService scheduler,
+                       ReceiveMessageRequest prefetchRequest, int maxConcurrentReceives, int maxBufferedMessages,
+                       LongSupplier nanoClock) {
+        this.queueUrl = queueUrl;
+        this.client = client;
+        this.scheduler = scheduler;
+        this.prefetchRequest = prefetchRequest.toBuilder().queueUrl(queueUrl).build();
+        this.maxConcurrentReceives = maxConcurrentReceives;
+        this.maxBufferedMessages = maxBufferedMessages;
+        this.nanoClock = nanoClock;
+        this.visibilityTimeoutNanos = prefetchRequest.visibilityTimeout() != null
+                                      ? TimeUnit.SECONDS.toNanos(prefetchRequest.visibilityTimeout()) : -1;
+    }
+
+    /**
+     * Serve a request from the buffer. If the buffer is empty, a long polling request waits for up to its wait time for
+     * prefetched messages, and a short polling request is sent to SQS.
+     */
+    CompletableFuture<ReceiveMessageResponse> receive(ReceiveMessageRequest request) {
+        int maxNumberOfMessages = request.maxNumberOfMessages() != null ? request.maxNumberOfMessages() : 1;
+        long waitNanos = request.waitTimeSeconds() != null ? TimeUnit.SECONDS.toNanos(request.waitTimeSeconds()) : 0;
+        CompletableFuture<ReceiveMessageResponse> response = new CompletableFuture<>();
+        List<Message> received = null;
+        boolean sendDirectly = false;
+        synchronized (this) {
+            paused = false;
+            dropExpired();
+            if (bufferedMessages > 0 || closed) {
+                received = take(maxNumberOfMessages);
+            } else if (waitNanos == 0) {
+                sendDirectly = true;
+            } else {
+                Waiter waiter = new Waiter(maxNumberOfMessages, response);
+                waiters.add(waiter);
+                waiter.timer = scheduler.schedule(() -> expire(waiter), waitNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        fill();
+        if (sendDirectly) {
+            return client.receiveMessage(request);
+        }
+        if (received != null) {
+            response.complete(toResponse(received));
+        }
+        return response;
+    }
+
+    /**
+     * Stop prefetching, complete the waiting requests without messages and make the buffered messages visible again.
+     */
+    @Override
+    public void close() {
+        List<Waiter> expired;
+        List<Message> released;
+        synchronized (this) {
+            closed = true;
+            expired = new ArrayList<>(waiters);
+            waiters.clear();
+            dropExpired();
+            released = take(Integer.MAX_VALUE);
+        }
+        expired.forEach(w -> {
+            w.timer.cancel(false);
+            w.response.complete(toResponse(new ArrayList<>()));
+        });
+        release(released);
+    }
+
+    private void fill() {
+        int toStart = 0;
+        boolean fetchVisibilityTimeout = false;
+        long sentAt = nanoClock.getAsLong();
+        synchronized (this) {
+            if (closed || paused) {
+                return;
+            }
+            if (visibilityTimeoutNanos < 0) {
+                fetchVisibilityTimeout = !fetchingVisibilityTimeout;
+                fetchingVisibilityTimeout = true;
+            } else {
+                dropExpired();
+                while (receivesInFlight + toStart < maxConcurrentReceives && bufferedMessages < maxBufferedMessages) {
+                    toStart++;
+                    if (bufferedMessages + (receivesInFlight + toStart) * MAX_MESSAGES_PER_RECEIVE >= maxBufferedMessages) {
+                        break;
+                    }
+                }
+                receivesInFlight += toStart;
+            }
+        }
+        if (fetchVisibilityTimeout) {
+            client.getQueueAttributes(GetQueueAttributesRequest.builder()
+                                                               .queueUrl(queueUrl)
+                                                               .attributeNames(QueueAttributeName.VISIBILITY_TIMEOUT)
+                                                               .build())
+                  .whenComplete(this::visibilityTimeoutFetched);
+        }
+        for (int i = 0; i < toStart; i++) {
+            client.receiveMessage(prefetchRequest).whenComplete((r, t) -> received(sentAt, r, t));
+        }
+    }
+
+    private void visibilityTimeoutFetched(GetQueueAttributesResponse response, Throwable fetchFailure) {
+        String visibilityTimeout = response != null ? response.attributes().get(QueueAttributeName.VISIBILITY_TIMEOUT) : null;
+        Throwable failure = fetchFailure;
+        if (failure == null && visibilityTimeout == null) {
+            failure = SdkClientException.create("The attributes of " + queueUrl + " did not include its visibility timeout");
+        }
+        List<Completion> completions = new ArrayList<>();
+        synchronized (this) {
+            fetchingVisibilityTimeout = false;
+            if (failure != null) {
+                paused = true;
+                failWaiters(failure, completions);
+            } else {
+                visibilityTimeoutNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(visibilityTimeout));
+            }
+        }
+        if (failure != null) {
+            Throwable loggedFailure = failure;
+            log.debug(() -> "Failed to fetch the visibility timeout of " + queueUrl, loggedFailure);
+        }
+        completions.forEach(Completion::complete);
+        fill();
+    }
+
+    /**
+     * @param sentAt When the long poll was sent. The visibility timeout of the messages started some time after that.
+     */
+    private void received(long sentAt, ReceiveMessageResponse response, Throwable failure) {
+        List<Completion> completions = new ArrayList<>();
+        List<Message> released = new ArrayList<>();
+        synchronized (this) {
+            receivesInFlight--;
+            if (failure != null) {
+                paused = true;
+                failWaiters(failure, completions);
+            } else if (closed) {
+                released.addAll(response.messages());
+            } else {
+                if (!response.messages().isEmpty()) {
+                    batches.add(new Batch(response.messages(), sentAt + visibilityTimeoutNanos));
+                    bufferedMessages += response.messages().size();
+                }
+                dropExpired();
+                while (bufferedMessages > 0 && !waiters.isEmpty()) {
+                    Waiter waiter = waiters.poll();
+                    completions.add(new Completion(waiter, take(waiter.maxNumberOfMessages), null));
+                }
+            }
+        }
+        if (failure != null) {
+            log.debug(() -> "Failed to prefetch messages from " + queueUrl, failure);
+        }
+        completions.forEach(Completion::complete);
+        release(released);
+        fill();
+    }
+
+    private void failWaiters(Throwable failure, List<Completion> completions) {
+        waiters.forEach(w -> completions.add(new Completion(w, null, failure)));
+        waiters.clear();
+    }
+
+    private void expire(Waiter waiter) {
+        synchronized (this) {
+            if (!waiters.remove(waiter)) {
+                return;
+            }
+        }
+        waiter.response.complete(toResponse(new ArrayList<>()));
+    }
+
+    private List<Message> take(int maxNumberOfMessages) {
+        List<Message> taken = new ArrayList<>(Math.min(maxNumberOfMessages, bufferedMessages));
+        while (taken.size() < maxNumberOfMessages && !batches.isEmpty()) {
+            Batch batch = batches.peek();
+            taken.add(batch.messages.get(batch.next++));
+            bufferedMessages--;
+            if (batch.next == batch.messages.size()) {
+                batches.poll();
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * Discard the messages whose visibility timeout may have expired. Their receipt handles may no longer be valid so they
+     * are not released either.
+     */
+    private void dropExpired() {
+        long now = nanoClock.getAsLong();
+        Iterator<Batch> iterator = batches.iterator();
+        while (iterator.hasNext()) {
+            Batch batch = iterator.next();
+            if (now - batch.visibleAgainAt >= 0) {
+                int dropped = batch.messages.size() - batch.next;
+                bufferedMessages -= dropped;
+                iterator.remove();
+                log.debug(() -> "Dropped " + dropped + " prefetched messages of " + queueUrl
+                                + " whose visibility timeout expired before they were received");
+            }
+        }
+    }
+
+    /**
+     * Make messages that will never be handed out visible to other consumers again, rather than letting them wait out
+     * their visibility timeout.
+     */
+    private void release(List<Message> released) {
+        for (int start = 0; start < released.size(); start += MAX_MESSAGES_PER_RECEIVE) {
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>();
+            for (int i = start; i < Math.min(released.size(), start + MAX_MESSAGES_PER_RECEIVE); i++) {
+                entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                    .id(String.valueOf(i - start))
+                                                                    .receiptHandle(released.get(i).receiptHandle())
+                                                                    .visibilityTimeout(0)
+                                                                    .build());
+            }
+            client.changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest.builder()
+                                                                    .queueUrl(queueUrl)
+                                                                    .entries(entries)
+                                                                    .build())
+                  .whenComplete((r, t) -> {
+                      if (t != null) {
+                          log.debug(() -> "Failed to release prefetched messages of " + queueUrl, t);
+                      }
+                  });
+        }
+    }
+
+    private static ReceiveMessageResponse toResponse(List<Message> messages) {
+        return ReceiveMessageResponse.builder().messages(messages).build();
+    }
+
+    /**
+     * Messages returned by one long poll, handed out in order.
+     */
+    private static final class Batch {
+        private final List<Message> messages;
+        private final long visibleAgainAt;
+        private int next;
+
+        private Batch(List<Message> messages, long visibleAgainAt) {
+            this.messages = messages;
+            this.visibleAgainAt = visibleAgainAt;
+        }
+    }
+
+    private static final class Waiter {
+        private final int maxNumberOfMessages;
+        private final CompletableFuture<ReceiveMessageResponse> response;
+        private ScheduledFuture<?> timer;
+
+        private Waiter(int maxNumberOfMessages, CompletableFuture<ReceiveMessageResponse> response) {
+            this.maxNumberOfMessages = maxNumberOfMessages;
+            this.response = response;
+        }
+    }
+
+    private static final class Completion {
+        private final Waiter waiter;
+        private final List<Message> messages;
+        private final Throwable failure;
+
+        private Completion(Waiter waiter, List<Message> messages, Throwable failure) {
+            this.waiter = waiter;
+            this.messages = messages;
+            this.failure = failure;
+        }
+
+        private void complete() {
+            waiter.timer.cancel(false);
+            if (failure != null) {
+                waiter.response.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                                                      ? failure.getCause() : failure);
+            } else {
+                waiter.response.complete(toResponse(messages));
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.buffered;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Buffers requests per queue and hands them to a batch sender once a batch is full or has been open for too long.
+ *
+ * <p>A batch is full when it holds the maximum number of entries, or when the next request would take it over the maximum
+ * payload size, in which case the batch is sent without that request, which opens the next batch. The sender is always
+ * called outside the batcher's lock.</p>
+ *
+ * @param <RequestT> The type of the buffered requests.
+ * @param <ResponseT> The type of the response to each buffered request.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class RequestBatcher<RequestT, ResponseT> implements SdkAutoCloseable {
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final long maxBatchOpenNanos;
+    private final ToLongFunction<RequestT> sizeOf;
+    private final ScheduledExecutorService scheduler;
+    private final BiConsumer<String, List<BatchEntry<RequestT, ResponseT>>> batchSender;
+
+    private final Map<String, Batch> openBatches = new HashMap<>();
+    private boolean closed;
+
+    RequestBatcher(int maxBatchSize, long maxBatchBytes, Duration maxBatchOpenDuration, ToLongFunction<RequestT> sizeOf,
+                   ScheduledExecutorService scheduler, BiConsumer<String, List<BatchEntry<RequestT, ResponseT>>> batchSender) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxBatchOpenNanos = maxBatchOpenDuration.toNanos();
+        this.sizeOf = sizeOf;
+        this.scheduler = scheduler;
+        this.batchSender = batchSender;
+    }
+
+    /**
+     * Buffer a request to the given queue.
+     *
+     * @return A future completed with the response to the request once its batch has been sent.
+     */
+    CompletableFuture<ResponseT> add(String queueUrl, RequestT request) {
+        CompletableFuture<ResponseT> response = new CompletableFuture<>();
+        long size = sizeOf.applyAsLong(request);
+        Batch overflowed = null;
+        Batch filled = null;
+        synchronized (this) {
+            if (closed) {
+                response.completeExceptionally(SdkClientException.create("The buffered client has been closed"));
+                return response;
+            }
+            Batch batch = openBatches.get(queueUrl);
+            if (batch != null && batch.bytes + size > maxBatchBytes) {
+                overflowed = removeOpenBatch(queueUrl);
+                batch = null;
+            }
+            if (batch == null) {
+                batch = openBatch(queueUrl);
+            }
+            batch.add(request, size, response);
+            if (batch.entries.size() >= maxBatchSize) {
+                filled = removeOpenBatch(queueUrl);
+            }
+        }
+        send(queueUrl, overflowed);
+        send(queueUrl, filled);
+        return response;
+    }
+
+    /**
+     * Send all buffered requests and reject any further ones.
+     */
+    @Override
+    public void close() {
+        Map<String, Batch> remaining;
+        synchronized (this) {
+            closed = true;
+            remaining = new HashMap<>(openBatches);
+            remaining.values().forEach(b -> b.timer.cancel(false));
+            openBatches.clear();
+        }
+        remaining.forEach(this::send);
+    }
+
+    private Batch openBatch(String queueUrl) {
+        Batch batch = new Batch();
+        batch.timer = scheduler.schedule(() -> expire(queueUrl, batch), maxBatchOpenNanos, TimeUnit.NANOSECONDS);
+        openBatches.put(queueUrl, batch);
+        return batch;
+    }
+
+    private Batch removeOpenBatch(String queueUrl) {
+        Batch batch = openBatches.remove(queueUrl);
+        batch.timer.cancel(false);
+        return batch;
+    }
+
+    private void expire(String queueUrl, Batch batch) {
+        synchronized (this) {
+            if (openBatches.get(queueUrl) != batch) {
+                return;
+            }
+            openBatches.remove(queueUrl);
+        }
+        send(queueUrl, batch);
+    }
+
+    private void send(String queueUrl, Batch batch) {
+        if (batch == null) {
+            return;
+        }
+        try {
+            batchSender.accept(queueUrl, batch.entries);
+        } catch (RuntimeException e) {
+            batch.entries.forEach(entry -> entry.response().completeExceptionally(e));
+        }
+    }
+
+    private final class Batch {
+        private final List<BatchEntry<RequestT, ResponseT>> entries = new ArrayList<>(maxBatchSize);
+        private long bytes;
+        private ScheduledFuture<?> timer;
+
+        private void add(RequestT request, long size, CompletableFuture<ResponseT> response) {
+            entries.add(new BatchEntry<>(String.valueOf(entries.size()), request, response));
+            bytes += size;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.buffered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+public class BufferedSqsAsyncClientTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    private SqsAsyncClient delegate;
+
+    private BufferedSqsAsyncClient client;
+
+    @Before
+    public void setup() {
+        delegate = mock(SqsAsyncClient.class);
+        when(delegate.sendMessageBatch(any(SendMessageBatchRequest.class))).then(i -> {
+            SendMessageBatchRequest request = (SendMessageBatchRequest) i.getArguments()[0];
+            return CompletableFuture.completedFuture(successfulSendBatch(request));
+        });
+        when(delegate.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                GetQueueAttributesResponse.builder()
+                                          .attributes(Collections.singletonMap(QueueAttributeName.VISIBILITY_TIMEOUT, "30"))
+                                          .build()));
+        client = BufferedSqsAsyncClient.builder()
+                                       .client(delegate)
+                                       .maxBatchSize(3)
+                                       .maxBatchOpenDuration(Duration.ofMinutes(1))
+                                       .build();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void sendMessage_fullBatch_sentAsSingleBatchRequest() {
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, "a", "b", "c");
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(delegate).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(captor.getValue().entries()).extracting(SendMessageBatchRequestEntry::messageBody)
+                                               .containsExactly("a", "b", "c");
+        assertThat(responses).extracting(r -> r.join().messageId()).containsExactly("id-a", "id-b", "id-c");
+    }
+
+    @Test
+    public void sendMessage_batchNotFull_sentOnceOpenDurationExpires() {
+        client.close();
+        client = BufferedSqsAsyncClient.builder()
+                                       .client(delegate)
+                                       .maxBatchOpenDuration(Duration.ofMillis(10))
+                                       .build();
+
+        CompletableFuture<SendMessageResponse> response = client.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+
+        assertThat(response.join().messageId()).isEqualTo("id-a");
+        verify(delegate).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    public void sendMessage_differentQueues_batchedSeparately() {
+        sendMessages(QUEUE_URL, "a", "b");
+        sendMessages(QUEUE_URL + "-other", "c", "d");
+        verify(delegate, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+
+        sendMessages(QUEUE_URL, "e");
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(delegate).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().entries()).extracting(SendMessageBatchRequestEntry::messageBody)
+                                               .containsExactly("a", "b", "e");
+    }
+
+    @Test
+    public void sendMessage_batchPayloadLimitReached_sendsBatchWithoutNextMessage() {
+        char[] body = new char[200 * 1024];
+        Arrays.fill(body, 'x');
+        CompletableFuture<SendMessageResponse> first = client.sendMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                 .messageBody(new String(body)));
+        CompletableFuture<SendMessageResponse> second = client.sendMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                  .messageBody(new String(body)));
+
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+        verify(delegate).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    public void sendMessage_entryFailed_failsOnlyThatCaller() {
+        doAnswer(i -> {
+            SendMessageBatchRequest request = (SendMessageBatchRequest) i.getArguments()[0];
+            SendMessageBatchResponse response = successfulSendBatch(request);
+            return CompletableFuture.completedFuture(
+                response.toBuilder()
+                        .successful(response.successful().stream().filter(e -> !e.id().equals("1")).collect(Collectors.toList()))
+                        .failed(BatchResultErrorEntry.builder().id("1").code("InvalidMessageContents").senderFault(true)
+                                                     .message("Invalid").build())
+                        .build());
+        }).when(delegate).sendMessageBatch(any(SendMessageBatchRequest.class));
+
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, "a", "b", "c");
+
+        assertThat(responses.get(0).join().messageId()).isEqualTo("id-a");
+        assertThat(responses.get(2).join().messageId()).isEqualTo("id-c");
+        assertThatThrownBy(responses.get(1)::join).hasCauseInstanceOf(SqsException.class)
+                                                   .satisfies(e -> {
+                                                       SqsException cause = (SqsException) e.getCause();
+                                                       assertThat(cause.awsErrorDetails().errorCode())
+                                                           .isEqualTo("InvalidMessageContents");
+                                                       assertThat(cause.statusCode()).isEqualTo(400);
+                                                   });
+    }
+
+    @Test
+    public void sendMessage_batchRequestFailed_failsEveryCaller() {
+        RuntimeException failure = new RuntimeException("batch failed");
+        CompletableFuture<SendMessageBatchResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(failure);
+        doReturn(failed).when(delegate).sendMessageBatch(any(SendMessageBatchRequest.class));
+
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, "a", "b", "c");
+
+        responses.forEach(r -> assertThatThrownBy(r::join).hasCause(failure));
+    }
+
+    @Test
+    public void deleteMessageAndChangeVisibility_batched() {
+        when(delegate.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).then(i -> {
+            DeleteMessageBatchRequest request = (DeleteMessageBatchRequest) i.getArguments()[0];
+            return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().successful(
+                request.entries().stream().map(e -> DeleteMessageBatchResultEntry.builder().id(e.id()).build())
+                       .collect(Collectors.toList())).build());
+        });
+        when(delegate.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class))).then(i -> {
+            ChangeMessageVisibilityBatchRequest request = (ChangeMessageVisibilityBatchRequest) i.getArguments()[0];
+            return CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder().successful(
+                request.entries().stream().map(e -> ChangeMessageVisibilityBatchResultEntry.builder().id(e.id()).build())
+                       .collect(Collectors.toList())).build());
+        });
+
+        List<CompletableFuture<?>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String receiptHandle = "handle-" + i;
+            responses.add(client.deleteMessage(r -> r.queueUrl(QUEUE_URL).receiptHandle(receiptHandle)));
+            responses.add(client.changeMessageVisibility(r -> r.queueUrl(QUEUE_URL).receiptHandle(receiptHandle)
+                                                               .visibilityTimeout(30)));
+        }
+
+        responses.forEach(CompletableFuture::join);
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(delegate).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        verify(delegate).changeMessageVisibilityBatch(captor.capture());
+        assertThat(captor.getValue().entries()).allSatisfy(e -> assertThat(e.visibilityTimeout()).isEqualTo(30));
+    }
+
+    @Test
+    public void close_sendsBufferedRequests() {
+        List<CompletableFuture<SendMessageResponse>> responses = sendMessages(QUEUE_URL, "a");
+
+        client.close();
+
+        assertThat(responses.get(0).join().messageId()).isEqualTo("id-a");
+        assertThatThrownBy(() -> client.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("b")).join())
+            .hasMessageContaining("closed");
+    }
+
+    @Test
+    public void receiveMessage_servedFromPrefetchedMessages() {
+        CompletableFuture<ReceiveMessageResponse> pending = new CompletableFuture<>();
+        when(delegate.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder()
+                                                                                .messages(message("1"), message("2"),
+                                                                                          message("3"))
+                                                                                .build()))
+            .thenReturn(pending);
+
+        ReceiveMessageResponse first = client.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(2)
+                                                                   .waitTimeSeconds(20)).join();
+        ReceiveMessageResponse second = client.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(2)
+                                                                    .waitTimeSeconds(20)).join();
+
+        assertThat(first.messages()).extracting(Message::messageId).containsExactly("1", "2");
+        assertThat(second.messages()).extracting(Message::messageId).containsExactly("3");
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(delegate, times(2)).receiveMessage(captor.capture());
+        assertThat(captor.getValue().maxNumberOfMessages()).isEqualTo(10);
+        assertThat(captor.getValue().waitTimeSeconds()).isEqualTo(20);
+    }
+
+    @Test
+    public void receiveMessage_bufferEmpty_waitsForPrefetchUpToWaitTime() {
+        when(delegate.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(new CompletableFuture<>());
+
+        CompletableFuture<ReceiveMessageResponse> response =
+            client.receiveMessage(r -> r.queueUrl(QUEUE_URL).waitTimeSeconds(1));
+
+        assertThat(response).isNotDone();
+        assertThat(response.join().messages()).isEmpty();
+    }
+
+    @Test
+    public void receiveMessage_prefetchFails_failsWaitingCallers() {
+        RuntimeException failure = new RuntimeException("receive failed");
+        CompletableFuture<ReceiveMessageResponse> pending = new CompletableFuture<>();
+        when(delegate.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(pending);
+
+        CompletableFuture<ReceiveMessageResponse> response =
+            client.receiveMessage(r -> r.queueUrl(QUEUE_URL).waitTimeSeconds(20));
+        pending.completeExceptionally(failure);
+
+        assertThatThrownBy(response::join).hasCause(failure);
+        verify(delegate, timeout(TimeUnit.SECONDS.toMillis(1)).times(1)).receiveMessage(any(ReceiveMessageRequest.class));
+    }
+
+    @Test
+    public void receiveMessage_notPrefetchable_sentDirectly() {
+        ReceiveMessageResponse direct = ReceiveMessageResponse.builder().build();
+        when(delegate.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(CompletableFuture.completedFuture(direct));
+
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).visibilityTimeout(60).build();
+
+        assertThat(client.receiveMessage(request).join()).isSameAs(direct);
+        verify(delegate).receiveMessage(request);
+    }
+
+    private List<CompletableFuture<SendMessageResponse>> sendMessages(String queueUrl, String... bodies) {
+        return Arrays.stream(bodies)
+                     .map(b -> client.sendMessage(r -> r.queueUrl(queueUrl).messageBody(b)))
+                     .collect(Collectors.toList());
+    }
+
+    private static SendMessageBatchResponse successfulSendBatch(SendMessageBatchRequest request) {
+        return SendMessageBatchResponse.builder()
+                                       .successful(request.entries().stream()
+                                                          .map(e -> SendMessageBatchResultEntry.builder()
+                                                                                               .id(e.id())
+                                                                                               .messageId("id-" + e.messageBody())
+                                                                                               .build())
+                                                          .collect(Collectors.toList()))
+                                       .build();
+    }
+
+    private static Message message(String id) {
+        return Message.builder().messageId(id).receiptHandle("handle-" + id).build();
+    }
+}
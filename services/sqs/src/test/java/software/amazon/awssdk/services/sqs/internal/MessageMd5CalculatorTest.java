@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class MessageMd5CalculatorTest {
+
+    private static final List<String> BODIES = Arrays.asList(
+        "",
+        "Body",
+        "café € 中文",
+        "emoji 😀 pair",
+        "unpaired high \ud83d end",
+        "unpaired low \ude00 end",
+        "trailing high \ud83d",
+        repeat("é😀x€", 3000));
+
+    @Test
+    public void messageBodyMd5_matchesJdkUtf8Encoding() throws Exception {
+        MessageMd5Calculator calculator = MessageMd5Calculator.get();
+        for (String body : BODIES) {
+            byte[] expected = Md5Utils.computeMD5Hash(body.getBytes(StandardCharsets.UTF_8));
+
+            assertThat(calculator.messageBodyMd5(body)).as(body).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void messageAttributesMd5_matchesReferenceEncoding() throws Exception {
+        Map<String, MessageAttributeValue> attributes = new LinkedHashMap<>();
+        attributes.put("中", MessageAttributeValue.builder().dataType("String").stringValue(BODIES.get(7)).build());
+        attributes.put("Binary", MessageAttributeValue.builder()
+                                                      .dataType("Binary")
+                                                      .binaryValue(SdkBytes.fromUtf8String("bytes"))
+                                                      .build());
+        attributes.put("A", MessageAttributeValue.builder().dataType("String").stringValue("😀").build());
+
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        for (String name : Arrays.asList("A", "Binary", "中")) {
+            MessageAttributeValue value = attributes.get(name);
+            update(digest, name.getBytes(StandardCharsets.UTF_8));
+            update(digest, value.dataType().getBytes(StandardCharsets.UTF_8));
+            if (value.stringValue() != null) {
+                digest.update((byte) 1);
+                update(digest, value.stringValue().getBytes(StandardCharsets.UTF_8));
+            } else {
+                digest.update((byte) 2);
+                update(digest, value.binaryValue().asByteArray());
+            }
+        }
+
+        assertThat(MessageMd5Calculator.get().messageAttributesMd5(attributes)).isEqualTo(digest.digest());
+    }
+
+    @Test
+    public void matches_comparesWithLowerCaseHex() {
+        byte[] md5 = MessageMd5Calculator.get().messageBodyMd5("Body").clone();
+
+        assertThat(MessageMd5Calculator.matches(md5, "ac101b32dda4448cf13a93fe283dddd8")).isTrue();
+        assertThat(MessageMd5Calculator.matches(md5, BinaryUtils.toHex(md5))).isTrue();
+        assertThat(MessageMd5Calculator.matches(md5, "ac101b32dda4448cf13a93fe283dddd9")).isFalse();
+        assertThat(MessageMd5Calculator.matches(md5, "bad")).isFalse();
+        assertThat(MessageMd5Calculator.matches(md5, null)).isFalse();
+    }
+
+    private static void update(MessageDigest digest, byte[] bytes) {
+        digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static String repeat(String str, int times) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            result.append(str);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.buffered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+public class ReceiveQueueBufferTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private SqsAsyncClient client;
+
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setup() {
+        client = mock(SqsAsyncClient.class);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        when(client.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                GetQueueAttributesResponse.builder()
+                                          .attributes(Collections.singletonMap(QueueAttributeName.VISIBILITY_TIMEOUT, "30"))
+                                          .build()));
+        when(client.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder()
+                                                                                .messages(message("1"), message("2"))
+                                                                                .build()))
+            .thenReturn(new CompletableFuture<>());
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void receive_withinVisibilityTimeout_servesPrefetchedMessages() {
+        ReceiveQueueBuffer buffer = buffer(ReceiveMessageRequest.builder().build());
+
+        assertThat(receive(buffer, 20).join().messages()).extracting(Message::messageId).containsExactly("1");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(29));
+        assertThat(receive(buffer, 20).join().messages()).extracting(Message::messageId).containsExactly("2");
+    }
+
+    @Test
+    public void receive_visibilityTimeoutExpired_dropsPrefetchedMessages() {
+        ReceiveQueueBuffer buffer = buffer(ReceiveMessageRequest.builder().build());
+        assertThat(receive(buffer, 20).join().messages()).extracting(Message::messageId).containsExactly("1");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        CompletableFuture<ReceiveMessageResponse> response = receive(buffer, 20);
+
+        assertThat(response).isNotDone();
+        buffer.close();
+        assertThat(response.join().messages()).isEmpty();
+        verify(client, never()).changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class));
+    }
+
+    @Test
+    public void receive_prefetchRequestSetsVisibilityTimeout_queueAttributesNotFetched() {
+        ReceiveQueueBuffer buffer = buffer(ReceiveMessageRequest.builder().visibilityTimeout(10).build());
+        assertThat(receive(buffer, 20).join().messages()).extracting(Message::messageId).containsExactly("1");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(receive(buffer, 20)).isNotDone();
+        verify(client, never()).getQueueAttributes(any(GetQueueAttributesRequest.class));
+    }
+
+    private ReceiveQueueBuffer buffer(ReceiveMessageRequest prefetchRequest) {
+        return new ReceiveQueueBuffer(QUEUE_URL, client, scheduler, prefetchRequest, 1, 10, clock::get);
+    }
+
+    private static CompletableFuture<ReceiveMessageResponse> receive(ReceiveQueueBuffer buffer, int waitTimeSeconds) {
+        return buffer.receive(ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).waitTimeSeconds(waitTimeSeconds).build());
+    }
+
+    private static Message message(String id) {
+        return Message.builder().messageId(id).receiptHandle("handle-" + id).build();
+    }
+}
@@ -30,12 +30,14 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.StaleValueBehavior;
 
 /**
  * An implementation of {@link AwsCredentialsProvider} that is extended within this package to provide support for periodically-
  * updating session credentials. When credentials get close to expiration, this class will attempt to update them asynchronously
  * using {@link #getUpdatedCredentials(StsClient)}. If the credentials end up expiring, this class will block all calls to
- * {@link #resolveCredentials()} until the credentials can be updated.
+ * {@link #resolveCredentials()} until the credentials can be updated. If STS cannot be reached when the credentials become
+ * stale, the stale credentials keep being returned while the update is retried.
  */
 @ThreadSafe
 @SdkInternalApi
@@ -53,7 +55,9 @@ abstract class StsCredentialsProvider implements AwsCredentialsProvider, SdkAuto
     protected StsCredentialsProvider(BaseBuilder<?, ?> builder, String asyncThreadName) {
         this.stsClient = Validate.notNull(builder.stsClient, "STS client must not be null.");
 
-        CachedSupplier.Builder<SessionCredentialsHolder> cacheBuilder = CachedSupplier.builder(this::updateSessionCredentials);
+        CachedSupplier.Builder<SessionCredentialsHolder> cacheBuilder =
+            CachedSupplier.builder(this::updateSessionCredentials)
+                          .staleValueBehavior(StaleValueBehavior.ALLOW);
         if (builder.asyncCredentialUpdateEnabled) {
             cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
         }
@@ -117,7 +121,8 @@ abstract class StsCredentialsProvider implements AwsCredentialsProvider, SdkAuto
 
         /**
          * Configure whether the provider should fetch credentials asynchronously in the background. If this is true, threads are
-         * less likely to block when credentials are loaded, but additional resources are used to maintain the provider.
+         * less likely to block when credentials are loaded. The background updates of all providers are performed by a single
+         * shared thread.
          *
          * <p>By default, this is disabled.</p>
          */
@@ -76,6 +76,7 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
             this.credentialsProvider = StsAssumeRoleCredentialsProvider.builder()
                                                                        .stsClient(stsClient)
                                                                        .refreshRequest(assumeRoleRequest)
+                                                                       .asyncCredentialUpdateEnabled(true)
                                                                        .build();
         }
 
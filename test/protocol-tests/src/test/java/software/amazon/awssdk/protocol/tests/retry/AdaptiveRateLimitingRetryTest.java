@@ -0,0 +1,133 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocol.tests.retry;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocoljsonrpc.ProtocolJsonRpcAsyncClient;
+import software.amazon.awssdk.services.protocoljsonrpc.ProtocolJsonRpcClient;
+import software.amazon.awssdk.services.protocoljsonrpc.model.AllTypesRequest;
+import software.amazon.awssdk.services.protocoljsonrpc.model.AllTypesResponse;
+
+/**
+ * Tests that the adaptive rate limiter of {@link RetryPolicy#adaptiveRateLimiting()} slows down the attempts that follow a
+ * throttling response, for both the sync and the async clients.
+ */
+public class AdaptiveRateLimitingRetryTest {
+
+    private static final String PATH = "/";
+    private static final String JSON_BODY = "{\"StringMember\":\"foo\"}";
+
+    /**
+     * A single attempt measures a sending rate of at most two requests per second, so after the throttling response the fill
+     * rate is below 1.5 tokens per second and the next attempt has to wait well over half a second for its token.
+     */
+    private static final Duration MIN_THROTTLED_DELAY = Duration.ofMillis(500);
+
+    @Rule
+    public WireMockRule wireMock = new WireMockRule(0);
+
+    private RetryPolicy retryPolicy;
+
+    @Before
+    public void setup() {
+        retryPolicy = AwsRetryPolicy.defaultRetryPolicy()
+                                    .toBuilder()
+                                    .backoffStrategy(BackoffStrategy.none())
+                                    .throttlingBackoffStrategy(BackoffStrategy.none())
+                                    .adaptiveRateLimiting(true)
+                                    .build();
+
+        stubFor(post(urlEqualTo(PATH))
+                    .inScenario("throttled")
+                    .whenScenarioStateIs(Scenario.STARTED)
+                    .willSetStateTo("first attempt")
+                    .willReturn(aResponse()
+                                    .withStatus(400)
+                                    .withHeader("x-amzn-ErrorType", "ThrottlingException")
+                                    .withBody("{\"__type\":\"ThrottlingException\",\"message\":\"Rate exceeded\"}")));
+
+        stubFor(post(urlEqualTo(PATH))
+                    .inScenario("throttled")
+                    .whenScenarioStateIs("first attempt")
+                    .willSetStateTo("second attempt")
+                    .willReturn(aResponse()
+                                    .withStatus(200)
+                                    .withBody(JSON_BODY)));
+    }
+
+    @Test
+    public void syncClient_throttled_delaysRetryAndSucceeds() {
+        ProtocolJsonRpcClient client = ProtocolJsonRpcClient.builder()
+                                                            .credentialsProvider(credentials())
+                                                            .region(Region.US_EAST_1)
+                                                            .endpointOverride(endpoint())
+                                                            .overrideConfiguration(c -> c.retryPolicy(retryPolicy))
+                                                            .build();
+
+        long start = System.nanoTime();
+        AllTypesResponse response = client.allTypes(AllTypesRequest.builder().build());
+
+        assertThat(response).isNotNull();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(MIN_THROTTLED_DELAY);
+        verify(exactly(2), postRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    public void asyncClient_throttled_delaysRetryAndSucceeds() {
+        ProtocolJsonRpcAsyncClient client = ProtocolJsonRpcAsyncClient.builder()
+                                                                      .credentialsProvider(credentials())
+                                                                      .region(Region.US_EAST_1)
+                                                                      .endpointOverride(endpoint())
+                                                                      .overrideConfiguration(c -> c.retryPolicy(retryPolicy))
+                                                                      .build();
+
+        long start = System.nanoTime();
+        AllTypesResponse response = client.allTypes(AllTypesRequest.builder().build()).join();
+
+        assertThat(response).isNotNull();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(MIN_THROTTLED_DELAY);
+        verify(exactly(2), postRequestedFor(urlEqualTo(PATH)));
+    }
+
+    private StaticCredentialsProvider credentials() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid"));
+    }
+
+    private URI endpoint() {
+        return URI.create("http://localhost:" + wireMock.port());
+    }
+}
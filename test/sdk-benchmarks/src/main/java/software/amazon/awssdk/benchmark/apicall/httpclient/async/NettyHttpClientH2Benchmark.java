@@ -61,6 +61,10 @@ public class NettyHttpClientH2Benchmark extends BaseNettyBenchmark {
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    // Fewer streams per connection than concurrent calls spreads the calls over several connections
+    @Param({"100", "10"})
+    private int maxHttp2Streams;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockH2Server(false);
@@ -70,6 +74,7 @@ public class NettyHttpClientH2Benchmark extends BaseNettyBenchmark {
 
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .maxHttp2Streams(maxHttp2Streams)
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder()
                                                                       .put(PROTOCOL, Protocol.HTTP2)
                                                                       .build());
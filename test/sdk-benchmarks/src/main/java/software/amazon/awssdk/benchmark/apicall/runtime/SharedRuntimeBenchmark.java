@@ -0,0 +1,131 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.runtime;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.CONCURRENT_CALLS;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.awaitCountdownLatchUninterruptibly;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.countDownUponCompletion;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.core.client.config.SdkSharedRuntime;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Compare the latency and the number of live threads of 1 and 50 async clients against a local mock server, with each client
+ * creating its own executors and HTTP client and with all clients using a single {@link SdkSharedRuntime}.
+ *
+ * <p>JMH has no gauge, so the number of live threads once all clients are created is logged at the start of each trial.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SharedRuntimeBenchmark {
+    private static final Logger log = Logger.loggerFor(SharedRuntimeBenchmark.class);
+
+    @Param({"1", "50"})
+    private int clientCount;
+
+    @Param({"false", "true"})
+    private boolean sharedRuntime;
+
+    private MockServer mockServer;
+    private SdkSharedRuntime runtime;
+    private List<ProtocolRestJsonAsyncClient> clients;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+
+        if (sharedRuntime) {
+            runtime = SdkSharedRuntime.builder()
+                                      .asyncHttpClient(NettyNioAsyncHttpClient.builder().build())
+                                      .build();
+        }
+
+        clients = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            ProtocolRestJsonAsyncClient client = ProtocolRestJsonAsyncClient.builder()
+                                                                            .endpointOverride(mockServer.getHttpUri())
+                                                                            .sharedRuntime(runtime)
+                                                                            .build();
+            // Making sure the request actually succeeds, which also starts the threads of the client
+            client.allTypes().join();
+            clients.add(client);
+        }
+
+        int liveThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        log.info(() -> String.format("Live threads with %d clients (shared runtime: %s): %d",
+                                     clientCount, sharedRuntime, liveThreads));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        clients.forEach(ProtocolRestJsonAsyncClient::close);
+        if (runtime != null) {
+            runtime.close();
+        }
+        mockServer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CALLS)
+    public void concurrentApiCall(Blackhole blackhole) {
+        CountDownLatch countDownLatch = new CountDownLatch(CONCURRENT_CALLS);
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            countDownUponCompletion(blackhole, clients.get(i % clientCount).allTypes(), countDownLatch);
+        }
+
+        awaitCountdownLatchUninterruptibly(countDownLatch, 10, TimeUnit.SECONDS);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(SharedRuntimeBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
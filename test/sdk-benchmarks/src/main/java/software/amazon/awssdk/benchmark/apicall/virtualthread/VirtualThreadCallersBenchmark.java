@@ -0,0 +1,143 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.virtualthread;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.awaitCountdownLatchUninterruptibly;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.countDownUponCompletion;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.utils.VirtualThreadUtils;
+
+/**
+ * Compare 10,000 concurrent callers of the sync client, each running on its own virtual thread, with the same number of
+ * concurrent calls made with the Netty based async client, against a local mock server.
+ *
+ * <p>The sync mode requires Java 21 or later; on older runtimes its trials fail in setup.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class VirtualThreadCallersBenchmark {
+    private static final int CALLERS = 10_000;
+    private static final int MAX_CONNECTIONS = 1_000;
+
+    @Param({"syncOnVirtualThreads", "asyncNetty"})
+    private String mode;
+
+    private MockServer mockServer;
+    private ProtocolRestJsonClient syncClient;
+    private ProtocolRestJsonAsyncClient asyncClient;
+    private ExecutorService virtualThreadExecutor;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+
+        if ("syncOnVirtualThreads".equals(mode)) {
+            virtualThreadExecutor = VirtualThreadUtils.newVirtualThreadPerTaskExecutor("benchmark-caller")
+                                                      .orElseThrow(() -> new IllegalStateException(
+                                                          "Virtual threads require Java 21 or later."));
+            syncClient = ProtocolRestJsonClient.builder()
+                                               .endpointOverride(mockServer.getHttpUri())
+                                               .httpClient(ApacheHttpClient.builder()
+                                                                           .maxConnections(MAX_CONNECTIONS)
+                                                                           .build())
+                                               .build();
+            // Making sure the request actually succeeds
+            syncClient.allTypes();
+        } else {
+            asyncClient = ProtocolRestJsonAsyncClient.builder()
+                                                     .endpointOverride(mockServer.getHttpUri())
+                                                     .httpClient(NettyNioAsyncHttpClient.builder()
+                                                                                        .maxConcurrency(MAX_CONNECTIONS)
+                                                                                        .build())
+                                                     .build();
+            // Making sure the request actually succeeds
+            asyncClient.allTypes().join();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (syncClient != null) {
+            syncClient.close();
+        }
+        if (asyncClient != null) {
+            asyncClient.close();
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+        mockServer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLERS)
+    public void concurrentApiCall(Blackhole blackhole) {
+        CountDownLatch countDownLatch = new CountDownLatch(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            if (syncClient != null) {
+                virtualThreadExecutor.execute(() -> {
+                    try {
+                        blackhole.consume(syncClient.allTypes());
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+            } else {
+                countDownUponCompletion(blackhole, asyncClient.allTypes(), countDownLatch);
+            }
+        }
+
+        awaitCountdownLatchUninterruptibly(countDownLatch, 60, TimeUnit.SECONDS);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(VirtualThreadCallersBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.checksums.Crc32CChecksum;
+import software.amazon.awssdk.core.checksums.Crc32Checksum;
+import software.amazon.awssdk.core.checksums.Md5Checksum;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+
+/**
+ * Checksums 1 GiB of data per operation, one 1 MiB buffer at a time, so the score is the time it takes to checksum a GiB.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChecksumBenchmark {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final int BUFFERS_PER_GIB = 1024;
+
+    @Param({"MD5", "CRC32", "CRC32C"})
+    private Algorithm algorithm;
+
+    @Param({"HEAP", "DIRECT"})
+    private BufferType bufferType;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        byte[] data = new byte[BUFFER_SIZE];
+        new Random(0).nextBytes(data);
+        buffer = bufferType == BufferType.HEAP ? ByteBuffer.allocate(BUFFER_SIZE) : ByteBuffer.allocateDirect(BUFFER_SIZE);
+        buffer.put(data).flip();
+    }
+
+    @Benchmark
+    public byte[] checksumGib() {
+        SdkChecksum checksum = algorithm.create();
+        for (int i = 0; i < BUFFERS_PER_GIB; i++) {
+            checksum.update(buffer.duplicate());
+        }
+        return checksum.getChecksumBytes();
+    }
+
+    public enum Algorithm {
+        MD5(Md5Checksum::new),
+        CRC32(Crc32Checksum::new),
+        CRC32C(Crc32CChecksum::new);
+
+        private final Supplier<SdkChecksum> factory;
+
+        Algorithm(Supplier<SdkChecksum> factory) {
+            this.factory = factory;
+        }
+
+        SdkChecksum create() {
+            return factory.get();
+        }
+    }
+
+    public enum BufferType {
+        HEAP,
+        DIRECT
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ChecksumBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
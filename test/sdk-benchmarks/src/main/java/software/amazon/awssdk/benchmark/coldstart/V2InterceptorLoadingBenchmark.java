@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.coldstart;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.transform.internal.GeneratePreSignUrlInterceptor;
+import software.amazon.awssdk.services.ec2.transform.internal.TimestampFormatInterceptor;
+
+/**
+ * Benchmark for loading the execution interceptors of a service in a new JVM.
+ *
+ * <p>{@link #loadInterceptorsFromIndex} creates the interceptors the way the generated client builder does, from the index
+ * emitted by the code generator, while {@link #loadInterceptorsFromClasspath} scans the classpath for the service's
+ * interceptors resource, which is what every client used to do. {@link #createClient} measures the whole first client
+ * creation for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class V2InterceptorLoadingBenchmark {
+    private static final String EC2_INTERCEPTORS_PATH = "software/amazon/awssdk/services/ec2/execution.interceptors";
+
+    private Ec2Client client;
+
+    @Benchmark
+    public void loadInterceptorsFromIndex(Blackhole blackhole) {
+        List<ExecutionInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(new GeneratePreSignUrlInterceptor());
+        interceptors.add(new TimestampFormatInterceptor());
+        blackhole.consume(interceptors);
+    }
+
+    @Benchmark
+    public void loadInterceptorsFromClasspath(Blackhole blackhole) {
+        blackhole.consume(new ClasspathInterceptorChainFactory().getInterceptors(EC2_INTERCEPTORS_PATH));
+    }
+
+    @Benchmark
+    public void createClient(Blackhole blackhole) {
+        client = Ec2Client.builder()
+                          .region(Region.US_WEST_2)
+                          .httpClient(ApacheHttpClient.builder().build())
+                          .build();
+        blackhole.consume(client);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions())
+            .include(V2InterceptorLoadingBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.credentials;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.BenchmarkUtils;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.auth.StsAssumeRoleCredentialsProvider;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A load test for credential refreshes: many {@link StsAssumeRoleCredentialsProvider}s, all created at the same time, resolve
+ * credentials from a mock STS endpoint in a loop. The credentials expire shortly after they need to be prefetched, so every
+ * provider refreshes several times during the run.
+ *
+ * <p>The number of STS requests per second is logged at the end. Without jittered prefetch times, every refresh wave would
+ * hit STS during the same second.
+ *
+ * <p>Usage: {@code CredentialRefreshLoadTest [providers] [durationSeconds]}
+ */
+public final class CredentialRefreshLoadTest {
+    private static final Logger log = Logger.loggerFor(CredentialRefreshLoadTest.class);
+    private static final String ROLE_ARN = "arn:aws:iam::123456789012:role/load-test";
+    private static final int DEFAULT_PROVIDERS = 500;
+    private static final int DEFAULT_DURATION_SECONDS = 40;
+    private static final int CALLER_THREADS = 32;
+
+    /**
+     * The providers prefetch credentials 5 minutes before they expire, so they prefetch them 20 seconds after they received
+     * them.
+     */
+    private static final Duration CREDENTIALS_LIFETIME = Duration.ofMinutes(5).plusSeconds(20);
+
+    private CredentialRefreshLoadTest() {
+    }
+
+    public static void main(String... args) throws Exception {
+        int numProviders = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PROVIDERS;
+        int durationSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DURATION_SECONDS;
+
+        MockStsServlet sts = new MockStsServlet(CREDENTIALS_LIFETIME);
+        int port = BenchmarkUtils.getUnusedPort();
+        Server server = startServer(sts, port);
+
+        StsClient stsClient = StsClient.builder()
+                                       .endpointOverride(URI.create("http://localhost:" + port))
+                                       .region(Region.US_EAST_1)
+                                       .credentialsProvider(StaticCredentialsProvider.create(
+                                           AwsBasicCredentials.create("akid", "skid")))
+                                       .httpClient(UrlConnectionHttpClient.builder().build())
+                                       .build();
+
+        List<StsAssumeRoleCredentialsProvider> providers = new ArrayList<>();
+        for (int i = 0; i < numProviders; i++) {
+            providers.add(StsAssumeRoleCredentialsProvider.builder()
+                                                          .stsClient(stsClient)
+                                                          .refreshRequest(AssumeRoleRequest.builder()
+                                                                                           .roleArn(ROLE_ARN)
+                                                                                           .roleSessionName("session-" + i)
+                                                                                           .build())
+                                                          .asyncCredentialUpdateEnabled(true)
+                                                          .build());
+        }
+
+        AtomicInteger failures = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLER_THREADS);
+        for (int t = 0; t < CALLER_THREADS; t++) {
+            callers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    for (StsAssumeRoleCredentialsProvider provider : providers) {
+                        try {
+                            provider.resolveCredentials();
+                        } catch (RuntimeException e) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        callers.shutdown();
+        callers.awaitTermination(durationSeconds + 60, TimeUnit.SECONDS);
+
+        providers.forEach(StsAssumeRoleCredentialsProvider::close);
+        stsClient.close();
+        server.stop();
+
+        logReport(sts, numProviders, failures.get());
+    }
+
+    private static Server startServer(MockStsServlet sts, int port) throws Exception {
+        Server server = new Server();
+        ServerConnector connector = new ServerConnector(server);
+        connector.setPort(port);
+        server.addConnector(connector);
+
+        ServletContextHandler context = new ServletContextHandler(server, "/", ServletContextHandler.SESSIONS);
+        context.addServlet(new ServletHolder(sts), "/*");
+        server.setHandler(context);
+        server.start();
+        return server;
+    }
+
+    private static void logReport(MockStsServlet sts, int numProviders, int failures) {
+        Map<Long, AtomicInteger> histogram = new TreeMap<>(sts.requestsPerSecond());
+        long firstSecond = histogram.keySet().stream().findFirst().orElse(0L);
+        int total = 0;
+        int peak = 0;
+
+        StringBuilder report = new StringBuilder("Second  STS requests\n");
+        for (Map.Entry<Long, AtomicInteger> entry : histogram.entrySet()) {
+            int requests = entry.getValue().get();
+            total += requests;
+            peak = Math.max(peak, requests);
+            report.append(String.format("%6d  %d%n", entry.getKey() - firstSecond, requests));
+        }
+        report.append(String.format("Providers: %d, STS requests: %d, peak requests per second: %d, failed resolutions: %d",
+                                    numProviders, total, peak, failures));
+
+        log.info(report::toString);
+    }
+}
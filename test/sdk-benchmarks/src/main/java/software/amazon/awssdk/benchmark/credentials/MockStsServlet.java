@@ -0,0 +1,77 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.credentials;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * A mock STS endpoint that answers every request with AssumeRole credentials expiring after {@link #credentialsLifetime}, and
+ * counts the requests it received per second.
+ */
+class MockStsServlet extends HttpServlet {
+    private static final String RESPONSE_FORMAT =
+        "<AssumeRoleResponse xmlns=\"https://sts.amazonaws.com/doc/2011-06-15/\">"
+        + "<AssumeRoleResult>"
+        + "<Credentials>"
+        + "<AccessKeyId>akid</AccessKeyId>"
+        + "<SecretAccessKey>skid</SecretAccessKey>"
+        + "<SessionToken>token</SessionToken>"
+        + "<Expiration>%s</Expiration>"
+        + "</Credentials>"
+        + "<AssumedRoleUser>"
+        + "<Arn>arn:aws:sts::123456789012:assumed-role/role/session</Arn>"
+        + "<AssumedRoleId>id:session</AssumedRoleId>"
+        + "</AssumedRoleUser>"
+        + "</AssumeRoleResult>"
+        + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+        + "</AssumeRoleResponse>";
+
+    private final Duration credentialsLifetime;
+    private final ConcurrentMap<Long, AtomicInteger> requestsPerSecond = new ConcurrentHashMap<>();
+
+    MockStsServlet(Duration credentialsLifetime) {
+        this.credentialsLifetime = credentialsLifetime;
+    }
+
+    @Override
+    public void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Instant now = Instant.now();
+        requestsPerSecond.computeIfAbsent(now.getEpochSecond(), s -> new AtomicInteger()).incrementAndGet();
+
+        byte[] body = String.format(RESPONSE_FORMAT, now.plus(credentialsLifetime)).getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType("text/xml");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * The number of requests received during each second, keyed by epoch second.
+     */
+    ConcurrentMap<Long, AtomicInteger> requestsPerSecond() {
+        return requestsPerSecond;
+    }
+}
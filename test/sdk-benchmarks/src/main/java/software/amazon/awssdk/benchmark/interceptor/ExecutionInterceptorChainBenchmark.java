@@ -0,0 +1,182 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.interceptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+/**
+ * Benchmark of one API call through an interceptor chain of 10 interceptors, without any I/O. Each call creates its
+ * {@link ExecutionAttributes}, fills it with the attributes the client handler sets, and then goes through every interceptor
+ * hook, with each interceptor reading a few attributes in every hook and saving one of its own.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutionInterceptorChainBenchmark {
+    private static final int INTERCEPTOR_COUNT = 10;
+
+    private ExecutionInterceptorChain chain;
+    private InterceptorContext context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<ExecutionInterceptor> interceptors = new ArrayList<>();
+        for (int i = 0; i < INTERCEPTOR_COUNT; i++) {
+            interceptors.add(new AttributeReadingInterceptor());
+        }
+        chain = new ExecutionInterceptorChain(interceptors);
+
+        context = InterceptorContext.builder()
+                                    .request(GetItemRequest.builder().tableName("table").build())
+                                    .httpRequest(SdkHttpFullRequest.builder()
+                                                                   .method(SdkHttpMethod.POST)
+                                                                   .protocol("https")
+                                                                   .host("dynamodb.us-west-2.amazonaws.com")
+                                                                   .build())
+                                    .httpResponse(SdkHttpResponse.builder().statusCode(200).build())
+                                    .response(GetItemResponse.builder().build())
+                                    .build();
+    }
+
+    @Benchmark
+    public void executeInterceptorChain(Blackhole blackhole) {
+        ExecutionAttributes attributes = new ExecutionAttributes()
+            .putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, AwsBasicCredentials.create("akid", "skid"))
+            .putAttribute(AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME, "dynamodb")
+            .putAttribute(AwsSignerExecutionAttribute.SIGNING_REGION, Region.US_WEST_2)
+            .putAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX, false)
+            .putAttribute(SdkExecutionAttribute.CLIENT_TYPE, ClientType.SYNC)
+            .putAttribute(SdkExecutionAttribute.SERVICE_NAME, "DynamoDb")
+            .putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetItem")
+            .putAttribute(SdkExecutionAttribute.TIME_OFFSET, 0);
+
+        chain.beforeExecution(context, attributes);
+        InterceptorContext result = chain.modifyRequest(context, attributes);
+        chain.beforeMarshalling(result, attributes);
+        chain.afterMarshalling(result, attributes);
+        result = chain.modifyHttpRequestAndHttpContent(result, attributes);
+        chain.beforeTransmission(result, attributes);
+        chain.afterTransmission(result, attributes);
+        result = chain.modifyHttpResponse(result, attributes);
+        chain.beforeUnmarshalling(result, attributes);
+        chain.afterUnmarshalling(result, attributes);
+        result = chain.modifyResponse(result, attributes);
+        chain.afterExecution(result, attributes);
+
+        blackhole.consume(result);
+        blackhole.consume(attributes);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(ExecutionInterceptorChainBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+
+    private static final class AttributeReadingInterceptor implements ExecutionInterceptor {
+        private final ExecutionAttribute<Integer> calls = new ExecutionAttribute<>("Calls");
+
+        private void readAttributes(ExecutionAttributes attributes) {
+            if (attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME) == null
+                || attributes.getAttribute(AwsSignerExecutionAttribute.SIGNING_REGION) == null) {
+                throw new IllegalStateException("Attributes were not set.");
+            }
+            Integer count = attributes.getAttribute(calls);
+            attributes.putAttribute(calls, count == null ? 1 : count + 1);
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+
+        @Override
+        public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+
+        @Override
+        public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+
+        @Override
+        public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+
+        @Override
+        public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+
+        @Override
+        public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+
+        @Override
+        public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            readAttributes(executionAttributes);
+        }
+    }
+}
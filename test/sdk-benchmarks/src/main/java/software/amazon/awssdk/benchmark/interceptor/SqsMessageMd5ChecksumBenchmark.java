@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.interceptor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.services.sqs.internal.MessageMD5ChecksumInterceptor;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Benchmark of the MD5 verification of a ReceiveMessage response with a full batch of 10 messages, each with three string
+ * attributes.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SqsMessageMd5ChecksumBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Param({"256", "4096", "65536"})
+    private int bodySize;
+
+    private final MessageMD5ChecksumInterceptor interceptor = new MessageMD5ChecksumInterceptor();
+    private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+
+    private Context.AfterExecution context;
+
+    @Setup
+    public void setup() throws Exception {
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String body = body(i);
+            Map<String, MessageAttributeValue> attributes = new LinkedHashMap<>();
+            attributes.put("TraceId", stringAttribute("trace-" + i));
+            attributes.put("Source", stringAttribute("benchmark"));
+            attributes.put("ContentType", stringAttribute("application/json"));
+
+            messages.add(Message.builder()
+                                .messageId("message-" + i)
+                                .body(body)
+                                .md5OfBody(BinaryUtils.toHex(Md5Utils.computeMD5Hash(body.getBytes(StandardCharsets.UTF_8))))
+                                .messageAttributes(attributes)
+                                .md5OfMessageAttributes(attributesMd5(attributes))
+                                .build());
+        }
+
+        context = InterceptorContext.builder()
+                                    .request(ReceiveMessageRequest.builder().maxNumberOfMessages(BATCH_SIZE).build())
+                                    .response(ReceiveMessageResponse.builder().messages(messages).build())
+                                    .build();
+    }
+
+    @Benchmark
+    public void receiveMessageBatch() {
+        interceptor.afterExecution(context, executionAttributes);
+    }
+
+    private String body(int index) {
+        StringBuilder body = new StringBuilder(bodySize);
+        body.append("{\"index\":").append(index).append(",\"text\":\"");
+        while (body.length() < bodySize - 2) {
+            body.append(body.length() % 64 == 0 ? 'é' : (char) ('a' + body.length() % 26));
+        }
+        return body.append("\"}").toString();
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+
+    private static String attributesMd5(Map<String, MessageAttributeValue> attributes) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        for (Map.Entry<String, MessageAttributeValue> attribute : new TreeMap<>(attributes).entrySet()) {
+            update(digest, attribute.getKey());
+            update(digest, attribute.getValue().dataType());
+            digest.update((byte) 1);
+            update(digest, attribute.getValue().stringValue());
+        }
+        return BinaryUtils.toHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(SqsMessageMd5ChecksumBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.dynamodb;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.ByteArrayInputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.marshaller.dynamodb.V2DynamoDbAttributeValue.TestItemUnmarshalling;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.JsonProtocolUnmarshaller;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+/**
+ * Compares unmarshalling a DynamoDB GetItem response through the intermediate DOM against binding it directly from the
+ * JSON token stream. Run with the GC profiler to compare allocation rates.
+ */
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+public class V2DynamoDbJsonUnmarshallingBenchmark {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Benchmark
+    public Object getItem(UnmarshallingState s) throws Exception {
+        return s.unmarshaller.unmarshall(GetItemResponse.builder(), s.response());
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnmarshallingState {
+        @Param({"TINY", "SMALL", "HUGE"})
+        private TestItemUnmarshalling testItem;
+
+        @Param({"true", "false"})
+        private boolean fastUnmarshalling;
+
+        private JsonProtocolUnmarshaller unmarshaller;
+
+        @Setup
+        public void setup() {
+            Map<MarshallLocation, TimestampFormatTrait.Format> formats = new EnumMap<>(MarshallLocation.class);
+            formats.put(MarshallLocation.HEADER, TimestampFormatTrait.Format.RFC_822);
+            formats.put(MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.UNIX_TIMESTAMP);
+            unmarshaller = JsonProtocolUnmarshaller.builder()
+                                                   .parser(JsonDomParser.create(JSON_FACTORY))
+                                                   .jsonFactory(JSON_FACTORY)
+                                                   .enableFastUnmarshalling(fastUnmarshalling)
+                                                   .defaultTimestampFormats(formats)
+                                                   .build();
+        }
+
+        private SdkHttpFullResponse response() {
+            return SdkHttpFullResponse.builder()
+                                      .statusCode(200)
+                                      .content(AbortableInputStream.create(new ByteArrayInputStream(testItem.utf8())))
+                                      .build();
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V2DynamoDbJsonUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Signs a typical request from many threads at once. Every request shares the same credentials, region and service so
+ * each signature is served from the signing key cache, which makes contention on that cache visible.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+public class Aws4SignerBenchmark {
+
+    private final Aws4Signer signer = Aws4Signer.create();
+
+    private final SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                                 .method(SdkHttpMethod.POST)
+                                                                 .protocol("https")
+                                                                 .host("dynamodb.us-west-2.amazonaws.com")
+                                                                 .encodedPath("/")
+                                                                 .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                                                 .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                                                 .putRawQueryParameter("foo", "bar")
+                                                                 .build();
+
+    private final Aws4SignerParams signerParams =
+        Aws4SignerParams.builder()
+                        .awsCredentials(AwsBasicCredentials.create("akid", "skid"))
+                        .signingName("dynamodb")
+                        .signingRegion(Region.US_WEST_2)
+                        .build();
+
+    @Benchmark
+    public SdkHttpFullRequest sign() {
+        return signer.sign(request, signerParams);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Aws4SignerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
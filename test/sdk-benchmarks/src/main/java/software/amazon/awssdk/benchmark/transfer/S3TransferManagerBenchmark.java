@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.transfer;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.benchmark.utils.S3ObjectServlet;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+/**
+ * Throughput of uploading and downloading a 64 MB file through {@link S3TransferManager} against a local https server.
+ *
+ * <p>{@code singleRequest} transfers the file with one {@code PutObject} or {@code GetObject} request,
+ * {@code sequentialParts} transfers it in 8 MB parts one at a time and {@code concurrentParts} transfers up to 8 of those
+ * parts at once. Divide 64 MB by the average time to get the throughput.</p>
+ *
+ * <p>With {@code megabytesPerSecondPerRequest} set, the server limits the bandwidth of each request. This models a
+ * network where one connection can't use all of the available bandwidth, which is where concurrent parts help. Without
+ * a limit the loopback transfers are bound by CPU.</p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class S3TransferManagerBenchmark {
+
+    private static final int OBJECT_SIZE = 64 * 1024 * 1024;
+    private static final long PART_SIZE = 8L * 1024 * 1024;
+
+    @Param({"singleRequest", "sequentialParts", "concurrentParts"})
+    private String mode;
+
+    @Param({"0", "32"})
+    private int megabytesPerSecondPerRequest;
+
+    private MockServer mockServer;
+    private SdkAsyncHttpClient httpClient;
+    private S3AsyncClient s3;
+    private S3TransferManager transferManager;
+    private Path source;
+    private Path destination;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        byte[] object = new byte[OBJECT_SIZE];
+        new Random(0).nextBytes(object);
+        mockServer = new MockServer(new S3ObjectServlet(object, megabytesPerSecondPerRequest * 1024L * 1024));
+        mockServer.start();
+
+        source = Files.createTempFile("transfer-benchmark", ".source");
+        Files.write(source, object);
+        destination = source.resolveSibling(source.getFileName() + ".destination");
+
+        httpClient = NettyNioAsyncHttpClient.builder().buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
+        s3 = S3AsyncClient.builder()
+                          .endpointOverride(mockServer.getHttpsUri())
+                          .httpClient(httpClient)
+                          .region(Region.US_EAST_1)
+                          .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                          .serviceConfiguration(S3Configuration.builder()
+                                                               .pathStyleAccessEnabled(true)
+                                                               .checksumValidationEnabled(false)
+                                                               .build())
+                          .build();
+
+        S3TransferManager.Builder builder = S3TransferManager.builder().s3Client(s3);
+        if ("singleRequest".equals(mode)) {
+            builder.partSizeInBytes((long) OBJECT_SIZE).multipartThresholdInBytes(OBJECT_SIZE + 1L).maxConcurrentParts(1);
+        } else {
+            builder.partSizeInBytes(PART_SIZE)
+                   .multipartThresholdInBytes(PART_SIZE)
+                   .maxConcurrentParts("concurrentParts".equals(mode) ? 8 : 1);
+        }
+        transferManager = builder.build();
+    }
+
+    @Setup(Level.Invocation)
+    public void deleteDestination() throws Exception {
+        Files.deleteIfExists(destination);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        transferManager.close();
+        s3.close();
+        httpClient.close();
+        mockServer.stop();
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(destination);
+    }
+
+    @Benchmark
+    public void upload() {
+        transferManager.upload(r -> r.putObjectRequest(p -> p.bucket("bucket").key("key")).source(source)).join();
+    }
+
+    @Benchmark
+    public void download() {
+        transferManager.download(r -> r.getObjectRequest(g -> g.bucket("bucket").key("key")).destination(destination)).join();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(S3TransferManagerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
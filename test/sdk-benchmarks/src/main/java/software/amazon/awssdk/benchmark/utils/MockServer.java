@@ -16,6 +16,7 @@
 package software.amazon.awssdk.benchmark.utils;
 
 import java.io.IOException;
+import javax.servlet.http.HttpServlet;
 import org.eclipse.jetty.http.HttpVersion;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -34,6 +35,10 @@ public class MockServer extends BaseMockServer {
     private ServerConnector sslConnector;
 
     public MockServer() throws IOException {
+        this(new AlwaysSuccessServlet());
+    }
+
+    public MockServer(HttpServlet servlet) throws IOException {
         server = new Server();
         connector = new ServerConnector(server);
         connector.setPort(httpPort);
@@ -59,7 +64,7 @@ public class MockServer extends BaseMockServer {
         server.setConnectors(new Connector[] {connector, sslConnector});
 
         ServletContextHandler context = new ServletContextHandler(server, "/", ServletContextHandler.SESSIONS);
-        context.addServlet(new ServletHolder(new AlwaysSuccessServlet()), "/*");
+        context.addServlet(new ServletHolder(servlet), "/*");
         server.setHandler(context);
     }
 
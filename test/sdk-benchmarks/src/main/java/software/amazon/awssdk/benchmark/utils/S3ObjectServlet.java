@@ -0,0 +1,134 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Serves the same in-memory object for every path-style {@code GetObject} request, honoring byte ranges, and accepts
+ * {@code PutObject} and multipart uploads without storing them. Just enough of S3 to exercise transfers end to end.
+ *
+ * <p>Each request can be limited to a maximum bandwidth to model a network where a single connection can't use all of the
+ * available bandwidth.</p>
+ */
+public class S3ObjectServlet extends HttpServlet {
+    private static final String ETAG = "\"3858f62230ac3c915f300c664312c11f\"";
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final byte[] object;
+    private final long bytesPerSecondPerRequest;
+
+    /**
+     * @param object Content served for every {@code GetObject} request.
+     * @param bytesPerSecondPerRequest Maximum bandwidth of each request, or 0 for no limit.
+     */
+    public S3ObjectServlet(byte[] object, long bytesPerSecondPerRequest) {
+        this.object = object;
+        this.bytesPerSecondPerRequest = bytesPerSecondPerRequest;
+    }
+
+    @Override
+    public void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        int start = 0;
+        int end = object.length - 1;
+        String range = request.getHeader("Range");
+        if (range != null) {
+            String[] bounds = range.substring("bytes=".length()).split("-");
+            start = Integer.parseInt(bounds[0]);
+            end = Math.min(end, Integer.parseInt(bounds[1]));
+            response.setStatus(HttpStatus.PARTIAL_CONTENT_206);
+            response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + object.length);
+        } else {
+            response.setStatus(HttpStatus.OK_200);
+        }
+        response.setHeader("ETag", ETAG);
+        response.setContentType("application/octet-stream");
+        response.setContentLength(end - start + 1);
+        long startNanos = System.nanoTime();
+        for (int offset = start; offset <= end; offset += CHUNK_SIZE) {
+            response.getOutputStream().write(object, offset, Math.min(CHUNK_SIZE, end - offset + 1));
+            throttle(startNanos, offset - start);
+        }
+    }
+
+    @Override
+    public void doPut(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        discard(request.getInputStream());
+        response.setStatus(HttpStatus.OK_200);
+        response.setHeader("ETag", ETAG);
+    }
+
+    @Override
+    public void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        discard(request.getInputStream());
+        String body;
+        if (request.getParameter("uploadId") == null) {
+            body = "<InitiateMultipartUploadResult><Bucket>bucket</Bucket><Key>key</Key>"
+                   + "<UploadId>upload-id</UploadId></InitiateMultipartUploadResult>";
+        } else {
+            body = "<CompleteMultipartUploadResult><Bucket>bucket</Bucket><Key>key</Key>"
+                   + "<ETag>" + ETAG + "</ETag></CompleteMultipartUploadResult>";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType("application/xml");
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    @Override
+    public void doDelete(HttpServletRequest request, HttpServletResponse response) {
+        response.setStatus(HttpStatus.NO_CONTENT_204);
+    }
+
+    private void discard(InputStream content) throws IOException {
+        byte[] buffer = new byte[CHUNK_SIZE];
+        long startNanos = System.nanoTime();
+        long transferred = 0;
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            transferred += read;
+            throttle(startNanos, transferred);
+        }
+    }
+
+    /**
+     * Wait until transferring the given number of bytes since the start of the request is within the bandwidth limit.
+     */
+    private void throttle(long startNanos, long transferred) throws IOException {
+        if (bytesPerSecondPerRequest <= 0) {
+            return;
+        }
+        long dueNanos = startNanos + TimeUnit.SECONDS.toNanos(transferred) / bytesPerSecondPerRequest;
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Utilities for using virtual threads when the runtime supports them (Java 21 and later). The SDK is compiled for Java 8, so
+ * the virtual thread APIs are looked up reflectively once, and every method falls back gracefully on older runtimes.
+ */
+@SdkProtectedApi
+public final class VirtualThreadUtils {
+    private static final Logger log = Logger.loggerFor(VirtualThreadUtils.class);
+
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+    private static final MethodHandle OF_VIRTUAL = findStatic(Thread.class, "ofVirtual", "java.lang.Thread$Builder$OfVirtual");
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR = findNewThreadPerTaskExecutor();
+
+    private VirtualThreadUtils() {
+    }
+
+    /**
+     * @return True if the current runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return IS_VIRTUAL != null && OF_VIRTUAL != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * @return True if the given thread is a virtual thread. Always false if the runtime does not support virtual threads.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invoke(thread);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Create a factory of virtual threads named after the given prefix, or an empty optional if the runtime does not support
+     * virtual threads.
+     */
+    public static Optional<ThreadFactory> virtualThreadFactory(String threadNamePrefix) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix + "-", 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (Throwable t) {
+            log.debug(() -> "Unable to create a virtual thread factory.", t);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Create an executor that runs every task on a new virtual thread named after the given prefix, or an empty optional if
+     * the runtime does not support virtual threads.
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(String threadNamePrefix) {
+        return virtualThreadFactory(threadNamePrefix).flatMap(factory -> {
+            try {
+                return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(factory));
+            } catch (Throwable t) {
+                log.debug(() -> "Unable to create a virtual thread executor.", t);
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findNewThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newThreadPerTaskExecutor",
+                                                           MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findStatic(Class<?> owner, String name, String returnType) {
+        try {
+            return MethodHandles.publicLookup().findStatic(owner, name, MethodType.methodType(Class.forName(returnType)));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -17,11 +17,14 @@ package software.amazon.awssdk.utils.cache;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.Validate;
 
@@ -31,12 +34,38 @@ import software.amazon.awssdk.utils.Validate;
  * value.
  *
  * For example, the {@link OneCallerBlocks} strategy will have a single caller block to update the value, and the
- * {@link NonBlocking} strategy maintains a thread pool for updating the value asynchronously in the background.
+ * {@link NonBlocking} strategy updates the value asynchronously on a background thread.
+ *
+ * The prefetch time of every value returned by the supplier is moved earlier by a random amount (up to
+ * {@link #MAX_PREFETCH_JITTER}, and never more than half the time left until the prefetch time), so that many caches
+ * populated at the same time do not all refresh at the same time. A failure to prefetch a value that is not stale yet is
+ * logged, and the prefetch is retried 10 to 20 seconds later. A failure to refresh a stale value is handled according to the
+ * configured {@link StaleValueBehavior}.
+ *
+ * Concurrent callers that find the value stale wait for the refresh performed by one of them, instead of all calling the
+ * value supplier.
  *
  * This should be created using {@link #builder(Supplier)}.
  */
 @SdkProtectedApi
 public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
+    /**
+     * The maximum amount of time by which the prefetch time of a value is moved earlier.
+     */
+    static final Duration MAX_PREFETCH_JITTER = Duration.ofMinutes(5);
+
+    /**
+     * The minimum amount of time to wait before trying again when the value supplier fails.
+     */
+    private static final Duration MIN_FAILURE_BACKOFF = Duration.ofSeconds(10);
+
+    /**
+     * The maximum amount of time to wait before trying again when the value supplier fails.
+     */
+    private static final Duration MAX_FAILURE_BACKOFF = Duration.ofSeconds(20);
+
+    private static final Logger log = Logger.loggerFor(CachedSupplier.class);
+
     /**
      * Maximum time to wait for a blocking refresh lock before calling refresh again. This is to rate limit how many times we call
      * refresh. In the ideal case, refresh always occurs in a timely fashion and only one thread actually does the refresh.
@@ -56,6 +85,12 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      */
     private final PrefetchStrategy prefetchStrategy;
 
+    /**
+     * What to do when the value is stale and cannot be refreshed. This is configured when the cache is created via
+     * {@link Builder#staleValueBehavior(StaleValueBehavior)}.
+     */
+    private final StaleValueBehavior staleValueBehavior;
+
     /**
      * The value currently stored in this cache.
      */
@@ -72,6 +107,7 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
     private CachedSupplier(Builder<T> builder) {
         this.valueSupplier = Validate.notNull(builder.supplier, "builder.supplier");
         this.prefetchStrategy = Validate.notNull(builder.prefetchStrategy, "builder.prefetchStrategy");
+        this.staleValueBehavior = Validate.notNull(builder.staleValueBehavior, "builder.staleValueBehavior");
     }
 
     /**
@@ -129,7 +165,7 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
                 // Make sure the value was not refreshed while we waited for the lock.
                 if (cacheIsStale() || shouldInitiateCachePrefetch()) {
                     // It wasn't, call the supplier to update it.
-                    cachedValue = valueSupplier.get();
+                    cachedValue = refreshValue();
                 }
             } finally {
                 if (lockAcquired) {
@@ -141,6 +177,72 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         }
     }
 
+    /**
+     * Call the value supplier, falling back to the current value if the supplier fails and the current value can still be
+     * used.
+     */
+    private RefreshResult<T> refreshValue() {
+        RefreshResult<T> currentValue = cachedValue;
+        try {
+            RefreshResult<T> result = valueSupplier.get();
+            return RefreshResult.builder(result.value())
+                                .staleTime(result.staleTime())
+                                .prefetchTime(jitterPrefetchTime(result.prefetchTime(), Instant.now(),
+                                                                 ThreadLocalRandom.current().nextDouble()))
+                                .build();
+        } catch (RuntimeException e) {
+            if (currentValue.value() == null) {
+                throw e;
+            }
+
+            Instant retryTime = Instant.now().plus(failureBackoff());
+            if (!cacheIsStale()) {
+                log.warn(() -> "Failed to prefetch the cached value. The current value will be used until it becomes stale, and "
+                               + "the prefetch will be retried at " + retryTime + ".", e);
+                return RefreshResult.builder(currentValue.value())
+                                    .staleTime(currentValue.staleTime())
+                                    .prefetchTime(retryTime)
+                                    .build();
+            }
+
+            if (staleValueBehavior == StaleValueBehavior.ALLOW) {
+                log.warn(() -> "Failed to refresh the stale cached value. The stale value will be used until the refresh is "
+                               + "retried at " + retryTime + ".", e);
+                return RefreshResult.builder(currentValue.value())
+                                    .staleTime(retryTime)
+                                    .prefetchTime(retryTime)
+                                    .build();
+            }
+
+            throw e;
+        }
+    }
+
+    private static Duration failureBackoff() {
+        long minMillis = MIN_FAILURE_BACKOFF.toMillis();
+        long maxMillis = MAX_FAILURE_BACKOFF.toMillis();
+        return Duration.ofMillis(minMillis + ThreadLocalRandom.current().nextLong(maxMillis - minMillis + 1));
+    }
+
+    /**
+     * Move the provided prefetch time earlier by {@code random} (between 0 and 1) times the maximum jitter. The maximum jitter
+     * is {@link #MAX_PREFETCH_JITTER}, or half the time left until the prefetch time, whichever is shorter. Prefetch times
+     * that have already passed are not changed.
+     */
+    @SdkTestInternalApi
+    static Instant jitterPrefetchTime(Instant prefetchTime, Instant now, double random) {
+        if (prefetchTime == null || !prefetchTime.isAfter(now)) {
+            return prefetchTime;
+        }
+
+        long maxJitterMillis = MAX_PREFETCH_JITTER.toMillis();
+        if (prefetchTime.isBefore(now.plus(MAX_PREFETCH_JITTER.multipliedBy(2)))) {
+            maxJitterMillis = Duration.between(now, prefetchTime).toMillis() / 2;
+        }
+
+        return prefetchTime.minusMillis((long) (maxJitterMillis * random));
+    }
+
     private void handleInterruptedException(String message, InterruptedException cause) {
         Thread.currentThread().interrupt();
         throw new IllegalStateException(message, cause);
@@ -160,6 +262,7 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
     public static final class Builder<T> {
         private final Supplier<RefreshResult<T>> supplier;
         private PrefetchStrategy prefetchStrategy = new OneCallerBlocks();
+        private StaleValueBehavior staleValueBehavior = StaleValueBehavior.STRICT;
 
         private Builder(Supplier<RefreshResult<T>> supplier) {
             this.supplier = supplier;
@@ -177,6 +280,16 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
             return this;
         }
 
+        /**
+         * Configure what the cache should do when its value is stale and the value supplier fails to refresh it.
+         *
+         * By default, this is {@link StaleValueBehavior#STRICT}, which propagates the failure to the caller.
+         */
+        public Builder<T> staleValueBehavior(StaleValueBehavior staleValueBehavior) {
+            this.staleValueBehavior = staleValueBehavior;
+            return this;
+        }
+
         /**
          * Create a {@link CachedSupplier} using the current configuration of this builder.
          */
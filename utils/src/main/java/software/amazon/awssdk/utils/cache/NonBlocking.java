@@ -15,35 +15,58 @@
 
 package software.amazon.awssdk.utils.cache;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
-import software.amazon.awssdk.utils.ExecutorUtils;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 
 /**
- * A {@link CachedSupplier.PrefetchStrategy} that will run a single thread in the background to update the value. A call to
- * prefetch on this strategy will never return.
+ * A {@link CachedSupplier.PrefetchStrategy} that updates the value in the background. A call to prefetch on this strategy will
+ * never block.
+ *
+ * The updates of all {@link NonBlocking} strategies are performed by a single daemon thread shared across the JVM, so that
+ * creating many cached suppliers (for example, one credentials provider per client) does not create one thread each. The
+ * shared thread is stopped when it has been idle for a minute, and recreated the next time an update is needed.
  *
  * Multiple calls to {@link #prefetch(Runnable)} will still only result in one background task performing the update.
  */
 @SdkProtectedApi
 public class NonBlocking implements CachedSupplier.PrefetchStrategy {
     /**
-     * Whether we are currently refreshing the supplier. This is used to make sure only one caller is blocking at a time.
+     * The executor that performs the asynchronous refreshes of every {@link NonBlocking} strategy.
+     */
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    /**
+     * Whether we are currently refreshing the supplier. This is used to make sure only one refresh is queued at a time.
      */
     private final AtomicBoolean currentlyRefreshing = new AtomicBoolean(false);
 
     /**
-     * Single threaded executor to asynchronous refresh the value.
+     * Create a non-blocking prefetch strategy that performs its updates on the shared background thread.
      */
-    private final ExecutorService executor;
+    public NonBlocking() {
+    }
 
     /**
-     * Create a non-blocking prefetch strategy that uses the provided value for the name of the background thread that will be
-     * performing the update.
+     * Create a non-blocking prefetch strategy that performs its updates on the shared background thread.
+     *
+     * @param asyncThreadName Ignored. The background thread is shared by all non-blocking strategies, and is named
+     * "sdk-cache-refresh".
      */
     public NonBlocking(String asyncThreadName) {
-        this.executor = ExecutorUtils.newSingleDaemonThreadExecutor(1, asyncThreadName);
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder().daemonThreads(true)
+                                                                                       .threadNamePrefix("sdk-cache-refresh")
+                                                                                       .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     @Override
@@ -51,7 +74,7 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         // Only run one async refresh at a time.
         if (currentlyRefreshing.compareAndSet(false, true)) {
             try {
-                executor.submit(() -> {
+                EXECUTOR.execute(() -> {
                     try {
                         valueUpdater.run();
                     } finally {
@@ -65,8 +88,15 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         }
     }
 
+    /**
+     * The shared executor is not owned by any one strategy, so there is nothing to release.
+     */
     @Override
     public void close() {
-        executor.shutdown();
+    }
+
+    @SdkTestInternalApi
+    static ThreadPoolExecutor executor() {
+        return EXECUTOR;
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * How a {@link CachedSupplier} should behave when its value is stale and the value supplier fails to refresh it.
+ *
+ * @see CachedSupplier.Builder#staleValueBehavior(StaleValueBehavior)
+ */
+@SdkProtectedApi
+public enum StaleValueBehavior {
+    /**
+     * Propagate the failure of the value supplier to the caller. This is the default.
+     */
+    STRICT,
+
+    /**
+     * Keep returning the stale value for a short, jittered amount of time before trying to refresh it again. The failure of the
+     * value supplier is only propagated when there is no value to fall back to.
+     *
+     * This is useful when the value supplier calls a remote service that may be temporarily unavailable, and the value is
+     * likely to remain usable for a little while after its stale time (eg. credentials that are considered stale a few
+     * minutes before they expire), or when refreshing too often would overload the remote service.
+     */
+    ALLOW
+}
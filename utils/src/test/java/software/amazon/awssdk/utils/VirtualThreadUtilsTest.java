@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class VirtualThreadUtilsTest {
+    @Test
+    public void platformThread_isNotVirtual() {
+        assertThat(VirtualThreadUtils.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    public void virtualThreadFactory_isPresentOnlyIfSupported() {
+        Optional<ThreadFactory> factory = VirtualThreadUtils.virtualThreadFactory("test");
+
+        assertThat(factory.isPresent()).isEqualTo(VirtualThreadUtils.isSupported());
+        factory.ifPresent(f -> {
+            Thread thread = f.newThread(() -> { });
+            assertThat(VirtualThreadUtils.isVirtual(thread)).isTrue();
+            assertThat(thread.getName()).startsWith("test-");
+        });
+    }
+
+    @Test
+    public void virtualThreadPerTaskExecutor_runsTasksOnVirtualThreadsIfSupported() throws Exception {
+        Optional<ExecutorService> executor = VirtualThreadUtils.newVirtualThreadPerTaskExecutor("test");
+
+        assertThat(executor.isPresent()).isEqualTo(VirtualThreadUtils.isSupported());
+        if (executor.isPresent()) {
+            try {
+                Future<Boolean> isVirtual = executor.get().submit(() -> VirtualThreadUtils.isVirtual(Thread.currentThread()));
+                assertThat(isVirtual.get(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.get().shutdown();
+            }
+        }
+    }
+}
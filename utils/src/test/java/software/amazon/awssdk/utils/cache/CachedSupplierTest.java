@@ -15,10 +15,13 @@
 
 package software.amazon.awssdk.utils.cache;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.fail;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -28,6 +31,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.junit.After;
 import org.junit.Assert;
@@ -238,6 +242,150 @@ public class CachedSupplierTest {
         }
     }
 
+    @Test
+    public void prefetchTimeIsJitteredEarlier() {
+        Instant now = Instant.now();
+        Instant prefetchTime = now.plus(Duration.ofHours(1));
+
+        assertThat(CachedSupplier.jitterPrefetchTime(prefetchTime, now, 0)).isEqualTo(prefetchTime);
+        assertThat(CachedSupplier.jitterPrefetchTime(prefetchTime, now, 0.5))
+            .isEqualTo(prefetchTime.minus(CachedSupplier.MAX_PREFETCH_JITTER.dividedBy(2)));
+        assertThat(CachedSupplier.jitterPrefetchTime(prefetchTime, now, 1))
+            .isEqualTo(prefetchTime.minus(CachedSupplier.MAX_PREFETCH_JITTER));
+    }
+
+    @Test
+    public void prefetchTimeJitterIsLimitedToHalfTheRemainingTime() {
+        Instant now = Instant.now();
+        Instant prefetchTime = now.plus(Duration.ofMinutes(2));
+
+        assertThat(CachedSupplier.jitterPrefetchTime(prefetchTime, now, 1)).isEqualTo(now.plus(Duration.ofMinutes(1)));
+        assertThat(CachedSupplier.jitterPrefetchTime(Instant.MAX, now, 1)).isEqualTo(Instant.MAX.minus(
+            CachedSupplier.MAX_PREFETCH_JITTER));
+    }
+
+    @Test
+    public void passedPrefetchTimeIsNotJittered() {
+        Instant now = Instant.now();
+        Instant prefetchTime = now.minusSeconds(1);
+
+        assertThat(CachedSupplier.jitterPrefetchTime(prefetchTime, now, 1)).isEqualTo(prefetchTime);
+    }
+
+    @Test
+    public void prefetchFailureReturnsCurrentValue() {
+        FailingSupplier supplier = new FailingSupplier(future(), past());
+        CachedSupplier<String> cachedSupplier = CachedSupplier.builder(supplier).build();
+
+        assertThat(cachedSupplier.get()).isEqualTo("value-1");
+
+        supplier.fail = true;
+        assertThat(cachedSupplier.get()).isEqualTo("value-1");
+        assertThat(supplier.calls.get()).isEqualTo(2);
+
+        // The prefetch is not retried right away.
+        assertThat(cachedSupplier.get()).isEqualTo("value-1");
+        assertThat(supplier.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void staleRefreshFailureIsPropagatedByDefault() {
+        FailingSupplier supplier = new FailingSupplier(past(), past());
+        CachedSupplier<String> cachedSupplier = CachedSupplier.builder(supplier).build();
+
+        assertThat(cachedSupplier.get()).isEqualTo("value-1");
+
+        supplier.fail = true;
+        assertThatThrownBy(cachedSupplier::get).hasMessage("Refresh failed.");
+    }
+
+    @Test
+    public void staleRefreshFailureReturnsStaleValueWhenAllowed() {
+        FailingSupplier supplier = new FailingSupplier(past(), past());
+        CachedSupplier<String> cachedSupplier = CachedSupplier.builder(supplier)
+                                                              .staleValueBehavior(StaleValueBehavior.ALLOW)
+                                                              .build();
+
+        assertThat(cachedSupplier.get()).isEqualTo("value-1");
+
+        supplier.fail = true;
+        assertThat(cachedSupplier.get()).isEqualTo("value-1");
+
+        // The refresh is not retried right away.
+        assertThat(cachedSupplier.get()).isEqualTo("value-1");
+        assertThat(supplier.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void initialFailureIsPropagatedWhenStaleValuesAreAllowed() {
+        FailingSupplier supplier = new FailingSupplier(future(), future());
+        supplier.fail = true;
+        CachedSupplier<String> cachedSupplier = CachedSupplier.builder(supplier)
+                                                              .staleValueBehavior(StaleValueBehavior.ALLOW)
+                                                              .build();
+
+        assertThatThrownBy(cachedSupplier::get).hasMessage("Refresh failed.");
+    }
+
+    @Test
+    public void nonBlockingPrefetchStrategiesShareOneThread() {
+        try (WaitingSupplier waitingSupplier1 = new WaitingSupplier(future(), past());
+             WaitingSupplier waitingSupplier2 = new WaitingSupplier(future(), past());
+             CachedSupplier<String> cachedSupplier1 = CachedSupplier.builder(waitingSupplier1)
+                                                                    .prefetchStrategy(new NonBlocking("test-1"))
+                                                                    .build();
+             CachedSupplier<String> cachedSupplier2 = CachedSupplier.builder(waitingSupplier2)
+                                                                    .prefetchStrategy(new NonBlocking("test-2"))
+                                                                    .build()) {
+            // Prime both caches.
+            waitingSupplier1.permits.release(1);
+            waitingSupplier2.permits.release(1);
+            waitFor(performAsyncGet(cachedSupplier1));
+            waitFor(performAsyncGet(cachedSupplier2));
+
+            // Kick off both async refreshes. The first one blocks the shared thread, so the second one cannot start.
+            waitFor(performAsyncGet(cachedSupplier1));
+            waitingSupplier1.waitForGetsToHaveStarted(2);
+            waitFor(performAsyncGet(cachedSupplier2));
+            waitingSupplier2.waitForGetsToHaveStarted(1);
+            assertThat(waitingSupplier2.startedGetPermits.availablePermits()).isZero();
+            assertThat(NonBlocking.executor().getMaximumPoolSize()).isEqualTo(1);
+
+            // Once the first refresh completes, the second one runs.
+            waitingSupplier1.permits.release(1);
+            waitingSupplier2.permits.release(1);
+            waitingSupplier2.waitForGetsToHaveStarted(1);
+            waitingSupplier2.waitForGetsToHaveFinished(2);
+        }
+    }
+
+    /**
+     * A supplier that returns a new value for every call until it is told to fail.
+     */
+    private static class FailingSupplier implements Supplier<RefreshResult<String>> {
+        private final AtomicInteger calls = new AtomicInteger(0);
+        private final Instant staleTime;
+        private final Instant prefetchTime;
+        private volatile boolean fail = false;
+
+        private FailingSupplier(Instant staleTime, Instant prefetchTime) {
+            this.staleTime = staleTime;
+            this.prefetchTime = prefetchTime;
+        }
+
+        @Override
+        public RefreshResult<String> get() {
+            int call = calls.incrementAndGet();
+            if (fail) {
+                throw new IllegalStateException("Refresh failed.");
+            }
+            return RefreshResult.builder("value-" + call)
+                                .staleTime(staleTime)
+                                .prefetchTime(prefetchTime)
+                                .build();
+        }
+    }
+
     /**
      * Asynchronously perform a "get" on the provided supplier, returning the future that will be completed when the "get"
      * finishes.